@@ -0,0 +1,39 @@
+plugins {
+    id("java")
+    id("org.openjfx.javafxplugin") version "0.1.0"
+    id("me.champeau.jmh") version "0.7.3"
+}
+
+group = "com.infoyupay.humandate"
+version = "1.0.0"
+
+java {
+    sourceCompatibility = JavaVersion.VERSION_21
+    targetCompatibility = JavaVersion.VERSION_21
+}
+
+javafx {
+    // Keep minimal for now
+    version = "21.0.9"
+    modules = listOf("javafx.controls")
+}
+
+repositories {
+    mavenCentral()
+}
+
+dependencies {
+    implementation(project(":"))
+}
+
+jmh {
+    // Throughput plus allocation rate, so regressions in the converter
+    // and in humandate-core show up in both dimensions.
+    benchmarkMode = listOf("thrpt")
+    timeUnit = "ms"
+    profilers = listOf("gc")
+    warmupIterations = 3
+    iterations = 5
+    fork = 1
+    resultFormat = "JSON"
+}
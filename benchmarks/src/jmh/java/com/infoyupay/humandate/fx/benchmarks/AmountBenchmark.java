@@ -0,0 +1,147 @@
+/*
+ * Copyright 2025 Ingeniería Informática Yupay S.A.C.S.
+ * RUC 20607854247
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package com.infoyupay.humandate.fx.benchmarks;
+
+import com.infoyupay.humandate.fx.CentsFormat;
+import com.infoyupay.humandate.fx.CentsProperty;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.math.BigDecimal;
+import java.text.DecimalFormat;
+import java.text.ParseException;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the {@code long}-cents amount path ({@link CentsProperty},
+ * {@link CentsFormat}) with the {@link BigDecimal} path it replaces in
+ * invoice trees.
+ * <br/>
+ * <p>
+ * Each invocation processes a whole amount column the way a tree refresh
+ * does: totalling it with {@code Stream.reduce} versus a {@code long} loop,
+ * rendering it with a {@code "#,##0.00"} {@link DecimalFormat} versus
+ * {@link CentsFormat#format(long)}, and parsing the rendered texts back.
+ * Run with the {@code gc} profiler to compare allocation rates as well.
+ *
+ * @author David Vidal, Infoyupay
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class AmountBenchmark {
+
+    /**
+     * Number of amounts in the column.
+     */
+    @Param({"10000", "100000"})
+    public int rows;
+
+    private BigDecimal[] decimals;
+    private long[] cents;
+    private String[] texts;
+    private DecimalFormat decimalFormat;
+    private CentsFormat centsFormat;
+
+    /**
+     * Builds the column, with amounts between 100.00 and 9,999,999.99.
+     */
+    @Setup
+    public void setUp() {
+        var random = new SplittableRandom(42);
+        cents = random.longs(rows, 10_000L, 1_000_000_000L).toArray();
+        decimals = Arrays.stream(cents).mapToObj(c -> BigDecimal.valueOf(c, 2)).toArray(BigDecimal[]::new);
+        decimalFormat = new DecimalFormat("#,##0.00");
+        decimalFormat.setParseBigDecimal(true);
+        centsFormat = CentsFormat.DEFAULT;
+        texts = Arrays.stream(cents).mapToObj(centsFormat::format).toArray(String[]::new);
+    }
+
+    /**
+     * Totals the column with {@code Stream.reduce} over {@link BigDecimal}.
+     *
+     * @return the total, consumed by JMH
+     */
+    @Benchmark
+    public BigDecimal sumBigDecimal() {
+        return Arrays.stream(decimals).reduce(BigDecimal.ZERO, BigDecimal::add);
+    }
+
+    /**
+     * Totals the column with a {@code long} loop.
+     *
+     * @return the total, consumed by JMH
+     */
+    @Benchmark
+    public long sumCents() {
+        var total = 0L;
+        for (var c : cents) total += c;
+        return total;
+    }
+
+    /**
+     * Renders the column with a {@link DecimalFormat}.
+     *
+     * @param blackhole sink for the texts
+     */
+    @Benchmark
+    public void formatBigDecimal(final Blackhole blackhole) {
+        for (var d : decimals) blackhole.consume(decimalFormat.format(d));
+    }
+
+    /**
+     * Renders the column with a {@link CentsFormat}.
+     *
+     * @param blackhole sink for the texts
+     */
+    @Benchmark
+    public void formatCents(final Blackhole blackhole) {
+        for (var c : cents) blackhole.consume(centsFormat.format(c));
+    }
+
+    /**
+     * Parses the rendered column into {@link BigDecimal} values.
+     *
+     * @param blackhole sink for the amounts
+     * @throws ParseException never, texts are well-formed
+     */
+    @Benchmark
+    public void parseBigDecimal(final Blackhole blackhole) throws ParseException {
+        for (var t : texts) blackhole.consume(decimalFormat.parse(t));
+    }
+
+    /**
+     * Parses the rendered column into cents.
+     *
+     * @param blackhole sink for the amounts
+     */
+    @Benchmark
+    public void parseCents(final Blackhole blackhole) {
+        for (var t : texts) blackhole.consume(centsFormat.parse(t));
+    }
+}
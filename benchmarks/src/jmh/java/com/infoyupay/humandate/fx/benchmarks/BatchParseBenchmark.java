@@ -0,0 +1,108 @@
+/*
+ * Copyright 2025 Ingeniería Informática Yupay S.A.C.S.
+ * RUC 20607854247
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.infoyupay.humandate.fx.benchmarks;
+
+import com.infoyupay.humandate.core.LanguageSupport;
+import com.infoyupay.humandate.fx.EpochDayProperty;
+import com.infoyupay.humandate.fx.HumanDateBatch;
+import com.infoyupay.humandate.fx.HumanDateConverter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares {@link HumanDateBatch#parseAll(List, LanguageSupport)} with the
+ * sequential {@link HumanDateConverter#fromString(String)} loop it replaces.
+ * <br/>
+ * <p>
+ * The input mimics the date column of an import: mostly full dates, with
+ * every other input shape mixed in. Each invocation parses the whole column,
+ * so results are reported as average time per column.
+ *
+ * @author David Vidal, Infoyupay
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class BatchParseBenchmark {
+
+    /**
+     * Number of rows in the column.
+     */
+    @Param({"200000", "2000000"})
+    public int rows;
+
+    private List<String> column;
+    private LanguageSupport language;
+    private HumanDateConverter converter;
+
+    /**
+     * Builds the column.
+     */
+    @Setup
+    public void setUp() {
+        language = BenchmarkSupport.language("es");
+        converter = new HumanDateConverter().withLanguage(language);
+        var dates = BenchmarkSupport.dates(1024);
+        var shapes = InputShape.values();
+        column = new ArrayList<>(rows);
+        for (var i = 0; i < rows; i++) {
+            if (i % 4 == 0) {
+                var samples = shapes[(i / 4) % shapes.length].samples("es");
+                column.add(samples[(i / 4) % samples.length]);
+            } else {
+                column.add(converter.toString(dates[i & (dates.length - 1)]));
+            }
+        }
+    }
+
+    /**
+     * Parses the column one input at a time.
+     *
+     * @return the epoch days, consumed by JMH
+     */
+    @Benchmark
+    public long[] sequentialLoop() {
+        var result = new long[column.size()];
+        for (var i = 0; i < result.length; i++) {
+            result[i] = EpochDayProperty.toEpochDay(converter.fromString(column.get(i)));
+        }
+        return result;
+    }
+
+    /**
+     * Parses the column with the bulk API.
+     *
+     * @return the batch result, consumed by JMH
+     */
+    @Benchmark
+    public HumanDateBatch.ParseResult parseAll() {
+        return HumanDateBatch.parseAll(column, language);
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright 2025 Ingeniería Informática Yupay S.A.C.S.
+ * RUC 20607854247
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.infoyupay.humandate.fx.benchmarks;
+
+import com.infoyupay.humandate.core.LanguageSupport;
+import com.infoyupay.humandate.core.Languages;
+import javafx.application.Platform;
+
+import java.time.LocalDate;
+import java.util.SplittableRandom;
+
+/**
+ * Shared fixtures for the HumanDate-FX benchmarks.
+ * <br/>
+ * <p>
+ * All random data is produced from a fixed seed, so every run and every
+ * fork measures exactly the same inputs.
+ *
+ * @author David Vidal, Infoyupay
+ * @version 1.0
+ */
+public final class BenchmarkSupport {
+
+    /**
+     * Seed used for every random fixture.
+     */
+    private static final long SEED = 20_251_209L;
+
+    /**
+     * Prevents instantiation.
+     */
+    private BenchmarkSupport() {
+    }
+
+    /**
+     * Resolves a language code used in {@code @Param} declarations.
+     *
+     * @param code one of {@code es}, {@code en} or {@code que}
+     * @return the matching {@link LanguageSupport}
+     * @throws IllegalArgumentException if the code is unknown
+     */
+    public static LanguageSupport language(final String code) {
+        return switch (code) {
+            case "es" -> Languages.es();
+            case "en" -> Languages.en();
+            case "que" -> Languages.que();
+            default -> throw new IllegalArgumentException("Unknown language: " + code);
+        };
+    }
+
+    /**
+     * Starts the JavaFX toolkit once per JVM.
+     * <br/>
+     * Controls such as cells cannot be instantiated before the toolkit is
+     * running. Benchmarks calling this method need a display, or a headless
+     * glass platform such as Monocle.
+     */
+    public static void startToolkit() {
+        try {
+            Platform.startup(() -> {
+            });
+        } catch (IllegalStateException alreadyStarted) {
+            // Toolkit already running in this fork.
+        }
+    }
+
+    /**
+     * Produces deterministic dates between 2015-01-01 and 2026-12-31.
+     *
+     * @param count number of dates to produce
+     * @return a new array of dates
+     */
+    public static LocalDate[] dates(final int count) {
+        var from = LocalDate.of(2015, 1, 1).toEpochDay();
+        var until = LocalDate.of(2026, 12, 31).toEpochDay();
+        var random = new SplittableRandom(SEED);
+        var result = new LocalDate[count];
+        for (var i = 0; i < count; i++) {
+            result[i] = LocalDate.ofEpochDay(random.nextLong(from, until));
+        }
+        return result;
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright 2025 Ingeniería Informática Yupay S.A.C.S.
+ * RUC 20607854247
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.infoyupay.humandate.fx.benchmarks;
+
+import com.infoyupay.humandate.fx.HumanDateTableCellFactory;
+import com.infoyupay.humandate.fx.LocalDateProperty;
+import javafx.scene.control.TableCell;
+import javafx.scene.control.TableColumn;
+import javafx.scene.control.TableView;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Compares the scroll cost of editable and display-only date cells.
+ * <br/>
+ * <p>
+ * A fixed pool of cells, as many as a typical viewport shows, is bound to a
+ * {@link TableView} and re-indexed one row further on every invocation,
+ * which is what the virtual flow does while scrolling. The benchmark runs
+ * without a skin, so it isolates the cell update path (item lookup,
+ * conversion, text update) from CSS and layout.
+ *
+ * @author David Vidal, Infoyupay
+ * @version 1.0
+ */
+@State(Scope.Thread)
+public class CellScrollBenchmark {
+
+    /**
+     * Number of rows in the table.
+     */
+    private static final int ROWS = 200_000;
+
+    /**
+     * Number of cells in the simulated viewport.
+     */
+    private static final int VIEWPORT = 40;
+
+    /**
+     * Whether the factory produces display-only cells.
+     */
+    @Param({"false", "true"})
+    public boolean displayOnly;
+
+    private final List<TableCell<LocalDateProperty, LocalDate>> cells = new ArrayList<>();
+    private int firstRow;
+
+    /**
+     * Builds the table, its date column and the cell pool.
+     */
+    @Setup
+    public void setUp() {
+        BenchmarkSupport.startToolkit();
+
+        var table = new TableView<LocalDateProperty>();
+        var column = new TableColumn<LocalDateProperty, LocalDate>("Date");
+        column.setCellValueFactory(f -> f.getValue());
+        table.getColumns().add(column);
+
+        var dates = BenchmarkSupport.dates(ROWS);
+        var rows = new ArrayList<LocalDateProperty>(ROWS);
+        for (var date : dates) rows.add(new LocalDateProperty(date));
+        table.getItems().setAll(rows);
+
+        var factory = new HumanDateTableCellFactory<LocalDateProperty>();
+        factory.setDisplayOnly(displayOnly);
+        for (var i = 0; i < VIEWPORT; i++) {
+            var cell = factory.call(column);
+            cell.updateTableView(table);
+            cell.updateTableColumn(column);
+            cells.add(cell);
+        }
+    }
+
+    /**
+     * Scrolls the viewport by one row.
+     *
+     * @return the text of the first visible cell, consumed by JMH
+     */
+    @Benchmark
+    public String scrollOneRow() {
+        firstRow = firstRow + VIEWPORT + 1 >= ROWS ? 0 : firstRow + 1;
+        for (var i = 0; i < VIEWPORT; i++) {
+            cells.get(i).updateIndex(firstRow + i);
+        }
+        return cells.get(0).getText();
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2025 Ingeniería Informática Yupay S.A.C.S.
+ * RUC 20607854247
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.infoyupay.humandate.fx.benchmarks;
+
+import com.infoyupay.humandate.fx.HumanDateLabel;
+import javafx.beans.property.ObjectProperty;
+import javafx.beans.property.SimpleObjectProperty;
+import javafx.beans.value.ChangeListener;
+import javafx.scene.Scene;
+import javafx.scene.layout.VBox;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDate;
+
+/**
+ * Measures model updates reaching {@link HumanDateLabel}s that sit in hidden
+ * tabs, with and without the deferred mode.
+ * <br/>
+ * <p>
+ * Labels are spread over several invisible panes, which is how the tab pane
+ * skin hides the content of unselected tabs. Each label
+ * follows a shared model date, and a change listener on its text stands in
+ * for the label skin, which reads the text on every change. The benchmark
+ * runs without a window, so it isolates binding and formatting costs from
+ * CSS and layout.
+ *
+ * @author David Vidal, Infoyupay
+ * @version 1.0
+ */
+@State(Scope.Thread)
+public class HiddenLabelBenchmark {
+
+    /**
+     * Number of labels.
+     */
+    private static final int LABELS = 5_000;
+
+    /**
+     * Number of hidden panes the labels are spread over.
+     */
+    private static final int TABS = 50;
+
+    /**
+     * Whether the labels defer formatting while hidden.
+     */
+    @Param({"false", "true"})
+    public boolean deferWhenHidden;
+
+    private final ObjectProperty<LocalDate> model = new SimpleObjectProperty<>();
+    private LocalDate[] dates;
+    private int next;
+    private HumanDateLabel probe;
+
+    /**
+     * Builds the hidden panes and their labels.
+     */
+    @Setup
+    public void setUp() {
+        BenchmarkSupport.startToolkit();
+        dates = BenchmarkSupport.dates(1024);
+        model.set(dates[0]);
+
+        ChangeListener<String> skin = (o, a, b) -> {
+        };
+        var root = new VBox();
+        for (var t = 0; t < TABS; t++) {
+            var content = new VBox();
+            for (var i = 0; i < LABELS / TABS; i++) {
+                var label = new HumanDateLabel();
+                label.setDeferWhenHidden(deferWhenHidden);
+                label.dateValueProperty().bind(model);
+                label.textProperty().addListener(skin);
+                content.getChildren().add(label);
+                probe = label;
+            }
+            content.setVisible(false);
+            root.getChildren().add(content);
+        }
+        new Scene(root);
+    }
+
+    /**
+     * Pushes one model update to every label.
+     *
+     * @return the text of one label, consumed by JMH
+     */
+    @Benchmark
+    public String updateModel() {
+        next = (next + 1) & (dates.length - 1);
+        model.set(dates[next]);
+        return probe.getText();
+    }
+}
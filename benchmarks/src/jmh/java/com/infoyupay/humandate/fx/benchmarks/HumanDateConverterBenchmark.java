@@ -0,0 +1,157 @@
+/*
+ * Copyright 2025 Ingeniería Informática Yupay S.A.C.S.
+ * RUC 20607854247
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.infoyupay.humandate.fx.benchmarks;
+
+import com.infoyupay.humandate.fx.HumanDateConverter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDate;
+
+import static com.infoyupay.humandate.fx.HumanDateDefaults.DEFAULT_FORMAT;
+
+/**
+ * Measures {@link HumanDateConverter#toString(LocalDate)} and
+ * {@link HumanDateConverter#fromString(String)}.
+ * <br/>
+ * <p>
+ * Each invocation converts a single value; inputs are cycled from a
+ * pre-built array so the measured cost is the conversion itself. Parsing is
+ * parameterized by {@link InputShape}, covering every input listed in the
+ * showcase help view for each language.
+ *
+ * @author David Vidal, Infoyupay
+ * @version 1.0
+ */
+public class HumanDateConverterBenchmark {
+
+    /**
+     * Number of distinct dates cycled by the formatting benchmark.
+     */
+    private static final int DATE_COUNT = 1024;
+
+    /**
+     * Formats one date.
+     *
+     * @param state formatting fixture
+     * @return the formatted text, consumed by JMH
+     */
+    @Benchmark
+    public String toStringDate(final FormatState state) {
+        return state.converter.toString(state.next());
+    }
+
+    /**
+     * Parses one human-friendly input of the current {@link InputShape}.
+     *
+     * @param state parsing fixture
+     * @return the parsed date, consumed by JMH
+     */
+    @Benchmark
+    public LocalDate fromString(final ParseState state) {
+        return state.converter.fromString(state.next());
+    }
+
+    /**
+     * Fixture for {@link #toStringDate(FormatState)}.
+     */
+    @State(Scope.Thread)
+    public static class FormatState {
+
+        /**
+         * Language code resolved through {@link BenchmarkSupport#language(String)}.
+         */
+        @Param({"es", "en", "que"})
+        public String language;
+
+        /**
+         * Render cache capacity; {@code 0} measures the uncached formatter.
+         */
+        @Param({"0", "4096"})
+        public int renderCache;
+
+        private HumanDateConverter converter;
+        private LocalDate[] dates;
+        private int cursor;
+
+        /**
+         * Builds the converter and the date fixtures.
+         */
+        @Setup
+        public void setUp() {
+            converter = new HumanDateConverter(BenchmarkSupport.language(language), DEFAULT_FORMAT)
+                    .withRenderCache(renderCache);
+            dates = BenchmarkSupport.dates(DATE_COUNT);
+        }
+
+        private LocalDate next() {
+            var date = dates[cursor];
+            cursor = (cursor + 1) & (DATE_COUNT - 1);
+            return date;
+        }
+    }
+
+    /**
+     * Fixture for {@link #fromString(ParseState)}.
+     */
+    @State(Scope.Thread)
+    public static class ParseState {
+
+        /**
+         * Language code resolved through {@link BenchmarkSupport#language(String)}.
+         */
+        @Param({"es", "en", "que"})
+        public String language;
+
+        /**
+         * Input family being parsed.
+         */
+        @Param
+        public InputShape shape;
+
+        /**
+         * Parse cache capacity; {@code 0} measures the uncached parser.
+         */
+        @Param({"0", "256"})
+        public int parseCache;
+
+        private HumanDateConverter converter;
+        private String[] inputs;
+        private int cursor;
+
+        /**
+         * Builds the converter and the input fixtures.
+         */
+        @Setup
+        public void setUp() {
+            converter = new HumanDateConverter(BenchmarkSupport.language(language), DEFAULT_FORMAT)
+                    .withParseCache(parseCache);
+            inputs = shape.samples(language);
+        }
+
+        private String next() {
+            var input = inputs[cursor];
+            cursor = cursor + 1 == inputs.length ? 0 : cursor + 1;
+            return input;
+        }
+    }
+}
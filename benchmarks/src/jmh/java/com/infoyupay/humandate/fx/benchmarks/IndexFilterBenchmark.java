@@ -0,0 +1,110 @@
+/*
+ * Copyright 2025 Ingeniería Informática Yupay S.A.C.S.
+ * RUC 20607854247
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package com.infoyupay.humandate.fx.benchmarks;
+
+import com.infoyupay.humandate.fx.HumanDateConverter;
+import com.infoyupay.humandate.fx.HumanDateIndex;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.FilteredList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares re-filtering a large date column through a {@link FilteredList}
+ * predicate with moving the range of a {@link HumanDateIndex}.
+ * <br/>
+ * <p>
+ * Each invocation simulates one keystroke in a "since" field: the input is
+ * parsed by a {@link HumanDateConverter} and the filter is re-applied. Two
+ * inputs alternate, so every invocation really changes the result.
+ *
+ * @author David Vidal, Infoyupay
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class IndexFilterBenchmark {
+
+    /**
+     * Number of rows in the column.
+     */
+    @Param({"100000", "1000000"})
+    public int rows;
+
+    private HumanDateConverter converter;
+    private String[] inputs;
+    private FilteredList<LocalDate> filtered;
+    private HumanDateIndex<LocalDate> index;
+    private int keystroke;
+
+    /**
+     * Builds the column, the filtered list and the index.
+     */
+    @Setup
+    public void setUp() {
+        converter = new HumanDateConverter().withLanguage(BenchmarkSupport.language("es"));
+        var dates = BenchmarkSupport.dates(1024);
+        var column = new ArrayList<LocalDate>(rows);
+        for (var i = 0; i < rows; i++) column.add(dates[i & (dates.length - 1)]);
+        ObservableList<LocalDate> source = FXCollections.observableArrayList(column);
+        var sorted = dates.clone();
+        Arrays.sort(sorted);
+        inputs = new String[]{
+                converter.toString(sorted[sorted.length / 4]),
+                converter.toString(sorted[sorted.length / 2])
+        };
+        filtered = new FilteredList<>(source);
+        index = HumanDateIndex.of(source).withConverter(converter);
+    }
+
+    /**
+     * Parses the input and re-applies a predicate to every row.
+     *
+     * @return the number of matching rows, consumed by JMH
+     */
+    @Benchmark
+    public int filteredList() {
+        var since = converter.fromString(inputs[keystroke++ & 1]);
+        filtered.setPredicate(d -> d != null && !d.isBefore(since));
+        return filtered.size();
+    }
+
+    /**
+     * Parses the input and moves the range of the index.
+     *
+     * @return the number of matching rows, consumed by JMH
+     */
+    @Benchmark
+    public int index() {
+        index.filter(inputs[keystroke++ & 1], null);
+        return index.filtered().size();
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright 2025 Ingeniería Informática Yupay S.A.C.S.
+ * RUC 20607854247
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.infoyupay.humandate.fx.benchmarks;
+
+/**
+ * Families of human-friendly inputs accepted by the HumanDate parser.
+ * <br/>
+ * <p>
+ * Each constant groups the samples documented in the showcase help view
+ * for one input shape, per supported language. Numeric shapes are the same
+ * for every language, while relative offsets and keywords are localized.
+ *
+ * @author David Vidal, Infoyupay
+ * @version 1.0
+ */
+public enum InputShape {
+    /**
+     * Digits without separators, such as {@code 0405} or {@code 04052015}.
+     */
+    COMPACT {
+        @Override
+        public String[] samples(final String language) {
+            return new String[]{"02", "2", "0405", "040515", "04052015"};
+        }
+    },
+    /**
+     * Full dates with separators, such as {@code 1·4·12} or {@code 01/04/2012}.
+     */
+    SEPARATED {
+        @Override
+        public String[] samples(final String language) {
+            return new String[]{
+                    "1.4.12", "1-4-12", "1·4·12", "1/4/12",
+                    "01.04.12", "01-04-12", "01·04·12", "01/04/12",
+                    "1.4.2012", "01-4-2012", "01·04·2012", "1/04/2012"
+            };
+        }
+    },
+    /**
+     * Day and month with separators, such as {@code 1-4} or {@code 01/04}.
+     */
+    PARTIAL {
+        @Override
+        public String[] samples(final String language) {
+            return new String[]{
+                    "1.4", "1-4", "1·4", "1/4",
+                    "01.04", "01-04", "01·04", "01/04"
+            };
+        }
+    },
+    /**
+     * Offsets relative to today, such as {@code +2s} or {@code -1m}.
+     */
+    RELATIVE {
+        @Override
+        public String[] samples(final String language) {
+            return switch (language) {
+                case "en" -> new String[]{
+                        "0", "+2", "-4", "+4d", "-4d", "+2w", "-2w",
+                        "+1m", "-1m", "+5y", "-5y"
+                };
+                case "que" -> new String[]{
+                        "0", "+2", "-4", "+4p", "-4p", "+2h", "-2h",
+                        "+1k", "-1k", "+5w", "-5w"
+                };
+                default -> new String[]{
+                        "0", "+2", "-4", "+4d", "-4d", "+2s", "-2s",
+                        "+1m", "-1m", "+5a", "-5a"
+                };
+            };
+        }
+    },
+    /**
+     * Natural-language keywords, such as {@code mañana} or {@code yesterday}.
+     */
+    KEYWORD {
+        @Override
+        public String[] samples(final String language) {
+            return switch (language) {
+                case "en" -> new String[]{
+                        "now", "today", "yesterday", "ytd",
+                        "tomorrow", "tmr", "tmw", "tmrw"
+                };
+                case "que" -> new String[]{
+                        "kunan", "kaypi", "ña", "paqarin", "qaya",
+                        "haya", "qayna", "jainapunchau", "qaynunchay"
+                };
+                default -> new String[]{"ya", "hoy", "ahora", "mañana", "ayer"};
+            };
+        }
+    };
+
+    /**
+     * Returns the sample inputs of this shape for the given language.
+     *
+     * @param language one of {@code es}, {@code en} or {@code que}
+     * @return a fresh array of sample inputs
+     */
+    public abstract String[] samples(String language);
+}
@@ -0,0 +1,41 @@
+/*
+ * Copyright 2025 Ingeniería Informática Yupay S.A.C.S.
+ * RUC 20607854247
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+/**
+ * JMH micro-benchmarks for <b>HumanDate-FX</b>.
+ *
+ * <p>
+ * These benchmarks measure throughput and allocation rate of the library's
+ * conversion paths, so regressions in {@code com.infoyupay.humandate.fx} and
+ * in the underlying {@code humandate-core} parser become visible.
+ * </p>
+ *
+ * <p>
+ * Run them with {@code ./gradlew :benchmarks:jmh}. Results are written as
+ * JSON to {@code benchmarks/build/results/jmh/results.json}, including the
+ * {@code gc.alloc.rate.norm} metrics reported by the {@code gc} profiler.
+ * </p>
+ *
+ * <p>
+ * This package is <b>not</b> part of the deployable library.
+ * </p>
+ *
+ * @author David Vidal, Infoyupay
+ * @version 1.0
+ */
+package com.infoyupay.humandate.fx.benchmarks;
@@ -1,2 +1,3 @@
 rootProject.name = "humandate-fx"
-include("showcase")
\ No newline at end of file
+include("showcase")
+include("benchmarks")
\ No newline at end of file
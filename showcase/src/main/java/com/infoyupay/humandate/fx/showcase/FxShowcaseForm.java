@@ -86,16 +86,20 @@ public class FxShowcaseForm {
             new ReadOnlyStringWrapper(this, "hyperlinkText");
 
     /**
-     * TreeTableView showcasing hierarchical HumanDate rendering.
+     * Language context shared by every HumanDate component of the scene.
+     *
+     * <p>
+     * Cell factories and labels inherit it from the scene; the converter
+     * and the text formatter join it explicitly.
+     * </p>
      */
-    @FXML
-    private TreeTableView<FxInvoice> treeTable;
+    private final HumanDateContext context = new HumanDateContext();
 
     /**
-     * Cell factory used to render HumanDate values in the TreeTableView.
+     * TreeTableView showcasing hierarchical HumanDate rendering.
      */
     @FXML
-    private HumanDateTreeTableCellFactory<FxInvoice> treeTableCellFactory;
+    private TreeTableView<FxInvoice> treeTable;
 
     /**
      * ListView demonstrating HumanDate rendering in list cells.
@@ -109,12 +113,6 @@ public class FxShowcaseForm {
     @FXML
     private TableView<FxCustomer> table;
 
-    /**
-     * Cell factory used to render HumanDate values in the TableView.
-     */
-    @FXML
-    private HumanDateTableCellFactory<FxCustomer> tableCellFactory;
-
     /**
      * Label rendering a HumanDate value using the selected language.
      */
@@ -254,6 +252,10 @@ public class FxShowcaseForm {
      */
     @FXML
     void initialize() {
+        context.install(scene);
+        datePickerConverter.setContext(context);
+        textFieldFormatter.withContext(context);
+
         tgpLanguage.selectedToggleProperty()
                 .addListener((v, o, n) -> onToggleSelection(n));
 
@@ -263,16 +265,17 @@ public class FxShowcaseForm {
 
         table.getItems().setAll(FxCustomer.samples());
 
-        listView.setCellFactory(new HumanDateListCellFactory());
-        RandomUtils.randomDates(50).forEach(listView.getItems()::add);
+        new HumanDateListLoader<LocalDate>(listView.getItems())
+                .load(RandomUtils.randomDates(50).toList());
     }
 
     /**
      * Handles language selection changes triggered by the ToggleGroup.
      *
      * <p>
-     * When a new {@link SupportedLanguages} value is selected, all HumanDate-aware
-     * components are updated to reflect the chosen language and the UI is refreshed.
+     * When a new {@link SupportedLanguages} value is selected, the shared
+     * {@link HumanDateContext} switches language, and every HumanDate-aware
+     * component follows it. No control needs to be refreshed.
      * </p>
      *
      * @param selected the newly selected toggle
@@ -289,22 +292,7 @@ public class FxShowcaseForm {
                 case QUE -> helpText.set("Yanapa");
             }
 
-            datePickerConverter.withLanguage(lng.get());
-            textFieldFormatter.withLanguage(lng.get());
-            tableCellFactory.setLanguage(lng.get());
-
-            listView.setCellFactory(
-                    new HumanDateListCellFactory(
-                            lng.get(),
-                            HumanDateDefaults.DEFAULT_FORMAT
-                    )
-            );
-
-            treeTableCellFactory.setLanguage(lng.get());
-
-            table.refresh();
-            listView.refresh();
-            treeTable.refresh();
+            context.setLanguage(lng.get());
         }
     }
 
@@ -18,18 +18,25 @@
 
 package com.infoyupay.humandate.fx.showcase.fxpojos;
 
+import com.infoyupay.humandate.fx.CentsProperty;
+import com.infoyupay.humandate.fx.HumanDateBucket;
+import com.infoyupay.humandate.fx.HumanDateConverter;
+import com.infoyupay.humandate.fx.HumanDateLazyTreeItem;
+import com.infoyupay.humandate.fx.HumanDateTreeAggregator;
 import com.infoyupay.humandate.fx.LocalDateProperty;
 import com.infoyupay.humandate.fx.showcase.RandomUtils;
-import javafx.beans.property.ObjectProperty;
-import javafx.beans.property.SimpleObjectProperty;
 import javafx.beans.property.SimpleStringProperty;
 import javafx.beans.property.StringProperty;
 import javafx.scene.control.TreeItem;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.List;
 import java.util.Objects;
 import java.util.UUID;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
 
 /**
  * JavaFX domain model used in the humandate-fx TreeTableView showcase.
@@ -48,7 +55,7 @@ import java.util.UUID;
  * domain model.
  *
  * @author InfoYupay SACS
- * @version 1.0
+ * @version 1.1
  */
 public class FxInvoice {
 
@@ -76,14 +83,24 @@ public class FxInvoice {
             new SimpleStringProperty(this, "number");
 
     /**
-     * Invoice monetary amount.
+     * Invoice monetary amount, in cents.
      * <br/>
      * <br/>
      * For parent nodes, this value typically represents the aggregated total
      * of all child invoices.
      */
-    private final ObjectProperty<BigDecimal> amount =
-            new SimpleObjectProperty<>(this, "amount", new BigDecimal("0.00"));
+    private final CentsProperty amount =
+            new CentsProperty(this, "amount", new BigDecimal("0.00"));
+
+    /**
+     * Number of invoices generated by {@link #sampleTree()}.
+     */
+    private static final int SAMPLE_SIZE = 10_000;
+
+    /**
+     * Loads the sample tree groups in the background.
+     */
+    private static final Executor LOADER = Executors.newVirtualThreadPerTaskExecutor();
 
     /**
      * Creates a hierarchical sample tree of invoices for TreeTableView demos.
@@ -92,62 +109,87 @@ public class FxInvoice {
      * The returned tree simulates a receivables structure where:
      * <ul>
      *   <li>The root node represents a logical container.</li>
-     *   <li>Intermediate nodes group invoices by due date.</li>
+     *   <li>Intermediate nodes group invoices by due date month.</li>
      *   <li>Leaf nodes represent individual invoices.</li>
      * </ul>
      * <br/>
      * <br/>
-     * Monetary amounts are aggregated automatically at each parent level.
+     * The tree is a {@link HumanDateLazyTreeItem}: invoices are generated and
+     * grouped in the background, and the leaves of a month are only created
+     * when it is expanded. Parent amounts and due dates are bound to a
+     * {@link HumanDateTreeAggregator}, so editing a leaf updates the totals of
+     * its ancestors only, and parents show the earliest due date below them.
      *
-     * @return a fully initialized and expanded {@code TreeItem} hierarchy.
+     * @return an expanded {@code TreeItem} hierarchy, loading its groups.
      */
     public static TreeItem<FxInvoice> sampleTree() {
-        var root = new TreeItem<>(new FxInvoice().withNumber("Receivables"));
+        var root = HumanDateLazyTreeItem.grouped(
+                        new FxInvoice().withNumber("Receivables"),
+                        FxInvoice::sampleInvoices,
+                        FxInvoice::getDueDate,
+                        HumanDateBucket.MONTH,
+                        new HumanDateConverter(),
+                        FxInvoice::bucket)
+                .withExecutor(LOADER);
 
-        RandomUtils.randomDates(8)
-                .map(FxInvoice::leafSample)
-                .forEach(partial -> root.getChildren().add(partial));
-
-        var total = root.getChildren().stream()
-                .map(TreeItem::getValue)
-                .map(FxInvoice::getAmount)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-
-        root.getValue().withAmount(total);
+        HumanDateTreeAggregator.<FxInvoice>ofCents(
+                        FxInvoice::amountProperty, FxInvoice::dueDateProperty)
+                .withBranchHandler(FxInvoice::bindAggregate)
+                .attach(root);
         root.setExpanded(true);
         return root;
     }
 
     /**
-     * Creates a grouped subtree of invoices sharing the same due date.
-     * <br/>
-     * <br/>
-     * This method is used internally to generate realistic TreeTableView
-     * structures with aggregated parent values.
+     * Generates the flat list of sample invoices.
      *
-     * @param dueDate common due date for all generated invoices.
-     * @return a {@code TreeItem} containing grouped invoice children.
+     * @return {@value #SAMPLE_SIZE} random invoices.
      */
-    private static TreeItem<FxInvoice> leafSample(LocalDate dueDate) {
-        var r = new TreeItem<>(new FxInvoice().withDueDate(dueDate));
-
-        RandomUtils.randomNumbers()
+    private static List<FxInvoice> sampleInvoices() {
+        return IntStream.range(0, SAMPLE_SIZE)
                 .mapToObj(i -> new FxInvoice()
                         .withAmount(RandomUtils.randomAmount())
-                        .withDueDate(dueDate)
+                        .withDueDate(RandomUtils.randomDate())
                         .withIssueDate(RandomUtils.randomDate())
                         .withNumber("%06d".formatted(i)))
-                .map(TreeItem::new)
-                .forEach(leaf -> r.getChildren().add(leaf));
+                .toList();
+    }
 
-        var sum = r.getChildren().stream()
-                .map(TreeItem::getValue)
-                .map(FxInvoice::getAmount)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
+    /**
+     * Creates the value of a month group.
+     * <br/>
+     * <br/>
+     * Its amount and due date are precomputed from the invoices, so totals
+     * are right before the group is expanded; once expanded they are bound by
+     * {@link #bindAggregate(FxInvoice, HumanDateTreeAggregator.Aggregate)}.
+     *
+     * @param start    first day of the month.
+     * @param label    month label.
+     * @param invoices invoices of the month.
+     * @return the group value.
+     */
+    private static FxInvoice bucket(LocalDate start, String label, List<FxInvoice> invoices) {
+        var group = new FxInvoice().withNumber(label);
+        group.amountProperty().set(invoices.stream()
+                .mapToLong(invoice -> invoice.amountProperty().get())
+                .sum());
+        invoices.stream()
+                .map(FxInvoice::getDueDate)
+                .min(LocalDate::compareTo)
+                .ifPresent(group::withDueDate);
+        return group;
+    }
 
-        r.getValue().withAmount(sum);
-        r.setExpanded(true);
-        return r;
+    /**
+     * Binds the amount and due date of a parent node to its subtree
+     * aggregates.
+     *
+     * @param invoice   the parent value.
+     * @param aggregate its subtree aggregates.
+     */
+    private static void bindAggregate(FxInvoice invoice, HumanDateTreeAggregator.Aggregate aggregate) {
+        invoice.amountProperty().bind(aggregate.centsProperty());
+        invoice.dueDateProperty().bind(aggregate.minDateProperty());
     }
 
     /**
@@ -245,11 +287,15 @@ public class FxInvoice {
 
     /**
      * Returns the invoice monetary amount.
+     * <br/>
+     * <br/>
+     * A new {@link BigDecimal} is materialized on every call; use
+     * {@link #amountProperty()} to read the cents directly.
      *
      * @return amount value.
      */
     public final BigDecimal getAmount() {
-        return amount.get();
+        return amount.getAmount();
     }
 
     /**
@@ -259,9 +305,9 @@ public class FxInvoice {
      * In parent nodes, this value typically represents the sum of all child
      * invoice amounts.
      *
-     * @return the {@link ObjectProperty} backing the amount.
+     * @return the {@link CentsProperty} backing the amount.
      */
-    public final ObjectProperty<BigDecimal> amountProperty() {
+    public final CentsProperty amountProperty() {
         return amount;
     }
 
@@ -272,7 +318,7 @@ public class FxInvoice {
      * @return this mutated instance.
      */
     public final FxInvoice withAmount(BigDecimal amount) {
-        this.amount.set(amount);
+        this.amount.setAmount(amount);
         return this;
     }
 
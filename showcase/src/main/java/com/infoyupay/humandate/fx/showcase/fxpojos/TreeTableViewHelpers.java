@@ -18,15 +18,9 @@
 package com.infoyupay.humandate.fx.showcase.fxpojos;
 
 import javafx.beans.value.ObservableValue;
-import javafx.scene.control.TreeTableCell;
 import javafx.scene.control.TreeTableColumn;
-import javafx.scene.control.cell.TextFieldTreeTableCell;
 import javafx.util.Callback;
-import javafx.util.StringConverter;
 
-import java.math.BigDecimal;
-import java.text.DecimalFormat;
-import java.text.ParseException;
 import java.time.LocalDate;
 import java.util.function.Function;
 
@@ -46,7 +40,7 @@ import java.util.function.Function;
  * using humandate-fx.
  *
  * @author InfoYupay SACS
- * @version 1.0
+ * @version 1.1
  */
 public final class TreeTableViewHelpers {
 
@@ -130,65 +124,14 @@ public final class TreeTableViewHelpers {
      * <br/>
      * <br/>
      * In parent nodes, this value typically represents an aggregated total of
-     * all child invoices.
+     * all child invoices. Values are cents, rendered by a
+     * {@link com.infoyupay.humandate.fx.CentsTreeTableCellFactory}.
      *
      * @return cell value factory for the invoice amount.
      */
-    public static Callback<TreeTableColumn.CellDataFeatures<FxInvoice, BigDecimal>,
-            ObservableValue<BigDecimal>> amount() {
+    public static Callback<TreeTableColumn.CellDataFeatures<FxInvoice, Number>,
+            ObservableValue<Number>> amount() {
 
         return property(FxInvoice::amountProperty);
     }
-
-    /**
-     * Cell factory for editable monetary amount cells.
-     * <br/>
-     * <br/>
-     * This factory provides a minimal, showcase-oriented implementation for
-     * rendering and editing {@link BigDecimal} values using a fixed decimal
-     * format.
-     * <br/>
-     * <br/>
-     * The implementation prioritizes clarity and visual correctness over full
-     * financial precision, making it suitable for demos and documentation
-     * examples rather than production-grade accounting logic.
-     *
-     * @return a {@link Callback} producing {@link TreeTableCell} instances for
-     * monetary amounts.
-     */
-    public static Callback<TreeTableColumn<FxInvoice, BigDecimal>,
-            TreeTableCell<FxInvoice, BigDecimal>> amountCellFactory() {
-
-        return TextFieldTreeTableCell.forTreeTableColumn(
-                new StringConverter<>() {
-
-                    private final DecimalFormat format =
-                            new DecimalFormat("#,##0.00");
-
-                    {
-                        format.setParseBigDecimal(true);
-                    }
-
-                    @Override
-                    public String toString(BigDecimal d) {
-                        return d == null ? "" : format.format(d);
-                    }
-
-                    @Override
-                    public BigDecimal fromString(String s) {
-                        if (s == null || s.isBlank()) return null;
-                        try {
-                            var value = format.parse(s);
-                            return switch (value) {
-                                case null -> null;
-                                case BigDecimal bd -> bd;
-                                default -> BigDecimal.valueOf(value.doubleValue());
-                            };
-                        } catch (ParseException e) {
-                            return null;
-                        }
-                    }
-                }
-        );
-    }
 }
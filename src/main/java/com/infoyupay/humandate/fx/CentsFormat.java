@@ -0,0 +1,258 @@
+/*
+ * Copyright 2025 Ingeniería Informática Yupay S.A.C.S.
+ * RUC 20607854247
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package com.infoyupay.humandate.fx;
+
+import javafx.util.StringConverter;
+
+import java.text.DecimalFormatSymbols;
+import java.util.Locale;
+import java.util.Objects;
+
+/**
+ * Formats and parses monetary amounts held as {@code long} cents, such as
+ * the value of a {@link CentsProperty}.
+ * <br/>
+ * <p>
+ * This is the fixed-point counterpart of a {@code "#,##0.00"}
+ * {@link java.text.DecimalFormat} parsing into {@link java.math.BigDecimal}:
+ * formatting writes digits straight into a small char buffer, and parsing
+ * accumulates them into a {@code long}, so neither creates intermediate
+ * numbers. Instances are immutable and thread-safe.
+ * <br/>
+ * <p><b>Usage example:</b></p>
+ * {@snippet :
+ * var format = CentsFormat.of(Locale.GERMANY);
+ * format.format(123456789L);   // "1.234.567,89"
+ * format.parse("1.234.567,89"); // 123456789L
+ *}
+ * Parsing accepts an optional sign, a grouped or ungrouped integer part and
+ * up to two fraction digits; further fraction digits are rounded half-even,
+ * like {@link CentsProperty#toCents(java.math.BigDecimal)}.
+ *
+ * @author David Vidal, Infoyupay
+ * @version 1.0
+ * @see CentsProperty
+ * @see CentsTreeTableCellFactory
+ */
+public final class CentsFormat {
+
+    /**
+     * Grouping character meaning "no grouping".
+     */
+    public static final char NO_GROUPING = '\0';
+
+    /**
+     * Comma grouping and point decimal separator, as in {@code 1,234.56}.
+     */
+    public static final CentsFormat DEFAULT = new CentsFormat(',', '.');
+
+    /**
+     * Enough room for {@link Long#MAX_VALUE} cents with grouping and sign.
+     */
+    private static final int MAX_CHARS = 32;
+
+    private final char grouping;
+    private final char decimal;
+    private final StringConverter<Number> converter = new StringConverter<>() {
+        @Override
+        public String toString(final Number cents) {
+            return cents == null ? "" : format(cents.longValue());
+        }
+
+        @Override
+        public Number fromString(final String text) {
+            if (text == null) return null;
+            try {
+                var cents = parse(text);
+                return cents == CentsProperty.NULL_CENTS ? null : cents;
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+    };
+
+    private CentsFormat(final char grouping, final char decimal) {
+        this.grouping = grouping;
+        this.decimal = decimal;
+    }
+
+    /**
+     * Returns a format with the given separators.
+     *
+     * @param grouping grouping separator, or {@link #NO_GROUPING}
+     * @param decimal  decimal separator
+     * @return the format
+     * @throws IllegalArgumentException if the separators are equal or digits
+     */
+    public static CentsFormat of(final char grouping, final char decimal) {
+        if (grouping == decimal || Character.isDigit(grouping) || Character.isDigit(decimal))
+            throw new IllegalArgumentException("Invalid separators: '" + grouping + "', '" + decimal + "'");
+        return grouping == DEFAULT.grouping && decimal == DEFAULT.decimal
+                ? DEFAULT
+                : new CentsFormat(grouping, decimal);
+    }
+
+    /**
+     * Returns a format with the monetary separators of the given locale.
+     *
+     * @param locale the locale
+     * @return the format
+     */
+    public static CentsFormat of(final Locale locale) {
+        var symbols = DecimalFormatSymbols.getInstance(Objects.requireNonNull(locale));
+        return of(symbols.getGroupingSeparator(), symbols.getMonetaryDecimalSeparator());
+    }
+
+    /**
+     * Returns the grouping separator.
+     *
+     * @return the grouping separator, or {@link #NO_GROUPING}
+     */
+    public char getGrouping() {
+        return grouping;
+    }
+
+    /**
+     * Returns the decimal separator.
+     *
+     * @return the decimal separator
+     */
+    public char getDecimal() {
+        return decimal;
+    }
+
+    /**
+     * Formats an amount in cents with exactly two fraction digits.
+     *
+     * @param cents the amount, or {@link CentsProperty#NULL_CENTS}
+     * @return the text, or an empty string for {@link CentsProperty#NULL_CENTS}
+     */
+    public String format(final long cents) {
+        if (cents == CentsProperty.NULL_CENTS) return "";
+        var buf = new char[MAX_CHARS];
+        var pos = buf.length;
+        var v = Math.abs(cents);
+        buf[--pos] = (char) ('0' + v % 10);
+        v /= 10;
+        buf[--pos] = (char) ('0' + v % 10);
+        v /= 10;
+        buf[--pos] = decimal;
+        var digits = 0;
+        do {
+            if (digits > 0 && digits % 3 == 0 && grouping != NO_GROUPING) buf[--pos] = grouping;
+            buf[--pos] = (char) ('0' + v % 10);
+            v /= 10;
+            digits++;
+        } while (v > 0);
+        if (cents < 0) buf[--pos] = '-';
+        return new String(buf, pos, buf.length - pos);
+    }
+
+    /**
+     * Parses an amount into cents.
+     * <br/>
+     * Grouping separators are optional, but when present they must split the
+     * integer part into groups of three digits, so {@code "1,2,3"} or, with
+     * German separators, {@code "1.5"} are rejected instead of being read as
+     * {@code 123} and {@code 15}.
+     *
+     * @param text the text to parse
+     * @return the amount in cents, or {@link CentsProperty#NULL_CENTS} if the
+     * text is blank
+     * @throws NumberFormatException if the text is not an amount or does not
+     *                               fit in a {@code long}
+     */
+    public long parse(final CharSequence text) {
+        var start = 0;
+        var end = text.length();
+        while (start < end && Character.isWhitespace(text.charAt(start))) start++;
+        while (end > start && Character.isWhitespace(text.charAt(end - 1))) end--;
+        if (start == end) return CentsProperty.NULL_CENTS;
+
+        var i = start;
+        var negative = text.charAt(i) == '-';
+        if (negative || text.charAt(i) == '+') i++;
+
+        var units = 0L;
+        var unitDigits = 0;
+        var groupDigits = 0;
+        var grouped = false;
+        try {
+            for (; i < end; i++) {
+                var c = text.charAt(i);
+                if (c >= '0' && c <= '9') {
+                    units = Math.addExact(Math.multiplyExact(units, 10), c - '0');
+                    unitDigits++;
+                    groupDigits++;
+                } else if (c != grouping || grouping == NO_GROUPING || unitDigits == 0) {
+                    break;
+                } else if (grouped ? groupDigits != 3 : groupDigits > 3) {
+                    throw notAnAmount(text);
+                } else {
+                    grouped = true;
+                    groupDigits = 0;
+                }
+            }
+            if (grouped && groupDigits != 3) throw notAnAmount(text);
+
+            var fraction = 0L;
+            var fractionDigits = 0;
+            var dropped = -1;
+            var sticky = false;
+            if (i < end && text.charAt(i) == decimal) {
+                for (i++; i < end; i++) {
+                    var c = text.charAt(i);
+                    if (c < '0' || c > '9') break;
+                    if (fractionDigits < 2) {
+                        fraction = fraction * 10 + (c - '0');
+                        fractionDigits++;
+                    } else if (dropped < 0) {
+                        dropped = c - '0';
+                    } else if (c != '0') {
+                        sticky = true;
+                    }
+                }
+            }
+            if (i != end || unitDigits + fractionDigits == 0) throw notAnAmount(text);
+            if (fractionDigits == 1) fraction *= 10;
+
+            var cents = Math.addExact(Math.multiplyExact(units, 100), fraction);
+            if (dropped > 5 || dropped == 5 && (sticky || (cents & 1) == 1)) cents = Math.incrementExact(cents);
+            return negative ? -cents : cents;
+        } catch (ArithmeticException e) {
+            throw notAnAmount(text);
+        }
+    }
+
+    /**
+     * Returns a converter backed by this format, for cells and text
+     * formatters working with {@link Number} values.
+     * <br/>
+     * Blank and unparseable texts convert to {@code null}. The converter is
+     * created once per format and shared.
+     *
+     * @return a converter between texts and amounts in cents
+     */
+    public StringConverter<Number> converter() {
+        return converter;
+    }
+
+    private static NumberFormatException notAnAmount(final CharSequence text) {
+        return new NumberFormatException("Not an amount: \"" + text + "\"");
+    }
+}
@@ -0,0 +1,187 @@
+/*
+ * Copyright 2025 Ingeniería Informática Yupay S.A.C.S.
+ * RUC 20607854247
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package com.infoyupay.humandate.fx;
+
+import javafx.beans.binding.Bindings;
+import javafx.beans.binding.StringBinding;
+import javafx.beans.property.SimpleLongProperty;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Objects;
+
+/**
+ * A fixed-point monetary amount, stored as a {@code long} number of cents.
+ * <br/>
+ * <p>
+ * An {@code ObjectProperty<BigDecimal>} holds one {@link BigDecimal} per
+ * value and allocates a new one per addition; this property holds a single
+ * {@code long}, so totals are plain additions and large invoice trees keep
+ * no number objects per row. {@code null} is represented by the
+ * {@link #NULL_CENTS} sentinel, the same way {@link EpochDayProperty}
+ * represents a {@code null} date.
+ * <br/>
+ * <p>
+ * Texts are produced and parsed by a {@link CentsFormat}, and
+ * {@link CentsTreeTableCellFactory} renders the property in tree tables.
+ * <br/>
+ * <p><b>Usage example:</b></p>
+ * {@snippet :
+ * var amount = new CentsProperty(this, "amount", new BigDecimal("1234.50"));
+ * label.textProperty().bind(amount.asFormattedString(CentsFormat.DEFAULT));
+ * column.setCellValueFactory(f -> f.getValue().getValue().amountProperty());
+ *}
+ *
+ * @author David Vidal, Infoyupay
+ * @version 1.0
+ * @see CentsFormat
+ */
+public final class CentsProperty extends SimpleLongProperty {
+
+    /**
+     * Sentinel standing for a {@code null} amount.
+     */
+    public static final long NULL_CENTS = Long.MIN_VALUE;
+
+    /**
+     * Lazily created memo of string bindings, keyed by format.
+     */
+    private StringBindingMemo bindings;
+
+    /**
+     * Creates an empty {@code CentsProperty} holding {@code null}.
+     */
+    public CentsProperty() {
+        super(NULL_CENTS);
+    }
+
+    /**
+     * Creates a {@code CentsProperty} holding the given initial amount.
+     *
+     * @param amount initial amount, may be {@code null}
+     */
+    public CentsProperty(final BigDecimal amount) {
+        super(toCents(amount));
+    }
+
+    /**
+     * Creates a named, empty {@code CentsProperty} associated with a bean.
+     *
+     * @param bean the owning bean (may be {@code null})
+     * @param name the property name (for debugging and introspection)
+     */
+    public CentsProperty(final Object bean, final String name) {
+        super(bean, name, NULL_CENTS);
+    }
+
+    /**
+     * Creates a named {@code CentsProperty} associated with a bean
+     * and initialized with an amount.
+     *
+     * @param bean   the owning bean (may be {@code null})
+     * @param name   the property name
+     * @param amount initial amount (may be {@code null})
+     */
+    public CentsProperty(final Object bean, final String name, final BigDecimal amount) {
+        super(bean, name, toCents(amount));
+    }
+
+    /**
+     * Converts an amount into cents, rounding half-even to two fraction
+     * digits and mapping {@code null} to {@link #NULL_CENTS}.
+     *
+     * @param amount amount, may be {@code null}
+     * @return the cents or the sentinel
+     * @throws ArithmeticException if the amount does not fit in a {@code long}
+     */
+    public static long toCents(final BigDecimal amount) {
+        return amount == null
+                ? NULL_CENTS
+                : amount.setScale(2, RoundingMode.HALF_EVEN).unscaledValue().longValueExact();
+    }
+
+    /**
+     * Converts cents into an amount with two fraction digits, mapping
+     * {@link #NULL_CENTS} to {@code null}.
+     *
+     * @param cents cents or sentinel
+     * @return the amount, or {@code null}
+     */
+    public static BigDecimal toBigDecimal(final long cents) {
+        return cents == NULL_CENTS ? null : BigDecimal.valueOf(cents, 2);
+    }
+
+    /**
+     * Returns the current value as a {@link BigDecimal}.
+     * <br/>
+     * A new {@code BigDecimal} is materialized on every call.
+     *
+     * @return the current amount, or {@code null}
+     */
+    public BigDecimal getAmount() {
+        return toBigDecimal(get());
+    }
+
+    /**
+     * Sets the current value from a {@link BigDecimal}.
+     *
+     * @param amount new amount, may be {@code null}
+     */
+    public void setAmount(final BigDecimal amount) {
+        set(toCents(amount));
+    }
+
+    /**
+     * Tells whether this property currently holds {@code null}.
+     *
+     * @return {@code true} if the value is {@link #NULL_CENTS}
+     */
+    public boolean isNullAmount() {
+        return get() == NULL_CENTS;
+    }
+
+    /**
+     * Sets the value from a {@link Number}, mapping {@code null} to
+     * {@link #NULL_CENTS} instead of zero.
+     * <br/>
+     * This is the method editable cells commit through.
+     *
+     * @param cents new value in cents, may be {@code null}
+     */
+    @Override
+    public void setValue(final Number cents) {
+        set(cents == null ? NULL_CENTS : cents.longValue());
+    }
+
+    /**
+     * Returns a string binding rendering this amount with the given format.
+     * <br/>
+     * The binding is memoized per format instance and shared by every
+     * caller, so it must not be {@linkplain StringBinding#dispose() disposed}.
+     *
+     * @param format the amount format (must not be null)
+     * @return a string binding reflecting the formatted amount
+     */
+    public StringBinding asFormattedString(final CentsFormat format) {
+        Objects.requireNonNull(format);
+        if (bindings == null) {
+            bindings = new StringBindingMemo();
+        }
+        return bindings.get(format, () -> Bindings.createStringBinding(() -> format.format(get()), this));
+    }
+}
@@ -0,0 +1,280 @@
+/*
+ * Copyright 2025 Ingeniería Informática Yupay S.A.C.S.
+ * RUC 20607854247
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package com.infoyupay.humandate.fx;
+
+import javafx.beans.InvalidationListener;
+import javafx.beans.WeakInvalidationListener;
+import javafx.beans.property.BooleanProperty;
+import javafx.beans.property.ObjectProperty;
+import javafx.beans.property.SimpleBooleanProperty;
+import javafx.beans.property.SimpleObjectProperty;
+import javafx.scene.control.TreeTableCell;
+import javafx.scene.control.TreeTableColumn;
+import javafx.scene.control.cell.TextFieldTreeTableCell;
+import javafx.util.Callback;
+import javafx.util.StringConverter;
+
+/**
+ * A {@link Callback} producing {@link TreeTableCell} instances that render
+ * and edit amounts held as {@code long} cents, typically
+ * {@link CentsProperty} values.
+ *
+ * <p>
+ * It is the amount column companion of {@link HumanDateTreeTableCellFactory}:
+ * cells format with a shared {@link CentsFormat} instead of a
+ * {@link java.text.DecimalFormat} per factory, and commit parsed cents
+ * without going through {@link java.math.BigDecimal}. Changes to
+ * {@link #formatProperty()} are propagated to visible cells immediately.
+ * </p>
+ *
+ * <p>
+ * In trees whose branch rows show aggregated totals, such as the sums kept
+ * by {@link HumanDateTreeAggregator}, {@link #leavesOnlyProperty() leaves-only}
+ * mode restricts editing to leaf rows.
+ * </p>
+ *
+ * <h2>Example usage</h2>
+ * {@snippet :
+ * TreeTableColumn<Invoice, Number> amountColumn = new TreeTableColumn<>("Amount");
+ * amountColumn.setCellValueFactory(f -> f.getValue().getValue().amountProperty());
+ *
+ * var factory = new CentsTreeTableCellFactory<Invoice>();
+ * factory.setFormat(CentsFormat.of(Locale.GERMANY));
+ * factory.setLeavesOnly(true);
+ * amountColumn.setCellFactory(factory);
+ *}
+ *
+ * @param <S> the type of row items in the {@link javafx.scene.control.TreeTableView}
+ * @author David Vidal, Infoyupay
+ * @version 1.0
+ * @see CentsProperty
+ * @see CentsFormat
+ */
+public final class CentsTreeTableCellFactory<S>
+        implements Callback<TreeTableColumn<S, Number>, TreeTableCell<S, Number>> {
+
+    /**
+     * Format used to render and parse amounts.
+     */
+    private final ObjectProperty<CentsFormat> format =
+            new SimpleObjectProperty<>(this, "format", CentsFormat.DEFAULT);
+
+    /**
+     * Whether new cells are lightweight, display-only cells.
+     */
+    private final BooleanProperty displayOnly =
+            new SimpleBooleanProperty(this, "displayOnly", false);
+
+    /**
+     * Whether editing is restricted to leaf rows.
+     */
+    private final BooleanProperty leavesOnly =
+            new SimpleBooleanProperty(this, "leavesOnly", false);
+
+    /**
+     * Produces a cell for the given column.
+     *
+     * @param column the column requesting a cell
+     * @return a display-only or editable amount cell
+     */
+    @Override
+    public TreeTableCell<S, Number> call(final TreeTableColumn<S, Number> column) {
+        return isDisplayOnly() ? new DisplayCell<>(this) : new EditableCell<>(this);
+    }
+
+    /**
+     * Returns the active amount format.
+     *
+     * @return the active {@link CentsFormat}
+     */
+    public CentsFormat getFormat() {
+        return format.get();
+    }
+
+    /**
+     * Sets the format used to render and parse amounts.
+     *
+     * @param format the format to apply, or {@code null} for {@link CentsFormat#DEFAULT}
+     */
+    public void setFormat(final CentsFormat format) {
+        this.format.set(format);
+    }
+
+    /**
+     * Property enabling reactive control of the amount format.
+     *
+     * @return a JavaFX property representing the active format
+     */
+    public ObjectProperty<CentsFormat> formatProperty() {
+        return format;
+    }
+
+    /**
+     * Returns whether new cells are display-only.
+     *
+     * @return {@code true} if cells cannot be edited
+     */
+    public boolean isDisplayOnly() {
+        return displayOnly.get();
+    }
+
+    /**
+     * Switches between editable and display-only cells. The mode applies to
+     * cells created afterwards.
+     *
+     * @param displayOnly {@code true} to produce display-only cells
+     */
+    public void setDisplayOnly(final boolean displayOnly) {
+        this.displayOnly.set(displayOnly);
+    }
+
+    /**
+     * Property controlling whether new cells are display-only.
+     *
+     * @return a JavaFX property representing the display-only mode
+     */
+    public BooleanProperty displayOnlyProperty() {
+        return displayOnly;
+    }
+
+    /**
+     * Returns whether editing is restricted to leaf rows.
+     *
+     * @return {@code true} if branch rows cannot be edited
+     */
+    public boolean isLeavesOnly() {
+        return leavesOnly.get();
+    }
+
+    /**
+     * Restricts editing to leaf rows, leaving aggregated branch rows
+     * read-only.
+     *
+     * @param leavesOnly {@code true} to only edit leaf rows
+     */
+    public void setLeavesOnly(final boolean leavesOnly) {
+        this.leavesOnly.set(leavesOnly);
+    }
+
+    /**
+     * Property controlling whether editing is restricted to leaf rows.
+     *
+     * @return a JavaFX property representing the leaves-only mode
+     */
+    public BooleanProperty leavesOnlyProperty() {
+        return leavesOnly;
+    }
+
+    /**
+     * Returns the active format, falling back to the default one.
+     */
+    private CentsFormat effectiveFormat() {
+        var f = format.get();
+        return f == null ? CentsFormat.DEFAULT : f;
+    }
+
+    /**
+     * Editable cell following the format of its factory.
+     *
+     * @param <S> the type of row items in the tree table
+     */
+    private static final class EditableCell<S> extends TextFieldTreeTableCell<S, Number> {
+
+        private final CentsTreeTableCellFactory<S> factory;
+
+        /**
+         * Keeps the weak subscription to the factory alive as long as this cell.
+         */
+        private final InvalidationListener formatListener = o -> onFormatChanged();
+
+        /**
+         * Creates a cell subscribed to the format of the given factory.
+         *
+         * @param factory the owning factory
+         */
+        EditableCell(final CentsTreeTableCellFactory<S> factory) {
+            this.factory = factory;
+            setConverter(new StringConverter<>() {
+                @Override
+                public String toString(final Number cents) {
+                    return factory.effectiveFormat().converter().toString(cents);
+                }
+
+                @Override
+                public Number fromString(final String text) {
+                    return factory.effectiveFormat().converter().fromString(text);
+                }
+            });
+            factory.format.addListener(new WeakInvalidationListener(formatListener));
+        }
+
+        @Override
+        public void startEdit() {
+            if (factory.isLeavesOnly()) {
+                var row = getTableRow();
+                if (row == null || row.getTreeItem() == null || !row.getTreeItem().isLeaf()) return;
+            }
+            super.startEdit();
+        }
+
+        /**
+         * Re-sets the text of a displayed item after the format changed.
+         */
+        private void onFormatChanged() {
+            if (!isEmpty() && !isEditing()) {
+                setText(getConverter().toString(getItem()));
+            }
+        }
+    }
+
+    /**
+     * Display-only cell following the format of its factory.
+     *
+     * @param <S> the type of row items in the tree table
+     */
+    private static final class DisplayCell<S> extends TreeTableCell<S, Number> {
+
+        private final CentsTreeTableCellFactory<S> factory;
+
+        /**
+         * Keeps the weak subscription to the factory alive as long as this cell.
+         */
+        private final InvalidationListener formatListener = o -> render(getItem(), isEmpty());
+
+        /**
+         * Creates a non-editable cell subscribed to the format of the given factory.
+         *
+         * @param factory the owning factory
+         */
+        DisplayCell(final CentsTreeTableCellFactory<S> factory) {
+            this.factory = factory;
+            factory.format.addListener(new WeakInvalidationListener(formatListener));
+            setEditable(false);
+        }
+
+        @Override
+        protected void updateItem(final Number item, final boolean empty) {
+            super.updateItem(item, empty);
+            render(item, empty);
+        }
+
+        private void render(final Number item, final boolean empty) {
+            setText(empty || item == null ? null : factory.effectiveFormat().format(item.longValue()));
+        }
+    }
+}
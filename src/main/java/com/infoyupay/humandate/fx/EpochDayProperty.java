@@ -0,0 +1,282 @@
+/*
+ * Copyright 2025 Ingeniería Informática Yupay S.A.C.S.
+ * RUC 20607854247
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.infoyupay.humandate.fx;
+
+import com.infoyupay.humandate.core.HumanDateFormatter;
+import javafx.beans.binding.Bindings;
+import javafx.beans.binding.ObjectBinding;
+import javafx.beans.binding.StringBinding;
+import javafx.beans.property.SimpleLongProperty;
+import javafx.beans.value.ObservableValue;
+import javafx.beans.value.WritableValue;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.Objects;
+
+/**
+ * A primitive-backed alternative to {@link LocalDateProperty}, storing a date
+ * as its epoch day in a {@code long}.
+ * <br/>
+ * <p>
+ * A {@link LocalDateProperty} holds a boxed {@link LocalDate} per value; this
+ * property holds a single {@code long}, so models with millions of rows and
+ * several dates each avoid one {@code LocalDate} object per field and the
+ * matching GC pressure. {@code null} is represented by the
+ * {@link #NULL_EPOCH_DAY} sentinel.
+ * <br/>
+ * <p>
+ * The same string bindings as {@link LocalDateProperty} are offered, and
+ * {@link #asLocalDate()} exposes a {@code LocalDate} view for APIs such as
+ * {@code TableColumn} cell value factories.
+ * <br/>
+ * <p><b>Usage example:</b></p>
+ * {@snippet :
+ * var dueDate = new EpochDayProperty(this, "dueDate", LocalDate.now());
+ * label.textProperty().bind(dueDate.asHumanString(new HumanDateFormatter()));
+ * column.setCellValueFactory(f -> f.getValue().dueDateProperty().asLocalDate());
+ *}
+ *
+ * @author David Vidal, Infoyupay
+ * @version 1.0
+ * @see LocalDateProperty
+ */
+public final class EpochDayProperty extends SimpleLongProperty {
+
+    /**
+     * Sentinel epoch day standing for a {@code null} date.
+     * <br/>
+     * {@link Long#MIN_VALUE} lies far outside the range of {@link LocalDate}.
+     */
+    public static final long NULL_EPOCH_DAY = Long.MIN_VALUE;
+
+    /**
+     * Lazily created {@code LocalDate} view, see {@link #asLocalDate()}.
+     */
+    private LocalDateView view;
+
+    /**
+     * Lazily created memo of string bindings, keyed by formatter.
+     */
+    private StringBindingMemo bindings;
+
+    /**
+     * Creates an empty {@code EpochDayProperty} holding {@code null}.
+     */
+    public EpochDayProperty() {
+        super(NULL_EPOCH_DAY);
+    }
+
+    /**
+     * Creates an {@code EpochDayProperty} holding the given initial value.
+     *
+     * @param localDate initial {@link LocalDate} value, may be {@code null}
+     */
+    public EpochDayProperty(final LocalDate localDate) {
+        super(toEpochDay(localDate));
+    }
+
+    /**
+     * Creates a named, empty {@code EpochDayProperty} associated with a bean.
+     *
+     * @param bean the owning bean (may be {@code null})
+     * @param name the property name (for debugging and introspection)
+     */
+    public EpochDayProperty(final Object bean, final String name) {
+        super(bean, name, NULL_EPOCH_DAY);
+    }
+
+    /**
+     * Creates a named {@code EpochDayProperty} associated with a bean
+     * and initialized with a value.
+     *
+     * @param bean      the owning bean (may be {@code null})
+     * @param name      the property name
+     * @param localDate initial value (may be {@code null})
+     */
+    public EpochDayProperty(final Object bean, final String name, final LocalDate localDate) {
+        super(bean, name, toEpochDay(localDate));
+    }
+
+    /**
+     * Converts a date into its epoch day, mapping {@code null} to
+     * {@link #NULL_EPOCH_DAY}.
+     *
+     * @param localDate date, may be {@code null}
+     * @return the epoch day or the sentinel
+     */
+    public static long toEpochDay(final LocalDate localDate) {
+        return localDate == null ? NULL_EPOCH_DAY : localDate.toEpochDay();
+    }
+
+    /**
+     * Converts an epoch day into a date, mapping {@link #NULL_EPOCH_DAY} to
+     * {@code null}.
+     *
+     * @param epochDay epoch day or sentinel
+     * @return the date, or {@code null}
+     */
+    public static LocalDate toLocalDate(final long epochDay) {
+        return epochDay == NULL_EPOCH_DAY ? null : LocalDate.ofEpochDay(epochDay);
+    }
+
+    /**
+     * Returns the current value as a date.
+     * <br/>
+     * A new {@link LocalDate} is materialized on every call.
+     *
+     * @return the current date, or {@code null}
+     */
+    public LocalDate getDate() {
+        return toLocalDate(get());
+    }
+
+    /**
+     * Sets the current value from a date.
+     *
+     * @param localDate new value, may be {@code null}
+     */
+    public void setDate(final LocalDate localDate) {
+        set(toEpochDay(localDate));
+    }
+
+    /**
+     * Tells whether this property currently holds {@code null}.
+     *
+     * @return {@code true} if the value is {@link #NULL_EPOCH_DAY}
+     */
+    public boolean isNullDate() {
+        return get() == NULL_EPOCH_DAY;
+    }
+
+    /**
+     * Exposes this property as an observable {@link LocalDate}.
+     * <br/>
+     * <p>
+     * The returned binding is created once and cached. It also implements
+     * {@link WritableValue}, so an editable {@code TableColumn} or
+     * {@code TreeTableColumn} using it as cell value commits edits back to
+     * this property.
+     *
+     * @return a {@code LocalDate} view of this property
+     */
+    public ObjectBinding<LocalDate> asLocalDate() {
+        if (view == null) {
+            view = new LocalDateView();
+        }
+        return view;
+    }
+
+    /**
+     * Returns a string binding based on a provided {@link DateTimeFormatter}.
+     * <br/>
+     * The binding is memoized per formatter instance and shared by every
+     * caller, so it must not be {@linkplain StringBinding#dispose() disposed}.
+     *
+     * @param formatter Java date-time formatter (must not be null)
+     * @return a string binding reflecting the formatted value
+     */
+    public StringBinding asFormattedString(final DateTimeFormatter formatter) {
+        Objects.requireNonNull(formatter);
+        return memo().get(formatter, () -> Bindings.createStringBinding(() -> {
+            var val = getDate();
+            if (val == null) return "";
+            return formatter.format(val);
+        }, this));
+    }
+
+    /**
+     * Returns a string binding using a human-friendly formatter obtained
+     * from an {@link ObservableValue} of {@link HumanDateFormatter}.
+     * <br/>
+     * Useful when formatter configuration may change at runtime. The binding
+     * also follows {@link HumanDateClock#todayProperty()}, so relative texts
+     * update at midnight.
+     * <br/>
+     * The binding is memoized per formatter instance and shared by every
+     * caller, so it must not be {@linkplain StringBinding#dispose() disposed}.
+     *
+     * @param formatterBinding binding providing the active formatter
+     * @return a string binding reflecting human-friendly output
+     */
+    public StringBinding asHumanString(final ObservableValue<HumanDateFormatter> formatterBinding) {
+        Objects.requireNonNull(formatterBinding);
+        return memo().get(formatterBinding, () -> Bindings.createStringBinding(() -> {
+            var fmt = formatterBinding.getValue();
+            var val = getDate();
+            if (fmt == null || val == null) return "";
+            return fmt.apply(val);
+        }, formatterBinding, this, HumanDateClock.todayProperty()));
+    }
+
+    /**
+     * Convenience overload for static human-friendly formatting. The binding
+     * also follows {@link HumanDateClock#todayProperty()}.
+     * <br/>
+     * The binding is memoized per formatter instance and shared by every
+     * caller, so it must not be {@linkplain StringBinding#dispose() disposed}.
+     *
+     * @param formatter active formatter
+     * @return binding displaying formatted text
+     */
+    public StringBinding asHumanString(final HumanDateFormatter formatter) {
+        Objects.requireNonNull(formatter);
+        return memo().get(formatter, () -> Bindings.createStringBinding(() -> {
+            var val = getDate();
+            if (val == null) return "";
+            return formatter.apply(val);
+        }, this, HumanDateClock.todayProperty()));
+    }
+
+    /**
+     * Lazily creates the memo of string bindings.
+     *
+     * @return the memo
+     */
+    private StringBindingMemo memo() {
+        if (bindings == null) {
+            bindings = new StringBindingMemo();
+        }
+        return bindings;
+    }
+
+    /**
+     * Writable {@code LocalDate} view over the enclosing property.
+     */
+    private final class LocalDateView extends ObjectBinding<LocalDate>
+            implements WritableValue<LocalDate> {
+
+        /**
+         * Creates the view, invalidated whenever the epoch day changes.
+         */
+        LocalDateView() {
+            bind(EpochDayProperty.this);
+        }
+
+        @Override
+        protected LocalDate computeValue() {
+            return getDate();
+        }
+
+        @Override
+        public void setValue(final LocalDate value) {
+            setDate(value);
+        }
+    }
+}
@@ -0,0 +1,188 @@
+/*
+ * Copyright 2025 Ingeniería Informática Yupay S.A.C.S.
+ * RUC 20607854247
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.infoyupay.humandate.fx;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded, direct-mapped cache from epoch day to rendered text.
+ * <br/>
+ * <p>
+ * Keys are primitive epoch days: no {@link LocalDate} is retained and no
+ * key is boxed. Each key maps to exactly one slot ({@code epochDay & mask}),
+ * so contiguous date ranges spread evenly and a colliding key simply
+ * replaces the previous occupant.
+ * <br/>
+ * <p>
+ * Slots hold immutable entries, so racing readers observe either a
+ * complete entry or none at all. Since human-friendly output may be
+ * relative to the current day, each entry is stamped with the local day it
+ * was rendered on and is ignored once that day is over. Stamping instead of
+ * clearing in place means a render that straddles midnight can never be
+ * served the day after, however late its {@link #put(long, long, String)}
+ * lands.
+ *
+ * @author David Vidal, Infoyupay
+ * @version 1.0
+ */
+final class EpochDayRenderCache {
+
+    /**
+     * Largest accepted capacity, keeping the slot array reasonably sized.
+     */
+    static final int MAX_CAPACITY = 1 << 20;
+
+    private final Entry[] slots;
+    private final int mask;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * Current local day, as an epoch day, paired with the instant it ends.
+     */
+    private volatile Today today;
+
+    /**
+     * Creates a cache holding at most {@code capacity} entries, rounded up
+     * to the next power of two.
+     *
+     * @param capacity requested capacity, between 1 and {@link #MAX_CAPACITY}
+     * @throws IllegalArgumentException if the capacity is out of range
+     */
+    EpochDayRenderCache(final int capacity) {
+        if (capacity < 1 || capacity > MAX_CAPACITY)
+            throw new IllegalArgumentException("Capacity out of range: " + capacity);
+        var size = Integer.highestOneBit(capacity);
+        if (size < capacity) size <<= 1;
+        this.slots = new Entry[size];
+        this.mask = size - 1;
+        this.today = Today.now();
+    }
+
+    /**
+     * Looks up the text rendered for the given epoch day.
+     *
+     * @param epochDay the key
+     * @return the cached text, or {@code null} on a miss
+     */
+    String get(final long epochDay) {
+        var entry = slots[(int) epochDay & mask];
+        if (entry != null && entry.epochDay == epochDay && entry.renderDay == renderDay()) {
+            hits.increment();
+            return entry.text;
+        }
+        misses.increment();
+        return null;
+    }
+
+    /**
+     * Stamp to pass to {@link #put(long, long, String)}.
+     * <br/>
+     * Must be read <em>before</em> rendering, so a render that straddles
+     * midnight is stored under the day it was computed for.
+     *
+     * @return the current local day, as an epoch day
+     */
+    long renderDay() {
+        var current = today;
+        if (System.currentTimeMillis() >= current.expiresAt) {
+            current = Today.now();
+            today = current;
+        }
+        return current.epochDay;
+    }
+
+    /**
+     * Stores the text rendered for the given epoch day.
+     *
+     * @param epochDay  the key
+     * @param renderDay value of {@link #renderDay()} read before rendering
+     * @param text      rendered text (must not be {@code null})
+     */
+    void put(final long epochDay, final long renderDay, final String text) {
+        slots[(int) epochDay & mask] = new Entry(epochDay, renderDay, text);
+    }
+
+    /**
+     * Drops every entry. Counters are preserved.
+     */
+    void clear() {
+        Arrays.fill(slots, null);
+    }
+
+    /**
+     * Number of slots available.
+     *
+     * @return the effective capacity
+     */
+    int capacity() {
+        return slots.length;
+    }
+
+    /**
+     * Current counters.
+     *
+     * @return a snapshot of hit and miss counters
+     */
+    HumanDateCacheStats stats() {
+        return new HumanDateCacheStats(hits.sum(), misses.sum());
+    }
+
+    /**
+     * Computes the next local midnight, in epoch millis.
+     *
+     * @return the instant at which the current day ends
+     */
+    static long nextMidnight() {
+        var zone = ZoneId.systemDefault();
+        return LocalDate.now(zone).plusDays(1L)
+                .atStartOfDay(zone)
+                .toInstant()
+                .toEpochMilli();
+    }
+
+    /**
+     * Immutable slot content.
+     *
+     * @param epochDay  key
+     * @param renderDay local day the text was rendered on
+     * @param text      rendered value
+     */
+    private record Entry(long epochDay, long renderDay, String text) {
+    }
+
+    /**
+     * The current local day and the instant it ends.
+     *
+     * @param epochDay  current local day
+     * @param expiresAt wall-clock instant (epoch millis) of the next local midnight
+     */
+    private record Today(long epochDay, long expiresAt) {
+
+        static Today now() {
+            var zone = ZoneId.systemDefault();
+            var day = LocalDate.now(zone);
+            return new Today(day.toEpochDay(),
+                    day.plusDays(1L).atStartOfDay(zone).toInstant().toEpochMilli());
+        }
+    }
+}
@@ -0,0 +1,398 @@
+/*
+ * Copyright 2025 Ingeniería Informática Yupay S.A.C.S.
+ * RUC 20607854247
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.infoyupay.humandate.fx;
+
+import com.infoyupay.humandate.core.HumanDateParser;
+import com.infoyupay.humandate.core.LanguageSupport;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import static com.infoyupay.humandate.fx.EpochDayProperty.NULL_EPOCH_DAY;
+
+/**
+ * Bulk entry points for converting large amounts of dates, such as the
+ * date columns of an imported file.
+ * <br/>
+ * <p>
+ * {@link #parseAll(List, LanguageSupport)} splits the input into chunks that
+ * are parsed in parallel on a {@link ForkJoinPool}, each chunk with its own
+ * {@link HumanDateParser}, so workers share no mutable state. Results are
+ * written into a primitive epoch-day array instead of a list of
+ * {@link LocalDate} objects.
+ * <br/>
+ * <p>
+ * {@link #formatAll(long[], HumanDateConverterSnapshot)} goes the other way:
+ * it renders every distinct day of a column in parallel into a
+ * {@link HumanDateRenderTable}, which cell factories use as a pre-warmed
+ * render cache.
+ * <br/>
+ * <p><b>Usage example:</b></p>
+ * {@snippet :
+ * var result = HumanDateBatch.parseAll(dueDateColumn, Languages.es());
+ * if (result.errorCount() > 0) {
+ *     var firstBadRow = result.errors().nextSetBit(0);
+ *     // ... report ...
+ * }
+ * long[] dueDays = result.epochDays();
+ *}
+ *
+ * @author David Vidal, Infoyupay
+ * @version 1.0
+ */
+public final class HumanDateBatch {
+
+    /**
+     * Inputs parsed by one fork-join leaf task.
+     */
+    static final int CHUNK_SIZE = 4096;
+
+    /**
+     * Prevents instantiation.
+     */
+    private HumanDateBatch() {
+    }
+
+    /**
+     * Parses every input on the common fork-join pool.
+     *
+     * @param inputs   human-friendly inputs; {@code null} or blank entries
+     *                 yield {@link EpochDayProperty#NULL_EPOCH_DAY} and are
+     *                 not errors
+     * @param language language used to interpret the inputs
+     * @return epoch days and error bitmap, indexed like {@code inputs}
+     * @see #parseAll(List, LanguageSupport, ForkJoinPool)
+     */
+    public static ParseResult parseAll(final List<? extends CharSequence> inputs,
+                                       final LanguageSupport language) {
+        return parseAll(inputs, language, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Parses every input on the given fork-join pool.
+     * <br/>
+     * <p>
+     * An input that cannot be parsed leaves
+     * {@link EpochDayProperty#NULL_EPOCH_DAY} in its slot and sets its bit in
+     * {@link ParseResult#errors()}. The list must support fast random access
+     * and must not change during the call.
+     *
+     * @param inputs   human-friendly inputs
+     * @param language language used to interpret the inputs
+     * @param pool     pool running the parse
+     * @return epoch days and error bitmap, indexed like {@code inputs}
+     * @throws NullPointerException if any argument is {@code null}
+     */
+    public static ParseResult parseAll(final List<? extends CharSequence> inputs,
+                                       final LanguageSupport language,
+                                       final ForkJoinPool pool) {
+        Objects.requireNonNull(inputs);
+        Objects.requireNonNull(language);
+        Objects.requireNonNull(pool);
+        var size = inputs.size();
+        var epochDays = new long[size];
+        var chunkErrors = new BitSet[(size + CHUNK_SIZE - 1) / CHUNK_SIZE];
+        pool.invoke(new ParseTask(inputs, language, epochDays, chunkErrors, 0, size));
+
+        var errors = new BitSet(size);
+        for (var c = 0; c < chunkErrors.length; c++) {
+            var bits = chunkErrors[c];
+            if (bits == null) continue;
+            var offset = c * CHUNK_SIZE;
+            for (var i = bits.nextSetBit(0); i >= 0; i = bits.nextSetBit(i + 1)) {
+                errors.set(offset + i);
+            }
+        }
+        return new ParseResult(epochDays, errors);
+    }
+
+    /**
+     * Pre-renders every distinct day on the common fork-join pool.
+     *
+     * @param epochDays days to render, typically a whole column; repeated days
+     *                  and {@link EpochDayProperty#NULL_EPOCH_DAY} are allowed
+     * @param converter converter rendering the texts, usually the one of the
+     *                  consuming factory, as given by
+     *                  {@link HumanDateConverterRegistry#get(LanguageSupport, java.time.format.DateTimeFormatter)}
+     * @return a table holding each distinct day once
+     * @see #formatAll(long[], HumanDateConverterSnapshot, ForkJoinPool)
+     */
+    public static HumanDateRenderTable formatAll(final long[] epochDays,
+                                                 final HumanDateConverterSnapshot converter) {
+        return formatAll(epochDays, converter, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Pre-renders every distinct day on the given fork-join pool.
+     * <br/>
+     * <p>
+     * The days are copied and merge-sorted in parallel on {@code pool},
+     * duplicates and nulls are dropped, and the remaining days are formatted
+     * in parallel chunks. The input array is not modified.
+     *
+     * @param epochDays days to render
+     * @param converter converter rendering the texts
+     * @param pool      pool running the work
+     * @return a table holding each distinct day once
+     * @throws NullPointerException        if any argument is {@code null}
+     * @throws java.time.DateTimeException if a day lies outside the
+     *                                     {@link LocalDate} range
+     */
+    public static HumanDateRenderTable formatAll(final long[] epochDays,
+                                                 final HumanDateConverterSnapshot converter,
+                                                 final ForkJoinPool pool) {
+        Objects.requireNonNull(epochDays);
+        Objects.requireNonNull(converter);
+        Objects.requireNonNull(pool);
+        // Read before rendering, so texts rendered across midnight are stale.
+        var expiresAt = EpochDayRenderCache.nextMidnight();
+
+        var sorted = epochDays.clone();
+        // Arrays.parallelSort would fork into the common pool, not this one.
+        pool.invoke(new SortTask(sorted, new long[sorted.length], 0, sorted.length));
+        var distinct = 0;
+        for (var day : sorted) {
+            if (day == NULL_EPOCH_DAY || (distinct > 0 && sorted[distinct - 1] == day)) continue;
+            sorted[distinct++] = day;
+        }
+        var days = Arrays.copyOf(sorted, distinct);
+
+        var texts = new String[distinct];
+        pool.invoke(new FormatTask(days, texts, converter, 0, distinct));
+        return new HumanDateRenderTable(converter, days, texts, expiresAt);
+    }
+
+    /**
+     * Outcome of {@link #parseAll(List, LanguageSupport)}.
+     * <br/>
+     * The array is owned by the result and is not copied.
+     *
+     * @param epochDays parsed epoch days, {@link EpochDayProperty#NULL_EPOCH_DAY}
+     *                  for blank or failed inputs
+     * @param errors    indexes of the inputs that failed to parse
+     */
+    public record ParseResult(long[] epochDays, BitSet errors) {
+
+        /**
+         * Number of parsed inputs.
+         *
+         * @return the input count
+         */
+        public int size() {
+            return epochDays.length;
+        }
+
+        /**
+         * Number of inputs that failed to parse.
+         *
+         * @return the error count
+         */
+        public int errorCount() {
+            return errors.cardinality();
+        }
+
+        /**
+         * Tells whether an input failed to parse.
+         *
+         * @param index input index
+         * @return {@code true} on a parse error
+         */
+        public boolean isError(final int index) {
+            return errors.get(Objects.checkIndex(index, epochDays.length));
+        }
+
+        /**
+         * Materializes the date parsed from an input.
+         *
+         * @param index input index
+         * @return the date, or {@code null} for blank or failed inputs
+         */
+        public LocalDate getDate(final int index) {
+            return EpochDayProperty.toLocalDate(epochDays[index]);
+        }
+    }
+
+    /**
+     * Splits a range in halves down to {@link #CHUNK_SIZE}, then parses it
+     * with a parser of its own.
+     */
+    private static final class ParseTask extends RecursiveAction {
+
+        private final List<? extends CharSequence> inputs;
+        private final LanguageSupport language;
+        private final long[] epochDays;
+        private final BitSet[] chunkErrors;
+        private final int from;
+        private final int to;
+
+        /**
+         * Creates a task for the range {@code [from, to)}.
+         *
+         * @param inputs      all inputs
+         * @param language    parsing language
+         * @param epochDays   output array
+         * @param chunkErrors per-chunk error bitmaps, created on first error
+         * @param from        first index, aligned to {@link #CHUNK_SIZE}
+         * @param to          index after the last one
+         */
+        ParseTask(final List<? extends CharSequence> inputs,
+                  final LanguageSupport language,
+                  final long[] epochDays,
+                  final BitSet[] chunkErrors,
+                  final int from,
+                  final int to) {
+            this.inputs = inputs;
+            this.language = language;
+            this.epochDays = epochDays;
+            this.chunkErrors = chunkErrors;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > CHUNK_SIZE) {
+                var chunks = (to - from + CHUNK_SIZE - 1) / CHUNK_SIZE;
+                var mid = from + (chunks / 2) * CHUNK_SIZE;
+                invokeAll(new ParseTask(inputs, language, epochDays, chunkErrors, from, mid),
+                        new ParseTask(inputs, language, epochDays, chunkErrors, mid, to));
+                return;
+            }
+            var parser = new HumanDateParser().setLanguage(language);
+            BitSet errors = null;
+            for (var i = from; i < to; i++) {
+                var input = inputs.get(i);
+                var text = input == null ? null : input.toString();
+                var epochDay = NULL_EPOCH_DAY;
+                if (text != null && !text.isBlank()) {
+                    LocalDate date;
+                    try {
+                        date = parser.apply(text);
+                    } catch (RuntimeException e) {
+                        date = null;
+                    }
+                    if (date == null) {
+                        if (errors == null) errors = new BitSet(to - from);
+                        errors.set(i - from);
+                    } else {
+                        epochDay = date.toEpochDay();
+                    }
+                }
+                epochDays[i] = epochDay;
+            }
+            // Each chunk owns its slot; the fork-join join publishes it.
+            chunkErrors[from / CHUNK_SIZE] = errors;
+        }
+    }
+
+    /**
+     * Sorts a range by sorting its halves in parallel down to
+     * {@link #CHUNK_SIZE} and merging them.
+     */
+    private static final class SortTask extends RecursiveAction {
+
+        private final long[] days;
+        private final long[] buffer;
+        private final int from;
+        private final int to;
+
+        /**
+         * Creates a task for the range {@code [from, to)}.
+         *
+         * @param days   array to sort in place
+         * @param buffer scratch array as long as {@code days}
+         * @param from   first index
+         * @param to     index after the last one
+         */
+        SortTask(final long[] days, final long[] buffer, final int from, final int to) {
+            this.days = days;
+            this.buffer = buffer;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= CHUNK_SIZE) {
+                Arrays.sort(days, from, to);
+                return;
+            }
+            var mid = (from + to) >>> 1;
+            invokeAll(new SortTask(days, buffer, from, mid), new SortTask(days, buffer, mid, to));
+            if (days[mid - 1] <= days[mid]) return;
+            // merge the copied left half with the right half, which is
+            // never overwritten before it is read
+            System.arraycopy(days, from, buffer, from, mid - from);
+            int i = from, j = mid, k = from;
+            while (i < mid && j < to) days[k++] = buffer[i] <= days[j] ? buffer[i++] : days[j++];
+            while (i < mid) days[k++] = buffer[i++];
+        }
+    }
+
+    /**
+     * Splits a range in halves down to {@link #CHUNK_SIZE}, then formats it.
+     */
+    private static final class FormatTask extends RecursiveAction {
+
+        private final long[] days;
+        private final String[] texts;
+        private final HumanDateConverterSnapshot converter;
+        private final int from;
+        private final int to;
+
+        /**
+         * Creates a task for the range {@code [from, to)}.
+         *
+         * @param days      days to format
+         * @param texts     output array
+         * @param converter thread-safe converter
+         * @param from      first index
+         * @param to        index after the last one
+         */
+        FormatTask(final long[] days,
+                   final String[] texts,
+                   final HumanDateConverterSnapshot converter,
+                   final int from,
+                   final int to) {
+            this.days = days;
+            this.texts = texts;
+            this.converter = converter;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > CHUNK_SIZE) {
+                var mid = (from + to) >>> 1;
+                invokeAll(new FormatTask(days, texts, converter, from, mid),
+                        new FormatTask(days, texts, converter, mid, to));
+                return;
+            }
+            for (var i = from; i < to; i++) {
+                texts[i] = converter.toString(LocalDate.ofEpochDay(days[i]));
+            }
+        }
+    }
+}
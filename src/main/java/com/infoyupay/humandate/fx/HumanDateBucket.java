@@ -0,0 +1,133 @@
+/*
+ * Copyright 2025 Ingeniería Informática Yupay S.A.C.S.
+ * RUC 20607854247
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package com.infoyupay.humandate.fx;
+
+import javafx.util.StringConverter;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+import java.util.Objects;
+
+/**
+ * Calendar buckets used to group rows by date, such as the group nodes built
+ * by {@link HumanDateLazyTreeItem#grouped}.
+ * <br/>
+ * <p>
+ * A bucket is identified by its first day: {@link #startOf(LocalDate)} maps
+ * any date to that key, so rows can be grouped with a plain map, and
+ * {@link #label(LocalDate, StringConverter)} renders the bucket with the
+ * same converter as the dates it contains.
+ * <br/>
+ * <p><b>Usage example:</b></p>
+ * {@snippet :
+ * var key = HumanDateBucket.WEEK.startOf(invoice.getDueDate());
+ * var text = HumanDateBucket.WEEK.label(key, converter); // "17/06/2024 – 23/06/2024"
+ *}
+ *
+ * @author David Vidal, Infoyupay
+ * @version 1.0
+ */
+public enum HumanDateBucket {
+
+    /**
+     * One bucket per day.
+     */
+    DAY {
+        @Override
+        public LocalDate startOf(final LocalDate date) {
+            return date;
+        }
+
+        @Override
+        public LocalDate endOf(final LocalDate start) {
+            return start;
+        }
+    },
+
+    /**
+     * One bucket per ISO week, starting on Monday.
+     */
+    WEEK {
+        @Override
+        public LocalDate startOf(final LocalDate date) {
+            return date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+        }
+
+        @Override
+        public LocalDate endOf(final LocalDate start) {
+            return start.plusDays(6);
+        }
+    },
+
+    /**
+     * One bucket per calendar month.
+     */
+    MONTH {
+        @Override
+        public LocalDate startOf(final LocalDate date) {
+            return date.withDayOfMonth(1);
+        }
+
+        @Override
+        public LocalDate endOf(final LocalDate start) {
+            return start.with(TemporalAdjusters.lastDayOfMonth());
+        }
+    };
+
+    /**
+     * Separator between the first and last day of multi-day buckets.
+     */
+    private static final String RANGE_SEPARATOR = " – ";
+
+    /**
+     * Returns the first day of the bucket containing the given date, which
+     * is also the bucket key.
+     *
+     * @param date a date, not {@code null}
+     * @return the first day of its bucket
+     */
+    public abstract LocalDate startOf(LocalDate date);
+
+    /**
+     * Returns the last day of the bucket starting at the given date.
+     *
+     * @param start the first day of a bucket
+     * @return its last day, inclusive
+     */
+    public abstract LocalDate endOf(LocalDate start);
+
+    /**
+     * Renders the bucket starting at the given date.
+     * <br/>
+     * Day buckets render as their date; longer buckets as their first and
+     * last day. A {@code null} start stands for rows without a date and
+     * renders as an empty string.
+     *
+     * @param start     the first day of a bucket, or {@code null}
+     * @param converter the converter rendering the dates, typically a
+     *                  {@link HumanDateConverter} or one of its snapshots
+     * @return the bucket label
+     */
+    public String label(final LocalDate start, final StringConverter<LocalDate> converter) {
+        Objects.requireNonNull(converter);
+        if (start == null) return "";
+        if (this == DAY) return converter.toString(start);
+        return converter.toString(start) + RANGE_SEPARATOR + converter.toString(endOf(start));
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright 2025 Ingeniería Informática Yupay S.A.C.S.
+ * RUC 20607854247
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.infoyupay.humandate.fx;
+
+/**
+ * Immutable snapshot of the counters of a HumanDate cache.
+ * <br/>
+ * <p>
+ * Instances are returned by the cache-aware components of this library,
+ * such as {@link HumanDateConverter#getRenderCacheStats()}, and are intended
+ * for sizing caches rather than for exact accounting: counters are updated
+ * without locking and may lag slightly behind under concurrent use.
+ *
+ * @param hits   number of lookups answered from the cache
+ * @param misses number of lookups that had to compute their result
+ * @author David Vidal, Infoyupay
+ * @version 1.0
+ */
+public record HumanDateCacheStats(long hits, long misses) {
+
+    /**
+     * Statistics of a disabled or unused cache.
+     */
+    public static final HumanDateCacheStats EMPTY = new HumanDateCacheStats(0L, 0L);
+
+    /**
+     * Total number of lookups performed.
+     *
+     * @return {@code hits + misses}
+     */
+    public long requests() {
+        return hits + misses;
+    }
+
+    /**
+     * Ratio of lookups answered from the cache.
+     *
+     * @return a value between {@code 0.0} and {@code 1.0}; {@code 0.0} when
+     * no lookup has been performed yet
+     */
+    public double hitRate() {
+        var requests = requests();
+        return requests == 0L ? 0.0 : (double) hits / requests;
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright 2025 Ingeniería Informática Yupay S.A.C.S.
+ * RUC 20607854247
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.infoyupay.humandate.fx;
+
+import javafx.beans.value.ChangeListener;
+import javafx.beans.value.ObservableValue;
+import javafx.beans.value.WeakChangeListener;
+import javafx.util.StringConverter;
+
+import java.time.LocalDate;
+import java.util.Objects;
+
+/**
+ * Per-cell companion shared by the HumanDate cell factories.
+ * <br/>
+ * <p>
+ * Each cell owns one instance, which subscribes <em>weakly</em> to the
+ * converter binding of its factory. When the factory's language or format
+ * changes, every live cell is notified directly and only re-sets its text:
+ * no {@code refresh()} of the owning control is needed and no cell is
+ * recreated. Since the factory only holds a weak reference, discarded cells
+ * remain collectable.
+ * <br/>
+ * <p>
+ * The companion is also the converter installed in its cell. It remembers
+ * the last (epoch day, converter) pair it rendered and returns the same
+ * {@code String} instance while both are unchanged, so the many
+ * {@code updateItem} calls JavaFX issues per pulse with unchanged items skip
+ * formatting entirely, and re-setting the identical text fires no change
+ * events. Parsing is delegated to the factory's active converter as is.
+ * <br/>
+ * <p>
+ * The companion also subscribes weakly to {@link HumanDateClock#todayProperty()}:
+ * at midnight it forgets its memo and notifies the cell, so relative texts
+ * such as "hoy" are re-rendered.
+ *
+ * @author David Vidal, Infoyupay
+ * @version 1.0
+ */
+final class HumanDateCellSupport extends StringConverter<LocalDate> {
+
+    private final ObservableValue<? extends StringConverter<LocalDate>> source;
+
+    /**
+     * Strongly held by this companion, weakly by {@link #source}.
+     */
+    private final ChangeListener<StringConverter<LocalDate>> listener;
+
+    /**
+     * Strongly held by this companion, weakly by the clock.
+     */
+    private final ChangeListener<LocalDate> dayListener;
+
+    /**
+     * Converter that produced {@link #lastText}, or {@code null} if nothing
+     * has been rendered yet.
+     */
+    private StringConverter<LocalDate> lastConverter;
+
+    /**
+     * Epoch day that produced {@link #lastText}.
+     */
+    private long lastEpochDay;
+
+    /**
+     * Last rendered text.
+     */
+    private String lastText;
+
+    /**
+     * Subscribes to the given converter source.
+     *
+     * @param source   factory converter binding
+     * @param onChange action run after the factory's converter or the
+     *                 current day changed, typically re-setting the text of
+     *                 the owning cell
+     */
+    HumanDateCellSupport(final ObservableValue<? extends StringConverter<LocalDate>> source,
+                         final Runnable onChange) {
+        this.source = Objects.requireNonNull(source);
+        Objects.requireNonNull(onChange);
+        this.listener = (obs, oldValue, newValue) -> onChange.run();
+        source.addListener(new WeakChangeListener<>(listener));
+        this.dayListener = (obs, oldValue, newValue) -> {
+            lastConverter = null;
+            onChange.run();
+        };
+        HumanDateClock.todayProperty().addListener(new WeakChangeListener<>(dayListener));
+    }
+
+    /**
+     * The factory's currently active converter.
+     *
+     * @return the active converter
+     */
+    StringConverter<LocalDate> converter() {
+        return source.getValue();
+    }
+
+    /**
+     * Renders a date with the factory's active converter, reusing the last
+     * result when neither the day nor the converter changed.
+     */
+    @Override
+    public String toString(final LocalDate date) {
+        var converter = converter();
+        if (date == null) {
+            return converter.toString(null);
+        }
+        var epochDay = date.toEpochDay();
+        if (converter != lastConverter || epochDay != lastEpochDay) {
+            lastText = converter.toString(date);
+            lastEpochDay = epochDay;
+            lastConverter = converter;
+        }
+        return lastText;
+    }
+
+    /**
+     * Parses with the factory's active converter.
+     */
+    @Override
+    public LocalDate fromString(final String s) {
+        return converter().fromString(s);
+    }
+}
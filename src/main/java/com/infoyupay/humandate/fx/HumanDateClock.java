@@ -0,0 +1,181 @@
+/*
+ * Copyright 2025 Ingeniería Informática Yupay S.A.C.S.
+ * RUC 20607854247
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.infoyupay.humandate.fx;
+
+import javafx.application.Platform;
+import javafx.beans.property.ReadOnlyObjectProperty;
+import javafx.beans.property.ReadOnlyObjectWrapper;
+
+import java.time.LocalDate;
+import java.util.Objects;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Library-wide observable of the current local date.
+ * <br/>
+ * <p>
+ * Relative texts such as "hoy" or "ayer" go stale when the day changes.
+ * Instead of each label or cell owning a timer, every HumanDate component
+ * depends on {@link #todayProperty()}: a single daemon timer fires at local
+ * midnight and advances it on the JavaFX Application Thread, so all
+ * dependents are invalidated together, within one pulse.
+ * <br/>
+ * <p>
+ * The timer measures delays on a monotonic clock, which does not follow
+ * wall-clock changes, time-zone changes or a machine resuming from sleep.
+ * It therefore also wakes up every {@link #POLL_INTERVAL_MILLIS} milliseconds
+ * and compares {@link LocalDate#now()} with the published date, so a missed
+ * midnight is caught up within that interval.
+ * <br/>
+ * <p>
+ * {@link LocalDateProperty#asHumanString(com.infoyupay.humandate.core.HumanDateFormatter)
+ * asHumanString}
+ * bindings (and therefore {@link HumanDateLabel}) and the cells produced by
+ * the three cell factories subscribe automatically. Other code may bind to
+ * it as well:
+ * {@snippet :
+ * summary.textProperty().bind(Bindings.createStringBinding(
+ *         () -> describe(model, HumanDateClock.getToday()),
+ *         model, HumanDateClock.todayProperty()));
+ *}
+ * <br/>
+ * <p>
+ * The timer starts the first time this class is used. The property must
+ * only be read from the JavaFX Application Thread.
+ *
+ * @author David Vidal, Infoyupay
+ * @version 1.0
+ */
+public final class HumanDateClock {
+
+    /**
+     * The current local date, updated at midnight.
+     */
+    private static final ReadOnlyObjectWrapper<LocalDate> TODAY =
+            new ReadOnlyObjectWrapper<>(HumanDateClock.class, "today", LocalDate.now());
+
+    /**
+     * Longest time between two checks of the wall-clock date.
+     */
+    static final long POLL_INTERVAL_MILLIS = 60_000L;
+
+    /**
+     * Last date handed to the JavaFX Application Thread, guarded by the
+     * class lock.
+     */
+    private static LocalDate published = TODAY.get();
+
+    /**
+     * Source of the wall-clock date read by the timer, guarded by the class
+     * lock.
+     */
+    private static Supplier<LocalDate> dateSource = LocalDate::now;
+
+    /**
+     * The single midnight timer.
+     */
+    private static final ScheduledExecutorService TIMER =
+            Executors.newSingleThreadScheduledExecutor(r -> {
+                var thread = new Thread(r, "humandate-clock");
+                thread.setDaemon(true);
+                return thread;
+            });
+
+    static {
+        scheduleNext();
+    }
+
+    /**
+     * Prevents instantiation.
+     */
+    private HumanDateClock() {
+    }
+
+    /**
+     * Returns the current local date as last published by the clock.
+     *
+     * @return today's date
+     */
+    public static LocalDate getToday() {
+        return TODAY.get();
+    }
+
+    /**
+     * Observable current local date, changing once per day at midnight.
+     *
+     * @return the read-only today property
+     */
+    public static ReadOnlyObjectProperty<LocalDate> todayProperty() {
+        return TODAY.getReadOnlyProperty();
+    }
+
+    /**
+     * Schedules the next tick at local midnight, or after
+     * {@link #POLL_INTERVAL_MILLIS} if midnight is further away.
+     */
+    private static void scheduleNext() {
+        var delay = Math.max(0L, EpochDayRenderCache.nextMidnight() - System.currentTimeMillis());
+        TIMER.schedule(HumanDateClock::tick, Math.min(delay, POLL_INTERVAL_MILLIS), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Checks the wall-clock date and schedules the following tick.
+     */
+    private static void tick() {
+        try {
+            synchronized (HumanDateClock.class) {
+                check(dateSource.get());
+            }
+        } finally {
+            scheduleNext();
+        }
+    }
+
+    /**
+     * Replaces the date source read by the timer, so tests can move the
+     * date without a poll publishing the real one in between.
+     * <br/>
+     * A poll either completes before the source is replaced or reads the
+     * new source.
+     *
+     * @param source the date source, {@link LocalDate#now()} by default
+     */
+    static synchronized void setDateSource(final Supplier<LocalDate> source) {
+        dateSource = Objects.requireNonNull(source);
+    }
+
+    /**
+     * Publishes a date on the JavaFX Application Thread, unless it is the
+     * date published last, as after an early wake-up or a regular poll.
+     *
+     * @param now the current local date
+     */
+    static synchronized void check(final LocalDate now) {
+        if (now.equals(published)) return;
+        published = now;
+        try {
+            Platform.runLater(() -> TODAY.set(now));
+        } catch (IllegalStateException toolkitNotRunning) {
+            TODAY.set(now);
+        }
+    }
+}
@@ -0,0 +1,394 @@
+/*
+ * Copyright 2025 Ingeniería Informática Yupay S.A.C.S.
+ * RUC 20607854247
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.infoyupay.humandate.fx;
+
+import com.infoyupay.humandate.core.HumanDateFormatter;
+import com.infoyupay.humandate.core.LanguageSupport;
+import com.infoyupay.humandate.core.Languages;
+import javafx.application.Platform;
+import javafx.beans.InvalidationListener;
+import javafx.beans.WeakInvalidationListener;
+import javafx.beans.binding.Bindings;
+import javafx.beans.binding.ObjectBinding;
+import javafx.beans.property.ObjectProperty;
+import javafx.beans.property.ReadOnlyObjectProperty;
+import javafx.beans.property.ReadOnlyObjectWrapper;
+import javafx.beans.property.SimpleIntegerProperty;
+import javafx.beans.property.SimpleObjectProperty;
+import javafx.beans.value.ObservableValue;
+import javafx.scene.Node;
+import javafx.scene.Parent;
+import javafx.scene.Scene;
+
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import static com.infoyupay.humandate.fx.HumanDateDefaults.DEFAULT_FORMAT;
+
+/**
+ * Language and format shared by every HumanDate component of a scene or a
+ * subtree.
+ * <br/>
+ * <p>
+ * A context is {@linkplain #install(Parent) installed} on a {@link Scene} or
+ * {@link Parent}. The cell factories and {@link HumanDateLabel} look it up
+ * from their position in the scene graph and inherit it, and look it up
+ * again whenever a context is installed or uninstalled, or their control
+ * moves to another parent or scene; non-node components
+ * ({@link HumanDateConverter}, {@link HumanDateTextFormatter}) join it through
+ * their {@code context} property. While a component has a context, the
+ * context's language and format take precedence over the component's own.
+ * <br/>
+ * <p>
+ * Switching language is then a single property set. Changes are coalesced:
+ * setting both language and format in the same event handler publishes one
+ * {@link Settings} value, applied by every component before the next pulse,
+ * without refreshing controls or recreating factories.
+ * <br/>
+ * <p><b>Usage example:</b></p>
+ * {@snippet :
+ * var context = new HumanDateContext().install(root);
+ * datePicker.setConverter(new HumanDateConverter().withSharedCaches().withContext(context));
+ * // later, from a language menu:
+ * context.setLanguage(Languages.en());
+ *}
+ *
+ * @author David Vidal, Infoyupay
+ * @version 1.0
+ */
+public final class HumanDateContext {
+
+    /**
+     * Key under which contexts are stored in node and scene properties.
+     */
+    private static final Object KEY = HumanDateContext.class;
+
+    /**
+     * Bumped on every install and uninstall, so that inherited lookups are
+     * repeated. Only touched on the JavaFX Application Thread.
+     */
+    private static final SimpleIntegerProperty INSTALLS = new SimpleIntegerProperty();
+
+    private final ObjectProperty<LanguageSupport> language =
+            new SimpleObjectProperty<>(this, "language", Languages.es()) {
+                @Override
+                protected void invalidated() {
+                    schedule();
+                }
+            };
+
+    private final ObjectProperty<DateTimeFormatter> format =
+            new SimpleObjectProperty<>(this, "format", DEFAULT_FORMAT) {
+                @Override
+                protected void invalidated() {
+                    schedule();
+                }
+            };
+
+    private final ReadOnlyObjectWrapper<Settings> settings =
+            new ReadOnlyObjectWrapper<>(this, "settings");
+
+    /**
+     * Whether a publication of {@link #settings} is already scheduled.
+     */
+    private boolean scheduled;
+
+    /**
+     * Creates a context with Spanish language and the default format.
+     */
+    public HumanDateContext() {
+        this(Languages.es(), DEFAULT_FORMAT);
+    }
+
+    /**
+     * Creates a context with the given language and format.
+     *
+     * @param language initial language
+     * @param format   initial format
+     */
+    public HumanDateContext(final LanguageSupport language, final DateTimeFormatter format) {
+        this.language.set(Objects.requireNonNull(language));
+        this.format.set(Objects.requireNonNull(format));
+        publish();
+    }
+
+    // --- Scene graph ---
+
+    /**
+     * Installs this context on a scene, for every node it contains.
+     *
+     * @param scene the scene
+     * @return this instance, for chaining
+     */
+    public HumanDateContext install(final Scene scene) {
+        if (scene.getProperties().put(KEY, this) != this) installed();
+        return this;
+    }
+
+    /**
+     * Removes this context from a scene, if it is the one installed there.
+     *
+     * @param scene the scene
+     * @return this instance, for chaining
+     */
+    public HumanDateContext uninstall(final Scene scene) {
+        if (scene.getProperties().remove(KEY, this)) installed();
+        return this;
+    }
+
+    /**
+     * Installs this context on a subtree, taking precedence over a context
+     * installed on an ancestor or on the scene.
+     *
+     * @param parent root of the subtree
+     * @return this instance, for chaining
+     */
+    public HumanDateContext install(final Parent parent) {
+        if (parent.getProperties().put(KEY, this) != this) installed();
+        return this;
+    }
+
+    /**
+     * Removes this context from a subtree, if it is the one installed there.
+     *
+     * @param parent root of the subtree
+     * @return this instance, for chaining
+     */
+    public HumanDateContext uninstall(final Parent parent) {
+        if (parent.hasProperties() && parent.getProperties().remove(KEY, this)) installed();
+        return this;
+    }
+
+    /**
+     * Tells every inherited lookup that the installed contexts changed.
+     */
+    private static void installed() {
+        INSTALLS.set(INSTALLS.get() + 1);
+    }
+
+    /**
+     * Finds the context applying to a node: the one installed on the node or
+     * its nearest ancestor, else the one installed on its scene.
+     *
+     * @param node the node, may be {@code null}
+     * @return the context, or {@code null} if none applies
+     */
+    public static HumanDateContext find(final Node node) {
+        for (var n = node; n != null; n = n.getParent()) {
+            if (n.hasProperties() && n.getProperties().get(KEY) instanceof HumanDateContext c) return c;
+        }
+        var scene = node == null ? null : node.getScene();
+        return scene != null && scene.getProperties().get(KEY) instanceof HumanDateContext c ? c : null;
+    }
+
+    /**
+     * Observes the context applying to a node, as {@link #find(Node)} would
+     * return it, following installs, uninstalls and moves of the node or of
+     * any of its ancestors.
+     *
+     * @param node the node
+     * @return the inherited context, {@code null} while none applies
+     */
+    static ObservableValue<HumanDateContext> inheritedBy(final Node node) {
+        return new Lookup(Objects.requireNonNull(node));
+    }
+
+    /**
+     * Settings of the context chosen by a component: its explicit context if
+     * any, else the inherited one.
+     *
+     * @param explicit  context set on the component
+     * @param inherited context found in the scene graph
+     * @return observable settings, {@code null} while there is no context
+     */
+    static ObservableValue<Settings> settingsOf(final ObservableValue<HumanDateContext> explicit,
+                                                final ObservableValue<HumanDateContext> inherited) {
+        return Bindings.createObjectBinding(
+                        () -> explicit.getValue() != null ? explicit.getValue() : inherited.getValue(),
+                        explicit, inherited)
+                .flatMap(HumanDateContext::settingsProperty);
+    }
+
+    // --- Settings ---
+
+    /**
+     * Returns the published settings.
+     *
+     * @return current settings
+     */
+    public Settings getSettings() {
+        return settings.get();
+    }
+
+    /**
+     * Language and format as applied by components, updated once per batch
+     * of changes.
+     *
+     * @return the read-only settings property
+     */
+    public ReadOnlyObjectProperty<Settings> settingsProperty() {
+        return settings.getReadOnlyProperty();
+    }
+
+    /**
+     * Publishes the current language and format once, after the current
+     * event, coalescing further changes.
+     */
+    private void schedule() {
+        if (scheduled) return;
+        scheduled = true;
+        try {
+            Platform.runLater(this::publish);
+        } catch (IllegalStateException toolkitNotRunning) {
+            publish();
+        }
+    }
+
+    /**
+     * Publishes the current language and format.
+     */
+    private void publish() {
+        scheduled = false;
+        var current = new Settings(getLanguage(), getFormat());
+        if (!current.equals(settings.get())) settings.set(current);
+    }
+
+    // --- Language ---
+
+    /**
+     * Current language.
+     *
+     * @return the language
+     */
+    public LanguageSupport getLanguage() {
+        return language.get();
+    }
+
+    /**
+     * Sets the language of every component using this context.
+     *
+     * @param language the new language
+     */
+    public void setLanguage(final LanguageSupport language) {
+        this.language.set(Objects.requireNonNull(language));
+    }
+
+    /**
+     * Language property.
+     *
+     * @return the language property
+     */
+    public ObjectProperty<LanguageSupport> languageProperty() {
+        return language;
+    }
+
+    // --- Format ---
+
+    /**
+     * Current format.
+     *
+     * @return the format
+     */
+    public DateTimeFormatter getFormat() {
+        return format.get();
+    }
+
+    /**
+     * Sets the format of every component using this context.
+     *
+     * @param format the new format
+     */
+    public void setFormat(final DateTimeFormatter format) {
+        this.format.set(Objects.requireNonNull(format));
+    }
+
+    /**
+     * Format property.
+     *
+     * @return the format property
+     */
+    public ObjectProperty<DateTimeFormatter> formatProperty() {
+        return format;
+    }
+
+    /**
+     * Lazy {@link #find(Node)} result, invalidated by installs and by parent
+     * or scene changes along the node's current ancestor chain.
+     * <br/>
+     * The nodes and the install counter only hold weak listeners, so a
+     * lookup lives as long as the component using it.
+     */
+    private static final class Lookup extends ObjectBinding<HumanDateContext> {
+
+        private final Node node;
+        private final InvalidationListener hierarchyListener = o -> invalidate();
+        private final WeakInvalidationListener weakListener = new WeakInvalidationListener(hierarchyListener);
+
+        /**
+         * Ancestors whose parent is observed, the node included.
+         */
+        private final List<Node> chain = new ArrayList<>();
+
+        Lookup(final Node node) {
+            this.node = node;
+            INSTALLS.addListener(weakListener);
+            node.sceneProperty().addListener(weakListener);
+        }
+
+        @Override
+        protected HumanDateContext computeValue() {
+            for (var n : chain) n.parentProperty().removeListener(weakListener);
+            chain.clear();
+            for (var n = node; n != null; n = n.getParent()) {
+                n.parentProperty().addListener(weakListener);
+                chain.add(n);
+            }
+            return find(node);
+        }
+    }
+
+    /**
+     * Language and format published together.
+     *
+     * @param language the language
+     * @param format   the format
+     */
+    public record Settings(LanguageSupport language, DateTimeFormatter format) {
+
+        /**
+         * Shared converter for these settings.
+         *
+         * @return the registry converter
+         */
+        public HumanDateConverterSnapshot converter() {
+            return HumanDateConverterRegistry.get(language, format);
+        }
+
+        /**
+         * Creates a human-friendly formatter using this format.
+         *
+         * @return a new formatter
+         */
+        public HumanDateFormatter formatter() {
+            return new HumanDateFormatter().withFormatter(format);
+        }
+    }
+}
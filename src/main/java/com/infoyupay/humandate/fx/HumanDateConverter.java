@@ -19,10 +19,10 @@
 
 package com.infoyupay.humandate.fx;
 
-import com.infoyupay.humandate.core.HumanDateFormatter;
-import com.infoyupay.humandate.core.HumanDateParser;
 import com.infoyupay.humandate.core.LanguageSupport;
 import com.infoyupay.humandate.core.Languages;
+import javafx.beans.InvalidationListener;
+import javafx.beans.WeakInvalidationListener;
 import javafx.beans.property.ObjectProperty;
 import javafx.beans.property.SimpleObjectProperty;
 import javafx.util.StringConverter;
@@ -38,8 +38,10 @@ import static com.infoyupay.humandate.fx.HumanDateDefaults.DEFAULT_FORMAT;
  * value with its human-friendly string representation.
  * <br/>
  * <p>
- * This converter delegates the formatting to an internal {@link HumanDateFormatter},
- * and the parsing to an internal {@link HumanDateParser}. It is designed to integrate
+ * This converter delegates the formatting to an internal
+ * {@link com.infoyupay.humandate.core.HumanDateFormatter}, and the parsing to
+ * an internal {@link com.infoyupay.humandate.core.HumanDateParser}, both held
+ * by an immutable {@link HumanDateConverterSnapshot}. It is designed to integrate
  * seamlessly with JavaFX controls such as {@code TextField}, {@code DatePicker},
  * or any component that requires a bidirectional conversion between
  * {@code LocalDate} and {@code String}.
@@ -53,7 +55,23 @@ import static com.infoyupay.humandate.fx.HumanDateDefaults.DEFAULT_FORMAT;
  * </ul>
  * These properties govern the internal components, ensuring that any change has
  * immediate effect without replacing this converter or any attached
- * {@link HumanDateTextFormatter}.
+ * {@link HumanDateTextFormatter}. A change never mutates the parser or
+ * formatter in place: it swaps in a new snapshot, so conversions running on
+ * other threads always see a consistent configuration. Code that must keep a
+ * fixed configuration while the UI changes language, such as background
+ * imports, should use {@link #snapshot()}.
+ * <br/>
+ * <p>
+ * For controls that render the same dates repeatedly, such as large
+ * {@code TableView} columns, an optional epoch-day keyed render cache can be
+ * enabled via {@link #withRenderCache(int)}. Likewise, data-entry screens can
+ * enable a parse cache via {@link #withParseCache(int)}.
+ * <br/>
+ * <p>
+ * A converter joined to a {@link HumanDateContext} through
+ * {@link #contextProperty()} follows the context's language and format
+ * instead of its own properties, which keep their values for when it leaves
+ * the context.
  * <br/>
  * <p><b>Important:</b> If either property is <em>bound</em> to another property,
  * mutating it via {@code withLanguage(...)} or {@code withFormat(...)} will trigger
@@ -76,57 +94,91 @@ import static com.infoyupay.humandate.fx.HumanDateDefaults.DEFAULT_FORMAT;
  *}
  *
  * @author David Vidal
- * @version 1.3
+ * @version 1.4
  */
 public final class HumanDateConverter extends StringConverter<LocalDate> {
 
-    /**
-     * Internal formatter instance used for rendering text output.
-     * <br/>
-     * This component is updated automatically when the
-     * {@link #formatProperty() format} property changes.
-     */
-    private final HumanDateFormatter formatter =
-            new HumanDateFormatter().withFormatter(DEFAULT_FORMAT);
-
-    /**
-     * Internal parser instance used for interpreting input text.
-     * <br/>
-     * This component is updated automatically when the
-     * {@link #languageProperty() language} property changes.
-     */
-    private final HumanDateParser parser =
-            new HumanDateParser().setLanguage(Languages.es());
-
     /**
      * Language used to interpret human-friendly expressions such as
      * {@code "hoy"}, {@code "mañana"}, {@code "now"}, {@code "yesterday"}.
      * <br/>
-     * Mutating this property updates the internal parser accordingly.
+     * Any change, including through a binding, replaces the active snapshot.
      */
     private final ObjectProperty<LanguageSupport> language =
             new SimpleObjectProperty<>(this, "language", Languages.es()) {
                 @Override
-                public void set(final LanguageSupport lang) {
-                    parser.setLanguage(lang);
-                    super.set(lang);
+                protected void invalidated() {
+                    refreshSnapshot();
                 }
             };
 
     /**
      * Formatting rule used for textual representation.
      * <br/>
-     * Mutating this property updates the internal formatter accordingly.
+     * Any change, including through a binding, replaces the active snapshot.
      */
     private final ObjectProperty<DateTimeFormatter> format =
             new SimpleObjectProperty<>(this, "format", DEFAULT_FORMAT) {
                 @Override
-                public void set(final DateTimeFormatter dtf) {
-                    formatter.withFormatter(dtf);
-                    super.set(dtf);
+                protected void invalidated() {
+                    refreshSnapshot();
                 }
             };
 
+    /**
+     * Shared context overriding language and format, if any.
+     */
+    private final ObjectProperty<HumanDateContext> context =
+            new SimpleObjectProperty<>(this, "context") {
+                @Override
+                protected void invalidated() {
+                    joinContext(get());
+                }
+            };
+
+    /**
+     * Refreshes the snapshot when the context publishes new settings.
+     */
+    private final InvalidationListener contextListener = o -> refreshSnapshot();
+
+    /**
+     * Registered on the context, which must not keep this converter alive.
+     */
+    private final WeakInvalidationListener weakContextListener =
+            new WeakInvalidationListener(contextListener);
+
+    /**
+     * Context whose settings {@link #weakContextListener} is registered on.
+     */
+    private HumanDateContext joinedContext;
+
+    /**
+     * Whether snapshots are obtained from {@link HumanDateConverterRegistry}
+     * instead of being owned by this converter.
+     */
+    private boolean shared;
+
+    /**
+     * Render cache capacity applied to new snapshots, {@code 0} if disabled.
+     */
+    private int renderCacheSize;
+
+    /**
+     * Parse cache capacity applied to new snapshots, {@code 0} if disabled.
+     */
+    private int parseCacheSize;
+
+    /**
+     * Immutable converter doing the actual work.
+     * <br/>
+     * Replaced as a whole whenever the {@link #languageProperty() language},
+     * the {@link #formatProperty() format} or a cache capacity changes, so
+     * any thread reading it observes a consistent configuration. Replacing it
+     * also starts from empty caches with fresh counters.
+     */
+    private volatile HumanDateConverterSnapshot snapshot =
+            new HumanDateConverterSnapshot(Languages.es(), DEFAULT_FORMAT, 0, 0);
+
     /**
      * Creates a converter with specific initial language and formatting rule.
      *
@@ -137,9 +189,6 @@ public final class HumanDateConverter extends StringConverter<LocalDate> {
                               final DateTimeFormatter dtf) {
         this.language.set(Objects.requireNonNull(lang));
         this.format.set(Objects.requireNonNull(dtf));
-
-        parser.setLanguage(lang);
-        formatter.withFormatter(dtf);
     }
 
     /**
@@ -177,19 +226,167 @@ public final class HumanDateConverter extends StringConverter<LocalDate> {
     /**
      * Converts a date into human-friendly text using the configured formatter.
      * If {@code localDate} is {@code null}, returns {@code null}.
+     * <br/>
+     * When the {@link #withRenderCache(int) render cache} is enabled, text
+     * previously rendered for the same day is reused.
      */
     @Override
     public String toString(final LocalDate localDate) {
-        return formatter.apply(localDate);
+        return snapshot.toString(localDate);
     }
 
     /**
      * Parses the given string into a {@link LocalDate}.
      * If {@code s} is {@code null} or blank, returns {@code null}.
+     * <br/>
+     * When the {@link #withParseCache(int) parse cache} is enabled, results
+     * previously parsed from the same trimmed input and language are reused.
      */
     @Override
     public LocalDate fromString(final String s) {
-        return parser.apply(s);
+        return snapshot.fromString(s);
+    }
+
+    // --- Snapshot ---
+
+    /**
+     * Returns an immutable, thread-safe converter capturing the current
+     * language, format and caches.
+     * <br/>
+     * <p>
+     * Later changes to this converter's properties do not affect the
+     * returned instance, which can be used concurrently from any thread.
+     * Calling this method is cheap: it returns the snapshot currently used
+     * by this converter, sharing its warm caches.
+     *
+     * @return the active immutable converter
+     */
+    public HumanDateConverterSnapshot snapshot() {
+        return snapshot;
+    }
+
+    /**
+     * Replaces the active snapshot with one reflecting the current
+     * properties and cache capacities.
+     */
+    private void refreshSnapshot() {
+        var settings = joinedContext == null ? null : joinedContext.getSettings();
+        var lang = settings == null ? getLanguage() : settings.language();
+        var dtf = settings == null ? getFormat() : settings.format();
+        snapshot = shared
+                ? HumanDateConverterRegistry.get(lang, dtf)
+                : new HumanDateConverterSnapshot(lang, dtf, renderCacheSize, parseCacheSize);
+    }
+
+    /**
+     * Moves the settings subscription to a new context and refreshes.
+     *
+     * @param newContext the context to follow, may be {@code null}
+     */
+    private void joinContext(final HumanDateContext newContext) {
+        if (joinedContext != null) {
+            joinedContext.settingsProperty().removeListener(weakContextListener);
+        }
+        joinedContext = newContext;
+        if (newContext != null) {
+            newContext.settingsProperty().addListener(weakContextListener);
+        }
+        refreshSnapshot();
+    }
+
+    /**
+     * Makes this converter draw its snapshots from
+     * {@link HumanDateConverterRegistry}.
+     * <br/>
+     * <p>
+     * From then on, every language or format change resolves to the shared
+     * converter for that configuration, so this converter reuses the warm
+     * caches of every other component configured identically instead of
+     * owning private ones. Calling {@link #withRenderCache(int)} or
+     * {@link #withParseCache(int)} afterwards reverts to private snapshots.
+     *
+     * @return this instance, for method chaining
+     */
+    public HumanDateConverter withSharedCaches() {
+        this.shared = true;
+        refreshSnapshot();
+        return this;
+    }
+
+    // --- Render cache ---
+
+    /**
+     * Enables, resizes or disables the render cache used by
+     * {@link #toString(LocalDate)}.
+     * <br/>
+     * <p>
+     * The cache maps epoch days to formatted text, so scrolling controls that
+     * render the same dates again and again skip the formatter. It holds at
+     * most {@code capacity} entries (rounded up to a power of two) and is
+     * cleared automatically when the language or format changes, and at local
+     * midnight. Any change of capacity starts from an empty cache with fresh
+     * counters.
+     *
+     * @param capacity maximum number of cached days, or {@code 0} to disable
+     * @return this instance, for method chaining
+     * @throws IllegalArgumentException if {@code capacity} is negative or
+     *                                  exceeds {@code 1 << 20}
+     */
+    public HumanDateConverter withRenderCache(final int capacity) {
+        if (capacity < 0 || capacity > EpochDayRenderCache.MAX_CAPACITY)
+            throw new IllegalArgumentException("Capacity out of range: " + capacity);
+        this.renderCacheSize = capacity;
+        this.shared = false;
+        refreshSnapshot();
+        return this;
+    }
+
+    /**
+     * Hit and miss counters of the render cache.
+     *
+     * @return current counters, or {@link HumanDateCacheStats#EMPTY} if the
+     * render cache is disabled
+     */
+    public HumanDateCacheStats getRenderCacheStats() {
+        return snapshot.getRenderCacheStats();
+    }
+
+    // --- Parse cache ---
+
+    /**
+     * Enables, resizes or disables the parse cache used by
+     * {@link #fromString(String)}.
+     * <br/>
+     * <p>
+     * The cache is a bounded LRU keyed by the trimmed input and the active
+     * language, so data-entry screens where users type the same shorthands
+     * over and over skip the parser. Inputs spelling out a full date, such as
+     * {@code 04052015}, stay cached until evicted; inputs relative to today,
+     * such as {@code hoy} or {@code +1m}, expire at local midnight. Any change
+     * of capacity starts from an empty cache with fresh counters.
+     *
+     * @param capacity maximum number of cached inputs, or {@code 0} to disable
+     * @return this instance, for method chaining
+     * @throws IllegalArgumentException if {@code capacity} is negative or
+     *                                  exceeds {@code 1 << 16}
+     */
+    public HumanDateConverter withParseCache(final int capacity) {
+        if (capacity < 0 || capacity > ParseResultCache.MAX_CAPACITY)
+            throw new IllegalArgumentException("Capacity out of range: " + capacity);
+        this.parseCacheSize = capacity;
+        this.shared = false;
+        refreshSnapshot();
+        return this;
+    }
+
+    /**
+     * Hit and miss counters of the parse cache.
+     *
+     * @return current counters, or {@link HumanDateCacheStats#EMPTY} if the
+     * parse cache is disabled
+     */
+    public HumanDateCacheStats getParseCacheStats() {
+        return snapshot.getParseCacheStats();
     }
 
     // --- Language property access ---
@@ -259,4 +456,36 @@ public final class HumanDateConverter extends StringConverter<LocalDate> {
         this.format.setValue(Objects.requireNonNull(dtf));
         return this;
     }
+
+    // --- Context property access ---
+
+    /**
+     * Context this converter follows, if any.
+     *
+     * @return the context, or {@code null}
+     */
+    public HumanDateContext getContext() {
+        return context.get();
+    }
+
+    /**
+     * Context property; while set, its language and format override this
+     * converter's own.
+     *
+     * @return mutable JavaFX property for the shared context
+     */
+    public ObjectProperty<HumanDateContext> contextProperty() {
+        return context;
+    }
+
+    /**
+     * Fluent setter variant for the shared context.
+     *
+     * @param ctx the context to follow, or {@code null} to leave it
+     * @return this instance, for method chaining
+     */
+    public HumanDateConverter withContext(final HumanDateContext ctx) {
+        this.context.set(ctx);
+        return this;
+    }
 }
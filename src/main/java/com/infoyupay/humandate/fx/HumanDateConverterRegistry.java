@@ -0,0 +1,144 @@
+/*
+ * Copyright 2025 Ingeniería Informática Yupay S.A.C.S.
+ * RUC 20607854247
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.infoyupay.humandate.fx;
+
+import com.infoyupay.humandate.core.LanguageSupport;
+
+import java.time.ZoneId;
+import java.time.chrono.Chronology;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DecimalStyle;
+import java.time.format.ResolverStyle;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+
+import static com.infoyupay.humandate.fx.HumanDateDefaults.DEFAULT_PARSE_CACHE_SIZE;
+import static com.infoyupay.humandate.fx.HumanDateDefaults.DEFAULT_RENDER_CACHE_SIZE;
+
+/**
+ * Library-wide registry of shared {@link HumanDateConverterSnapshot} instances.
+ * <br/>
+ * <p>
+ * Snapshots are interned by ({@link LanguageSupport}, {@link DateTimeFormatter}),
+ * so every component configured identically, such as forty date columns of
+ * the same screen, shares a single immutable converter and its warm render
+ * and parse caches. Cell factories, {@link HumanDateListCellFactory} and
+ * {@link HumanDateTextFormatter} obtain their converters from here.
+ * <br/>
+ * <p>
+ * Shared snapshots use {@link HumanDateDefaults#DEFAULT_RENDER_CACHE_SIZE}
+ * and {@link HumanDateDefaults#DEFAULT_PARSE_CACHE_SIZE}.
+ * <br/>
+ * {@link DateTimeFormatter} does not override {@code equals}, so formatters
+ * are matched by their printed pattern together with their locale, zone,
+ * chronology, decimal style and resolver style. Two calls to
+ * {@code DateTimeFormatter.ofPattern("dd/MM/yyyy")} therefore share one
+ * snapshot.
+ * <br/>
+ * <p>
+ * The registry keeps at most {@link #MAX_SIZE} configurations; the least
+ * recently used one is dropped beyond that. Components already holding a
+ * dropped snapshot keep using it, the next lookup simply starts a new one.
+ *
+ * @author David Vidal, Infoyupay
+ * @version 1.0
+ */
+public final class HumanDateConverterRegistry {
+
+    /**
+     * Largest number of configurations kept at once.
+     */
+    public static final int MAX_SIZE = 64;
+
+    /**
+     * Interned snapshots, in access order.
+     * Access is synchronized: lookups reorder the map.
+     */
+    private static final Map<Key, HumanDateConverterSnapshot> SNAPSHOTS =
+            new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(
+                        final Map.Entry<Key, HumanDateConverterSnapshot> eldest) {
+                    return size() > MAX_SIZE;
+                }
+            };
+
+    /**
+     * Prevents instantiation.
+     */
+    private HumanDateConverterRegistry() {
+    }
+
+    /**
+     * Returns the shared converter for the given configuration, creating it
+     * on first use.
+     *
+     * @param language language configuration
+     * @param format   formatting rule
+     * @return the shared immutable converter
+     * @throws NullPointerException if either argument is {@code null}
+     */
+    public static HumanDateConverterSnapshot get(final LanguageSupport language,
+                                                 final DateTimeFormatter format) {
+        var key = Key.of(Objects.requireNonNull(language), Objects.requireNonNull(format));
+        synchronized (SNAPSHOTS) {
+            return SNAPSHOTS.computeIfAbsent(key, k -> new HumanDateConverterSnapshot(
+                    language, format, DEFAULT_RENDER_CACHE_SIZE, DEFAULT_PARSE_CACHE_SIZE));
+        }
+    }
+
+    /**
+     * Number of configurations currently registered.
+     *
+     * @return registry size
+     */
+    public static int size() {
+        synchronized (SNAPSHOTS) {
+            return SNAPSHOTS.size();
+        }
+    }
+
+    /**
+     * Registry key. Holds the formatter's settings rather than the formatter
+     * itself, so equivalent formatters match.
+     *
+     * @param language     language configuration
+     * @param pattern      printed form of the formatter's rules
+     * @param locale       formatter locale
+     * @param zone         override zone, possibly {@code null}
+     * @param chronology   override chronology, possibly {@code null}
+     * @param decimalStyle formatter decimal style
+     * @param resolver     formatter resolver style
+     */
+    private record Key(LanguageSupport language,
+                       String pattern,
+                       Locale locale,
+                       ZoneId zone,
+                       Chronology chronology,
+                       DecimalStyle decimalStyle,
+                       ResolverStyle resolver) {
+
+        static Key of(final LanguageSupport language, final DateTimeFormatter format) {
+            return new Key(language, format.toString(), format.getLocale(), format.getZone(),
+                    format.getChronology(), format.getDecimalStyle(), format.getResolverStyle());
+        }
+    }
+}
@@ -0,0 +1,186 @@
+/*
+ * Copyright 2025 Ingeniería Informática Yupay S.A.C.S.
+ * RUC 20607854247
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.infoyupay.humandate.fx;
+
+import com.infoyupay.humandate.core.HumanDateFormatter;
+import com.infoyupay.humandate.core.HumanDateParser;
+import com.infoyupay.humandate.core.LanguageSupport;
+import javafx.util.StringConverter;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.Objects;
+
+/**
+ * An immutable, thread-safe {@link StringConverter} for {@link LocalDate}
+ * values, capturing a language and a formatting rule at creation time.
+ * <br/>
+ * <p>
+ * Unlike {@link HumanDateConverter}, this converter exposes no properties:
+ * its {@link HumanDateParser} and {@link HumanDateFormatter} are configured
+ * once in the constructor and never mutated afterwards. A single instance can
+ * therefore be shared by the FX thread and any number of background threads,
+ * for instance to parse and format in parallel during imports, without locks
+ * and without one converter per thread.
+ * <br/>
+ * <p>
+ * Optional render and parse caches behave exactly as described in
+ * {@link HumanDateConverter#withRenderCache(int)} and
+ * {@link HumanDateConverter#withParseCache(int)}, and are safe for
+ * concurrent use as well.
+ * <br/>
+ * <p><b>Example usage:</b></p>
+ * {@snippet :
+ * var snapshot = converter.snapshot();
+ * var dates = lines.parallelStream()
+ *                  .map(snapshot::fromString)
+ *                  .toList();
+ *}
+ *
+ * @author David Vidal, Infoyupay
+ * @version 1.0
+ * @see HumanDateConverter#snapshot()
+ */
+public final class HumanDateConverterSnapshot extends StringConverter<LocalDate> {
+
+    private final LanguageSupport language;
+    private final DateTimeFormatter format;
+    private final HumanDateFormatter formatter;
+    private final HumanDateParser parser;
+
+    /**
+     * Render cache, or {@code null} if disabled.
+     */
+    private final EpochDayRenderCache renderCache;
+
+    /**
+     * Parse cache, or {@code null} if disabled.
+     */
+    private final ParseResultCache parseCache;
+
+    /**
+     * Creates a snapshot with optional caches.
+     *
+     * @param language         language configuration
+     * @param format           formatting rule
+     * @param renderCacheSize  render cache capacity, or {@code 0} to disable
+     * @param parseCacheSize   parse cache capacity, or {@code 0} to disable
+     * @throws NullPointerException if {@code language} or {@code format} is {@code null}
+     */
+    HumanDateConverterSnapshot(final LanguageSupport language,
+                               final DateTimeFormatter format,
+                               final int renderCacheSize,
+                               final int parseCacheSize) {
+        this.language = Objects.requireNonNull(language);
+        this.format = Objects.requireNonNull(format);
+        this.formatter = new HumanDateFormatter().withFormatter(format);
+        this.parser = new HumanDateParser().setLanguage(language);
+        this.renderCache = renderCacheSize == 0 ? null : new EpochDayRenderCache(renderCacheSize);
+        this.parseCache = parseCacheSize == 0 ? null : new ParseResultCache(parseCacheSize);
+    }
+
+    /**
+     * Creates an uncached snapshot for the given language and formatting rule.
+     *
+     * @param language language configuration
+     * @param format   formatting rule
+     * @return a new immutable converter
+     * @throws NullPointerException if either argument is {@code null}
+     */
+    public static HumanDateConverterSnapshot of(final LanguageSupport language,
+                                                final DateTimeFormatter format) {
+        return new HumanDateConverterSnapshot(language, format, 0, 0);
+    }
+
+    /**
+     * Converts a date into human-friendly text.
+     * If {@code localDate} is {@code null}, returns {@code null}.
+     */
+    @Override
+    public String toString(final LocalDate localDate) {
+        if (renderCache == null || localDate == null) {
+            return formatter.apply(localDate);
+        }
+        var epochDay = localDate.toEpochDay();
+        var text = renderCache.get(epochDay);
+        if (text == null) {
+            var renderDay = renderCache.renderDay();
+            text = formatter.apply(localDate);
+            if (text != null) renderCache.put(epochDay, renderDay, text);
+        }
+        return text;
+    }
+
+    /**
+     * Parses the given string into a {@link LocalDate}.
+     * If {@code s} is {@code null} or blank, returns {@code null}.
+     */
+    @Override
+    public LocalDate fromString(final String s) {
+        if (parseCache == null || s == null || s.isBlank()) {
+            return parser.apply(s);
+        }
+        var input = s.trim();
+        var date = parseCache.get(input, language);
+        if (date == null) {
+            var expiry = parseCache.currentDayExpiry();
+            date = parser.apply(input);
+            if (date != null) parseCache.put(input, language, date, expiry);
+        }
+        return date;
+    }
+
+    /**
+     * Language captured by this snapshot.
+     *
+     * @return the language configuration
+     */
+    public LanguageSupport getLanguage() {
+        return language;
+    }
+
+    /**
+     * Formatting rule captured by this snapshot.
+     *
+     * @return the {@link DateTimeFormatter}
+     */
+    public DateTimeFormatter getFormat() {
+        return format;
+    }
+
+    /**
+     * Hit and miss counters of the render cache.
+     *
+     * @return current counters, or {@link HumanDateCacheStats#EMPTY} if the
+     * render cache is disabled
+     */
+    public HumanDateCacheStats getRenderCacheStats() {
+        return renderCache == null ? HumanDateCacheStats.EMPTY : renderCache.stats();
+    }
+
+    /**
+     * Hit and miss counters of the parse cache.
+     *
+     * @return current counters, or {@link HumanDateCacheStats#EMPTY} if the
+     * parse cache is disabled
+     */
+    public HumanDateCacheStats getParseCacheStats() {
+        return parseCache == null ? HumanDateCacheStats.EMPTY : parseCache.stats();
+    }
+}
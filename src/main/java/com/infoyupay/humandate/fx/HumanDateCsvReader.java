@@ -0,0 +1,643 @@
+/*
+ * Copyright 2025 Ingeniería Informática Yupay S.A.C.S.
+ * RUC 20607854247
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.infoyupay.humandate.fx;
+
+import javafx.application.Platform;
+import javafx.collections.ObservableList;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Semaphore;
+import java.util.function.Consumer;
+
+import static com.infoyupay.humandate.fx.EpochDayProperty.NULL_EPOCH_DAY;
+
+/**
+ * Streaming CSV reader whose date columns accept the same human-friendly
+ * input as {@link HumanDateConverter}.
+ * <br/>
+ * <p>
+ * The input is read from a {@link ReadableByteChannel} through fixed-size
+ * byte and char buffers, and records are split in place: each record is
+ * handed to a {@link RowMapper} as a reusable {@link Row} cursor over the
+ * char buffer, so no line is materialized as a {@code String}.
+ * <br/>
+ * <p>
+ * Date fields are first read in the converter's
+ * {@linkplain HumanDateConverterSnapshot#getFormat() format}, so files written
+ * by {@link HumanDateCsvWriter} with the same format read back unchanged, even
+ * for month-first formats such as {@code MM/dd/yyyy}. Other inputs, such as
+ * {@code 1-4-12} or {@code ayer}, are parsed by the converter. When the format
+ * is a day-first numeric one such as {@code dd/MM/yyyy}, which is checked
+ * once per reader, the common {@code d/M/yyyy} shapes (any of the
+ * {@code / . - ·} separators) are decoded straight from the buffer instead.
+ * A blank field reads as no date, whereas a field that cannot be parsed is an
+ * error: {@link Row#epochDay(int)} throws, and the mapper decides whether to
+ * skip the row, substitute a value or abort the read.
+ * <br/>
+ * <p>
+ * Mapped rows are pushed to a sink
+ * in batches. Memory therefore depends on the buffer and batch sizes, not on
+ * the file size; a buffer only grows to fit a single record longer than it.
+ * <br/>
+ * <p>
+ * Fields follow RFC 4180: they may be quoted, with doubled quotes inside,
+ * and records may end with {@code LF} or {@code CRLF}. Blank lines are
+ * skipped, whereas a line holding only {@code ""} is a record with one
+ * empty field.
+ * <br/>
+ * <p><b>Usage example:</b></p>
+ * {@snippet :
+ * var reader = new HumanDateCsvReader(converter.snapshot()).withHeader(true);
+ * try (var channel = FileChannel.open(path)) {
+ *     reader.read(channel,
+ *             row -> new Payment(row.text(0), row.epochDay(1)),
+ *             HumanDateCsvReader.into(table.getItems()));
+ * }
+ *}
+ * Reading blocks, so it belongs on a background thread; the sink returned by
+ * {@link #into(ObservableList)} hands batches to the JavaFX Application
+ * Thread.
+ *
+ * @author David Vidal, Infoyupay
+ * @version 1.0
+ * @see HumanDateCsvWriter
+ */
+public final class HumanDateCsvReader {
+
+    /**
+     * Default capacity of the byte and char buffers.
+     */
+    public static final int DEFAULT_BUFFER_SIZE = 1 << 16;
+
+    /**
+     * Default number of rows per batch handed to the sink.
+     */
+    public static final int DEFAULT_BATCH_SIZE = 1024;
+
+    /**
+     * Dates whose rendering tells apart day-first numeric formats: distinct
+     * day and month, one of them beyond twelve, with and without leading
+     * zeros.
+     */
+    private static final LocalDate[] DAY_FIRST_PROBES = {
+            LocalDate.of(2034, 11, 22), LocalDate.of(2001, 2, 3)};
+
+    private final HumanDateConverterSnapshot converter;
+
+    /**
+     * Whether the converter's format renders dates the way
+     * {@link #decodeDayMonthYear(char[], int, int)} reads them, which makes
+     * the fast path safe.
+     */
+    private final boolean dayFirst;
+    private char delimiter = ',';
+    private Charset charset = StandardCharsets.UTF_8;
+    private int bufferSize = DEFAULT_BUFFER_SIZE;
+    private int batchSize = DEFAULT_BATCH_SIZE;
+    private boolean header;
+
+    /**
+     * Creates a reader parsing dates with the given converter.
+     *
+     * @param converter thread-safe converter, for instance
+     *                  {@link HumanDateConverter#snapshot()}
+     */
+    public HumanDateCsvReader(final HumanDateConverterSnapshot converter) {
+        this.converter = Objects.requireNonNull(converter);
+        this.dayFirst = isDayFirst(converter.getFormat());
+    }
+
+    /**
+     * Fluent setter for the field delimiter, {@code ','} by default.
+     *
+     * @param delimiter the delimiter; must not be a quote or line break
+     * @return this instance, for chaining
+     */
+    public HumanDateCsvReader withDelimiter(final char delimiter) {
+        if (delimiter == '"' || delimiter == '\r' || delimiter == '\n')
+            throw new IllegalArgumentException("Invalid delimiter: " + delimiter);
+        this.delimiter = delimiter;
+        return this;
+    }
+
+    /**
+     * Fluent setter for the input charset, UTF-8 by default.
+     *
+     * @param charset the charset
+     * @return this instance, for chaining
+     */
+    public HumanDateCsvReader withCharset(final Charset charset) {
+        this.charset = Objects.requireNonNull(charset);
+        return this;
+    }
+
+    /**
+     * Fluent setter for the buffer capacity.
+     *
+     * @param bufferSize capacity of the byte and char buffers
+     * @return this instance, for chaining
+     * @throws IllegalArgumentException if {@code bufferSize} is below 16
+     */
+    public HumanDateCsvReader withBufferSize(final int bufferSize) {
+        if (bufferSize < 16)
+            throw new IllegalArgumentException("Buffer too small: " + bufferSize);
+        this.bufferSize = bufferSize;
+        return this;
+    }
+
+    /**
+     * Fluent setter for the batch size.
+     *
+     * @param batchSize rows per batch handed to the sink
+     * @return this instance, for chaining
+     * @throws IllegalArgumentException if {@code batchSize} is not positive
+     */
+    public HumanDateCsvReader withBatchSize(final int batchSize) {
+        if (batchSize < 1)
+            throw new IllegalArgumentException("Invalid batch size: " + batchSize);
+        this.batchSize = batchSize;
+        return this;
+    }
+
+    /**
+     * Fluent setter telling whether the first record is a header to skip.
+     *
+     * @param header {@code true} to skip the first record
+     * @return this instance, for chaining
+     */
+    public HumanDateCsvReader withHeader(final boolean header) {
+        this.header = header;
+        return this;
+    }
+
+    /**
+     * Reads the channel to its end, mapping every record and pushing the
+     * results to the sink in batches.
+     * <br/>
+     * The channel is not closed. Each batch is a new list, owned by the sink.
+     *
+     * @param channel source of CSV bytes
+     * @param mapper  builds a row object from a record
+     * @param sink    receives batches of mapped rows
+     * @param <R>     the type of row objects
+     * @return the number of mapped rows
+     * @throws IOException              on read or decoding errors, or malformed quoting
+     * @throws IllegalArgumentException if the mapper reads an unparseable
+     *                                  date and lets the exception through
+     */
+    public <R> long read(final ReadableByteChannel channel,
+                         final RowMapper<? extends R> mapper,
+                         final Consumer<? super List<R>> sink) throws IOException {
+        Objects.requireNonNull(channel);
+        Objects.requireNonNull(mapper);
+        Objects.requireNonNull(sink);
+        var decoder = charset.newDecoder()
+                .onMalformedInput(CodingErrorAction.REPORT)
+                .onUnmappableCharacter(CodingErrorAction.REPORT);
+        var bytes = ByteBuffer.allocate(bufferSize);
+        var chars = CharBuffer.allocate(bufferSize);
+        var row = new Row();
+        var batch = new ArrayList<R>(batchSize);
+        var skipHeader = header;
+        var start = true;
+        var eof = false;
+        var flushed = false;
+        var count = 0L;
+
+        while (true) {
+            if (!eof && channel.read(bytes) < 0) eof = true;
+            bytes.flip();
+            var result = decoder.decode(bytes, chars, eof);
+            if (result.isError()) result.throwException();
+            var drained = !bytes.hasRemaining();
+            bytes.compact();
+            if (eof && drained && !flushed) {
+                result = decoder.flush(chars);
+                flushed = result.isUnderflow();
+            }
+            var last = eof && drained && flushed;
+            chars.flip();
+            if (start && chars.hasRemaining()) {
+                if (chars.get(chars.position()) == '\uFEFF') chars.get();
+                start = false;
+            }
+
+            while (row.next(chars, last)) {
+                if (row.isBlankLine()) continue;
+                if (skipHeader) {
+                    skipHeader = false;
+                    continue;
+                }
+                batch.add(mapper.map(row));
+                count++;
+                if (batch.size() == batchSize) {
+                    sink.accept(batch);
+                    batch = new ArrayList<>(batchSize);
+                }
+            }
+            if (last && !chars.hasRemaining()) break;
+            if (chars.position() == 0 && chars.limit() == chars.capacity()) {
+                // A single record fills the buffer: make room for the rest of it.
+                chars = CharBuffer.allocate(chars.capacity() * 2).put(chars);
+            } else {
+                chars.compact();
+            }
+        }
+        if (!batch.isEmpty()) sink.accept(batch);
+        return count;
+    }
+
+    /**
+     * Sink appending batches to a list on the JavaFX Application Thread.
+     * <br/>
+     * <p>
+     * Batches are handed over with {@link Platform#runLater(Runnable)}; the
+     * reading thread waits while two batches are already queued, so a slow
+     * UI throttles the reader instead of letting batches pile up. Called on
+     * the JavaFX Application Thread itself, batches are appended directly.
+     *
+     * @param target the list to fill, typically the items of a table
+     * @param <R>    the type of rows
+     * @return a sink for {@link #read(ReadableByteChannel, RowMapper, Consumer)}
+     */
+    public static <R> Consumer<List<R>> into(final ObservableList<? super R> target) {
+        Objects.requireNonNull(target);
+        var inFlight = new Semaphore(2);
+        return batch -> {
+            if (Platform.isFxApplicationThread()) {
+                target.addAll(batch);
+                return;
+            }
+            inFlight.acquireUninterruptibly();
+            Platform.runLater(() -> {
+                try {
+                    target.addAll(batch);
+                } finally {
+                    inFlight.release();
+                }
+            });
+        };
+    }
+
+    /**
+     * Builds a row object from the current record.
+     *
+     * @param <R> the type of row objects
+     */
+    @FunctionalInterface
+    public interface RowMapper<R> {
+
+        /**
+         * Maps a record.
+         *
+         * @param row cursor over the record, only valid during this call
+         * @return the row object
+         */
+        R map(Row row);
+    }
+
+    /**
+     * Cursor over the fields of the current record.
+     * <br/>
+     * <p>
+     * A single instance is reused for every record and reads directly from
+     * the reader's char buffer, so it must not be retained beyond
+     * {@link RowMapper#map(Row)}.
+     */
+    public final class Row {
+
+        private char[] buf;
+        private int[] starts = new int[16];
+        private int[] ends = new int[16];
+        private boolean[] escaped = new boolean[16];
+        private boolean firstQuoted;
+        private int size;
+        private long number;
+
+        /**
+         * Creates the cursor.
+         */
+        Row() {
+        }
+
+        /**
+         * Number of fields in the record.
+         *
+         * @return the field count
+         */
+        public int size() {
+            return size;
+        }
+
+        /**
+         * One-based number of the record in the input, header included.
+         *
+         * @return the record number
+         */
+        public long number() {
+            return number;
+        }
+
+        /**
+         * Field content as a view over the buffer, without copying unless the
+         * field contains escaped quotes.
+         *
+         * @param col field index
+         * @return the field content, valid during the current mapping only
+         */
+        public CharSequence field(final int col) {
+            Objects.checkIndex(col, size);
+            if (escaped[col]) return text(col);
+            return CharBuffer.wrap(buf, starts[col], ends[col] - starts[col]);
+        }
+
+        /**
+         * Field content as a new {@code String}.
+         *
+         * @param col field index
+         * @return the unquoted field content
+         */
+        public String text(final int col) {
+            Objects.checkIndex(col, size);
+            var text = new String(buf, starts[col], ends[col] - starts[col]);
+            return escaped[col] ? text.replace("\"\"", "\"") : text;
+        }
+
+        /**
+         * Tells whether a field is empty or only holds whitespace.
+         *
+         * @param col field index
+         * @return {@code true} for blank fields
+         */
+        public boolean isBlank(final int col) {
+            Objects.checkIndex(col, size);
+            for (var i = starts[col]; i < ends[col]; i++) {
+                if (!Character.isWhitespace(buf[i])) return false;
+            }
+            return true;
+        }
+
+        /**
+         * Parses a field as a date.
+         * <br/>
+         * The field is read in the converter's format first, then as
+         * human-friendly input. With a day-first format, absolute
+         * {@code d/M/yyyy} dates are decoded from the buffer before anything
+         * else.
+         *
+         * @param col field index
+         * @return the epoch day, or {@link EpochDayProperty#NULL_EPOCH_DAY}
+         * when the field is blank
+         * @throws IllegalArgumentException if the field is not blank and
+         *                                  cannot be parsed
+         */
+        public long epochDay(final int col) {
+            Objects.checkIndex(col, size);
+            var from = starts[col];
+            var to = ends[col];
+            while (from < to && Character.isWhitespace(buf[from])) from++;
+            while (to > from && Character.isWhitespace(buf[to - 1])) to--;
+            if (from == to) return NULL_EPOCH_DAY;
+            if (dayFirst && !escaped[col]) {
+                var fast = decodeDayMonthYear(buf, from, to);
+                if (fast != NULL_EPOCH_DAY) return fast;
+            }
+            var text = escaped[col] ? text(col).strip() : new String(buf, from, to - from);
+            try {
+                return LocalDate.parse(text, converter.getFormat()).toEpochDay();
+            } catch (DateTimeException notInFormat) {
+                // Not in the file format: try human-friendly input.
+            }
+            LocalDate date;
+            try {
+                date = converter.fromString(text);
+            } catch (RuntimeException e) {
+                throw unparseable(col, text, e);
+            }
+            if (date == null) throw unparseable(col, text, null);
+            return date.toEpochDay();
+        }
+
+        /**
+         * Parses a field as a date.
+         *
+         * @param col field index
+         * @return the date, or {@code null} when blank
+         * @throws IllegalArgumentException if the field is not blank and
+         *                                  cannot be parsed
+         * @see #epochDay(int)
+         */
+        public LocalDate date(final int col) {
+            return EpochDayProperty.toLocalDate(epochDay(col));
+        }
+
+        /**
+         * Builds the error reported for an unparseable date field.
+         *
+         * @param col   field index
+         * @param text  field content
+         * @param cause parser failure, may be {@code null}
+         * @return the exception to throw
+         */
+        private IllegalArgumentException unparseable(final int col, final String text, final Throwable cause) {
+            return new IllegalArgumentException(
+                    "Unparseable date in record " + number + ", field " + col + ": " + text, cause);
+        }
+
+        /**
+         * Tells whether the record is an empty line.
+         *
+         * @return {@code true} for a single empty field that is not quoted
+         */
+        boolean isBlankLine() {
+            return size == 1 && starts[0] == ends[0] && !firstQuoted;
+        }
+
+        /**
+         * Splits the next complete record of the buffer and advances past it.
+         *
+         * @param chars buffer in read mode
+         * @param last  whether no more input follows the buffer content
+         * @return {@code false} if the buffer holds no complete record
+         * @throws IOException if a quoted field is followed by garbage
+         */
+        boolean next(final CharBuffer chars, final boolean last) throws IOException {
+            buf = chars.array();
+            var i = chars.position();
+            var limit = chars.limit();
+            if (i == limit) return false;
+            size = 0;
+            firstQuoted = buf[i] == '"';
+            while (true) {
+                if (i < limit && buf[i] == '"') {
+                    var j = i + 1;
+                    var doubled = false;
+                    while (true) {
+                        if (j >= limit) {
+                            if (!last) return false;
+                            throw new IOException("Unterminated quoted field in record " + (number + 1));
+                        }
+                        if (buf[j] == '"') {
+                            if (j + 1 >= limit && !last) return false;
+                            if (j + 1 < limit && buf[j + 1] == '"') {
+                                doubled = true;
+                                j += 2;
+                                continue;
+                            }
+                            break;
+                        }
+                        j++;
+                    }
+                    add(i + 1, j, doubled);
+                    i = j + 1;
+                } else {
+                    var j = i;
+                    while (j < limit && buf[j] != delimiter && buf[j] != '\n' && buf[j] != '\r') j++;
+                    if (j == limit && !last) return false;
+                    add(i, j, false);
+                    i = j;
+                }
+                if (i == limit) {
+                    chars.position(i);
+                    number++;
+                    return true;
+                }
+                var c = buf[i];
+                if (c == delimiter) {
+                    i++;
+                } else if (c == '\n') {
+                    chars.position(i + 1);
+                    number++;
+                    return true;
+                } else if (c == '\r') {
+                    if (i + 1 == limit && !last) return false;
+                    i++;
+                    if (i < limit && buf[i] == '\n') i++;
+                    chars.position(i);
+                    number++;
+                    return true;
+                } else {
+                    throw new IOException("Malformed quoted field in record " + (number + 1));
+                }
+            }
+        }
+
+        /**
+         * Records a field.
+         *
+         * @param from    first char
+         * @param to      char after the last one
+         * @param doubled whether the field contains doubled quotes
+         */
+        private void add(final int from, final int to, final boolean doubled) {
+            if (size == starts.length) {
+                starts = Arrays.copyOf(starts, size * 2);
+                ends = Arrays.copyOf(ends, size * 2);
+                escaped = Arrays.copyOf(escaped, size * 2);
+            }
+            starts[size] = from;
+            ends[size] = to;
+            escaped[size] = doubled;
+            size++;
+        }
+    }
+
+    /**
+     * Decodes {@code d/M/yyyy} with one or two digit day and month, a four
+     * digit year and any of the {@code / . - ·} separators, used twice.
+     *
+     * @param buf  characters
+     * @param from first char
+     * @param to   char after the last one
+     * @return the epoch day, or {@link EpochDayProperty#NULL_EPOCH_DAY} if the
+     * input has another shape or is not a valid date
+     */
+    static long decodeDayMonthYear(final char[] buf, final int from, final int to) {
+        var i = from;
+        var day = 0;
+        var digits = 0;
+        while (i < to && digits < 2 && isDigit(buf[i])) {
+            day = day * 10 + (buf[i++] - '0');
+            digits++;
+        }
+        if (digits == 0 || i >= to || !isSeparator(buf[i])) return NULL_EPOCH_DAY;
+        var separator = buf[i++];
+        var month = 0;
+        digits = 0;
+        while (i < to && digits < 2 && isDigit(buf[i])) {
+            month = month * 10 + (buf[i++] - '0');
+            digits++;
+        }
+        if (digits == 0 || i >= to || buf[i] != separator) return NULL_EPOCH_DAY;
+        i++;
+        if (to - i != 4) return NULL_EPOCH_DAY;
+        var year = 0;
+        for (; i < to; i++) {
+            if (!isDigit(buf[i])) return NULL_EPOCH_DAY;
+            year = year * 10 + (buf[i] - '0');
+        }
+        try {
+            return LocalDate.of(year, month, day).toEpochDay();
+        } catch (DateTimeException e) {
+            return NULL_EPOCH_DAY;
+        }
+    }
+
+    /**
+     * Tells whether a format renders dates as {@code d/M/yyyy}, that is, in
+     * a shape {@link #decodeDayMonthYear(char[], int, int)} decodes to the
+     * same date.
+     *
+     * @param format the converter's format
+     * @return {@code true} if the fast path agrees with the format
+     */
+    static boolean isDayFirst(final DateTimeFormatter format) {
+        for (var probe : DAY_FIRST_PROBES) {
+            char[] text;
+            try {
+                text = format.format(probe).toCharArray();
+            } catch (DateTimeException e) {
+                return false;
+            }
+            if (decodeDayMonthYear(text, 0, text.length) != probe.toEpochDay()) return false;
+        }
+        return true;
+    }
+
+    private static boolean isDigit(final char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean isSeparator(final char c) {
+        return c == '/' || c == '.' || c == '-' || c == '·';
+    }
+}
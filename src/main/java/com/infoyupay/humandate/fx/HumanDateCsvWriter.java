@@ -0,0 +1,335 @@
+/*
+ * Copyright 2025 Ingeniería Informática Yupay S.A.C.S.
+ * RUC 20607854247
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.infoyupay.humandate.fx;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Objects;
+
+import static com.infoyupay.humandate.fx.EpochDayProperty.NULL_EPOCH_DAY;
+
+/**
+ * Streaming CSV writer for rows holding {@link LocalDate} columns.
+ * <br/>
+ * <p>
+ * Rows are described field by field through a {@link Line}, encoded through
+ * fixed-size char and byte buffers and written to a
+ * {@link WritableByteChannel}, so memory does not depend on the number of
+ * rows. Dates are written with the {@link HumanDateConverterSnapshot#getFormat()
+ * format} of the converter, never as relative words such as "hoy", so that a
+ * {@link HumanDateCsvReader} whose converter has the same format reads the
+ * file back unchanged. Fields containing
+ * the delimiter, quotes or line breaks are quoted as per RFC 4180, and
+ * records end with {@code CRLF}. A record made of a single empty field is
+ * written as {@code ""}, so that it is not read back as a blank line.
+ * <br/>
+ * <p><b>Usage example:</b></p>
+ * {@snippet :
+ * try (var channel = FileChannel.open(path, CREATE, WRITE, TRUNCATE_EXISTING)) {
+ *     new HumanDateCsvWriter(converter.snapshot())
+ *             .withHeader("customer", "due date")
+ *             .write(channel, payments,
+ *                     (payment, line) -> line.text(payment.customer()).epochDay(payment.dueDay()));
+ * }
+ *}
+ *
+ * @author David Vidal, Infoyupay
+ * @version 1.0
+ * @see HumanDateCsvReader
+ */
+public final class HumanDateCsvWriter {
+
+    private final HumanDateConverterSnapshot converter;
+    private char delimiter = ',';
+    private Charset charset = StandardCharsets.UTF_8;
+    private int bufferSize = HumanDateCsvReader.DEFAULT_BUFFER_SIZE;
+    private String[] header;
+
+    /**
+     * Creates a writer formatting dates with the given converter.
+     *
+     * @param converter converter whose format is used for dates
+     */
+    public HumanDateCsvWriter(final HumanDateConverterSnapshot converter) {
+        this.converter = Objects.requireNonNull(converter);
+    }
+
+    /**
+     * Fluent setter for the field delimiter, {@code ','} by default.
+     *
+     * @param delimiter the delimiter; must not be a quote or line break
+     * @return this instance, for chaining
+     */
+    public HumanDateCsvWriter withDelimiter(final char delimiter) {
+        if (delimiter == '"' || delimiter == '\r' || delimiter == '\n')
+            throw new IllegalArgumentException("Invalid delimiter: " + delimiter);
+        this.delimiter = delimiter;
+        return this;
+    }
+
+    /**
+     * Fluent setter for the output charset, UTF-8 by default.
+     *
+     * @param charset the charset
+     * @return this instance, for chaining
+     */
+    public HumanDateCsvWriter withCharset(final Charset charset) {
+        this.charset = Objects.requireNonNull(charset);
+        return this;
+    }
+
+    /**
+     * Fluent setter for the buffer capacity.
+     *
+     * @param bufferSize capacity of the char and byte buffers
+     * @return this instance, for chaining
+     * @throws IllegalArgumentException if {@code bufferSize} is below 64
+     */
+    public HumanDateCsvWriter withBufferSize(final int bufferSize) {
+        if (bufferSize < 64)
+            throw new IllegalArgumentException("Buffer too small: " + bufferSize);
+        this.bufferSize = bufferSize;
+        return this;
+    }
+
+    /**
+     * Fluent setter for a header record written before the rows.
+     *
+     * @param names column names, or none for no header
+     * @return this instance, for chaining
+     */
+    public HumanDateCsvWriter withHeader(final String... names) {
+        this.header = names.length == 0 ? null : names.clone();
+        return this;
+    }
+
+    /**
+     * Writes every row to the channel.
+     * <br/>
+     * The channel is not closed.
+     *
+     * @param channel destination of CSV bytes
+     * @param rows    rows to write
+     * @param writer  describes the fields of a row
+     * @param <R>     the type of rows
+     * @return the number of rows written, header excluded
+     * @throws IOException on write or encoding errors
+     */
+    public <R> long write(final WritableByteChannel channel,
+                         final Iterable<? extends R> rows,
+                         final RowWriter<? super R> writer) throws IOException {
+        Objects.requireNonNull(channel);
+        Objects.requireNonNull(rows);
+        Objects.requireNonNull(writer);
+        var line = new Line(channel);
+        if (header != null) {
+            for (var name : header) line.text(name);
+            line.end();
+        }
+        var count = 0L;
+        for (var row : rows) {
+            writer.write(row, line);
+            line.end();
+            count++;
+        }
+        line.finish();
+        return count;
+    }
+
+    /**
+     * Describes the fields of a row.
+     *
+     * @param <R> the type of rows
+     */
+    @FunctionalInterface
+    public interface RowWriter<R> {
+
+        /**
+         * Appends the fields of a row, in order.
+         *
+         * @param row  the row
+         * @param line receives the fields
+         * @throws IOException if flushing to the channel fails
+         */
+        void write(R row, Line line) throws IOException;
+    }
+
+    /**
+     * Receiver of the fields of the current row.
+     * <br/>
+     * A single instance is reused for every row.
+     */
+    public final class Line {
+
+        private final WritableByteChannel channel;
+        private final CharsetEncoder encoder;
+        private final CharBuffer chars = CharBuffer.allocate(bufferSize);
+        private final ByteBuffer bytes;
+
+        /**
+         * Reused to render dates without allocating a {@code String}.
+         */
+        private final StringBuilder scratch = new StringBuilder(32);
+
+        private boolean firstField = true;
+
+        /**
+         * Whether the current record has written no character yet.
+         */
+        private boolean blank = true;
+
+        /**
+         * Creates the receiver for a channel.
+         *
+         * @param channel destination
+         */
+        Line(final WritableByteChannel channel) {
+            this.channel = channel;
+            this.encoder = charset.newEncoder()
+                    .onMalformedInput(CodingErrorAction.REPORT)
+                    .onUnmappableCharacter(CodingErrorAction.REPORT);
+            this.bytes = ByteBuffer.allocate((int) Math.ceil(bufferSize * encoder.maxBytesPerChar()));
+        }
+
+        /**
+         * Appends a text field, quoting it if needed.
+         *
+         * @param value the text, {@code null} for an empty field
+         * @return this instance, for chaining
+         * @throws IOException if flushing to the channel fails
+         */
+        public Line text(final CharSequence value) throws IOException {
+            separate();
+            if (value == null || value.isEmpty()) return this;
+            blank = false;
+            var quote = false;
+            for (var i = 0; i < value.length() && !quote; i++) {
+                var c = value.charAt(i);
+                quote = c == delimiter || c == '"' || c == '\r' || c == '\n';
+            }
+            if (quote) put('"');
+            for (var i = 0; i < value.length(); i++) {
+                var c = value.charAt(i);
+                if (c == '"') put('"');
+                put(c);
+            }
+            if (quote) put('"');
+            return this;
+        }
+
+        /**
+         * Appends a date field in the converter's format.
+         *
+         * @param date the date, {@code null} for an empty field
+         * @return this instance, for chaining
+         * @throws IOException if flushing to the channel fails
+         */
+        public Line date(final LocalDate date) throws IOException {
+            if (date == null) return text(null);
+            scratch.setLength(0);
+            converter.getFormat().formatTo(date, scratch);
+            return text(scratch);
+        }
+
+        /**
+         * Appends a date field given as an epoch day.
+         *
+         * @param epochDay the epoch day, {@link EpochDayProperty#NULL_EPOCH_DAY}
+         *                 for an empty field
+         * @return this instance, for chaining
+         * @throws IOException if flushing to the channel fails
+         */
+        public Line epochDay(final long epochDay) throws IOException {
+            return date(epochDay == NULL_EPOCH_DAY ? null : LocalDate.ofEpochDay(epochDay));
+        }
+
+        /**
+         * Ends the current record.
+         *
+         * @throws IOException if flushing to the channel fails
+         */
+        void end() throws IOException {
+            if (blank) {
+                // a bare CRLF would read back as a skipped blank line
+                put('"');
+                put('"');
+            }
+            put('\r');
+            put('\n');
+            firstField = true;
+            blank = true;
+        }
+
+        /**
+         * Writes out everything still buffered.
+         *
+         * @throws IOException if writing fails
+         */
+        void finish() throws IOException {
+            drain(true);
+            var result = encoder.flush(bytes);
+            if (result.isError()) result.throwException();
+            writeBytes();
+        }
+
+        private void separate() throws IOException {
+            if (firstField) {
+                firstField = false;
+            } else {
+                put(delimiter);
+                blank = false;
+            }
+        }
+
+        private void put(final char c) throws IOException {
+            if (!chars.hasRemaining()) drain(false);
+            chars.put(c);
+        }
+
+        /**
+         * Encodes the buffered chars and writes the resulting bytes.
+         *
+         * @param endOfInput whether no more chars follow
+         * @throws IOException if encoding or writing fails
+         */
+        private void drain(final boolean endOfInput) throws IOException {
+            chars.flip();
+            while (true) {
+                var result = encoder.encode(chars, bytes, endOfInput);
+                if (result.isError()) result.throwException();
+                writeBytes();
+                if (result.isUnderflow()) break;
+            }
+            chars.compact();
+        }
+
+        private void writeBytes() throws IOException {
+            bytes.flip();
+            while (bytes.hasRemaining()) channel.write(bytes);
+            bytes.clear();
+        }
+    }
+}
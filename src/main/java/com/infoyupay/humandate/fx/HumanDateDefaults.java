@@ -18,13 +18,15 @@
 
 package com.infoyupay.humandate.fx;
 
+import javafx.util.Duration;
+
 import java.time.format.DateTimeFormatter;
 
 /**
  * Library-wide default constants for date formatting.
  *
  * @author David Vidal, Infoyupay
- * @version 1.0
+ * @version 1.1
  */
 public final class HumanDateDefaults {
     /**
@@ -33,6 +35,31 @@ public final class HumanDateDefaults {
      */
     public static final DateTimeFormatter DEFAULT_FORMAT = DateTimeFormatter.ofPattern("dd/MM/yyyy");
 
+    /**
+     * Render cache capacity of converters handed out by
+     * {@link HumanDateConverterRegistry}.<br>
+     * Roughly eleven years of distinct days.
+     */
+    public static final int DEFAULT_RENDER_CACHE_SIZE = 4096;
+
+    /**
+     * Parse cache capacity of converters handed out by
+     * {@link HumanDateConverterRegistry}.
+     */
+    public static final int DEFAULT_PARSE_CACHE_SIZE = 256;
+
+    /**
+     * Quiet period after the last keystroke before
+     * {@link HumanDateTextFormatter} computes its live preview.
+     */
+    public static final Duration DEFAULT_PREVIEW_DELAY = Duration.millis(250);
+
+    /**
+     * Quiet period after the last keystroke before {@link HumanDateFilter}
+     * applies its query.
+     */
+    public static final Duration DEFAULT_FILTER_DELAY = Duration.millis(200);
+
     /**
      * Prevents instantiation.
      */
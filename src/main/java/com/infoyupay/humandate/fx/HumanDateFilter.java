@@ -0,0 +1,375 @@
+/*
+ * Copyright 2025 Ingeniería Informática Yupay S.A.C.S.
+ * RUC 20607854247
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package com.infoyupay.humandate.fx;
+
+import javafx.animation.PauseTransition;
+import javafx.beans.InvalidationListener;
+import javafx.beans.WeakInvalidationListener;
+import javafx.beans.property.ObjectProperty;
+import javafx.beans.property.ReadOnlyBooleanProperty;
+import javafx.beans.property.ReadOnlyBooleanWrapper;
+import javafx.beans.property.ReadOnlyObjectProperty;
+import javafx.beans.property.ReadOnlyObjectWrapper;
+import javafx.beans.property.SimpleObjectProperty;
+import javafx.beans.property.SimpleStringProperty;
+import javafx.beans.property.StringProperty;
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.FilteredList;
+import javafx.util.Duration;
+
+import java.time.LocalDate;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import static com.infoyupay.humandate.fx.HumanDateDefaults.DEFAULT_FILTER_DELAY;
+
+/**
+ * A {@link FilteredList} driven by a {@link HumanDateRange} query typed by
+ * the user, such as {@code ayer..hoy} or {@code -1m..}.
+ * <br/>
+ * <p>
+ * Bind {@link #queryProperty()} to a filter box above a {@code TableView} or
+ * {@code ListView} showing {@link #filtered()}. Keystrokes restart a
+ * {@link #delayProperty() debounce delay}; once it elapses the query is
+ * parsed by the {@link #converterProperty() converter} and the predicate of
+ * the list is replaced, once. While the query is invalid, the previous
+ * predicate stays and {@link #validProperty()} is {@code false}, which is
+ * handy to style the filter box.
+ * <br/>
+ * <p>
+ * Relative bounds such as {@code hoy} depend on the current day, so the
+ * query is also parsed again when {@link HumanDateClock} publishes a new
+ * day, and when the converter or its language, format or context change.
+ * <br/>
+ * <p><b>Usage example:</b></p>
+ * {@snippet :
+ * var filter = new HumanDateFilter<>(invoices, Invoice::getDueDate);
+ * filter.queryProperty().bind(filterField.textProperty());
+ * filter.validProperty().addListener((o, was, valid) ->
+ *         filterField.pseudoClassStateChanged(INVALID, !valid));
+ * table.setItems(filter.filtered());
+ *}
+ * For a {@link LocalDateColumn}, {@link #forColumn(LocalDateColumn)} filters
+ * its row indices on the primitive epoch days, without materializing a
+ * {@link LocalDate} per row.
+ *
+ * @param <S> the type of rows
+ * @author David Vidal, Infoyupay
+ * @version 1.0
+ * @see HumanDateRange
+ * @see HumanDateIndex
+ */
+public final class HumanDateFilter<S> {
+
+    private final FilteredList<S> filtered;
+    private final RowPredicates<S> predicates;
+
+    private final StringProperty query = new SimpleStringProperty(this, "query");
+    private final ObjectProperty<Duration> delay =
+            new SimpleObjectProperty<>(this, "delay", DEFAULT_FILTER_DELAY);
+    private final ObjectProperty<HumanDateConverter> converter =
+            new SimpleObjectProperty<>(this, "converter", new HumanDateConverter().withSharedCaches());
+    private final ReadOnlyObjectWrapper<HumanDateRange> range =
+            new ReadOnlyObjectWrapper<>(this, "range", HumanDateRange.ALL);
+    private final ReadOnlyBooleanWrapper valid = new ReadOnlyBooleanWrapper(this, "valid", true);
+
+    private PauseTransition timer;
+
+    /**
+     * Parses the query again; strongly held by this filter, weakly by the
+     * clock and the converter, which may outlive it.
+     */
+    private final InvalidationListener reparseListener = o -> apply();
+    private final WeakInvalidationListener weakReparseListener = new WeakInvalidationListener(reparseListener);
+
+    /**
+     * Creates a filter over rows holding a date.
+     *
+     * @param source the rows to filter
+     * @param date   maps a row to its date, may return {@code null}
+     */
+    public HumanDateFilter(final ObservableList<S> source, final Function<? super S, LocalDate> date) {
+        this(r -> {
+            var dates = r.asPredicate();
+            return row -> dates.test(date.apply(row));
+        }, source);
+        Objects.requireNonNull(date);
+    }
+
+    private HumanDateFilter(final RowPredicates<S> predicates, final ObservableList<S> source) {
+        this.filtered = new FilteredList<>(Objects.requireNonNull(source));
+        this.predicates = predicates;
+        query.addListener(o -> schedule());
+        converter.addListener((o, oldValue, newValue) -> {
+            follow(oldValue, newValue);
+            apply();
+        });
+        follow(null, getConverter());
+        HumanDateClock.todayProperty().addListener(weakReparseListener);
+    }
+
+    /**
+     * Moves the reparse subscription to the settings of a new converter.
+     */
+    private void follow(final HumanDateConverter oldConverter, final HumanDateConverter newConverter) {
+        if (oldConverter != null) {
+            oldConverter.languageProperty().removeListener(weakReparseListener);
+            oldConverter.formatProperty().removeListener(weakReparseListener);
+            oldConverter.contextProperty().removeListener(weakReparseListener);
+        }
+        if (newConverter != null) {
+            newConverter.languageProperty().addListener(weakReparseListener);
+            newConverter.formatProperty().addListener(weakReparseListener);
+            newConverter.contextProperty().addListener(weakReparseListener);
+        }
+    }
+
+    /**
+     * Creates a filter over a list of dates.
+     *
+     * @param dates the dates to filter
+     * @return the filter
+     */
+    public static HumanDateFilter<LocalDate> of(final ObservableList<LocalDate> dates) {
+        return new HumanDateFilter<>(HumanDateRange::asPredicate, dates);
+    }
+
+    /**
+     * Creates a filter over the {@linkplain LocalDateColumn#rowIndices() row
+     * indices} of a column, testing its epoch days directly.
+     *
+     * @param column the column to filter
+     * @return the filter, whose list holds the matching row indices
+     */
+    public static HumanDateFilter<Integer> forColumn(final LocalDateColumn column) {
+        Objects.requireNonNull(column);
+        return new HumanDateFilter<>(r -> {
+            var days = r.asEpochDayPredicate();
+            return row -> days.test(column.getEpochDay(row));
+        }, column.rowIndices());
+    }
+
+    /**
+     * Returns the filtered rows.
+     *
+     * @return the filtered list, to be shown by a table or list view
+     */
+    public FilteredList<S> filtered() {
+        return filtered;
+    }
+
+    /**
+     * Applies the current query immediately, cancelling the pending delay.
+     * <br/>
+     * Useful on Enter, or before reading {@link #filtered()} in code.
+     */
+    public void applyNow() {
+        if (timer != null) timer.stop();
+        apply();
+    }
+
+    /**
+     * Restarts the debounce timer, or applies directly without a delay.
+     */
+    private void schedule() {
+        var d = getDelay();
+        if (d == null || d.lessThanOrEqualTo(Duration.ZERO)) {
+            applyNow();
+            return;
+        }
+        if (timer == null) {
+            timer = new PauseTransition();
+            timer.setOnFinished(e -> apply());
+        }
+        timer.setDuration(d);
+        timer.playFromStart();
+    }
+
+    /**
+     * Parses the query and replaces the predicate if the range changed.
+     */
+    private void apply() {
+        HumanDateRange parsed;
+        try {
+            parsed = HumanDateRange.parse(getQuery(), getConverter().snapshot());
+        } catch (IllegalArgumentException e) {
+            valid.set(false);
+            return;
+        }
+        valid.set(true);
+        if (parsed.equals(range.get())) return;
+        range.set(parsed);
+        filtered.setPredicate(parsed.isAll() ? null : predicates.compile(parsed));
+    }
+
+    /**
+     * Returns the query text.
+     *
+     * @return the query, may be {@code null}
+     */
+    public String getQuery() {
+        return query.get();
+    }
+
+    /**
+     * Sets the query text, applied after the delay.
+     *
+     * @param query the query, e.g. {@code "ayer..hoy"}
+     */
+    public void setQuery(final String query) {
+        this.query.set(query);
+    }
+
+    /**
+     * Property holding the query text, typically bound to a text field.
+     *
+     * @return the query property
+     */
+    public StringProperty queryProperty() {
+        return query;
+    }
+
+    /**
+     * Returns the debounce delay.
+     *
+     * @return the delay
+     */
+    public Duration getDelay() {
+        return delay.get();
+    }
+
+    /**
+     * Sets the quiet period after the last query change before it is
+     * applied. {@code null} or zero applies every change immediately.
+     *
+     * @param delay the delay
+     */
+    public void setDelay(final Duration delay) {
+        this.delay.set(delay);
+    }
+
+    /**
+     * Property holding the debounce delay.
+     *
+     * @return the delay property
+     */
+    public ObjectProperty<Duration> delayProperty() {
+        return delay;
+    }
+
+    /**
+     * Fluent setter for the debounce delay.
+     *
+     * @param delay the delay
+     * @return this instance, for chaining
+     */
+    public HumanDateFilter<S> withDelay(final Duration delay) {
+        setDelay(delay);
+        return this;
+    }
+
+    /**
+     * Returns the converter parsing the query.
+     *
+     * @return the converter
+     */
+    public HumanDateConverter getConverter() {
+        return converter.get();
+    }
+
+    /**
+     * Sets the converter parsing the query, e.g. for its language.
+     *
+     * @param converter the converter
+     */
+    public void setConverter(final HumanDateConverter converter) {
+        this.converter.set(Objects.requireNonNull(converter));
+    }
+
+    /**
+     * Property holding the converter parsing the query.
+     * <br/>
+     * Defaults to a converter drawing its caches from
+     * {@link HumanDateConverterRegistry}, shared with every component
+     * configured the same way.
+     *
+     * @return the converter property
+     */
+    public ObjectProperty<HumanDateConverter> converterProperty() {
+        return converter;
+    }
+
+    /**
+     * Fluent setter for the converter parsing the query.
+     *
+     * @param converter the converter
+     * @return this instance, for chaining
+     */
+    public HumanDateFilter<S> withConverter(final HumanDateConverter converter) {
+        setConverter(converter);
+        return this;
+    }
+
+    /**
+     * Returns the range last applied.
+     *
+     * @return the applied range
+     */
+    public HumanDateRange getRange() {
+        return range.get();
+    }
+
+    /**
+     * Read-only property holding the range last applied.
+     *
+     * @return the range property
+     */
+    public ReadOnlyObjectProperty<HumanDateRange> rangeProperty() {
+        return range.getReadOnlyProperty();
+    }
+
+    /**
+     * Returns whether the last parsed query was valid.
+     *
+     * @return {@code false} while the query cannot be parsed
+     */
+    public boolean isValid() {
+        return valid.get();
+    }
+
+    /**
+     * Read-only property telling whether the last parsed query was valid.
+     *
+     * @return the validity property
+     */
+    public ReadOnlyBooleanProperty validProperty() {
+        return valid.getReadOnlyProperty();
+    }
+
+    /**
+     * Builds the row predicate of a range, once per applied range.
+     *
+     * @param <S> the type of rows
+     */
+    @FunctionalInterface
+    private interface RowPredicates<S> {
+
+        Predicate<? super S> compile(HumanDateRange range);
+    }
+}
@@ -0,0 +1,614 @@
+/*
+ * Copyright 2025 Ingeniería Informática Yupay S.A.C.S.
+ * RUC 20607854247
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package com.infoyupay.humandate.fx;
+
+import javafx.beans.property.ObjectProperty;
+import javafx.beans.property.SimpleObjectProperty;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.ObservableListBase;
+import javafx.collections.WeakListChangeListener;
+
+import java.time.LocalDate;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * A sorted epoch-day index over the dates of an {@link ObservableList},
+ * answering date-range queries by binary search.
+ * <br/>
+ * <p>
+ * Filtering a million rows with a {@code FilteredList} re-evaluates the
+ * predicate, and usually converts a date, for every row on every keystroke.
+ * This index keeps the rows sorted by epoch day in two parallel arrays,
+ * updated incrementally as the source list changes, so counting or listing
+ * the rows of a range costs two binary searches. {@link #filtered()} exposes
+ * the rows of the current {@link #fromProperty() from}/{@link #toProperty() to}
+ * range as a live list, which a {@code TableView} can use directly; moving
+ * the range fires a single change, whatever the number of rows.
+ * <br/>
+ * <p>
+ * Bounds are inclusive and {@code null} means unbounded; bounds given in
+ * reverse order are swapped, as in {@link HumanDateRange#of(LocalDate, LocalDate)}.
+ * Rows without a date only show while both bounds are {@code null}. Indexed
+ * rows are ordered by date; the order among rows with equal dates is
+ * unspecified.
+ * <br/>
+ * <p><b>Usage example:</b></p>
+ * {@snippet :
+ * var index = new HumanDateIndex<>(invoices, Invoice::getDueDate);
+ * table.setItems(index.filtered());
+ * sinceField.setOnAction(e -> index.filter(sinceField.getText(), null)); // "-2s"
+ * beforeField.setOnAction(e -> index.filter(null, beforeField.getText())); // "0405"
+ *}
+ * Dates are read when rows are added. Rows whose date changes in place are
+ * re-indexed on {@code update} changes, as fired by lists created with an
+ * extractor, at the cost of a linear search each. Like the source list, the
+ * index must only be used on one thread, typically the JavaFX Application
+ * Thread.
+ *
+ * @param <S> the type of rows
+ * @author David Vidal, Infoyupay
+ * @version 1.0
+ */
+public final class HumanDateIndex<S> {
+
+    /**
+     * Source changes touching more rows than this rebuild the whole index
+     * instead of shifting the arrays once per row.
+     */
+    private static final int REBUILD_THRESHOLD = 1024;
+
+    private final ObservableList<S> source;
+    private final Function<? super S, LocalDate> date;
+
+    private long[] days = new long[0];
+    private Object[] rows = new Object[0];
+    private int size;
+
+    /**
+     * First and last (exclusive) position of the current range.
+     */
+    private int lo;
+    private int hi;
+    private long lowDay = Long.MIN_VALUE;
+    private long highDay = Long.MAX_VALUE;
+    private boolean adjusting;
+
+    private final ObjectProperty<LocalDate> from = new SimpleObjectProperty<>(this, "from");
+    private final ObjectProperty<LocalDate> to = new SimpleObjectProperty<>(this, "to");
+    private final ObjectProperty<HumanDateConverter> converter =
+            new SimpleObjectProperty<>(this, "converter", new HumanDateConverter().withSharedCaches());
+
+    private final View view = new View();
+
+    /**
+     * Keeps the weak subscription to the source alive as long as this index.
+     */
+    private final ListChangeListener<S> sourceListener = this::onSourceChanged;
+
+    /**
+     * Creates an index over the given rows.
+     *
+     * @param source the rows to index
+     * @param date   maps a row to its date, may return {@code null}
+     */
+    public HumanDateIndex(final ObservableList<S> source, final Function<? super S, LocalDate> date) {
+        this.source = Objects.requireNonNull(source);
+        this.date = Objects.requireNonNull(date);
+        rebuild();
+        source.addListener(new WeakListChangeListener<>(sourceListener));
+        from.addListener(o -> onRangeChanged());
+        to.addListener(o -> onRangeChanged());
+    }
+
+    /**
+     * Creates an index over a list of dates.
+     *
+     * @param dates the dates to index
+     * @return the index
+     */
+    public static HumanDateIndex<LocalDate> of(final ObservableList<LocalDate> dates) {
+        return new HumanDateIndex<>(dates, Function.identity());
+    }
+
+    /**
+     * Returns the number of indexed rows.
+     *
+     * @return the number of rows, dated or not
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Counts the rows within the given bounds.
+     *
+     * @param from first day, inclusive, or {@code null}
+     * @param to   last day, inclusive, or {@code null}
+     * @return the number of rows in range
+     */
+    public int count(final LocalDate from, final LocalDate to) {
+        if (reversed(from, to)) return count(to, from);
+        return upperBound(highDay(to)) - lowerBound(lowDay(from, to));
+    }
+
+    /**
+     * Lists the rows within the given bounds, by date.
+     * <br/>
+     * The result is an unmodifiable view, valid until the source changes.
+     *
+     * @param from first day, inclusive, or {@code null}
+     * @param to   last day, inclusive, or {@code null}
+     * @return the rows in range
+     */
+    public List<S> rows(final LocalDate from, final LocalDate to) {
+        if (reversed(from, to)) return rows(to, from);
+        var first = lowerBound(lowDay(from, to));
+        var last = Math.max(first, upperBound(highDay(to)));
+        return new Slice<>(rows, first, last);
+    }
+
+    /**
+     * Returns the live list of rows within the current range, by date.
+     * <br/>
+     * The list is read-only and follows both the range and the source.
+     *
+     * @return the filtered rows
+     */
+    public ObservableList<S> filtered() {
+        return view;
+    }
+
+    /**
+     * Sets both bounds from human-date inputs, parsed by the
+     * {@link #converterProperty() converter}.
+     * <br/>
+     * Blank or {@code null} inputs leave that side unbounded. Both inputs
+     * are parsed before anything changes, and {@link #filtered()} fires a
+     * single change.
+     *
+     * @param from input for the first day, inclusive, e.g. {@code "-2s"}
+     * @param to   input for the last day, inclusive, e.g. {@code "0405"}
+     * @throws IllegalArgumentException if a non-blank input is not a date
+     */
+    public void filter(final String from, final String to) {
+        var snapshot = getConverter().snapshot();
+        var first = bound(from, snapshot);
+        var last = bound(to, snapshot);
+        setRange(first, last);
+    }
+
+    private static LocalDate bound(final String text, final HumanDateConverterSnapshot snapshot) {
+        if (text == null || text.isBlank()) return null;
+        LocalDate date;
+        try {
+            date = snapshot.fromString(text);
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid date: " + text, e);
+        }
+        if (date == null) throw new IllegalArgumentException("Invalid date: " + text);
+        return date;
+    }
+
+    /**
+     * Sets the range from a {@link HumanDateRange} query such as
+     * {@code "ayer..hoy"}, parsed by the {@link #converterProperty() converter}.
+     *
+     * @param query the range query, blank for everything
+     * @throws IllegalArgumentException if the query cannot be parsed
+     */
+    public void filter(final String query) {
+        var range = HumanDateRange.parse(query, getConverter().snapshot());
+        setRange(range.from(), range.to());
+    }
+
+    /**
+     * Sets both bounds at once, firing a single change.
+     * <br/>
+     * Bounds given in reverse order are swapped before being set.
+     *
+     * @param from first day, inclusive, or {@code null}
+     * @param to   last day, inclusive, or {@code null}
+     */
+    public void setRange(final LocalDate from, final LocalDate to) {
+        if (reversed(from, to)) {
+            setRange(to, from);
+            return;
+        }
+        adjusting = true;
+        try {
+            this.from.set(from);
+            this.to.set(to);
+        } finally {
+            adjusting = false;
+        }
+        onRangeChanged();
+    }
+
+    /**
+     * Returns the first day of the current range.
+     *
+     * @return the first day, or {@code null} if unbounded
+     */
+    public LocalDate getFrom() {
+        return from.get();
+    }
+
+    /**
+     * Sets the first day of the current range.
+     *
+     * @param from the first day, inclusive, or {@code null}
+     */
+    public void setFrom(final LocalDate from) {
+        this.from.set(from);
+    }
+
+    /**
+     * Property holding the first day of the current range.
+     *
+     * @return the from property
+     */
+    public ObjectProperty<LocalDate> fromProperty() {
+        return from;
+    }
+
+    /**
+     * Returns the last day of the current range.
+     *
+     * @return the last day, or {@code null} if unbounded
+     */
+    public LocalDate getTo() {
+        return to.get();
+    }
+
+    /**
+     * Sets the last day of the current range.
+     *
+     * @param to the last day, inclusive, or {@code null}
+     */
+    public void setTo(final LocalDate to) {
+        this.to.set(to);
+    }
+
+    /**
+     * Property holding the last day of the current range.
+     *
+     * @return the to property
+     */
+    public ObjectProperty<LocalDate> toProperty() {
+        return to;
+    }
+
+    /**
+     * Returns the converter parsing {@link #filter(String, String)} inputs.
+     *
+     * @return the converter
+     */
+    public HumanDateConverter getConverter() {
+        return converter.get();
+    }
+
+    /**
+     * Sets the converter parsing {@link #filter(String, String)} inputs.
+     *
+     * @param converter the converter
+     */
+    public void setConverter(final HumanDateConverter converter) {
+        this.converter.set(Objects.requireNonNull(converter));
+    }
+
+    /**
+     * Property holding the converter parsing {@link #filter(String, String)}
+     * inputs.
+     * <br/>
+     * Defaults to a converter drawing its caches from
+     * {@link HumanDateConverterRegistry}, shared with every component
+     * configured the same way.
+     *
+     * @return the converter property
+     */
+    public ObjectProperty<HumanDateConverter> converterProperty() {
+        return converter;
+    }
+
+    /**
+     * Fluent setter for the converter parsing {@link #filter(String, String)}
+     * inputs.
+     *
+     * @param converter the converter
+     * @return this instance, for chaining
+     */
+    public HumanDateIndex<S> withConverter(final HumanDateConverter converter) {
+        setConverter(converter);
+        return this;
+    }
+
+    // --- Index maintenance ---
+
+    private long dayOf(final S row) {
+        return EpochDayProperty.toEpochDay(date.apply(row));
+    }
+
+    /**
+     * Whether both bounds are set and the first is after the last.
+     */
+    private static boolean reversed(final LocalDate from, final LocalDate to) {
+        return from != null && to != null && from.isAfter(to);
+    }
+
+    /**
+     * Lowest indexed day of a range: undated rows, stored under
+     * {@link EpochDayProperty#NULL_EPOCH_DAY}, only match fully open ranges.
+     */
+    private static long lowDay(final LocalDate from, final LocalDate to) {
+        if (from != null) return from.toEpochDay();
+        return to == null ? EpochDayProperty.NULL_EPOCH_DAY : EpochDayProperty.NULL_EPOCH_DAY + 1;
+    }
+
+    private static long highDay(final LocalDate to) {
+        return to == null ? Long.MAX_VALUE : to.toEpochDay();
+    }
+
+    /**
+     * First position whose day is {@code >= day}.
+     */
+    private int lowerBound(final long day) {
+        int a = 0, b = size;
+        while (a < b) {
+            var m = (a + b) >>> 1;
+            if (days[m] < day) a = m + 1;
+            else b = m;
+        }
+        return a;
+    }
+
+    /**
+     * First position whose day is {@code > day}.
+     */
+    private int upperBound(final long day) {
+        int a = 0, b = size;
+        while (a < b) {
+            var m = (a + b) >>> 1;
+            if (days[m] <= day) a = m + 1;
+            else b = m;
+        }
+        return a;
+    }
+
+    /**
+     * Re-sorts the whole source into fresh arrays, leaving the previous ones
+     * intact for the removal event.
+     */
+    private void rebuild() {
+        var n = source.size();
+        var entries = new Entry[n];
+        for (var i = 0; i < n; i++) {
+            var row = source.get(i);
+            entries[i] = new Entry(dayOf(row), row);
+        }
+        // stable: equal days keep their source order
+        Arrays.sort(entries, Comparator.comparingLong(Entry::day));
+        var newDays = new long[Math.max(16, n)];
+        var newRows = new Object[newDays.length];
+        for (var i = 0; i < n; i++) {
+            newDays[i] = entries[i].day();
+            newRows[i] = entries[i].row();
+        }
+        days = newDays;
+        rows = newRows;
+        size = n;
+        lo = lowerBound(lowDay);
+        hi = Math.max(lo, upperBound(highDay));
+    }
+
+    private void insert(final S row) {
+        var day = dayOf(row);
+        var pos = upperBound(day);
+        if (size == days.length) {
+            var capacity = Math.max(16, size + (size >> 1));
+            days = Arrays.copyOf(days, capacity);
+            rows = Arrays.copyOf(rows, capacity);
+        }
+        System.arraycopy(days, pos, days, pos + 1, size - pos);
+        System.arraycopy(rows, pos, rows, pos + 1, size - pos);
+        days[pos] = day;
+        rows[pos] = row;
+        size++;
+        if (day < lowDay) {
+            lo++;
+            hi++;
+        } else if (day <= highDay) {
+            hi++;
+            view.added(pos - lo);
+        }
+    }
+
+    private void remove(final S row) {
+        var pos = find(row, dayOf(row));
+        if (pos < 0) return;
+        removeAt(pos);
+    }
+
+    private void removeAt(final int pos) {
+        var day = days[pos];
+        @SuppressWarnings("unchecked")
+        var row = (S) rows[pos];
+        System.arraycopy(days, pos + 1, days, pos, size - pos - 1);
+        System.arraycopy(rows, pos + 1, rows, pos, size - pos - 1);
+        size--;
+        rows[size] = null;
+        if (day < lowDay) {
+            lo--;
+            hi--;
+        } else if (day <= highDay) {
+            hi--;
+            view.removed(pos - lo, row);
+        }
+    }
+
+    /**
+     * Finds a row by identity, first among its day, then anywhere in case
+     * its date changed since it was indexed.
+     */
+    private int find(final Object row, final long day) {
+        for (var i = lowerBound(day); i < size && days[i] == day; i++) {
+            if (rows[i] == row) return i;
+        }
+        for (var i = 0; i < size; i++) {
+            if (rows[i] == row) return i;
+        }
+        return -1;
+    }
+
+    private void onSourceChanged(final ListChangeListener.Change<? extends S> c) {
+        var touched = 0;
+        while (c.next()) {
+            if (c.wasPermutated()) continue;
+            touched += c.wasUpdated() ? c.getTo() - c.getFrom() : c.getRemovedSize() + c.getAddedSize();
+        }
+        if (touched > Math.max(REBUILD_THRESHOLD, size >> 4)) {
+            var oldRows = rows;
+            var oldLo = lo;
+            var oldHi = hi;
+            rebuild();
+            view.reset(oldRows, oldLo, oldHi);
+            return;
+        }
+        c.reset();
+        view.begin();
+        try {
+            while (c.next()) {
+                if (c.wasPermutated()) continue;
+                if (c.wasUpdated()) {
+                    for (var i = c.getFrom(); i < c.getTo(); i++) {
+                        var row = c.getList().get(i);
+                        var pos = find(row, dayOf(row));
+                        if (pos >= 0) removeAt(pos);
+                        insert(row);
+                    }
+                    continue;
+                }
+                for (var row : c.getRemoved()) remove(row);
+                for (var row : c.getAddedSubList()) insert(row);
+            }
+        } finally {
+            view.end();
+        }
+    }
+
+    private void onRangeChanged() {
+        if (adjusting) return;
+        var first = getFrom();
+        var last = getTo();
+        if (reversed(first, last)) {
+            // bounds set one at a time may cross: read them swapped
+            first = last;
+            last = getFrom();
+        }
+        lowDay = lowDay(first, last);
+        highDay = highDay(last);
+        var oldLo = lo;
+        var oldHi = hi;
+        lo = lowerBound(lowDay);
+        hi = Math.max(lo, upperBound(highDay));
+        if (lo != oldLo || hi != oldHi) view.reset(rows, oldLo, oldHi);
+    }
+
+    /**
+     * A row with the day it was indexed under, used while sorting.
+     */
+    private record Entry(long day, Object row) {
+    }
+
+    /**
+     * Unmodifiable view over a range of a rows array.
+     */
+    private static final class Slice<E> extends AbstractList<E> {
+
+        private final Object[] rows;
+        private final int first;
+        private final int last;
+
+        Slice(final Object[] rows, final int first, final int last) {
+            this.rows = rows;
+            this.first = first;
+            this.last = last;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public E get(final int index) {
+            Objects.checkIndex(index, size());
+            return (E) rows[first + index];
+        }
+
+        @Override
+        public int size() {
+            return last - first;
+        }
+    }
+
+    /**
+     * Live, read-only list of the rows in the current range.
+     */
+    private final class View extends ObservableListBase<S> {
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public S get(final int index) {
+            Objects.checkIndex(index, size());
+            return (S) rows[lo + index];
+        }
+
+        @Override
+        public int size() {
+            return hi - lo;
+        }
+
+        void begin() {
+            beginChange();
+        }
+
+        void end() {
+            endChange();
+        }
+
+        void added(final int index) {
+            nextAdd(index, index + 1);
+        }
+
+        void removed(final int index, final S row) {
+            nextRemove(index, row);
+        }
+
+        /**
+         * Replaces the whole content, the previous one being the given
+         * range of a rows array that is no longer modified.
+         */
+        void reset(final Object[] oldRows, final int oldLo, final int oldHi) {
+            beginChange();
+            nextReplace(0, size(), new Slice<>(oldRows, oldLo, oldHi));
+            endChange();
+        }
+    }
+}
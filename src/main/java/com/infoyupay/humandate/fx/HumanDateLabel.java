@@ -18,11 +18,24 @@
 package com.infoyupay.humandate.fx;
 
 import com.infoyupay.humandate.core.HumanDateFormatter;
+import javafx.beans.InvalidationListener;
+import javafx.beans.binding.Bindings;
+import javafx.beans.binding.ObjectBinding;
+import javafx.beans.binding.StringBinding;
+import javafx.beans.property.BooleanProperty;
 import javafx.beans.property.ObjectProperty;
+import javafx.beans.property.ReadOnlyBooleanWrapper;
+import javafx.beans.property.SimpleBooleanProperty;
 import javafx.beans.property.SimpleObjectProperty;
+import javafx.beans.value.ObservableValue;
+import javafx.scene.Node;
+import javafx.scene.Parent;
+import javafx.scene.Scene;
 import javafx.scene.control.Label;
+import javafx.stage.Window;
 
 import java.time.LocalDate;
+import java.util.Optional;
 
 /**
  * A JavaFX {@link Label} that displays a {@link LocalDate} using
@@ -34,6 +47,20 @@ import java.time.LocalDate;
  * the formatter configuration changes, the label text updates immediately
  * without requiring additional code or listeners.
  * <br/>
+ * <p>
+ * With {@link #deferWhenHiddenProperty() deferWhenHidden} enabled, the label
+ * stops following its date while it is not showing, that is, while the label
+ * or any of its ancestors is invisible (for example, the content of an
+ * unselected tab or a collapsed titled pane) or its window is not showing.
+ * The text keeps its last value meanwhile, and is recomputed once when the
+ * label shows again.
+ * <br/>
+ * <p>
+ * The label follows the {@link HumanDateContext} applying to its position
+ * in the scene graph, including contexts installed after it is shown; while
+ * a context applies, its format takes precedence over
+ * {@link #dateFormatterProperty() dateFormatter}.
+ * <br/>
  * <p><b>Usage examples:</b></p>
  * {@snippet :
  * var lbl = new HumanDateLabel(LocalDate.now());
@@ -52,16 +79,66 @@ import java.time.LocalDate;
  *}
  *
  * @author David Vidal
- * @version 1.0
+ * @version 1.1
  */
 public final class HumanDateLabel extends Label {
 
+    /**
+     * Constant used by {@link #treeShowing(Node)} for invisible nodes.
+     */
+    private static final ObservableValue<Boolean> HIDDEN =
+            new ReadOnlyBooleanWrapper(false).getReadOnlyProperty();
+
     private final LocalDateProperty dateValue =
             new LocalDateProperty(this, "dateValue");
 
     private final ObjectProperty<HumanDateFormatter> dateFormatter =
             new SimpleObjectProperty<>(this, "dateFormatter", new HumanDateFormatter());
 
+    private final ObjectProperty<HumanDateContext> context =
+            new SimpleObjectProperty<>(this, "context");
+
+    /**
+     * Context applying to the label's current position in the scene graph.
+     */
+    private final ObjectProperty<HumanDateContext> inheritedContext =
+            new SimpleObjectProperty<>(this, "inheritedContext");
+
+    /**
+     * Formatter actually used: the context's, else {@link #dateFormatter}.
+     */
+    private final ObjectBinding<HumanDateFormatter> effectiveFormatter = effectiveFormatter();
+
+    /**
+     * Human-friendly text of the date, which the label text is bound to
+     * while live.
+     */
+    private final StringBinding humanText = dateValue.asHumanString(effectiveFormatter);
+
+    /**
+     * Re-evaluates the text binding when the showing state changes.
+     */
+    private final InvalidationListener showingListener = o -> updateTextBinding();
+
+    /**
+     * Whether this label is showing, created on first use of the deferred mode.
+     */
+    private ObservableValue<Boolean> showing;
+
+    private final BooleanProperty deferWhenHidden =
+            new SimpleBooleanProperty(this, "deferWhenHidden", false) {
+                @Override
+                protected void invalidated() {
+                    if (get()) {
+                        if (showing == null) showing = treeShowing(HumanDateLabel.this);
+                        showing.addListener(showingListener);
+                    } else if (showing != null) {
+                        showing.removeListener(showingListener);
+                    }
+                    updateTextBinding();
+                }
+            };
+
     /**
      * Creates a label with no initial date.
      * <br/>
@@ -70,7 +147,8 @@ public final class HumanDateLabel extends Label {
      * The label text is bound to the date value using the default formatter.
      */
     public HumanDateLabel() {
-        textProperty().bind(dateValue.asHumanString(dateFormatter));
+        textProperty().bind(humanText);
+        inheritedContext.bind(HumanDateContext.inheritedBy(this));
     }
 
     /**
@@ -159,4 +237,114 @@ public final class HumanDateLabel extends Label {
     public ObjectProperty<HumanDateFormatter> dateFormatterProperty() {
         return dateFormatter;
     }
+
+    // --- Context ---
+
+    /**
+     * Returns the context explicitly assigned to this label.
+     *
+     * @return the context, or {@code null}
+     */
+    public HumanDateContext getContext() {
+        return context.get();
+    }
+
+    /**
+     * Assigns a context whose format overrides {@link #dateFormatterProperty()},
+     * taking precedence over the context inherited from the scene graph.
+     *
+     * @param value the context, or {@code null} to fall back to the inherited one
+     */
+    public void setContext(final HumanDateContext value) {
+        context.set(value);
+    }
+
+    /**
+     * Exposes the property holding the explicitly assigned context.
+     *
+     * @return the context property
+     */
+    public ObjectProperty<HumanDateContext> contextProperty() {
+        return context;
+    }
+
+    /**
+     * Creates the binding choosing between the context's formatter and
+     * {@link #dateFormatter}.
+     *
+     * @return the effective formatter binding
+     */
+    private ObjectBinding<HumanDateFormatter> effectiveFormatter() {
+        var settings = HumanDateContext.settingsOf(context, inheritedContext);
+        return Bindings.createObjectBinding(() -> {
+            var s = settings.getValue();
+            return s == null ? getDateFormatter() : s.formatter();
+        }, settings, dateFormatter);
+    }
+
+    // --- Deferred mode ---
+
+    /**
+     * Tells whether the label defers formatting while it is not showing.
+     *
+     * @return {@code true} if the deferred mode is enabled
+     */
+    public boolean isDeferWhenHidden() {
+        return deferWhenHidden.get();
+    }
+
+    /**
+     * Enables or disables the deferred mode.
+     *
+     * @param value {@code true} to stop following the date while hidden
+     */
+    public void setDeferWhenHidden(final boolean value) {
+        deferWhenHidden.set(value);
+    }
+
+    /**
+     * Exposes the property controlling the deferred mode.
+     * <br/>
+     * Useful for dashboards holding many labels in tabs or collapsible panes.
+     *
+     * @return the deferred mode property
+     */
+    public BooleanProperty deferWhenHiddenProperty() {
+        return deferWhenHidden;
+    }
+
+    /**
+     * Binds the label text to the date while live, and unbinds it, keeping
+     * the last text, while deferred and hidden.
+     */
+    private void updateTextBinding() {
+        var live = !isDeferWhenHidden() || Boolean.TRUE.equals(showing.getValue());
+        if (live) {
+            if (!textProperty().isBound()) textProperty().bind(humanText);
+        } else if (textProperty().isBound()) {
+            textProperty().unbind();
+        }
+    }
+
+    /**
+     * Observes whether a node is showing: the node and all its ancestors are
+     * visible, and the window of their scene is showing.
+     *
+     * @param node the node to observe
+     * @return an observable that is never {@code null}
+     */
+    private static ObservableValue<Boolean> treeShowing(final Node node) {
+        return node.visibleProperty().flatMap(visible -> !visible
+                ? HIDDEN
+                : node.parentProperty()
+                .map(Optional::<Parent>of)
+                .orElse(Optional.empty())
+                .flatMap(parent -> parent.isPresent()
+                        ? treeShowing(parent.get())
+                        : node.sceneProperty()
+                        .flatMap(Scene::windowProperty)
+                        .flatMap(Window::showingProperty)
+                        .orElse(false)))
+                .orElse(false);
+    }
 }
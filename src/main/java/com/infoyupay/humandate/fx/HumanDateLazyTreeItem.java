@@ -0,0 +1,307 @@
+/*
+ * Copyright 2025 Ingeniería Informática Yupay S.A.C.S.
+ * RUC 20607854247
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package com.infoyupay.humandate.fx;
+
+import javafx.application.Platform;
+import javafx.beans.property.ReadOnlyBooleanProperty;
+import javafx.beans.property.ReadOnlyBooleanWrapper;
+import javafx.event.Event;
+import javafx.scene.control.TreeItem;
+import javafx.util.StringConverter;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Function;
+
+/**
+ * A {@link TreeItem} that loads its children on first expansion.
+ * <br/>
+ * <p>
+ * Building a {@code TreeItem} per row up front makes a tree with millions of
+ * leaves slow to open and heavy to keep. This item calls its loader only
+ * when it is first expanded (or {@linkplain #load() loaded} explicitly), and
+ * reports itself as a branch until then, so the disclosure arrow shows
+ * without any child existing. With an {@linkplain #withExecutor(Executor)
+ * executor}, the loader runs in the background and the children are set on
+ * the JavaFX Application Thread when ready; lazy children inherit the
+ * executor of their parent.
+ * <br/>
+ * <p>
+ * {@link #grouped grouped} builds the common two-level shape: rows grouped
+ * into {@link HumanDateBucket date buckets} labelled with a
+ * {@link HumanDateConverter}, each bucket loading its own rows on expansion.
+ * <br/>
+ * <p><b>Usage example:</b></p>
+ * {@snippet :
+ * var root = HumanDateLazyTreeItem.grouped(
+ *                 new Invoice("Receivables"),
+ *                 repository::findOpenInvoices,
+ *                 Invoice::getDueDate,
+ *                 HumanDateBucket.MONTH,
+ *                 converter,
+ *                 (start, label, rows) -> new Invoice(label))
+ *         .withExecutor(Executors.newVirtualThreadPerTaskExecutor());
+ * root.setExpanded(true);
+ * treeTable.setRoot(root);
+ *}
+ * The children are owned by the loader: they replace whatever the list
+ * contains when loading completes.
+ *
+ * @param <T> the type of tree item values
+ * @author David Vidal, Infoyupay
+ * @version 1.0
+ * @see HumanDateTreeAggregator
+ */
+public final class HumanDateLazyTreeItem<T> extends TreeItem<T> {
+
+    private final Callable<? extends Collection<? extends TreeItem<T>>> loader;
+    private Executor executor;
+    private CompletableFuture<Void> pending;
+
+    private final ReadOnlyBooleanWrapper loading = new ReadOnlyBooleanWrapper(this, "loading", false);
+    private final ReadOnlyBooleanWrapper loaded = new ReadOnlyBooleanWrapper(this, "loaded", false);
+
+    /**
+     * Creates an item whose children are produced by the given loader.
+     *
+     * @param value  the item value
+     * @param loader produces the children; called at most once per
+     *               successful load, on the executor if any
+     */
+    public HumanDateLazyTreeItem(final T value,
+                                 final Callable<? extends Collection<? extends TreeItem<T>>> loader) {
+        super(value);
+        this.loader = Objects.requireNonNull(loader);
+        expandedProperty().addListener((o, was, expanded) -> {
+            if (expanded) load();
+        });
+    }
+
+    /**
+     * Creates a root whose children are date buckets of the given rows.
+     * <br/>
+     * <p>
+     * Loading the root fetches the rows, groups them by bucket and creates
+     * one lazy bucket item per non-empty bucket, in chronological order with
+     * undated rows last. Loading a bucket creates its leaves. Leaves are
+     * therefore only created for expanded buckets.
+     * <br/>
+     * <p>
+     * A {@link HumanDateConverter} is {@linkplain HumanDateConverter#snapshot()
+     * snapshotted} first, so labels can be rendered on a background thread.
+     *
+     * @param value       the root value
+     * @param rows        supplies the rows, called when the root loads
+     * @param key         maps a row to its date; rows without one form a
+     *                    last bucket
+     * @param bucket      the bucket size
+     * @param converter   renders bucket labels
+     * @param bucketValue creates the value of each bucket item
+     * @param <T>         the type of tree item values
+     * @return the lazy root
+     */
+    public static <T> HumanDateLazyTreeItem<T> grouped(final T value,
+                                                       final Callable<? extends Collection<? extends T>> rows,
+                                                       final Function<? super T, LocalDate> key,
+                                                       final HumanDateBucket bucket,
+                                                       final StringConverter<LocalDate> converter,
+                                                       final BucketValue<T> bucketValue) {
+        Objects.requireNonNull(rows);
+        Objects.requireNonNull(key);
+        Objects.requireNonNull(bucket);
+        Objects.requireNonNull(bucketValue);
+        var labels = converter instanceof HumanDateConverter c
+                ? c.snapshot()
+                : Objects.requireNonNull(converter);
+
+        return new HumanDateLazyTreeItem<>(value, () -> {
+            var groups = new TreeMap<LocalDate, List<T>>(Comparator.nullsLast(Comparator.naturalOrder()));
+            for (T row : rows.call()) {
+                var date = key.apply(row);
+                groups.computeIfAbsent(date == null ? null : bucket.startOf(date), k -> new ArrayList<>())
+                        .add(row);
+            }
+            var items = new ArrayList<TreeItem<T>>(groups.size());
+            for (var group : groups.entrySet()) {
+                var start = group.getKey();
+                var members = group.getValue();
+                var bucketItem = bucketValue.create(start, bucket.label(start, labels), members);
+                items.add(new HumanDateLazyTreeItem<>(bucketItem, () -> leaves(members)));
+            }
+            return items;
+        });
+    }
+
+    private static <T> List<TreeItem<T>> leaves(final List<T> rows) {
+        var items = new ArrayList<TreeItem<T>>(rows.size());
+        for (var row : rows) items.add(new TreeItem<>(row));
+        return items;
+    }
+
+    /**
+     * Fluent setter for the executor running the loader.
+     * <br/>
+     * Without an executor, the loader runs on the JavaFX Application Thread
+     * when the item is expanded.
+     *
+     * @param executor the executor, or {@code null} to load synchronously
+     * @return this instance, for chaining
+     */
+    public HumanDateLazyTreeItem<T> withExecutor(final Executor executor) {
+        this.executor = executor;
+        return this;
+    }
+
+    /**
+     * Reports this item as a branch until its children are loaded.
+     *
+     * @return {@code true} only if loaded without children
+     */
+    @Override
+    public boolean isLeaf() {
+        return isLoaded() && getChildren().isEmpty();
+    }
+
+    /**
+     * Loads the children unless already loaded or loading.
+     * <br/>
+     * Must be called on the JavaFX Application Thread. A failed load can be
+     * retried by expanding the item again.
+     *
+     * @return completes on the JavaFX Application Thread once the children
+     * are set, or exceptionally with the loader failure
+     */
+    public CompletableFuture<Void> load() {
+        if (pending != null) return pending;
+        var future = new CompletableFuture<Void>();
+        pending = future;
+        loading.set(true);
+        var exec = executor;
+        if (exec == null) {
+            try {
+                apply(future, loader.call());
+            } catch (Exception e) {
+                fail(future, e);
+            }
+            return future;
+        }
+        try {
+            exec.execute(() -> {
+                try {
+                    var items = loader.call();
+                    Platform.runLater(() -> apply(future, items));
+                } catch (Throwable e) {
+                    Platform.runLater(() -> fail(future, e));
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            fail(future, e);
+        }
+        return future;
+    }
+
+    private void apply(final CompletableFuture<Void> future,
+                       final Collection<? extends TreeItem<T>> items) {
+        for (var item : items) {
+            if (item instanceof HumanDateLazyTreeItem<T> lazy && lazy.executor == null) {
+                lazy.executor = executor;
+            }
+        }
+        getChildren().setAll(items);
+        loaded.set(true);
+        loading.set(false);
+        if (items.isEmpty()) {
+            // no children event: let the tree drop the disclosure arrow
+            Event.fireEvent(this, new TreeModificationEvent<>(valueChangedEvent(), this, getValue()));
+        }
+        future.complete(null);
+    }
+
+    private void fail(final CompletableFuture<Void> future, final Throwable failure) {
+        pending = null;
+        loading.set(false);
+        future.completeExceptionally(failure);
+    }
+
+    /**
+     * Returns whether the children are being loaded.
+     *
+     * @return {@code true} while loading
+     */
+    public boolean isLoading() {
+        return loading.get();
+    }
+
+    /**
+     * Read-only property telling whether the children are being loaded.
+     *
+     * @return the loading property
+     */
+    public ReadOnlyBooleanProperty loadingProperty() {
+        return loading.getReadOnlyProperty();
+    }
+
+    /**
+     * Returns whether the children have been loaded.
+     *
+     * @return {@code true} once loaded
+     */
+    public boolean isLoaded() {
+        return loaded.get();
+    }
+
+    /**
+     * Read-only property telling whether the children have been loaded.
+     *
+     * @return the loaded property
+     */
+    public ReadOnlyBooleanProperty loadedProperty() {
+        return loaded.getReadOnlyProperty();
+    }
+
+    /**
+     * Creates the value of a bucket item in
+     * {@link #grouped(Object, Callable, Function, HumanDateBucket, StringConverter, BucketValue)}.
+     *
+     * @param <T> the type of tree item values
+     */
+    @FunctionalInterface
+    public interface BucketValue<T> {
+
+        /**
+         * Creates the value of a bucket item.
+         * <br/>
+         * May be called on the loading executor.
+         *
+         * @param start the first day of the bucket, or {@code null} for undated rows
+         * @param label the bucket label
+         * @param rows  the rows of the bucket, e.g. to precompute totals
+         * @return the bucket value
+         */
+        T create(LocalDate start, String label, List<T> rows);
+    }
+}
@@ -18,13 +18,25 @@
 package com.infoyupay.humandate.fx;
 
 import com.infoyupay.humandate.core.LanguageSupport;
+import com.infoyupay.humandate.core.Languages;
+import javafx.beans.binding.Bindings;
+import javafx.beans.binding.ObjectBinding;
+import javafx.beans.property.BooleanProperty;
+import javafx.beans.property.ObjectProperty;
+import javafx.beans.property.SimpleBooleanProperty;
+import javafx.beans.property.SimpleObjectProperty;
+import javafx.beans.value.ObservableValue;
 import javafx.scene.control.ListCell;
 import javafx.scene.control.ListView;
 import javafx.scene.control.cell.TextFieldListCell;
 import javafx.util.Callback;
+import javafx.util.StringConverter;
 
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
+import java.util.Objects;
+
+import static com.infoyupay.humandate.fx.HumanDateDefaults.DEFAULT_FORMAT;
 
 /**
  * A {@link Callback} implementation that produces editable {@link ListCell}
@@ -33,31 +45,51 @@ import java.time.format.DateTimeFormatter;
  *
  * <p>
  * This factory configures {@link TextFieldListCell} instances with a
- * {@link HumanDateConverter}. Due to the lifecycle contract of
- * {@link javafx.scene.control.ListView}, changes to the internal state of a
- * cell factory are <b>not</b> propagated to already created cells.
+ * shared {@link HumanDateConverterSnapshot} whose language and formatting
+ * pattern are <b>reactively updated</b>. Although
+ * {@link javafx.scene.control.ListView} does not re-run its cell factory when
+ * the factory's state changes, every live cell subscribes weakly to the
+ * factory's converter binding and re-sets its text directly.
  * </p>
  *
  * <p>
- * For this reason, this factory is intentionally designed as an immutable
- * value object. Whenever the language or formatting rules change, a <b>new</b>
- * instance of {@code HumanDateListCellFactory} must be created and installed
- * via {@link javafx.scene.control.ListView#setCellFactory(Callback)}.
- * </p>
- *
- * <p>
- * This behavior is demonstrated in the HumanDate-FX showcase and ensures that
- * all list cells are recreated with the updated converter configuration.
+ * As a result, this factory is intentionally designed as a <b>mutable</b>
+ * component, like {@link HumanDateTableCellFactory}. Updates to
+ * {@link #languageProperty()} or {@link #formatProperty()} automatically
+ * resolve the matching converter from {@link HumanDateConverterRegistry} and
+ * are propagated to visible cells without {@code ListView.refresh()} and
+ * without installing a new factory.
  * </p>
  *
  * <p><b>Semantic notes:</b><br/>
- * This class intentionally does not provide a custom {@code ListCell}
- * implementation. The underlying editor remains a
+ * The cells produced are thin {@link TextFieldListCell} specializations that
+ * only track the factory's converter. The underlying editor remains a
  * {@link javafx.scene.control.TextField}, and the responsibility of this
  * factory is strictly limited to adapting formatting and parsing behavior.
  * A specialized date-picker list cell would be a separate component.
  * </p>
  *
+ * <p>
+ * For data that is never edited, {@link #displayOnlyProperty() display-only}
+ * mode produces lightweight cells without any text-field machinery.
+ * </p>
+ *
+ * <p>
+ * The factory's language, format and context are bidirectionally bound to
+ * a {@link HumanDateConverter}, either the one passed to
+ * {@link #HumanDateListCellFactory(HumanDateConverter)} or one created by
+ * the other constructors and returned by {@link #converter()}. Changing
+ * either side updates the cells; the cells themselves always render through
+ * the shared registry snapshot for the resulting configuration.
+ * </p>
+ *
+ * <p>
+ * A {@link HumanDateContext} installed on the scene or an ancestor of the
+ * ListView is inherited from the first cell request on, and looked up again
+ * when contexts are installed or the control moves; while a context
+ * applies, its language and format take precedence over this factory's own.
+ * </p>
+ *
  * <h2>Example usage</h2>
  * {@snippet :
  * ListView<LocalDate> listView = new ListView<>();
@@ -65,35 +97,82 @@ import java.time.format.DateTimeFormatter;
  *                            LocalDate.now().plusDays(1),
  *                            LocalDate.now().minusDays(1));
  *
- * // Initial factory
- * listView.setCellFactory(
- *     new HumanDateListCellFactory(Languages.en(), HumanDateDefaults.DEFAULT_FORMAT)
- * );
+ * var factory = new HumanDateListCellFactory(
+ *         Languages.en(), HumanDateDefaults.DEFAULT_FORMAT);
+ * listView.setCellFactory(factory);
  *
- * // Later, when the language changes:
- * listView.setCellFactory(
- *     new HumanDateListCellFactory(Languages.es(), HumanDateDefaults.DEFAULT_FORMAT)
- * );
+ * // Later, when the language changes (visible cells update automatically):
+ * factory.setLanguage(Languages.es());
  *}
  *
- * @param converter the {@link HumanDateConverter} used for formatting and parsing
  * @author David Vidal
- * @version 1.0
+ * @version 1.1
  * @see HumanDateConverter
  * @see HumanDateTextFormatter
  * @see javafx.scene.control.cell.TextFieldListCell
  * @see javafx.scene.control.ListCell
  * @see javafx.scene.control.ListView
  */
-public record HumanDateListCellFactory(HumanDateConverter converter)
+public final class HumanDateListCellFactory
         implements Callback<ListView<LocalDate>, ListCell<LocalDate>> {
+
+    /**
+     * Formatting rule used to render {@link LocalDate} values as text.
+     */
+    private final ObjectProperty<DateTimeFormatter> format =
+            new SimpleObjectProperty<>(this, "format", DEFAULT_FORMAT);
+
+    /**
+     * Natural language rules applied when parsing and formatting dates.
+     */
+    private final ObjectProperty<LanguageSupport> language =
+            new SimpleObjectProperty<>(this, "language", Languages.es());
+
+    /**
+     * Whether new cells are lightweight, display-only cells instead of
+     * editable {@link TextFieldListCell} instances.
+     */
+    private final BooleanProperty displayOnly =
+            new SimpleBooleanProperty(this, "displayOnly", false);
+
+    /**
+     * Context explicitly assigned to this factory.
+     */
+    private final ObjectProperty<HumanDateContext> context =
+            new SimpleObjectProperty<>(this, "context");
+
+    /**
+     * Context applying to the first control requesting cells, bound to its
+     * scene graph position on that first request.
+     */
+    private final ObjectProperty<HumanDateContext> inheritedContext =
+            new SimpleObjectProperty<>(this, "inheritedContext");
+
+    /**
+     * Converter whose language, format and context this factory follows.
+     */
+    private final HumanDateConverter source;
+
+    /**
+     * Reactive binding that resolves the shared converter from
+     * {@link HumanDateConverterRegistry} whenever the active language or
+     * format changes.
+     */
+    private ObjectBinding<HumanDateConverterSnapshot> converter;
+
+    /**
+     * Creates a cell factory using the default HumanDate configuration.
+     */
+    public HumanDateListCellFactory() {
+        this(new HumanDateConverter());
+    }
+
     /**
      * Creates a cell factory pre-configured with the given language and format.
      *
      * <p>
-     * The provided values are encapsulated in a dedicated
-     * {@link HumanDateConverter} instance. To apply different language or
-     * formatting rules, a new factory instance must be created.
+     * Property values are applied before initializing the reactive converter
+     * binding, ensuring consistent startup behavior.
      * </p>
      *
      * @param language the natural-language rules to apply
@@ -106,19 +185,78 @@ public record HumanDateListCellFactory(HumanDateConverter converter)
     }
 
     /**
-     * Creates a cell factory using the default HumanDate configuration.
+     * Creates a cell factory following the given converter.
+     *
+     * <p>
+     * The factory's language, format and context properties are
+     * bidirectionally bound to the converter's, so changing the converter
+     * updates live cells and vice versa.
+     * </p>
+     *
+     * @param converter the converter supplying language, format and context
+     * @throws NullPointerException if {@code converter} is {@code null}
      */
-    public HumanDateListCellFactory() {
-        this(new HumanDateConverter());
+    public HumanDateListCellFactory(final HumanDateConverter converter) {
+        this.source = Objects.requireNonNull(converter);
+        this.language.bindBidirectional(converter.languageProperty());
+        this.format.bindBidirectional(converter.formatProperty());
+        this.context.bindBidirectional(converter.contextProperty());
+        initBindings();
+    }
+
+    /**
+     * Returns the converter this factory follows.
+     *
+     * @return the converter supplying language, format and context
+     */
+    public HumanDateConverter converter() {
+        return source;
     }
 
     /**
-     * Produces a new {@link TextFieldListCell} configured with the factory's
-     * {@link HumanDateConverter}.
+     * Initializes the reactive binding responsible for resolving the shared
+     * {@link HumanDateConverterSnapshot} whenever the language or format
+     * properties change.
      *
      * <p>
-     * The converter is explicitly set during item updates and edit start to
-     * ensure consistent behavior across cell reuse cycles.
+     * This method is invoked exclusively from constructors and enforces
+     * one-time initialization to prevent accidental rebinding.
+     * </p>
+     *
+     * @throws IllegalStateException if the converter binding is already initialized
+     */
+    private void initBindings() {
+        if (converter != null)
+            throw new IllegalStateException("Converter is already initialized.");
+
+        var settings = HumanDateContext.settingsOf(context, inheritedContext);
+        this.converter = Bindings.createObjectBinding(() -> {
+            var s = settings.getValue();
+            return s == null
+                    ? HumanDateConverterRegistry.get(getLanguage(), getFormat())
+                    : s.converter();
+        }, format, language, settings);
+    }
+
+    /**
+     * Produces a new {@link TextFieldListCell} configured with the
+     * currently active shared converter.
+     *
+     * <p>
+     * Each cell subscribes weakly to this factory's converter binding, so
+     * language or format changes re-set the text of live cells directly,
+     * without {@code ListView.refresh()} and without recreating cells.
+     * </p>
+     *
+     * <p>
+     * In {@link #displayOnlyProperty() display-only} mode, a minimal
+     * {@link ListCell} is produced instead: it only sets its text from the shared
+     * converter and never builds a {@link javafx.scene.control.TextField}.
+     * </p>
+     *
+     * <p>
+     * The first call also starts following the {@link HumanDateContext}
+     * applying to the requesting control, which this factory then inherits.
      * </p>
      *
      * @param list the list view requesting a cell
@@ -126,18 +264,193 @@ public record HumanDateListCellFactory(HumanDateConverter converter)
      */
     @Override
     public ListCell<LocalDate> call(final ListView<LocalDate> list) {
-        return new TextFieldListCell<>() {
-            @Override
-            public void updateItem(LocalDate localDate, boolean b) {
-                super.updateItem(localDate, b);
-                setConverter(converter);
-            }
+        if (!inheritedContext.isBound() && list != null) {
+            inheritedContext.bind(HumanDateContext.inheritedBy(list));
+        }
+        return isDisplayOnly()
+                ? new DisplayCell(converter)
+                : new EditableCell(converter);
+    }
+
+    /**
+     * Returns the currently active parsing language.
+     *
+     * @return the active {@link LanguageSupport}
+     */
+    public LanguageSupport getLanguage() {
+        return language.get();
+    }
+
+    /**
+     * Updates the human-language parsing behavior of cells created by this factory.
+     *
+     * @param language the new language to apply
+     */
+    public void setLanguage(final LanguageSupport language) {
+        this.language.set(language);
+    }
+
+    /**
+     * Property enabling reactive control of the parsing language.
+     *
+     * @return a JavaFX property representing the active language
+     */
+    public ObjectProperty<LanguageSupport> languageProperty() {
+        return language;
+    }
+
+    /**
+     * Returns the active string formatting pattern.
+     *
+     * @return the active {@link DateTimeFormatter}
+     */
+    public DateTimeFormatter getFormat() {
+        return format.get();
+    }
+
+    /**
+     * Sets the formatting rule applied when converting dates to text in cells.
+     *
+     * @param format the formatter to apply
+     */
+    public void setFormat(final DateTimeFormatter format) {
+        this.format.set(format);
+    }
+
+    /**
+     * Property enabling reactive control of formatting rules at runtime.
+     *
+     * @return a JavaFX property representing the active formatter
+     */
+    public ObjectProperty<DateTimeFormatter> formatProperty() {
+        return format;
+    }
+
+    /**
+     * Returns whether new cells are display-only.
+     *
+     * @return {@code true} if cells cannot be edited
+     */
+    public boolean isDisplayOnly() {
+        return displayOnly.get();
+    }
+
+    /**
+     * Switches between editable and display-only cells.
+     * <br/>
+     * Display-only cells avoid the editing machinery of
+     * {@link TextFieldListCell}, which makes them cheaper for columns that are never
+     * edited. The mode applies to cells created afterwards.
+     *
+     * @param displayOnly {@code true} to produce display-only cells
+     */
+    public void setDisplayOnly(final boolean displayOnly) {
+        this.displayOnly.set(displayOnly);
+    }
+
+    /**
+     * Property controlling whether new cells are display-only.
+     *
+     * @return a JavaFX property representing the display-only mode
+     */
+    public BooleanProperty displayOnlyProperty() {
+        return displayOnly;
+    }
+
+    /**
+     * Returns the context explicitly assigned to this factory.
+     *
+     * @return the context, or {@code null}
+     */
+    public HumanDateContext getContext() {
+        return context.get();
+    }
+
+    /**
+     * Assigns a context whose language and format override this factory's
+     * own, taking precedence over the context inherited from the scene graph.
+     *
+     * @param context the context, or {@code null} to fall back to the inherited one
+     */
+    public void setContext(final HumanDateContext context) {
+        this.context.set(context);
+    }
 
-            @Override
-            public void startEdit() {
-                setConverter(converter);
-                super.startEdit();
+    /**
+     * Property holding the explicitly assigned context.
+     *
+     * @return a JavaFX property representing the assigned context
+     */
+    public ObjectProperty<HumanDateContext> contextProperty() {
+        return context;
+    }
+
+    /**
+     * Editable cell following the converter binding of its factory.
+     */
+    private static final class EditableCell extends TextFieldListCell<LocalDate> {
+
+        /**
+         * Keeps the weak subscription to the factory alive as long as this cell.
+         */
+        private final HumanDateCellSupport support;
+
+        /**
+         * Creates a cell subscribed to the given converter binding.
+         *
+         * @param converter factory converter binding
+         */
+        EditableCell(final ObservableValue<? extends StringConverter<LocalDate>> converter) {
+            this.support = new HumanDateCellSupport(converter, this::onConverterChanged);
+            setConverter(support);
+        }
+
+        /**
+         * Re-sets the text of a displayed item after the factory's converter
+         * changed.
+         */
+        private void onConverterChanged() {
+            if (!isEmpty() && !isEditing()) {
+                setText(support.toString(getItem()));
             }
-        };
+        }
+    }
+
+    /**
+     * Display-only cell following the converter binding of its factory.
+     */
+    private static final class DisplayCell extends ListCell<LocalDate> {
+
+        /**
+         * Keeps the weak subscription to the factory alive as long as this cell.
+         */
+        private final HumanDateCellSupport support;
+
+        /**
+         * Creates a non-editable cell subscribed to the given converter binding.
+         *
+         * @param converter factory converter binding
+         */
+        DisplayCell(final ObservableValue<? extends StringConverter<LocalDate>> converter) {
+            this.support = new HumanDateCellSupport(converter, () -> render(getItem(), isEmpty()));
+            setEditable(false);
+        }
+
+        @Override
+        protected void updateItem(final LocalDate item, final boolean empty) {
+            super.updateItem(item, empty);
+            render(item, empty);
+        }
+
+        /**
+         * Sets the text for the given item. Unchanged items reuse the text
+         * rendered last time, leaving the text property untouched.
+         *
+         * @param item  displayed date, may be {@code null}
+         * @param empty whether the cell is empty
+         */
+        private void render(final LocalDate item, final boolean empty) {
+            setText(empty || item == null ? null : support.toString(item));
+        }
     }
 }
@@ -0,0 +1,279 @@
+/*
+ * Copyright 2025 Ingeniería Informática Yupay S.A.C.S.
+ * RUC 20607854247
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.infoyupay.humandate.fx;
+
+import javafx.animation.AnimationTimer;
+import javafx.application.Platform;
+import javafx.beans.property.ReadOnlyBooleanProperty;
+import javafx.beans.property.ReadOnlyBooleanWrapper;
+import javafx.collections.ObservableList;
+import javafx.util.Duration;
+
+import java.util.ArrayList;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+
+/**
+ * Populates an {@link ObservableList} with items produced off the JavaFX
+ * Application Thread, in chunks that fit within a frame.
+ * <br/>
+ * <p>
+ * Adding 100k dates one by one fires 100k change events and stalls the UI.
+ * Instead, producers {@linkplain #put(Object) put} items into a bounded queue
+ * from any thread, and an {@link AnimationTimer} drains it on every pulse
+ * with {@code addAll} calls of {@value #CHUNK_SIZE} items, until the
+ * {@link #withFrameBudget(Duration) frame budget} (4 ms by default) is spent.
+ * When the UI falls behind, the queue fills up and producers block, so
+ * neither memory nor frame time grows with the size of the load.
+ * <br/>
+ * <p><b>Usage example:</b></p>
+ * {@snippet :
+ * var snapshot = converter.snapshot();
+ * new HumanDateListLoader<LocalDate>(listView.getItems())
+ *         .load(() -> lines.stream().map(snapshot::fromString).iterator())
+ *         .thenAccept(count -> status.setText(count + " dates loaded"));
+ *}
+ * A loader serves a single load: after {@link #complete()} it accepts no more
+ * items.
+ *
+ * @param <T> the type of list items, typically {@link java.time.LocalDate}
+ * @author David Vidal, Infoyupay
+ * @version 1.0
+ */
+public final class HumanDateListLoader<T> {
+
+    /**
+     * Items appended per {@code addAll} call.
+     */
+    public static final int CHUNK_SIZE = 512;
+
+    /**
+     * Default capacity of the hand-off queue.
+     */
+    public static final int DEFAULT_CAPACITY = 16_384;
+
+    /**
+     * Runs {@link #load(Iterable)} producers, one virtual thread each.
+     */
+    private static final Executor PRODUCERS = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("humandate-loader-", 0L).factory());
+
+    private final ObservableList<? super T> target;
+    private BlockingQueue<T> queue = new ArrayBlockingQueue<>(DEFAULT_CAPACITY);
+    private long frameBudgetNanos = 4_000_000L;
+
+    private final ReadOnlyBooleanWrapper loading = new ReadOnlyBooleanWrapper(this, "loading", false);
+    private final CompletableFuture<Long> done = new CompletableFuture<>();
+    private final AnimationTimer timer = new AnimationTimer() {
+        @Override
+        public void handle(final long now) {
+            drain();
+        }
+    };
+
+    /**
+     * Reused by {@link #drain()}.
+     */
+    private final ArrayList<T> chunk = new ArrayList<>(CHUNK_SIZE);
+
+    private volatile boolean completed;
+    private volatile Throwable failure;
+    private boolean started;
+    private long applied;
+
+    /**
+     * Creates a loader for the given list.
+     *
+     * @param target the list to populate; only modified on the JavaFX
+     *               Application Thread
+     */
+    public HumanDateListLoader(final ObservableList<? super T> target) {
+        this.target = Objects.requireNonNull(target);
+    }
+
+    /**
+     * Fluent setter for the capacity of the hand-off queue.
+     * <br/>
+     * Must be called before the first item is put.
+     *
+     * @param capacity maximum number of items waiting for the UI
+     * @return this instance, for chaining
+     * @throws IllegalArgumentException if {@code capacity} is below {@value #CHUNK_SIZE}
+     * @throws IllegalStateException    if items were already put
+     */
+    public HumanDateListLoader<T> withCapacity(final int capacity) {
+        if (capacity < CHUNK_SIZE)
+            throw new IllegalArgumentException("Capacity below chunk size: " + capacity);
+        if (started || !queue.isEmpty())
+            throw new IllegalStateException("Loader already in use.");
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        return this;
+    }
+
+    /**
+     * Fluent setter for the time spent appending items per pulse.
+     * <br/>
+     * At least one chunk is appended per pulse, whatever the budget.
+     *
+     * @param budget the frame budget
+     * @return this instance, for chaining
+     */
+    public HumanDateListLoader<T> withFrameBudget(final Duration budget) {
+        this.frameBudgetNanos = Math.max(0L, (long) (budget.toMillis() * 1_000_000d));
+        return this;
+    }
+
+    /**
+     * Hands an item over to the UI, waiting while the queue is full.
+     * <br/>
+     * Must not be called on the JavaFX Application Thread, which is the one
+     * emptying the queue.
+     *
+     * @param item the item
+     * @throws InterruptedException  if interrupted while waiting
+     * @throws IllegalStateException if the load was completed, or if called
+     *                               on the JavaFX Application Thread
+     */
+    public void put(final T item) throws InterruptedException {
+        if (completed) throw new IllegalStateException("Load already completed.");
+        if (Platform.isFxApplicationThread())
+            throw new IllegalStateException("Items must be put off the JavaFX Application Thread.");
+        ensureStarted();
+        queue.put(item);
+    }
+
+    /**
+     * Signals that no more items follow. Remaining items are still applied;
+     * {@link #done()} completes once the list holds all of them.
+     */
+    public void complete() {
+        completed = true;
+        ensureStarted();
+    }
+
+    /**
+     * Puts every item of a source on a virtual thread, then completes.
+     *
+     * @param source produces the items, off the JavaFX Application Thread
+     * @return {@link #done()}
+     */
+    public CompletableFuture<Long> load(final Iterable<? extends T> source) {
+        Objects.requireNonNull(source);
+        PRODUCERS.execute(() -> {
+            try {
+                for (var item : source) put(item);
+                complete();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                fail(e);
+            } catch (RuntimeException e) {
+                fail(e);
+            }
+        });
+        return done;
+    }
+
+    /**
+     * Completes with the number of items applied, once the load is complete
+     * and the list holds every item, on the JavaFX Application Thread.
+     *
+     * @return the completion of this load
+     */
+    public CompletableFuture<Long> done() {
+        return done;
+    }
+
+    /**
+     * Tells whether items are being applied.
+     *
+     * @return {@code true} while loading
+     */
+    public boolean isLoading() {
+        return loading.get();
+    }
+
+    /**
+     * Observable flag, {@code true} from the first item until the load is done.
+     *
+     * @return the read-only loading property
+     */
+    public ReadOnlyBooleanProperty loadingProperty() {
+        return loading.getReadOnlyProperty();
+    }
+
+    /**
+     * Starts the pulse timer on the JavaFX Application Thread, once.
+     */
+    private synchronized void ensureStarted() {
+        if (started) return;
+        started = true;
+        runOnFx(() -> {
+            loading.set(true);
+            timer.start();
+        });
+    }
+
+    /**
+     * Applies queued items in chunks until the frame budget is spent.
+     */
+    private void drain() {
+        var deadline = System.nanoTime() + frameBudgetNanos;
+        do {
+            chunk.clear();
+            queue.drainTo(chunk, CHUNK_SIZE);
+            if (chunk.isEmpty()) break;
+            target.addAll(chunk);
+            applied += chunk.size();
+        } while (System.nanoTime() < deadline);
+
+        chunk.clear();
+        if (completed && queue.isEmpty()) {
+            timer.stop();
+            loading.set(false);
+            if (failure != null) {
+                done.completeExceptionally(failure);
+            } else {
+                done.complete(applied);
+            }
+        }
+    }
+
+    /**
+     * Ends the load after a producer failure; items already queued are still
+     * applied, then {@link #done()} completes exceptionally.
+     *
+     * @param cause the failure
+     */
+    private void fail(final Throwable cause) {
+        failure = cause;
+        complete();
+    }
+
+    private static void runOnFx(final Runnable action) {
+        if (Platform.isFxApplicationThread()) {
+            action.run();
+        } else {
+            Platform.runLater(action);
+        }
+    }
+}
@@ -0,0 +1,235 @@
+/*
+ * Copyright 2025 Ingeniería Informática Yupay S.A.C.S.
+ * RUC 20607854247
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package com.infoyupay.humandate.fx;
+
+import com.infoyupay.humandate.core.HumanDateParser;
+import com.infoyupay.humandate.core.LanguageSupport;
+import javafx.util.StringConverter;
+
+import java.time.LocalDate;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.LongPredicate;
+import java.util.function.Predicate;
+
+import static com.infoyupay.humandate.fx.EpochDayProperty.NULL_EPOCH_DAY;
+
+/**
+ * An inclusive interval of epoch days, parsed from human-date range queries.
+ * <br/>
+ * <p>
+ * The query language is one or two human dates around {@value #SEPARATOR}:
+ * <ul>
+ *   <li>{@code ayer..hoy}: from yesterday to today.</li>
+ *   <li>{@code -1m..}: from one month ago on.</li>
+ *   <li>{@code ..15/04}: up to April 15th.</li>
+ *   <li>{@code 01/04}: that day only.</li>
+ *   <li>blank: everything.</li>
+ * </ul>
+ * Each side is parsed by a {@link HumanDateParser}, directly or through a
+ * {@link HumanDateConverter}; reversed bounds are swapped.
+ * <br/>
+ * <p>
+ * {@link #asPredicate()} and {@link #asEpochDayPredicate()} are built once
+ * per range and specialized for its shape, so testing a row is one or two
+ * {@code long} comparisons against precomputed bounds; the epoch-day variant
+ * suits primitive columns such as {@link LocalDateColumn}. Rows without a
+ * date only match the unbounded range.
+ * <br/>
+ * <p><b>Usage example:</b></p>
+ * {@snippet :
+ * var range = HumanDateRange.parse("-1m..", converter);
+ * filteredList.setPredicate(range.asPredicate());
+ *}
+ *
+ * @param fromDay first epoch day, inclusive, or {@link Long#MIN_VALUE} if unbounded
+ * @param toDay   last epoch day, inclusive, or {@link Long#MAX_VALUE} if unbounded
+ * @author David Vidal, Infoyupay
+ * @version 1.0
+ * @see HumanDateFilter
+ */
+public record HumanDateRange(long fromDay, long toDay) {
+
+    /**
+     * Separator between the bounds of a range query.
+     */
+    public static final String SEPARATOR = "..";
+
+    /**
+     * The unbounded range, matching every row.
+     */
+    public static final HumanDateRange ALL = new HumanDateRange(Long.MIN_VALUE, Long.MAX_VALUE);
+
+    /**
+     * Validates the bounds.
+     *
+     * @throws IllegalArgumentException if {@code fromDay > toDay}
+     */
+    public HumanDateRange {
+        if (fromDay > toDay)
+            throw new IllegalArgumentException("Empty range: " + fromDay + " > " + toDay);
+    }
+
+    /**
+     * Creates a range from dates.
+     *
+     * @param from first day, inclusive, or {@code null} if unbounded
+     * @param to   last day, inclusive, or {@code null} if unbounded
+     * @return the range, with bounds swapped if reversed
+     */
+    public static HumanDateRange of(final LocalDate from, final LocalDate to) {
+        var a = from == null ? Long.MIN_VALUE : from.toEpochDay();
+        var b = to == null ? Long.MAX_VALUE : to.toEpochDay();
+        if (a == Long.MIN_VALUE && b == Long.MAX_VALUE) return ALL;
+        return a <= b ? new HumanDateRange(a, b) : new HumanDateRange(b, a);
+    }
+
+    /**
+     * Parses a range query with a fresh {@link HumanDateParser}.
+     *
+     * @param query    the query, may be {@code null}
+     * @param language the language of the dates
+     * @return the range
+     * @throws IllegalArgumentException if a bound is not a date
+     */
+    public static HumanDateRange parse(final String query, final LanguageSupport language) {
+        var parser = new HumanDateParser().setLanguage(Objects.requireNonNull(language));
+        return parse(query, parser::apply);
+    }
+
+    /**
+     * Parses a range query with the given converter, typically a
+     * {@link HumanDateConverter} or one of its snapshots, sharing its parse
+     * cache.
+     *
+     * @param query     the query, may be {@code null}
+     * @param converter parses each bound
+     * @return the range
+     * @throws IllegalArgumentException if a bound is not a date
+     */
+    public static HumanDateRange parse(final String query, final StringConverter<LocalDate> converter) {
+        Objects.requireNonNull(converter);
+        return parse(query, converter::fromString);
+    }
+
+    private static HumanDateRange parse(final String query, final Function<String, LocalDate> dates) {
+        if (query == null || query.isBlank()) return ALL;
+        var separator = query.indexOf(SEPARATOR);
+        if (separator < 0) {
+            var day = bound(query, query, dates);
+            return of(day, day);
+        }
+        var from = query.substring(0, separator);
+        var to = query.substring(separator + SEPARATOR.length());
+        return of(from.isBlank() ? null : bound(from, query, dates),
+                to.isBlank() ? null : bound(to, query, dates));
+    }
+
+    private static LocalDate bound(final String text, final String query,
+                                   final Function<String, LocalDate> dates) {
+        LocalDate date;
+        try {
+            date = dates.apply(text.trim());
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid date range: " + query, e);
+        }
+        if (date == null) throw new IllegalArgumentException("Invalid date range: " + query);
+        return date;
+    }
+
+    /**
+     * Returns the first day.
+     *
+     * @return the first day, or {@code null} if unbounded
+     */
+    public LocalDate from() {
+        return fromDay == Long.MIN_VALUE ? null : LocalDate.ofEpochDay(fromDay);
+    }
+
+    /**
+     * Returns the last day.
+     *
+     * @return the last day, or {@code null} if unbounded
+     */
+    public LocalDate to() {
+        return toDay == Long.MAX_VALUE ? null : LocalDate.ofEpochDay(toDay);
+    }
+
+    /**
+     * Tells whether this range matches every row.
+     *
+     * @return {@code true} if both sides are unbounded
+     */
+    public boolean isAll() {
+        return fromDay == Long.MIN_VALUE && toDay == Long.MAX_VALUE;
+    }
+
+    /**
+     * Tests an epoch day against this range.
+     *
+     * @param epochDay an epoch day or {@link EpochDayProperty#NULL_EPOCH_DAY}
+     * @return whether the day is in range
+     */
+    public boolean containsEpochDay(final long epochDay) {
+        if (epochDay == NULL_EPOCH_DAY) return isAll();
+        return epochDay >= fromDay && epochDay <= toDay;
+    }
+
+    /**
+     * Tests a date against this range.
+     *
+     * @param date a date, may be {@code null}
+     * @return whether the date is in range
+     */
+    public boolean contains(final LocalDate date) {
+        return containsEpochDay(EpochDayProperty.toEpochDay(date));
+    }
+
+    /**
+     * Returns an epoch-day predicate specialized for the shape of this range.
+     * <br/>
+     * {@link EpochDayProperty#NULL_EPOCH_DAY} only matches the unbounded range.
+     *
+     * @return a predicate over epoch days
+     */
+    public LongPredicate asEpochDayPredicate() {
+        var a = fromDay;
+        var b = toDay;
+        if (isAll()) return day -> true;
+        // NULL_EPOCH_DAY is below any real lower bound
+        if (b == Long.MAX_VALUE) return day -> day >= a;
+        if (a == Long.MIN_VALUE) return day -> day <= b && day != NULL_EPOCH_DAY;
+        if (a == b) return day -> day == a;
+        return day -> day >= a && day <= b;
+    }
+
+    /**
+     * Returns a date predicate specialized for the shape of this range.
+     * <br/>
+     * Each test converts the date to its epoch day once and compares it
+     * with the precomputed bounds; {@code null} only matches the unbounded
+     * range.
+     *
+     * @return a predicate over dates
+     */
+    public Predicate<LocalDate> asPredicate() {
+        if (isAll()) return date -> true;
+        var days = asEpochDayPredicate();
+        return date -> date != null && days.test(date.toEpochDay());
+    }
+}
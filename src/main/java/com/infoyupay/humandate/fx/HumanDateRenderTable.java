@@ -0,0 +1,144 @@
+/*
+ * Copyright 2025 Ingeniería Informática Yupay S.A.C.S.
+ * RUC 20607854247
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.infoyupay.humandate.fx;
+
+import javafx.util.StringConverter;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Pre-rendered texts for a set of days, produced by
+ * {@link HumanDateBatch#formatAll(long[], HumanDateConverterSnapshot)}.
+ * <br/>
+ * <p>
+ * The table stores each distinct day once, as a sorted {@code long} array
+ * with a parallel array of texts, and looks days up by binary search. It is
+ * itself a {@link StringConverter}: days it holds are answered from the
+ * table, any other day and all parsing are delegated to the snapshot it was
+ * rendered with. Install it on a column with
+ * {@link HumanDateTableCellFactory#setRenderTable(HumanDateRenderTable)} so
+ * scrolling never formats.
+ * <br/>
+ * <p>
+ * Relative texts such as "hoy" are only valid on the day they were
+ * rendered, so the table stops answering at the next local midnight and
+ * everything is delegated from then on. Instances are immutable and
+ * thread-safe.
+ *
+ * @author David Vidal, Infoyupay
+ * @version 1.0
+ */
+public final class HumanDateRenderTable extends StringConverter<LocalDate> {
+
+    private final HumanDateConverterSnapshot converter;
+
+    /**
+     * Distinct epoch days, ascending.
+     */
+    private final long[] days;
+
+    /**
+     * Rendered text of each entry of {@link #days}.
+     */
+    private final String[] texts;
+
+    /**
+     * Instant, in epoch millis, at which the table goes stale.
+     */
+    private final long expiresAt;
+
+    /**
+     * Wraps rendered arrays, which are owned by the table from now on.
+     *
+     * @param converter snapshot that rendered the texts
+     * @param days      distinct epoch days, ascending
+     * @param texts     texts, parallel to {@code days}
+     * @param expiresAt epoch millis at which the texts go stale
+     */
+    HumanDateRenderTable(final HumanDateConverterSnapshot converter,
+                         final long[] days,
+                         final String[] texts,
+                         final long expiresAt) {
+        this.converter = Objects.requireNonNull(converter);
+        this.days = days;
+        this.texts = texts;
+        this.expiresAt = expiresAt;
+    }
+
+    /**
+     * Looks up the text rendered for a day.
+     *
+     * @param epochDay the day
+     * @return the pre-rendered text, or {@code null} if the day is not in the
+     * table or the table is stale
+     */
+    public String lookup(final long epochDay) {
+        if (isExpired()) return null;
+        var i = Arrays.binarySearch(days, epochDay);
+        return i < 0 ? null : texts[i];
+    }
+
+    /**
+     * Renders a date from the table, falling back to the snapshot.
+     */
+    @Override
+    public String toString(final LocalDate date) {
+        if (date == null) return converter.toString(null);
+        var text = lookup(date.toEpochDay());
+        return text != null ? text : converter.toString(date);
+    }
+
+    /**
+     * Parses with the snapshot the table was rendered with.
+     */
+    @Override
+    public LocalDate fromString(final String s) {
+        return converter.fromString(s);
+    }
+
+    /**
+     * Snapshot the texts were rendered with.
+     *
+     * @return the rendering converter
+     */
+    public HumanDateConverterSnapshot getConverter() {
+        return converter;
+    }
+
+    /**
+     * Number of distinct days in the table.
+     *
+     * @return the entry count
+     */
+    public int size() {
+        return days.length;
+    }
+
+    /**
+     * Tells whether the table went stale, after the local midnight following
+     * its rendering.
+     *
+     * @return {@code true} if lookups are no longer answered
+     */
+    public boolean isExpired() {
+        return System.currentTimeMillis() >= expiresAt;
+    }
+}
@@ -21,12 +21,16 @@ import com.infoyupay.humandate.core.LanguageSupport;
 import com.infoyupay.humandate.core.Languages;
 import javafx.beans.binding.Bindings;
 import javafx.beans.binding.ObjectBinding;
+import javafx.beans.property.BooleanProperty;
 import javafx.beans.property.ObjectProperty;
+import javafx.beans.property.SimpleBooleanProperty;
 import javafx.beans.property.SimpleObjectProperty;
+import javafx.beans.value.ObservableValue;
 import javafx.scene.control.TableCell;
 import javafx.scene.control.TableColumn;
 import javafx.scene.control.cell.TextFieldTableCell;
 import javafx.util.Callback;
+import javafx.util.StringConverter;
 
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
@@ -41,29 +45,51 @@ import static com.infoyupay.humandate.fx.HumanDateDefaults.DEFAULT_FORMAT;
  *
  * <p>
  * This factory configures {@link TextFieldTableCell} instances with a
- * {@link HumanDateConverter} whose language and formatting pattern are
+ * shared {@link HumanDateConverterSnapshot} whose language and formatting pattern are
  * <b>reactively updated</b>. {@link javafx.scene.control.TableView} invokes
  * {@code TableCell.updateItem(Object, boolean)} during its normal lifecycle,
  * allowing changes to the factory's internal properties to be reflected in
- * already created cells.
+ * already created cells. Live cells subscribe weakly to the factory, so such
+ * changes re-set their text immediately, without {@code TableView.refresh()}.
  * </p>
  *
  * <p>
  * As a result, this factory is intentionally designed as a <b>mutable</b>
  * component. Updates to {@link #languageProperty()} or
- * {@link #formatProperty()} automatically recreate the underlying
- * {@link HumanDateConverter} and are propagated to visible cells without
- * requiring the factory to be replaced.
+ * {@link #formatProperty()} automatically resolve the matching converter from
+ * {@link HumanDateConverterRegistry} and are propagated to visible cells
+ * without requiring the factory to be replaced. Factories configured
+ * identically share one converter and its warm caches.
  * </p>
  *
  * <p><b>Semantic notes:</b><br/>
- * This class does not provide a custom {@code TableCell} implementation.
- * The underlying editor remains a {@link javafx.scene.control.TextField}.
+ * The cells produced are thin {@link TextFieldTableCell} specializations that
+ * only track the factory's converter. The underlying editor remains a {@link javafx.scene.control.TextField}.
  * Its responsibility is strictly to adapt formatting and parsing behavior,
  * not to redefine the editing UI (e.g., a calendar popup). A specialized
  * date-picker table cell would be a separate component.
  * </p>
  *
+ * <p>
+ * For data that is never edited, {@link #displayOnlyProperty() display-only}
+ * mode produces lightweight cells without any text-field machinery.
+ * </p>
+ *
+ * <p>
+ * Large columns can be pre-rendered in parallel with
+ * {@link HumanDateBatch#formatAll(long[], HumanDateConverterSnapshot)} and the
+ * result installed through {@link #renderTableProperty()}. While the table
+ * was rendered with the factory's current converter and is not stale, cells
+ * take their texts from it.
+ * </p>
+ *
+ * <p>
+ * A {@link HumanDateContext} installed on the scene or an ancestor of the
+ * TableView is inherited from the first cell request on, and looked up again
+ * when contexts are installed or the control moves; while a context
+ * applies, its language and format take precedence over this factory's own.
+ * </p>
+ *
  * <h2>Example usage</h2>
  * {@snippet :
  * TableColumn<Person, LocalDate> birthColumn =
@@ -76,13 +102,13 @@ import static com.infoyupay.humandate.fx.HumanDateDefaults.DEFAULT_FORMAT;
  *         new HumanDateTableCellFactory<>();
  * birthColumn.setCellFactory(factory);
  *
- * // Update language at runtime (cells refresh automatically)
+ * // Update language at runtime (visible cells update automatically)
  * factory.setLanguage(Languages.es());
  *}
  *
  * @param <S> the type of items contained within the {@link javafx.scene.control.TableView}
  * @author David Vidal, Infoyupay
- * @version 1.0
+ * @version 1.1
  * @see HumanDateConverter
  * @see HumanDateTextFormatter
  * @see javafx.scene.control.TableCell
@@ -104,18 +130,45 @@ public final class HumanDateTableCellFactory<S>
             new SimpleObjectProperty<>(this, "language", Languages.es());
 
     /**
-     * Reactive binding that recreates the {@link HumanDateConverter} whenever
-     * the active language or format changes.
+     * Whether new cells are lightweight, display-only cells instead of
+     * editable {@link TextFieldTableCell} instances.
+     */
+    private final BooleanProperty displayOnly =
+            new SimpleBooleanProperty(this, "displayOnly", false);
+
+    /**
+     * Context explicitly assigned to this factory.
      */
-    private ObjectBinding<HumanDateConverter> converter;
+    private final ObjectProperty<HumanDateContext> context =
+            new SimpleObjectProperty<>(this, "context");
+
+    /**
+     * Context applying to the first control requesting cells, bound to its
+     * scene graph position on that first request.
+     */
+    private final ObjectProperty<HumanDateContext> inheritedContext =
+            new SimpleObjectProperty<>(this, "inheritedContext");
+
+    /**
+     * Pre-rendered texts, used while they match the active converter.
+     */
+    private final ObjectProperty<HumanDateRenderTable> renderTable =
+            new SimpleObjectProperty<>(this, "renderTable");
+
+    /**
+     * Reactive binding that resolves the shared converter from
+     * {@link HumanDateConverterRegistry} whenever the active language or
+     * format changes, preferring a matching {@link #renderTableProperty()}.
+     */
+    private ObjectBinding<StringConverter<LocalDate>> converter;
 
     /**
      * Creates a cell factory using the default language and format.
      *
      * <p>
-     * The underlying {@link HumanDateConverter} is recreated automatically
-     * whenever the {@link #languageProperty()} or {@link #formatProperty()}
-     * changes.
+     * The underlying converter is resolved again from
+     * {@link HumanDateConverterRegistry} whenever the
+     * {@link #languageProperty()} or {@link #formatProperty()} changes.
      * </p>
      */
     public HumanDateTableCellFactory() {
@@ -142,9 +195,9 @@ public final class HumanDateTableCellFactory<S>
     }
 
     /**
-     * Initializes the reactive binding responsible for creating
-     * {@link HumanDateConverter} instances whenever the language or format
-     * properties change.
+     * Initializes the reactive binding responsible for resolving the shared
+     * {@link HumanDateConverterSnapshot} whenever the language, format or
+     * render table properties change.
      *
      * <p>
      * This method is invoked exclusively from constructors and enforces
@@ -157,19 +210,36 @@ public final class HumanDateTableCellFactory<S>
         if (converter != null)
             throw new IllegalStateException("Converter is already initialized.");
 
-        this.converter = Bindings.createObjectBinding(
-                () -> new HumanDateConverter(getLanguage(), getFormat()),
-                format, language
-        );
+        var settings = HumanDateContext.settingsOf(context, inheritedContext);
+        this.converter = Bindings.createObjectBinding(() -> {
+            var s = settings.getValue();
+            var snapshot = s == null
+                    ? HumanDateConverterRegistry.get(getLanguage(), getFormat())
+                    : s.converter();
+            var table = getRenderTable();
+            return table != null && table.getConverter() == snapshot ? table : snapshot;
+        }, format, language, renderTable, settings);
     }
 
     /**
      * Produces a new {@link TextFieldTableCell} configured with the
-     * currently active {@link HumanDateConverter}.
+     * currently active shared converter.
+     *
+     * <p>
+     * Each cell subscribes weakly to this factory's converter binding, so
+     * language or format changes re-set the text of live cells directly,
+     * without {@code TableView.refresh()} and without recreating cells.
+     * </p>
+     *
+     * <p>
+     * In {@link #displayOnlyProperty() display-only} mode, a minimal
+     * {@link TableCell} is produced instead: it only sets its text from the shared
+     * converter and never builds a {@link javafx.scene.control.TextField}.
+     * </p>
      *
      * <p>
-     * The converter is reassigned during item updates to ensure that
-     * changes to language or format are reflected in reused cells.
+     * The first call also starts following the {@link HumanDateContext}
+     * applying to the requesting control, which this factory then inherits.
      * </p>
      *
      * @param column the column requesting a cell
@@ -177,13 +247,13 @@ public final class HumanDateTableCellFactory<S>
      */
     @Override
     public TableCell<S, LocalDate> call(final TableColumn<S, LocalDate> column) {
-        return new TextFieldTableCell<>(converter.get()) {
-            @Override
-            public void updateItem(LocalDate localDate, boolean b) {
-                super.updateItem(localDate, b);
-                setConverter(getConverter());
-            }
-        };
+        var control = column.getTableView();
+        if (!inheritedContext.isBound() && control != null) {
+            inheritedContext.bind(HumanDateContext.inheritedBy(control));
+        }
+        return isDisplayOnly()
+                ? new DisplayCell<>(converter)
+                : new EditableCell<>(converter);
     }
 
     /**
@@ -239,4 +309,169 @@ public final class HumanDateTableCellFactory<S>
     public ObjectProperty<DateTimeFormatter> formatProperty() {
         return format;
     }
+
+    /**
+     * Returns whether new cells are display-only.
+     *
+     * @return {@code true} if cells cannot be edited
+     */
+    public boolean isDisplayOnly() {
+        return displayOnly.get();
+    }
+
+    /**
+     * Switches between editable and display-only cells.
+     * <br/>
+     * Display-only cells avoid the editing machinery of
+     * {@link TextFieldTableCell}, which makes them cheaper for columns that are never
+     * edited. The mode applies to cells created afterwards.
+     *
+     * @param displayOnly {@code true} to produce display-only cells
+     */
+    public void setDisplayOnly(final boolean displayOnly) {
+        this.displayOnly.set(displayOnly);
+    }
+
+    /**
+     * Property controlling whether new cells are display-only.
+     *
+     * @return a JavaFX property representing the display-only mode
+     */
+    public BooleanProperty displayOnlyProperty() {
+        return displayOnly;
+    }
+
+    /**
+     * Returns the context explicitly assigned to this factory.
+     *
+     * @return the context, or {@code null}
+     */
+    public HumanDateContext getContext() {
+        return context.get();
+    }
+
+    /**
+     * Assigns a context whose language and format override this factory's
+     * own, taking precedence over the context inherited from the scene graph.
+     *
+     * @param context the context, or {@code null} to fall back to the inherited one
+     */
+    public void setContext(final HumanDateContext context) {
+        this.context.set(context);
+    }
+
+    /**
+     * Property holding the explicitly assigned context.
+     *
+     * @return a JavaFX property representing the assigned context
+     */
+    public ObjectProperty<HumanDateContext> contextProperty() {
+        return context;
+    }
+
+    /**
+     * Returns the pre-rendered texts in use, if any.
+     *
+     * @return the render table, or {@code null}
+     */
+    public HumanDateRenderTable getRenderTable() {
+        return renderTable.get();
+    }
+
+    /**
+     * Installs pre-rendered texts for the cells of this factory.
+     * <br/>
+     * The table is only used while it was rendered by the converter this
+     * factory resolves for its current language and format; after a language
+     * or format change, or past midnight, cells format as usual.
+     *
+     * @param renderTable table produced by
+     *                    {@link HumanDateBatch#formatAll(long[], HumanDateConverterSnapshot)},
+     *                    or {@code null} to remove it
+     */
+    public void setRenderTable(final HumanDateRenderTable renderTable) {
+        this.renderTable.set(renderTable);
+    }
+
+    /**
+     * Property holding the pre-rendered texts used by cells.
+     *
+     * @return a JavaFX property representing the render table
+     */
+    public ObjectProperty<HumanDateRenderTable> renderTableProperty() {
+        return renderTable;
+    }
+
+    /**
+     * Editable cell following the converter binding of its factory.
+     *
+     * @param <S> the type of items contained within the table
+     */
+    private static final class EditableCell<S> extends TextFieldTableCell<S, LocalDate> {
+
+        /**
+         * Keeps the weak subscription to the factory alive as long as this cell.
+         */
+        private final HumanDateCellSupport support;
+
+        /**
+         * Creates a cell subscribed to the given converter binding.
+         *
+         * @param converter factory converter binding
+         */
+        EditableCell(final ObservableValue<? extends StringConverter<LocalDate>> converter) {
+            this.support = new HumanDateCellSupport(converter, this::onConverterChanged);
+            setConverter(support);
+        }
+
+        /**
+         * Re-sets the text of a displayed item after the factory's converter
+         * changed.
+         */
+        private void onConverterChanged() {
+            if (!isEmpty() && !isEditing()) {
+                setText(support.toString(getItem()));
+            }
+        }
+    }
+
+    /**
+     * Display-only cell following the converter binding of its factory.
+     *
+     * @param <S> the type of items contained within the table
+     */
+    private static final class DisplayCell<S> extends TableCell<S, LocalDate> {
+
+        /**
+         * Keeps the weak subscription to the factory alive as long as this cell.
+         */
+        private final HumanDateCellSupport support;
+
+        /**
+         * Creates a non-editable cell subscribed to the given converter binding.
+         *
+         * @param converter factory converter binding
+         */
+        DisplayCell(final ObservableValue<? extends StringConverter<LocalDate>> converter) {
+            this.support = new HumanDateCellSupport(converter, () -> render(getItem(), isEmpty()));
+            setEditable(false);
+        }
+
+        @Override
+        protected void updateItem(final LocalDate item, final boolean empty) {
+            super.updateItem(item, empty);
+            render(item, empty);
+        }
+
+        /**
+         * Sets the text for the given item. Unchanged items reuse the text
+         * rendered last time, leaving the text property untouched.
+         *
+         * @param item  displayed date, may be {@code null}
+         * @param empty whether the cell is empty
+         */
+        private void render(final LocalDate item, final boolean empty) {
+            setText(empty || item == null ? null : support.toString(item));
+        }
+    }
 }
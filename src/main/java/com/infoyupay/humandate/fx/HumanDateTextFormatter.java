@@ -19,12 +19,27 @@
 package com.infoyupay.humandate.fx;
 
 import com.infoyupay.humandate.core.LanguageSupport;
+import javafx.animation.PauseTransition;
+import javafx.application.Platform;
+import javafx.beans.property.BooleanProperty;
 import javafx.beans.property.ObjectProperty;
+import javafx.beans.property.ReadOnlyBooleanProperty;
+import javafx.beans.property.ReadOnlyBooleanWrapper;
+import javafx.beans.property.ReadOnlyObjectProperty;
+import javafx.beans.property.ReadOnlyObjectWrapper;
+import javafx.beans.property.ReadOnlyStringProperty;
+import javafx.beans.property.ReadOnlyStringWrapper;
+import javafx.beans.property.SimpleBooleanProperty;
+import javafx.beans.property.SimpleObjectProperty;
 import javafx.scene.control.TextFormatter;
+import javafx.util.Duration;
+import javafx.util.StringConverter;
 
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 /**
  * A {@link TextFormatter} specialization that uses {@link HumanDateConverter}
@@ -34,9 +49,40 @@ import java.util.Objects;
  * This formatter can be applied to {@code TextField} or similar controls to allow
  * free-form date entry while still maintaining a conversion contract to
  * {@link LocalDate}. Parsing and formatting rules are driven by the underlying
+ * {@code HumanDateConverter}. Formatters created through the no-arg
+ * constructor or the static factories share their converter snapshots, and
+ * therefore their caches, through {@link HumanDateConverterRegistry}.
+ * <br/>
+ * <p>
+ * In {@linkplain #asyncProperty() async} mode, committing the text (on
+ * <i>Enter</i> or focus loss) does not parse on the JavaFX Application Thread.
+ * The parse runs on a virtual thread against the converter's current
+ * {@linkplain HumanDateConverter#snapshot() snapshot}, and its result is
+ * published back through {@link Platform#runLater(Runnable)}. Results are
+ * discarded if the user edited the text in the meantime. While a parse is in
+ * flight, {@link #pendingProperty()} is {@code true}, which the UI may use for
+ * styling:
+ * {@snippet :
+ * var pending = PseudoClass.getPseudoClass("pending");
+ * var formatter = new HumanDateTextFormatter().withAsync(true);
+ * formatter.pendingProperty().addListener(
+ *         (obs, was, is) -> textField.pseudoClassStateChanged(pending, is));
+ *}
+ * Unlike synchronous commits, a failed asynchronous parse leaves both the
+ * value and the typed text unchanged. In either mode, the value converter
+ * reported by {@link #getValueConverter()} is an internal wrapper around the
  * {@code HumanDateConverter}.
  * <br/>
  * <p>
+ * With {@linkplain #livePreviewProperty() live preview} enabled, the text
+ * being typed is parsed into {@link #previewValueProperty()} and
+ * {@link #previewTextProperty()} (for example "4 de mayo de 2015" while
+ * typing {@code 040515}) without committing it. Edits are debounced: the
+ * parse runs once {@link #previewDelayProperty() previewDelay} has elapsed
+ * since the last keystroke, so a burst of keystrokes costs one parse. With a
+ * zero delay, every edit is previewed immediately.
+ * <br/>
+ * <p>
  * Usage example (Java):
  * {@snippet :
  * var textField = new TextField();
@@ -53,12 +99,59 @@ import java.util.Objects;
  *}
  *
  * @author David Vidal, Infoyupay
- * @version 1.0
+ * @version 1.1
  */
 public class HumanDateTextFormatter extends TextFormatter<LocalDate> {
 
+    /**
+     * Runs asynchronous parses, one virtual thread per commit.
+     */
+    private static final ExecutorService PARSER = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("humandate-parse-", 0L).factory());
+
     private final HumanDateConverter valueConverter;
 
+    private final Commit commit;
+
+    private final BooleanProperty async = new SimpleBooleanProperty(this, "async", false) {
+        @Override
+        protected void invalidated() {
+            if (!get()) commit.discard();
+        }
+    };
+
+    private final ReadOnlyBooleanWrapper pending = new ReadOnlyBooleanWrapper(this, "pending", false);
+
+    private final BooleanProperty livePreview = new SimpleBooleanProperty(this, "livePreview", false) {
+        @Override
+        protected void invalidated() {
+            if (!get()) clearPreview();
+        }
+    };
+
+    private final ObjectProperty<Duration> previewDelay =
+            new SimpleObjectProperty<>(this, "previewDelay", HumanDateDefaults.DEFAULT_PREVIEW_DELAY);
+
+    private final ReadOnlyObjectWrapper<LocalDate> previewValue =
+            new ReadOnlyObjectWrapper<>(this, "previewValue");
+
+    private final ReadOnlyStringWrapper previewText = new ReadOnlyStringWrapper(this, "previewText");
+
+    /**
+     * Debounce timer, created on first edit in live preview mode.
+     */
+    private PauseTransition previewTimer;
+
+    /**
+     * Latest text awaiting a preview.
+     */
+    private String previewSource;
+
+    /**
+     * Text the current preview was computed from.
+     */
+    private String previewed;
+
     /**
      * Creates a formatter using the provided {@link HumanDateConverter}.
      * <br/>
@@ -67,17 +160,30 @@ public class HumanDateTextFormatter extends TextFormatter<LocalDate> {
      * @param converter underlying converter (must not be null)
      */
     public HumanDateTextFormatter(final HumanDateConverter converter) {
-        super(Objects.requireNonNull(converter));
-        this.valueConverter = converter;
+        this(new Commit(Objects.requireNonNull(converter)));
+    }
+
+    /**
+     * Installs the commit wrapper as value converter and its filter, which
+     * must exist before calling the super constructor.
+     *
+     * @param commit commit wrapper around the converter
+     */
+    private HumanDateTextFormatter(final Commit commit) {
+        super(commit, null, commit::filter);
+        this.commit = commit;
+        this.valueConverter = commit.converter;
+        commit.owner = this;
     }
 
     /**
      * Creates a formatter using the Spanish default converter:
      * <br/>
-     * {@link HumanDateConverter#es()}
+     * {@link HumanDateConverter#es()}, drawing its snapshots from
+     * {@link HumanDateConverterRegistry}.
      */
     public HumanDateTextFormatter() {
-        this(new HumanDateConverter());
+        this(new HumanDateConverter().withSharedCaches());
     }
 
 
@@ -87,7 +193,7 @@ public class HumanDateTextFormatter extends TextFormatter<LocalDate> {
      * @return a new {@code HumanDateTextFormatter} using {@code es()} converter
      */
     public static HumanDateTextFormatter es() {
-        return new HumanDateTextFormatter(HumanDateConverter.es());
+        return new HumanDateTextFormatter(HumanDateConverter.es().withSharedCaches());
     }
 
     /**
@@ -96,7 +202,7 @@ public class HumanDateTextFormatter extends TextFormatter<LocalDate> {
      * @return a new {@code HumanDateTextFormatter} using {@code en()} converter
      */
     public static HumanDateTextFormatter en() {
-        return new HumanDateTextFormatter(HumanDateConverter.en());
+        return new HumanDateTextFormatter(HumanDateConverter.en().withSharedCaches());
     }
 
     /**
@@ -105,7 +211,7 @@ public class HumanDateTextFormatter extends TextFormatter<LocalDate> {
      * @return a new {@code HumanDateTextFormatter} using {@code que()} converter
      */
     public static HumanDateTextFormatter que() {
-        return new HumanDateTextFormatter(HumanDateConverter.que());
+        return new HumanDateTextFormatter(HumanDateConverter.que().withSharedCaches());
     }
 
     // --- Language property passthrough ---
@@ -160,4 +266,343 @@ public class HumanDateTextFormatter extends TextFormatter<LocalDate> {
         return this;
     }
 
+    // --- Context property passthrough ---
+
+    /**
+     * Shared context whose language and format override the converter's own.
+     * <br/>
+     * Delegates to the underlying converter.
+     *
+     * @return mutable JavaFX property for the shared context
+     */
+    public final ObjectProperty<HumanDateContext> contextProperty() {
+        return valueConverter.contextProperty();
+    }
+
+    /**
+     * Fluent setter for the shared context.
+     *
+     * @param context the context to follow, or {@code null} to leave it
+     * @return this instance, for chaining
+     */
+    public final HumanDateTextFormatter withContext(final HumanDateContext context) {
+        contextProperty().setValue(context);
+        return this;
+    }
+
+    // --- Async mode ---
+
+    /**
+     * Tells whether commits are parsed asynchronously.
+     *
+     * @return {@code true} in async mode
+     */
+    public final boolean isAsync() {
+        return async.get();
+    }
+
+    /**
+     * Enables or disables the async mode. Disabling it discards any parse
+     * in flight.
+     *
+     * @param value {@code true} to parse commits off the JavaFX Application Thread
+     */
+    public final void setAsync(final boolean value) {
+        async.set(value);
+    }
+
+    /**
+     * Property controlling the async mode.
+     *
+     * @return the async mode property
+     */
+    public final BooleanProperty asyncProperty() {
+        return async;
+    }
+
+    /**
+     * Fluent setter for the async mode.
+     *
+     * @param value {@code true} to parse commits off the JavaFX Application Thread
+     * @return this instance, for chaining
+     */
+    public final HumanDateTextFormatter withAsync(final boolean value) {
+        setAsync(value);
+        return this;
+    }
+
+    /**
+     * Tells whether an asynchronous parse is in flight.
+     *
+     * @return {@code true} while a parse is pending
+     */
+    public final boolean isPending() {
+        return pending.get();
+    }
+
+    /**
+     * Observable flag, {@code true} while an asynchronous parse is in flight.
+     *
+     * @return the read-only pending property
+     */
+    public final ReadOnlyBooleanProperty pendingProperty() {
+        return pending.getReadOnlyProperty();
+    }
+
+    // --- Live preview ---
+
+    /**
+     * Tells whether the live preview is enabled.
+     *
+     * @return {@code true} if typed text is previewed
+     */
+    public final boolean isLivePreview() {
+        return livePreview.get();
+    }
+
+    /**
+     * Enables or disables the live preview. Disabling it clears the preview.
+     *
+     * @param value {@code true} to preview typed text
+     */
+    public final void setLivePreview(final boolean value) {
+        livePreview.set(value);
+    }
+
+    /**
+     * Property controlling the live preview.
+     *
+     * @return the live preview property
+     */
+    public final BooleanProperty livePreviewProperty() {
+        return livePreview;
+    }
+
+    /**
+     * Fluent setter for the live preview.
+     *
+     * @param value {@code true} to preview typed text
+     * @return this instance, for chaining
+     */
+    public final HumanDateTextFormatter withLivePreview(final boolean value) {
+        setLivePreview(value);
+        return this;
+    }
+
+    /**
+     * Returns the quiet period before a preview is computed.
+     *
+     * @return the debounce delay
+     */
+    public final Duration getPreviewDelay() {
+        return previewDelay.get();
+    }
+
+    /**
+     * Sets the quiet period before a preview is computed.
+     *
+     * @param delay the debounce delay; {@code null} stands for zero
+     */
+    public final void setPreviewDelay(final Duration delay) {
+        previewDelay.set(delay);
+    }
+
+    /**
+     * Property holding the debounce delay of the live preview.
+     * <br/>
+     * Defaults to {@link HumanDateDefaults#DEFAULT_PREVIEW_DELAY}.
+     *
+     * @return the preview delay property
+     */
+    public final ObjectProperty<Duration> previewDelayProperty() {
+        return previewDelay;
+    }
+
+    /**
+     * Returns the date parsed from the text being typed.
+     *
+     * @return the previewed date, or {@code null} if the text does not parse
+     */
+    public final LocalDate getPreviewValue() {
+        return previewValue.get();
+    }
+
+    /**
+     * Date parsed from the text being typed, {@code null} when the text is
+     * blank or does not parse.
+     *
+     * @return the read-only preview value property
+     */
+    public final ReadOnlyObjectProperty<LocalDate> previewValueProperty() {
+        return previewValue.getReadOnlyProperty();
+    }
+
+    /**
+     * Returns the human-friendly rendering of the preview value.
+     *
+     * @return the preview text, or {@code null}
+     */
+    public final String getPreviewText() {
+        return previewText.get();
+    }
+
+    /**
+     * Human-friendly rendering of {@link #previewValueProperty()}, as the
+     * converter would display it after commit.
+     *
+     * @return the read-only preview text property
+     */
+    public final ReadOnlyStringProperty previewTextProperty() {
+        return previewText.getReadOnlyProperty();
+    }
+
+    /**
+     * Restarts the debounce timer for the given text, or previews it right
+     * away if the delay is zero.
+     *
+     * @param text the text the control will hold after the edit
+     */
+    private void schedulePreview(final String text) {
+        previewSource = text;
+        var delay = getPreviewDelay();
+        if (delay == null || delay.lessThanOrEqualTo(Duration.ZERO)) {
+            if (previewTimer != null) previewTimer.stop();
+            updatePreview();
+            return;
+        }
+        if (previewTimer == null) {
+            previewTimer = new PauseTransition();
+            previewTimer.setOnFinished(e -> updatePreview());
+        }
+        previewTimer.setDuration(delay);
+        previewTimer.playFromStart();
+    }
+
+    /**
+     * Parses the latest text into the preview, unless it was already
+     * previewed.
+     */
+    private void updatePreview() {
+        var text = previewSource;
+        if (!isLivePreview() || Objects.equals(text, previewed)) return;
+        previewed = text;
+        var snapshot = valueConverter.snapshot();
+        LocalDate date;
+        try {
+            date = text == null || text.isBlank() ? null : snapshot.fromString(text);
+        } catch (RuntimeException e) {
+            date = null;
+        }
+        previewValue.set(date);
+        previewText.set(date == null ? null : snapshot.toString(date));
+    }
+
+    /**
+     * Stops the timer and clears the preview.
+     */
+    private void clearPreview() {
+        if (previewTimer != null) previewTimer.stop();
+        previewSource = null;
+        previewed = null;
+        previewValue.set(null);
+        previewText.set(null);
+    }
+
+    /**
+     * Value converter installed in the super class: formats with the
+     * {@code HumanDateConverter} and, in async mode, turns parses into
+     * background tasks.
+     * <br/>
+     * All methods but the background task run on the JavaFX Application Thread.
+     */
+    private static final class Commit extends StringConverter<LocalDate> {
+
+        private final HumanDateConverter converter;
+
+        private HumanDateTextFormatter owner;
+
+        /**
+         * Incremented on every asynchronous parse and on every edit made while
+         * one is pending; results of older generations are stale.
+         */
+        private long generation;
+
+        /**
+         * Creates the wrapper.
+         *
+         * @param converter the wrapped converter
+         */
+        Commit(final HumanDateConverter converter) {
+            this.converter = converter;
+        }
+
+        @Override
+        public String toString(final LocalDate date) {
+            return converter.toString(date);
+        }
+
+        /**
+         * Parses synchronously, or starts an asynchronous parse and returns
+         * the current value, so that the super class changes nothing yet.
+         */
+        @Override
+        public LocalDate fromString(final String text) {
+            if (owner == null || !owner.isAsync()) {
+                return converter.fromString(text);
+            }
+            var ticket = ++generation;
+            var snapshot = converter.snapshot();
+            owner.pending.set(true);
+            PARSER.execute(() -> {
+                LocalDate result = null;
+                var parsed = false;
+                try {
+                    result = snapshot.fromString(text);
+                    parsed = true;
+                } catch (RuntimeException ignored) {
+                    // Reported as a failed parse below.
+                }
+                var date = result;
+                var ok = parsed;
+                Platform.runLater(() -> publish(ticket, date, ok));
+            });
+            return owner.getValue();
+        }
+
+        /**
+         * Publishes a result unless it became stale.
+         *
+         * @param ticket generation of the parse
+         * @param date   parsed date
+         * @param ok     {@code false} if parsing failed
+         */
+        private void publish(final long ticket, final LocalDate date, final boolean ok) {
+            if (ticket != generation) return;
+            owner.pending.set(false);
+            if (ok && !owner.valueProperty().isBound()) owner.setValue(date);
+        }
+
+        /**
+         * Makes any parse in flight stale.
+         */
+        void discard() {
+            generation++;
+            if (owner != null) owner.pending.set(false);
+        }
+
+        /**
+         * Change filter: an edit made while a parse is pending makes it
+         * stale, and an edit in live preview mode schedules a preview.
+         *
+         * @param change the proposed change
+         * @return the same change
+         */
+        TextFormatter.Change filter(final TextFormatter.Change change) {
+            if (change.isContentChange() && owner != null) {
+                if (owner.isPending()) discard();
+                if (owner.isLivePreview()) owner.schedulePreview(change.getControlNewText());
+            }
+            return change;
+        }
+    }
 }
@@ -0,0 +1,613 @@
+/*
+ * Copyright 2025 Ingeniería Informática Yupay S.A.C.S.
+ * RUC 20607854247
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package com.infoyupay.humandate.fx;
+
+import javafx.beans.InvalidationListener;
+import javafx.beans.property.ReadOnlyLongProperty;
+import javafx.beans.property.ReadOnlyLongWrapper;
+import javafx.beans.property.ReadOnlyObjectProperty;
+import javafx.beans.property.ReadOnlyObjectWrapper;
+import javafx.beans.value.ChangeListener;
+import javafx.beans.value.ObservableLongValue;
+import javafx.beans.value.ObservableValue;
+import javafx.collections.ListChangeListener;
+import javafx.scene.control.TreeItem;
+import javafx.scene.control.TreeTableColumn;
+import javafx.util.Callback;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Keeps sum, count and date range aggregates for every subtree of a
+ * {@link TreeItem} hierarchy, updated incrementally.
+ * <br/>
+ * <p>
+ * Only leaves contribute: each leaf provides an amount and a date through
+ * the accessor functions, and every branch aggregates its descendants. When
+ * a leaf amount or date changes, the change travels up the ancestor path
+ * only; sums and counts are adjusted by their delta, and a branch rescans
+ * its direct children only when the leaf held its earliest or latest date.
+ * Adding or removing children rescans the direct parent once and then
+ * propagates the same way, so edits on a 100k-node tree cost a handful of
+ * nodes instead of a full recomputation.
+ * <br/>
+ * <p><b>Usage example:</b></p>
+ * {@snippet :
+ * var aggregator = new HumanDateTreeAggregator<FxInvoice>(
+ *         FxInvoice::amountProperty, FxInvoice::dueDateProperty)
+ *         .attach(root);
+ * dueColumn.setCellValueFactory(aggregator.minDateValueFactory());
+ * dueColumn.setCellFactory(new HumanDateTreeTableCellFactory<FxInvoice>());
+ *}
+ * Amounts held as {@code long} cents, such as {@link CentsProperty} values,
+ * are aggregated by an {@link #ofCents(Function, Function) ofCents}
+ * aggregator, whose totals are plain {@code long} additions exposed through
+ * {@link Aggregate#centsProperty()}.
+ * <br/>
+ * <p>
+ * Aggregates are plain read-only properties, so they can also be bound to
+ * the branch values themselves with a
+ * {@linkplain #withBranchHandler(BiConsumer) branch handler}, and released
+ * by a {@linkplain #withLeafHandler(Consumer) leaf handler} when a branch
+ * loses its last child.
+ * <br/>
+ * <p>
+ * Items whose children are not loaded yet, such as collapsed
+ * {@link HumanDateLazyTreeItem} groups, count as leaves until they load:
+ * their own amount and date are aggregated, and they add one to the count
+ * of their ancestors, whatever number of items they will hold. Counts are
+ * only exact once every group below has been loaded.
+ * <br/>
+ * <p>
+ * Like any scene graph structure, the tree must only be modified on the
+ * JavaFX Application Thread.
+ *
+ * @param <T> the type of tree item values
+ * @author David Vidal, Infoyupay
+ * @version 1.0
+ */
+public final class HumanDateTreeAggregator<T> {
+
+    /**
+     * Lower bound of an empty date range.
+     */
+    private static final long NO_MIN = Long.MAX_VALUE;
+
+    /**
+     * Upper bound of an empty date range.
+     */
+    private static final long NO_MAX = Long.MIN_VALUE;
+
+    private final Function<? super T, ? extends ObservableValue<?>> amount;
+    private final Function<? super T, ? extends ObservableValue<LocalDate>> date;
+    private final boolean centsMode;
+    private BiConsumer<? super T, ? super Aggregate> branchHandler;
+    private Consumer<? super T> leafHandler;
+    private final Map<TreeItem<T>, Node> nodes = new IdentityHashMap<>();
+
+    /**
+     * Creates an aggregator over the given leaf accessors.
+     *
+     * @param amount maps a leaf value to its amount; {@code null} amounts count as zero
+     * @param date   maps a leaf value to its date; {@code null} dates are ignored
+     *               by the date range
+     */
+    public HumanDateTreeAggregator(final Function<? super T, ? extends ObservableValue<BigDecimal>> amount,
+                                   final Function<? super T, ? extends ObservableValue<LocalDate>> date) {
+        this(amount, date, false);
+    }
+
+    private HumanDateTreeAggregator(final Function<? super T, ? extends ObservableValue<?>> amount,
+                                    final Function<? super T, ? extends ObservableValue<LocalDate>> date,
+                                    final boolean centsMode) {
+        this.amount = Objects.requireNonNull(amount);
+        this.date = Objects.requireNonNull(date);
+        this.centsMode = centsMode;
+    }
+
+    /**
+     * Creates an aggregator over amounts held as {@code long} cents.
+     * <br/>
+     * Totals are exposed by {@link Aggregate#centsProperty()}; the
+     * {@link Aggregate#sumProperty() BigDecimal sum} stays zero.
+     *
+     * @param cents maps a leaf value to its amount in cents;
+     *              {@link CentsProperty#NULL_CENTS} counts as zero
+     * @param date  maps a leaf value to its date; {@code null} dates are ignored
+     *              by the date range
+     * @param <T>   the type of tree item values
+     * @return a new aggregator
+     */
+    public static <T> HumanDateTreeAggregator<T> ofCents(
+            final Function<? super T, ? extends ObservableLongValue> cents,
+            final Function<? super T, ? extends ObservableValue<LocalDate>> date) {
+        return new HumanDateTreeAggregator<>(cents, date, true);
+    }
+
+    /**
+     * Fluent setter for a handler invoked whenever a tracked item becomes a
+     * branch, with the item value and its aggregate.
+     * <br/>
+     * This is where branch values are bound to their totals, including
+     * groups that only get children once they are loaded. Must be set before
+     * {@link #attach(TreeItem)}.
+     * {@snippet :
+     * aggregator.withBranchHandler((invoice, aggregate) ->
+     *         invoice.amountProperty().bind(aggregate.centsProperty()));
+     *}
+     *
+     * @param handler the handler, or {@code null} for none
+     * @return this instance, for chaining
+     */
+    public HumanDateTreeAggregator<T> withBranchHandler(final BiConsumer<? super T, ? super Aggregate> handler) {
+        this.branchHandler = handler;
+        return this;
+    }
+
+    /**
+     * Fluent setter for a handler invoked whenever a tracked branch becomes a
+     * leaf again, because its last child was removed or its value was
+     * replaced, with the value it held as a branch.
+     * <br/>
+     * This is where the bindings made by the
+     * {@linkplain #withBranchHandler(BiConsumer) branch handler} are undone.
+     * It runs before the item is read back as a leaf, so whatever amount and
+     * date it leaves behind become the leaf input.
+     * {@snippet :
+     * aggregator.withLeafHandler(invoice -> {
+     *     invoice.amountProperty().unbind();
+     *     invoice.amountProperty().set(CentsProperty.NULL_CENTS);
+     * });
+     *}
+     *
+     * @param handler the handler, or {@code null} for none
+     * @return this instance, for chaining
+     */
+    public HumanDateTreeAggregator<T> withLeafHandler(final Consumer<? super T> handler) {
+        this.leafHandler = handler;
+        return this;
+    }
+
+    /**
+     * Starts tracking the subtree rooted at the given item.
+     * <br/>
+     * The initial aggregates are computed in a single bottom-up pass.
+     *
+     * @param root the subtree root
+     * @return this instance, for chaining
+     */
+    public HumanDateTreeAggregator<T> attach(final TreeItem<T> root) {
+        index(Objects.requireNonNull(root));
+        return this;
+    }
+
+    /**
+     * Stops tracking the subtree rooted at the given item and releases all
+     * its listeners.
+     *
+     * @param root the subtree root previously passed to {@link #attach(TreeItem)}
+     */
+    public void detach(final TreeItem<T> root) {
+        release(Objects.requireNonNull(root));
+    }
+
+    /**
+     * Returns the aggregate of the given item.
+     *
+     * @param item a tree item
+     * @return the aggregate of its subtree, or {@code null} if the item is
+     * not tracked
+     */
+    public Aggregate aggregate(final TreeItem<T> item) {
+        var node = item == null ? null : nodes.get(item);
+        return node == null ? null : node.aggregate;
+    }
+
+    /**
+     * Cell value factory exposing the subtree sum of each row.
+     *
+     * @return a read-only cell value factory
+     */
+    public Callback<TreeTableColumn.CellDataFeatures<T, BigDecimal>, ObservableValue<BigDecimal>>
+    sumValueFactory() {
+        return f -> {
+            var a = aggregate(f.getValue());
+            return a == null ? null : a.sumProperty();
+        };
+    }
+
+    /**
+     * Cell value factory exposing the subtree total in cents of each row,
+     * meant for a {@link CentsTreeTableCellFactory}.
+     *
+     * @return a read-only cell value factory
+     */
+    public Callback<TreeTableColumn.CellDataFeatures<T, Number>, ObservableValue<Number>>
+    centsValueFactory() {
+        return f -> {
+            var a = aggregate(f.getValue());
+            return a == null ? null : a.centsProperty();
+        };
+    }
+
+    /**
+     * Cell value factory exposing the earliest date of each row's subtree,
+     * meant for a display-only {@link HumanDateTreeTableCellFactory}.
+     *
+     * @return a read-only cell value factory
+     */
+    public Callback<TreeTableColumn.CellDataFeatures<T, LocalDate>, ObservableValue<LocalDate>>
+    minDateValueFactory() {
+        return f -> {
+            var a = aggregate(f.getValue());
+            return a == null ? null : a.minDateProperty();
+        };
+    }
+
+    /**
+     * Cell value factory exposing the latest date of each row's subtree,
+     * meant for a display-only {@link HumanDateTreeTableCellFactory}.
+     *
+     * @return a read-only cell value factory
+     */
+    public Callback<TreeTableColumn.CellDataFeatures<T, LocalDate>, ObservableValue<LocalDate>>
+    maxDateValueFactory() {
+        return f -> {
+            var a = aggregate(f.getValue());
+            return a == null ? null : a.maxDateProperty();
+        };
+    }
+
+    /**
+     * Registers the subtree bottom-up, so each branch is computed from
+     * already computed children.
+     */
+    private void index(final TreeItem<T> item) {
+        release(item);
+        var node = new Node(item);
+        nodes.put(item, node);
+        for (var child : item.getChildren()) index(child);
+        node.bind(item.getValue());
+        item.valueProperty().addListener(node.valueListener);
+        item.getChildren().addListener(node.childrenListener);
+        node.recompute();
+        node.publish();
+        node.notifyBranch();
+    }
+
+    /**
+     * Unregisters the subtree and removes every listener it installed.
+     */
+    private void release(final TreeItem<T> item) {
+        var node = nodes.remove(item);
+        if (node == null) return;
+        item.valueProperty().removeListener(node.valueListener);
+        item.getChildren().removeListener(node.childrenListener);
+        node.bind(null);
+        for (var child : item.getChildren()) release(child);
+    }
+
+    private Node parentOf(final Node node) {
+        var parent = node.item.getParent();
+        return parent == null ? null : nodes.get(parent);
+    }
+
+    /**
+     * Recomputes a node from its own sources or children, then propagates
+     * the difference to its ancestors.
+     */
+    private void refresh(final Node node) {
+        var oldSum = node.sum;
+        var oldCents = node.cents;
+        var oldCount = node.count;
+        var oldMin = node.min;
+        var oldMax = node.max;
+        node.recompute();
+        node.publish();
+        var sumDelta = centsMode ? BigDecimal.ZERO : node.sum.subtract(oldSum);
+        propagate(parentOf(node), sumDelta, node.cents - oldCents, node.count - oldCount,
+                oldMin, oldMax, node.min, node.max);
+    }
+
+    /**
+     * Walks up from {@code node}, applying the deltas of one of its children,
+     * and stops as soon as an ancestor is left unchanged.
+     */
+    private void propagate(Node node, final BigDecimal sumDelta, final long centsDelta, final long countDelta,
+                           long oldMin, long oldMax, long newMin, long newMax) {
+        var amounts = sumDelta.signum() != 0 || centsDelta != 0 || countDelta != 0;
+        for (; node != null; node = parentOf(node)) {
+            var previousMin = node.min;
+            var previousMax = node.max;
+            var dates = node.fold(oldMin, oldMax, newMin, newMax);
+            if (!dates && !amounts) return;
+            if (amounts) {
+                if (sumDelta.signum() != 0) node.sum = node.sum.add(sumDelta);
+                node.cents += centsDelta;
+                node.count += countDelta;
+            }
+            node.publish();
+            oldMin = previousMin;
+            oldMax = previousMax;
+            newMin = node.min;
+            newMax = node.max;
+        }
+    }
+
+    /**
+     * Read-only aggregates of one subtree.
+     *
+     * @author David Vidal, Infoyupay
+     * @version 1.0
+     */
+    public static final class Aggregate {
+
+        private final ReadOnlyObjectWrapper<BigDecimal> sum =
+                new ReadOnlyObjectWrapper<>(this, "sum", BigDecimal.ZERO);
+        private final ReadOnlyLongWrapper cents = new ReadOnlyLongWrapper(this, "cents");
+        private final ReadOnlyLongWrapper count = new ReadOnlyLongWrapper(this, "count");
+        private final ReadOnlyObjectWrapper<LocalDate> minDate = new ReadOnlyObjectWrapper<>(this, "minDate");
+        private final ReadOnlyObjectWrapper<LocalDate> maxDate = new ReadOnlyObjectWrapper<>(this, "maxDate");
+
+        private Aggregate() {
+        }
+
+        /**
+         * @return the sum of all leaf amounts in the subtree
+         */
+        public BigDecimal getSum() {
+            return sum.get();
+        }
+
+        /**
+         * @return read-only sum property
+         */
+        public ReadOnlyObjectProperty<BigDecimal> sumProperty() {
+            return sum.getReadOnlyProperty();
+        }
+
+        /**
+         * @return the sum of all leaf amounts in the subtree, in cents, for
+         * {@link #ofCents(Function, Function) cents} aggregators
+         */
+        public long getCents() {
+            return cents.get();
+        }
+
+        /**
+         * @return read-only cents sum property
+         */
+        public ReadOnlyLongProperty centsProperty() {
+            return cents.getReadOnlyProperty();
+        }
+
+        /**
+         * @return the number of leaves in the subtree, where an item whose
+         * children are not loaded yet counts as one leaf
+         */
+        public long getCount() {
+            return count.get();
+        }
+
+        /**
+         * @return read-only count property
+         */
+        public ReadOnlyLongProperty countProperty() {
+            return count.getReadOnlyProperty();
+        }
+
+        /**
+         * @return the earliest leaf date in the subtree, or {@code null} if none
+         */
+        public LocalDate getMinDate() {
+            return minDate.get();
+        }
+
+        /**
+         * @return read-only earliest date property
+         */
+        public ReadOnlyObjectProperty<LocalDate> minDateProperty() {
+            return minDate.getReadOnlyProperty();
+        }
+
+        /**
+         * @return the latest leaf date in the subtree, or {@code null} if none
+         */
+        public LocalDate getMaxDate() {
+            return maxDate.get();
+        }
+
+        /**
+         * @return read-only latest date property
+         */
+        public ReadOnlyObjectProperty<LocalDate> maxDateProperty() {
+            return maxDate.getReadOnlyProperty();
+        }
+
+        private static void setDay(final ReadOnlyObjectWrapper<LocalDate> target, final long day, final long none) {
+            var current = target.get();
+            if (day == none) target.set(null);
+            else if (current == null || current.toEpochDay() != day) target.set(LocalDate.ofEpochDay(day));
+        }
+    }
+
+    /**
+     * Tracking state of one tree item.
+     * <br/>
+     * The working values live in plain fields; the public aggregate is only
+     * written by {@link #publish()}.
+     */
+    private final class Node {
+
+        final TreeItem<T> item;
+        final Aggregate aggregate = new Aggregate();
+        final InvalidationListener sourceListener = o -> onSourceChanged();
+        final ChangeListener<T> valueListener = (o, oldValue, newValue) -> {
+            if (this.branch) notifyLeaf(oldValue);
+            bind(newValue);
+            onSourceChanged();
+            notifyBranch();
+        };
+        final ListChangeListener<TreeItem<T>> childrenListener = this::onChildrenChanged;
+
+        ObservableValue<?> amountSource;
+        ObservableValue<LocalDate> dateSource;
+        BigDecimal sum = BigDecimal.ZERO;
+        long cents;
+        long count;
+        long min = NO_MIN;
+        long max = NO_MAX;
+        boolean branch;
+
+        Node(final TreeItem<T> item) {
+            this.item = item;
+        }
+
+        /**
+         * Moves the source listeners to the observables of a new value.
+         */
+        void bind(final T value) {
+            if (amountSource != null) amountSource.removeListener(sourceListener);
+            if (dateSource != null) dateSource.removeListener(sourceListener);
+            amountSource = value == null ? null : amount.apply(value);
+            dateSource = value == null ? null : date.apply(value);
+            if (amountSource != null) amountSource.addListener(sourceListener);
+            if (dateSource != null) dateSource.addListener(sourceListener);
+        }
+
+        boolean isLeaf() {
+            return item.getChildren().isEmpty();
+        }
+
+        void onSourceChanged() {
+            // branch values are aggregates, never inputs
+            if (isLeaf() && nodes.get(item) == this) refresh(this);
+        }
+
+        void onChildrenChanged(final ListChangeListener.Change<? extends TreeItem<T>> c) {
+            while (c.next()) {
+                if (c.wasPermutated()) continue;
+                for (var removed : c.getRemoved()) release(removed);
+                for (var added : c.getAddedSubList()) index(added);
+            }
+            var wasBranch = branch;
+            // unbind before the former branch is read back as a leaf
+            if (wasBranch && isLeaf()) notifyLeaf(item.getValue());
+            refresh(this);
+            if (!wasBranch) notifyBranch();
+        }
+
+        /**
+         * Hands this node to the branch handler, if it is a branch.
+         */
+        void notifyBranch() {
+            var value = item.getValue();
+            if (branch && branchHandler != null && value != null) branchHandler.accept(value, aggregate);
+        }
+
+        /**
+         * Hands a value this node held as a branch to the leaf handler.
+         */
+        void notifyLeaf(final T value) {
+            if (leafHandler != null && value != null) leafHandler.accept(value);
+        }
+
+        /**
+         * Computes this node from its own sources when it is a leaf, or from
+         * the cached aggregates of its direct children otherwise.
+         */
+        void recompute() {
+            branch = !isLeaf();
+            if (!branch) {
+                var d = dateSource == null ? null : dateSource.getValue();
+                if (centsMode) {
+                    var c = amountSource == null ? 0L : ((ObservableLongValue) amountSource).get();
+                    cents = c == CentsProperty.NULL_CENTS ? 0L : c;
+                } else {
+                    var a = amountSource == null ? null : (BigDecimal) amountSource.getValue();
+                    sum = a == null ? BigDecimal.ZERO : a;
+                }
+                count = item.getValue() == null ? 0 : 1;
+                min = d == null ? NO_MIN : d.toEpochDay();
+                max = d == null ? NO_MAX : d.toEpochDay();
+                return;
+            }
+            var s = BigDecimal.ZERO;
+            var cs = 0L;
+            var n = 0L;
+            for (var child : item.getChildren()) {
+                var c = nodes.get(child);
+                if (c == null) continue;
+                if (!centsMode) s = s.add(c.sum);
+                cs += c.cents;
+                n += c.count;
+            }
+            sum = s;
+            cents = cs;
+            count = n;
+            scanDates();
+        }
+
+        void scanDates() {
+            var lo = NO_MIN;
+            var hi = NO_MAX;
+            for (var child : item.getChildren()) {
+                var c = nodes.get(child);
+                if (c == null) continue;
+                lo = Math.min(lo, c.min);
+                hi = Math.max(hi, c.max);
+            }
+            min = lo;
+            max = hi;
+        }
+
+        /**
+         * Folds a child's range change into this node's range, rescanning the
+         * children only when the child held one of the bounds and gave it up.
+         *
+         * @return whether this node's range changed
+         */
+        boolean fold(final long oldMin, final long oldMax, final long newMin, final long newMax) {
+            if (oldMin == newMin && oldMax == newMax) return false;
+            var previousMin = min;
+            var previousMax = max;
+            var rescan = false;
+            if (newMin <= min) min = newMin;
+            else if (oldMin == min) rescan = true;
+            if (newMax >= max) max = newMax;
+            else if (oldMax == max) rescan = true;
+            if (rescan) scanDates();
+            return min != previousMin || max != previousMax;
+        }
+
+        void publish() {
+            aggregate.sum.set(sum);
+            aggregate.cents.set(cents);
+            aggregate.count.set(count);
+            Aggregate.setDay(aggregate.minDate, min, NO_MIN);
+            Aggregate.setDay(aggregate.maxDate, max, NO_MAX);
+        }
+    }
+}
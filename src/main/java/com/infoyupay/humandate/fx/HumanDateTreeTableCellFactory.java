@@ -21,12 +21,16 @@ import com.infoyupay.humandate.core.LanguageSupport;
 import com.infoyupay.humandate.core.Languages;
 import javafx.beans.binding.Bindings;
 import javafx.beans.binding.ObjectBinding;
+import javafx.beans.property.BooleanProperty;
 import javafx.beans.property.ObjectProperty;
+import javafx.beans.property.SimpleBooleanProperty;
 import javafx.beans.property.SimpleObjectProperty;
+import javafx.beans.value.ObservableValue;
 import javafx.scene.control.TreeTableCell;
 import javafx.scene.control.TreeTableColumn;
 import javafx.scene.control.cell.TextFieldTreeTableCell;
 import javafx.util.Callback;
+import javafx.util.StringConverter;
 
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
@@ -41,9 +45,8 @@ import static com.infoyupay.humandate.fx.HumanDateDefaults.DEFAULT_FORMAT;
  *
  * <p>
  * This factory configures {@link TextFieldTreeTableCell} instances with a
- * {@link HumanDateConverter} whose language and formatting pattern are
- * <b>reactively updated</b>. Unlike {@link javafx.scene.control.ListView},
- * {@link javafx.scene.control.TreeTableView} invokes
+ * shared {@link HumanDateConverterSnapshot} whose language and formatting pattern are
+ * <b>reactively updated</b>. {@link javafx.scene.control.TreeTableView} invokes
  * {@code TreeTableCell.updateItem(Object, boolean)} whenever the underlying
  * cell state changes, allowing updates to internal properties of the factory
  * to be reflected in existing cells.
@@ -52,17 +55,31 @@ import static com.infoyupay.humandate.fx.HumanDateDefaults.DEFAULT_FORMAT;
  * <p>
  * As a result, this factory is intentionally designed as a <b>mutable</b>
  * component. Changes to {@link #languageProperty()} or
- * {@link #formatProperty()} automatically trigger the recreation of the
- * underlying {@link HumanDateConverter} and are propagated to visible cells
- * during their normal update lifecycle.
+ * {@link #formatProperty()} automatically resolve the matching converter from
+ * {@link HumanDateConverterRegistry} and are propagated to visible cells
+ * immediately: live cells subscribe weakly to the factory and re-set their
+ * text without {@code TreeTableView.refresh()}. Factories configured identically
+ * share one converter and its warm caches.
  * </p>
  *
  * <p><b>Semantic notes:</b><br/>
- * This class does not provide a custom {@code TreeTableCell} implementation.
- * The underlying editor remains a {@link javafx.scene.control.TextField}, and
- * the responsibility of this factory is strictly limited to adapting
- * formatting and parsing behavior. A specialized date-picker tree-table cell
- * would be a separate component.
+ * The cells produced are thin {@link TextFieldTreeTableCell} specializations
+ * that only track the factory's converter. The underlying editor remains a
+ * {@link javafx.scene.control.TextField}, and the responsibility of this
+ * factory is strictly limited to adapting formatting and parsing behavior.
+ * A specialized date-picker tree-table cell would be a separate component.
+ * </p>
+ *
+ * <p>
+ * For data that is never edited, {@link #displayOnlyProperty() display-only}
+ * mode produces lightweight cells without any text-field machinery.
+ * </p>
+ *
+ * <p>
+ * A {@link HumanDateContext} installed on the scene or an ancestor of the
+ * TreeTableView is inherited from the first cell request on, and looked up again
+ * when contexts are installed or the control moves; while a context
+ * applies, its language and format take precedence over this factory's own.
  * </p>
  *
  * <h2>Example usage</h2>
@@ -78,13 +95,13 @@ import static com.infoyupay.humandate.fx.HumanDateDefaults.DEFAULT_FORMAT;
  *         new HumanDateTreeTableCellFactory<>();
  * birthColumn.setCellFactory(factory);
  *
- * // Update language at runtime (cells will refresh automatically)
+ * // Update language at runtime (visible cells update automatically)
  * factory.setLanguage(Languages.es());
  *}
  *
  * @param <S> the type of row items in the {@link javafx.scene.control.TreeTableView}
  * @author David Vidal
- * @version 1.0
+ * @version 1.1
  * @see HumanDateConverter
  * @see HumanDateTextFormatter
  * @see javafx.scene.control.TreeTableCell
@@ -103,19 +120,40 @@ public final class HumanDateTreeTableCellFactory<S>
      */
     private final ObjectProperty<LanguageSupport> language =
             new SimpleObjectProperty<>(this, "language", Languages.es());
+
+    /**
+     * Whether new cells are lightweight, display-only cells instead of
+     * editable {@link TextFieldTreeTableCell} instances.
+     */
+    private final BooleanProperty displayOnly =
+            new SimpleBooleanProperty(this, "displayOnly", false);
+
     /**
-     * Reactive binding that recreates the {@link HumanDateConverter} whenever
-     * the active language or format changes.
+     * Context explicitly assigned to this factory.
      */
-    private ObjectBinding<HumanDateConverter> converter;
+    private final ObjectProperty<HumanDateContext> context =
+            new SimpleObjectProperty<>(this, "context");
+
+    /**
+     * Context applying to the first control requesting cells, bound to its
+     * scene graph position on that first request.
+     */
+    private final ObjectProperty<HumanDateContext> inheritedContext =
+            new SimpleObjectProperty<>(this, "inheritedContext");
+    /**
+     * Reactive binding that resolves the shared converter from
+     * {@link HumanDateConverterRegistry} whenever the active language or
+     * format changes.
+     */
+    private ObjectBinding<HumanDateConverterSnapshot> converter;
 
     /**
      * Creates a cell factory using the default language and format.
      *
      * <p>
-     * The underlying {@link HumanDateConverter} is recreated automatically
-     * whenever the {@link #languageProperty()} or {@link #formatProperty()}
-     * changes.
+     * The underlying converter is resolved again from
+     * {@link HumanDateConverterRegistry} whenever the
+     * {@link #languageProperty()} or {@link #formatProperty()} changes.
      * </p>
      */
     public HumanDateTreeTableCellFactory() {
@@ -142,8 +180,8 @@ public final class HumanDateTreeTableCellFactory<S>
     }
 
     /**
-     * Initializes the reactive binding responsible for creating
-     * {@link HumanDateConverter} instances whenever the language or format
+     * Initializes the reactive binding responsible for resolving the shared
+     * {@link HumanDateConverterSnapshot} whenever the language or format
      * properties change.
      *
      * <p>
@@ -157,19 +195,34 @@ public final class HumanDateTreeTableCellFactory<S>
         if (converter != null)
             throw new IllegalStateException("Converter is already initialized.");
 
-        this.converter = Bindings.createObjectBinding(
-                () -> new HumanDateConverter(getLanguage(), getFormat()),
-                format, language
-        );
+        var settings = HumanDateContext.settingsOf(context, inheritedContext);
+        this.converter = Bindings.createObjectBinding(() -> {
+            var s = settings.getValue();
+            return s == null
+                    ? HumanDateConverterRegistry.get(getLanguage(), getFormat())
+                    : s.converter();
+        }, format, language, settings);
     }
 
     /**
      * Produces a new {@link TextFieldTreeTableCell} configured with the
-     * currently active {@link HumanDateConverter}.
+     * currently active shared converter.
+     *
+     * <p>
+     * Each cell subscribes weakly to this factory's converter binding, so
+     * language or format changes re-set the text of live cells directly,
+     * without {@code TreeTableView.refresh()} and without recreating cells.
+     * </p>
      *
      * <p>
-     * The converter is reassigned during item updates to ensure that
-     * changes to language or format are reflected in reused cells.
+     * In {@link #displayOnlyProperty() display-only} mode, a minimal
+     * {@link TreeTableCell} is produced instead: it only sets its text from the shared
+     * converter and never builds a {@link javafx.scene.control.TextField}.
+     * </p>
+     *
+     * <p>
+     * The first call also starts following the {@link HumanDateContext}
+     * applying to the requesting control, which this factory then inherits.
      * </p>
      *
      * @param column the column requesting a cell
@@ -177,13 +230,13 @@ public final class HumanDateTreeTableCellFactory<S>
      */
     @Override
     public TreeTableCell<S, LocalDate> call(final TreeTableColumn<S, LocalDate> column) {
-        return new TextFieldTreeTableCell<>(converter.get()) {
-            @Override
-            public void updateItem(LocalDate localDate, boolean b) {
-                super.updateItem(localDate, b);
-                setConverter(converter.get());
-            }
-        };
+        var control = column.getTreeTableView();
+        if (!inheritedContext.isBound() && control != null) {
+            inheritedContext.bind(HumanDateContext.inheritedBy(control));
+        }
+        return isDisplayOnly()
+                ? new DisplayCell<>(converter)
+                : new EditableCell<>(converter);
     }
 
     /**
@@ -240,4 +293,135 @@ public final class HumanDateTreeTableCellFactory<S>
         return format;
     }
 
+    /**
+     * Returns whether new cells are display-only.
+     *
+     * @return {@code true} if cells cannot be edited
+     */
+    public boolean isDisplayOnly() {
+        return displayOnly.get();
+    }
+
+    /**
+     * Switches between editable and display-only cells.
+     * <br/>
+     * Display-only cells avoid the editing machinery of
+     * {@link TextFieldTreeTableCell}, which makes them cheaper for columns that are never
+     * edited. The mode applies to cells created afterwards.
+     *
+     * @param displayOnly {@code true} to produce display-only cells
+     */
+    public void setDisplayOnly(final boolean displayOnly) {
+        this.displayOnly.set(displayOnly);
+    }
+
+    /**
+     * Property controlling whether new cells are display-only.
+     *
+     * @return a JavaFX property representing the display-only mode
+     */
+    public BooleanProperty displayOnlyProperty() {
+        return displayOnly;
+    }
+
+    /**
+     * Returns the context explicitly assigned to this factory.
+     *
+     * @return the context, or {@code null}
+     */
+    public HumanDateContext getContext() {
+        return context.get();
+    }
+
+    /**
+     * Assigns a context whose language and format override this factory's
+     * own, taking precedence over the context inherited from the scene graph.
+     *
+     * @param context the context, or {@code null} to fall back to the inherited one
+     */
+    public void setContext(final HumanDateContext context) {
+        this.context.set(context);
+    }
+
+    /**
+     * Property holding the explicitly assigned context.
+     *
+     * @return a JavaFX property representing the assigned context
+     */
+    public ObjectProperty<HumanDateContext> contextProperty() {
+        return context;
+    }
+
+    /**
+     * Editable cell following the converter binding of its factory.
+     *
+     * @param <S> the type of row items in the tree table
+     */
+    private static final class EditableCell<S> extends TextFieldTreeTableCell<S, LocalDate> {
+
+        /**
+         * Keeps the weak subscription to the factory alive as long as this cell.
+         */
+        private final HumanDateCellSupport support;
+
+        /**
+         * Creates a cell subscribed to the given converter binding.
+         *
+         * @param converter factory converter binding
+         */
+        EditableCell(final ObservableValue<? extends StringConverter<LocalDate>> converter) {
+            this.support = new HumanDateCellSupport(converter, this::onConverterChanged);
+            setConverter(support);
+        }
+
+        /**
+         * Re-sets the text of a displayed item after the factory's converter
+         * changed.
+         */
+        private void onConverterChanged() {
+            if (!isEmpty() && !isEditing()) {
+                setText(support.toString(getItem()));
+            }
+        }
+    }
+
+    /**
+     * Display-only cell following the converter binding of its factory.
+     *
+     * @param <S> the type of row items in the tree table
+     */
+    private static final class DisplayCell<S> extends TreeTableCell<S, LocalDate> {
+
+        /**
+         * Keeps the weak subscription to the factory alive as long as this cell.
+         */
+        private final HumanDateCellSupport support;
+
+        /**
+         * Creates a non-editable cell subscribed to the given converter binding.
+         *
+         * @param converter factory converter binding
+         */
+        DisplayCell(final ObservableValue<? extends StringConverter<LocalDate>> converter) {
+            this.support = new HumanDateCellSupport(converter, () -> render(getItem(), isEmpty()));
+            setEditable(false);
+        }
+
+        @Override
+        protected void updateItem(final LocalDate item, final boolean empty) {
+            super.updateItem(item, empty);
+            render(item, empty);
+        }
+
+        /**
+         * Sets the text for the given item. Unchanged items reuse the text
+         * rendered last time, leaving the text property untouched.
+         *
+         * @param item  displayed date, may be {@code null}
+         * @param empty whether the cell is empty
+         */
+        private void render(final LocalDate item, final boolean empty) {
+            setText(empty || item == null ? null : support.toString(item));
+        }
+    }
 }
@@ -0,0 +1,536 @@
+/*
+ * Copyright 2025 Ingeniería Informática Yupay S.A.C.S.
+ * RUC 20607854247
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.infoyupay.humandate.fx;
+
+import javafx.beans.binding.ObjectBinding;
+import javafx.beans.value.ObservableValue;
+import javafx.beans.value.WritableValue;
+import javafx.collections.ObservableList;
+import javafx.collections.ObservableListBase;
+import javafx.scene.control.TableColumn;
+import javafx.scene.control.TreeTableColumn;
+import javafx.util.Callback;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.time.LocalDate;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.ToIntFunction;
+
+import static com.infoyupay.humandate.fx.EpochDayProperty.NULL_EPOCH_DAY;
+
+/**
+ * A columnar backing store for {@link LocalDate} values, holding epoch days
+ * in a primitive {@code int} array.
+ * <br/>
+ * <p>
+ * Instead of one bean and one {@link LocalDateProperty} per row, a report
+ * grid keeps each date column in a {@code LocalDateColumn}: four bytes per
+ * row, with {@code null} encoded as {@link Integer#MIN_VALUE}. Epoch days
+ * outside the {@code int} range, and that sentinel day itself, are rejected
+ * with an {@link ArithmeticException}. Observable values are only
+ * materialized by the {@link #cellValueFactory(ToIntFunction) cell value
+ * factories}, which {@code TableView} and {@code TreeTableView} call for the
+ * rows currently visible, so memory stays bounded by the viewport rather than
+ * by the row count. Values are shared per row and only the rows a mutation
+ * touches are invalidated, so editing one row does not recompute the rest of
+ * the viewport.
+ * <br/>
+ * <p>
+ * {@link #rowIndices()} offers a virtual list of row indices that can be used
+ * as the items of a {@code TableView<Integer>}, without allocating an element
+ * per row. Such a table plugs directly into {@link HumanDateTableCellFactory}.
+ * <br/>
+ * <p><b>Usage example:</b></p>
+ * {@snippet :
+ * var dueDates = new LocalDateColumn(10_000_000);
+ * // ... fill dueDates ...
+ * TableView<Integer> table = new TableView<>(dueDates.rowIndices());
+ * TableColumn<Integer, LocalDate> column = new TableColumn<>("Due date");
+ * column.setCellValueFactory(dueDates.cellValueFactory(Integer::intValue));
+ * column.setCellFactory(new HumanDateTableCellFactory<>());
+ *}
+ * <br/>
+ * <p>
+ * Instances are not thread-safe and, once displayed, must only be modified
+ * on the JavaFX Application Thread. Epoch days are limited to the
+ * {@code int} range, roughly years -5,800,000 to 5,800,000.
+ *
+ * @author David Vidal, Infoyupay
+ * @version 1.0
+ */
+public final class LocalDateColumn {
+
+    /**
+     * Sentinel stored for {@code null} dates.
+     */
+    private static final int NULL_DAY = Integer.MIN_VALUE;
+
+    /**
+     * Epoch days, {@link #NULL_DAY} for {@code null}.
+     */
+    private int[] days;
+
+    /**
+     * Number of rows in use.
+     */
+    private int size;
+
+    /**
+     * Materialized cell values by row, weakly held so the ones no cell
+     * displays any more can be collected.
+     */
+    private final Map<Integer, RowRef> values = new HashMap<>();
+
+    /**
+     * Collected cell values, purged from {@link #values} on access.
+     */
+    private final ReferenceQueue<RowValue> collected = new ReferenceQueue<>();
+
+    /**
+     * Lazily created view, see {@link #rowIndices()}.
+     */
+    private RowIndices rowIndices;
+
+    /**
+     * Creates an empty column with a default initial capacity.
+     */
+    public LocalDateColumn() {
+        this(16);
+    }
+
+    /**
+     * Creates an empty column able to hold {@code initialCapacity} rows
+     * before growing.
+     *
+     * @param initialCapacity initial capacity
+     * @throws IllegalArgumentException if {@code initialCapacity} is negative
+     */
+    public LocalDateColumn(final int initialCapacity) {
+        if (initialCapacity < 0)
+            throw new IllegalArgumentException("Negative capacity: " + initialCapacity);
+        this.days = new int[initialCapacity];
+    }
+
+    // --- Reading ---
+
+    /**
+     * Number of rows.
+     *
+     * @return the row count
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the epoch day stored at a row.
+     *
+     * @param row row index
+     * @return the epoch day, or {@link EpochDayProperty#NULL_EPOCH_DAY}
+     * @throws IndexOutOfBoundsException if the row does not exist
+     */
+    public long getEpochDay(final int row) {
+        var day = days[Objects.checkIndex(row, size)];
+        return day == NULL_DAY ? NULL_EPOCH_DAY : day;
+    }
+
+    /**
+     * Returns the date stored at a row, materializing a {@link LocalDate}.
+     *
+     * @param row row index
+     * @return the date, or {@code null}
+     * @throws IndexOutOfBoundsException if the row does not exist
+     */
+    public LocalDate get(final int row) {
+        return EpochDayProperty.toLocalDate(getEpochDay(row));
+    }
+
+    /**
+     * Copies the column into a new epoch-day array, for instance to
+     * pre-render it with
+     * {@link HumanDateBatch#formatAll(long[], HumanDateConverterSnapshot)}.
+     *
+     * @return one epoch day per row, {@link EpochDayProperty#NULL_EPOCH_DAY}
+     * for {@code null}
+     */
+    public long[] toEpochDays() {
+        var result = new long[size];
+        for (var i = 0; i < size; i++) {
+            result[i] = days[i] == NULL_DAY ? NULL_EPOCH_DAY : days[i];
+        }
+        return result;
+    }
+
+    // --- Writing ---
+
+    /**
+     * Appends a date.
+     *
+     * @param date the date, may be {@code null}
+     * @throws ArithmeticException if the epoch day exceeds the {@code int} range
+     */
+    public void add(final LocalDate date) {
+        addEpochDay(EpochDayProperty.toEpochDay(date));
+    }
+
+    /**
+     * Appends an epoch day.
+     *
+     * @param epochDay the epoch day, or {@link EpochDayProperty#NULL_EPOCH_DAY}
+     * @throws ArithmeticException if the epoch day exceeds the {@code int} range
+     */
+    public void addEpochDay(final long epochDay) {
+        var day = encode(epochDay);
+        ensureCapacity(size + 1);
+        days[size++] = day;
+        appended(size - 1);
+    }
+
+    /**
+     * Appends several dates, firing a single change on {@link #rowIndices()}.
+     *
+     * @param dates the dates, which may contain {@code null}
+     * @throws ArithmeticException if an epoch day exceeds the {@code int}
+     *                             range, in which case nothing is appended
+     */
+    public void addAll(final Collection<? extends LocalDate> dates) {
+        var encoded = new int[dates.size()];
+        var i = 0;
+        for (var date : dates) {
+            encoded[i++] = encode(EpochDayProperty.toEpochDay(date));
+        }
+        append(encoded, i);
+    }
+
+    /**
+     * Appends several epoch days, firing a single change on
+     * {@link #rowIndices()}.
+     *
+     * @param epochDays the epoch days, {@link EpochDayProperty#NULL_EPOCH_DAY}
+     *                  for {@code null}
+     * @throws ArithmeticException if an epoch day exceeds the {@code int}
+     *                             range, in which case nothing is appended
+     */
+    public void addAllEpochDays(final long[] epochDays) {
+        var encoded = new int[epochDays.length];
+        for (var i = 0; i < epochDays.length; i++) {
+            encoded[i] = encode(epochDays[i]);
+        }
+        append(encoded, encoded.length);
+    }
+
+    /**
+     * Replaces the date stored at a row.
+     *
+     * @param row  row index
+     * @param date the new date, may be {@code null}
+     * @throws IndexOutOfBoundsException if the row does not exist
+     * @throws ArithmeticException       if the epoch day exceeds the {@code int} range
+     */
+    public void set(final int row, final LocalDate date) {
+        setEpochDay(row, EpochDayProperty.toEpochDay(date));
+    }
+
+    /**
+     * Replaces the epoch day stored at a row.
+     *
+     * @param row      row index
+     * @param epochDay the new epoch day, or {@link EpochDayProperty#NULL_EPOCH_DAY}
+     * @throws IndexOutOfBoundsException if the row does not exist
+     * @throws ArithmeticException       if the epoch day exceeds the {@code int} range
+     */
+    public void setEpochDay(final int row, final long epochDay) {
+        var day = encode(epochDay);
+        if (days[Objects.checkIndex(row, size)] == day) return;
+        days[row] = day;
+        invalidate(row);
+    }
+
+    /**
+     * Removes every row, keeping the allocated capacity.
+     */
+    public void clear() {
+        var removed = size;
+        if (removed == 0) return;
+        size = 0;
+        invalidateFrom(0);
+        if (rowIndices != null) rowIndices.removed(removed);
+    }
+
+    // --- JavaFX integration ---
+
+    /**
+     * Virtual list of the row indices {@code 0 .. size() - 1}.
+     * <br/>
+     * <p>
+     * The list holds no elements: each index is boxed on access, so a
+     * {@code TableView} backed by it only pays for the rows it displays. It
+     * follows the column's size and is unmodifiable; to let users sort the
+     * table, wrap it in a {@link javafx.collections.transformation.SortedList}.
+     *
+     * @return an unmodifiable observable list of row indices
+     */
+    public ObservableList<Integer> rowIndices() {
+        if (rowIndices == null) {
+            rowIndices = new RowIndices();
+        }
+        return rowIndices;
+    }
+
+    /**
+     * Cell value factory for a {@link TableColumn}, materializing an
+     * observable value only for the rows being displayed.
+     * <br/>
+     * The produced values are also {@link WritableValue}s, so edits committed
+     * through the default {@code onEditCommit} handler are stored back into
+     * this column.
+     *
+     * @param rowIndex maps a table item to its row in this column
+     * @param <S>      the type of table items
+     * @return a cell value factory
+     */
+    public <S> Callback<TableColumn.CellDataFeatures<S, LocalDate>, ObservableValue<LocalDate>>
+    cellValueFactory(final ToIntFunction<? super S> rowIndex) {
+        Objects.requireNonNull(rowIndex);
+        return f -> {
+            var item = f.getValue();
+            if (item == null) return null;
+            return valueOf(rowIndex.applyAsInt(item));
+        };
+    }
+
+    /**
+     * Cell value factory for a {@link TreeTableColumn}, materializing an
+     * observable value only for the rows being displayed.
+     *
+     * @param rowIndex maps a tree item value to its row in this column
+     * @param <S>      the type of tree item values
+     * @return a cell value factory
+     * @see #cellValueFactory(ToIntFunction)
+     */
+    public <S> Callback<TreeTableColumn.CellDataFeatures<S, LocalDate>, ObservableValue<LocalDate>>
+    treeCellValueFactory(final ToIntFunction<? super S> rowIndex) {
+        Objects.requireNonNull(rowIndex);
+        return f -> {
+            var treeItem = f.getValue();
+            if (treeItem == null || treeItem.getValue() == null) return null;
+            return valueOf(rowIndex.applyAsInt(treeItem.getValue()));
+        };
+    }
+
+    /**
+     * Encodes an epoch day for storage.
+     *
+     * @param epochDay epoch day or {@link EpochDayProperty#NULL_EPOCH_DAY}
+     * @return the stored representation
+     * @throws ArithmeticException if the epoch day exceeds the {@code int}
+     *                             range or would read back as {@link #NULL_DAY}
+     */
+    private static int encode(final long epochDay) {
+        if (epochDay == NULL_EPOCH_DAY) return NULL_DAY;
+        var day = Math.toIntExact(epochDay);
+        if (day == NULL_DAY) throw new ArithmeticException("Epoch day reserved for null: " + epochDay);
+        return day;
+    }
+
+    /**
+     * Grows the storage to hold at least {@code capacity} rows.
+     *
+     * @param capacity required capacity
+     */
+    private void ensureCapacity(final int capacity) {
+        if (capacity > days.length) {
+            days = Arrays.copyOf(days, Math.max(capacity, Math.max(16, size + (size >> 1))));
+        }
+    }
+
+    /**
+     * Appends already encoded days.
+     *
+     * @param encoded encoded days
+     * @param count   number of days to append
+     */
+    private void append(final int[] encoded, final int count) {
+        if (count == 0) return;
+        ensureCapacity(size + count);
+        System.arraycopy(encoded, 0, days, size, count);
+        var from = size;
+        size += count;
+        appended(from);
+    }
+
+    /**
+     * Publishes rows appended from {@code from} up to {@link #size}.
+     *
+     * @param from first appended row
+     */
+    private void appended(final int from) {
+        invalidateFrom(from);
+        if (rowIndices != null) rowIndices.added(from, size);
+    }
+
+    /**
+     * Returns the shared cell value of a row, creating it if no cell holds
+     * one any more.
+     *
+     * @param row row index
+     * @return the row's observable value
+     */
+    private RowValue valueOf(final int row) {
+        purge();
+        var ref = values.get(row);
+        var value = ref == null ? null : ref.get();
+        if (value == null) {
+            value = new RowValue(row);
+            values.put(row, new RowRef(value, collected));
+        }
+        return value;
+    }
+
+    /**
+     * Invalidates the materialized value of one row, if any.
+     *
+     * @param row row index
+     */
+    private void invalidate(final int row) {
+        var ref = values.get(row);
+        var value = ref == null ? null : ref.get();
+        if (value != null) value.invalidate();
+    }
+
+    /**
+     * Invalidates the materialized values of every row from {@code from} on.
+     * Only displayed rows are materialized, so this touches few values.
+     *
+     * @param from first row to invalidate
+     */
+    private void invalidateFrom(final int from) {
+        purge();
+        for (var ref : values.values().toArray(RowRef[]::new)) {
+            var value = ref.get();
+            if (value != null && ref.row >= from) value.invalidate();
+        }
+    }
+
+    /**
+     * Drops the entries of collected cell values.
+     */
+    private void purge() {
+        for (var ref = collected.poll(); ref != null; ref = collected.poll()) {
+            var row = ((RowRef) ref).row;
+            values.remove(row, ref);
+        }
+    }
+
+    /**
+     * Weak reference to a cell value, remembering its row for purging.
+     */
+    private static final class RowRef extends WeakReference<RowValue> {
+
+        private final int row;
+
+        RowRef(final RowValue value, final ReferenceQueue<RowValue> queue) {
+            super(value, queue);
+            this.row = value.row;
+        }
+    }
+
+    /**
+     * Observable, writable value of a single row.
+     */
+    private final class RowValue extends ObjectBinding<LocalDate>
+            implements WritableValue<LocalDate> {
+
+        private final int row;
+
+        /**
+         * Creates the value of a row.
+         *
+         * @param row row index
+         */
+        RowValue(final int row) {
+            this.row = row;
+        }
+
+        @Override
+        protected LocalDate computeValue() {
+            return row < size ? get(row) : null;
+        }
+
+        @Override
+        public void setValue(final LocalDate value) {
+            set(row, value);
+        }
+    }
+
+    /**
+     * Virtual list of row indices.
+     */
+    private final class RowIndices extends ObservableListBase<Integer> {
+
+        @Override
+        public Integer get(final int index) {
+            return Objects.checkIndex(index, size);
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        /**
+         * Notifies listeners about appended rows.
+         *
+         * @param from first added index
+         * @param to   index after the last added one
+         */
+        void added(final int from, final int to) {
+            beginChange();
+            nextAdd(from, to);
+            endChange();
+        }
+
+        /**
+         * Notifies listeners that every row was removed.
+         *
+         * @param count number of removed rows
+         */
+        void removed(final int count) {
+            beginChange();
+            nextRemove(0, new AbstractList<Integer>() {
+                @Override
+                public Integer get(final int index) {
+                    return Objects.checkIndex(index, count);
+                }
+
+                @Override
+                public int size() {
+                    return count;
+                }
+            });
+            endChange();
+        }
+    }
+}
@@ -27,6 +27,7 @@ import javafx.beans.value.ObservableValue;
 
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
+import java.util.Objects;
 
 /**
  * A {@link SimpleObjectProperty} specialization for {@link LocalDate} values,
@@ -34,13 +35,20 @@ import java.time.format.DateTimeFormatter;
  * <br/>
  * <p>
  * These bindings update automatically whenever the property value changes,
- * making them useful for UI labels or read-only displays.
+ * making them useful for UI labels or read-only displays. They are memoized
+ * per formatter instance, so any number of consumers binding with the same
+ * formatter share a single binding and a single formatted string.
  *
  * @author David Vidal, Infoyupay
- * @version 1.0
+ * @version 1.1
  */
 public final class LocalDateProperty extends SimpleObjectProperty<LocalDate> {
 
+    /**
+     * Lazily created memo of string bindings, keyed by formatter.
+     */
+    private StringBindingMemo bindings;
+
     /**
      * Creates an empty {@code LocalDateProperty} with no initial value.
      * <br/>
@@ -89,48 +97,75 @@ public final class LocalDateProperty extends SimpleObjectProperty<LocalDate> {
 
 
     /**
-     * Creates a string binding based on a provided {@link DateTimeFormatter}.
+     * Returns a string binding based on a provided {@link DateTimeFormatter}.
+     * <br/>
+     * The binding is memoized per formatter instance and shared by every
+     * caller, so it must not be {@linkplain StringBinding#dispose() disposed}.
      *
      * @param formatter Java date-time formatter (must not be null)
      * @return a string binding reflecting the formatted value
      */
     public StringBinding asFormattedString(final DateTimeFormatter formatter) {
-        return Bindings.createStringBinding(() -> {
+        Objects.requireNonNull(formatter);
+        return memo().get(formatter, () -> Bindings.createStringBinding(() -> {
             var val = getValue();
             if (val == null) return "";
             return formatter.format(val);
-        }, this);
+        }, this));
     }
 
     /**
-     * Creates a string binding using a human-friendly formatter obtained
+     * Returns a string binding using a human-friendly formatter obtained
      * from an {@link ObjectBinding} of {@link HumanDateFormatter}.
      * <br/>
-     * Useful when formatter configuration may change at runtime.
+     * Useful when formatter configuration may change at runtime. The binding
+     * also follows {@link HumanDateClock#todayProperty()}, so relative texts
+     * update at midnight.
+     * <br/>
+     * The binding is memoized per formatter instance and shared by every
+     * caller, so it must not be {@linkplain StringBinding#dispose() disposed}.
      *
      * @param formatterBinding binding providing the active formatter
      * @return a string binding reflecting human-friendly output
      */
     public StringBinding asHumanString(final ObservableValue<HumanDateFormatter> formatterBinding) {
-        return Bindings.createStringBinding(() -> {
+        Objects.requireNonNull(formatterBinding);
+        return memo().get(formatterBinding, () -> Bindings.createStringBinding(() -> {
             var fmt = formatterBinding.getValue();
             var val = getValue();
             if (fmt == null || val == null) return "";
             return fmt.apply(val);
-        }, formatterBinding, this);
+        }, formatterBinding, this, HumanDateClock.todayProperty()));
     }
 
     /**
-     * Convenience overload for static human-friendly formatting.
+     * Convenience overload for static human-friendly formatting. The binding
+     * also follows {@link HumanDateClock#todayProperty()}.
+     * <br/>
+     * The binding is memoized per formatter instance and shared by every
+     * caller, so it must not be {@linkplain StringBinding#dispose() disposed}.
      *
      * @param formatter active formatter
      * @return binding displaying formatted text
      */
     public StringBinding asHumanString(final HumanDateFormatter formatter) {
-        return Bindings.createStringBinding(() -> {
+        Objects.requireNonNull(formatter);
+        return memo().get(formatter, () -> Bindings.createStringBinding(() -> {
             var val = getValue();
             if (val == null) return "";
             return formatter.apply(val);
-        }, this);
+        }, this, HumanDateClock.todayProperty()));
+    }
+
+    /**
+     * Lazily creates the memo of string bindings.
+     *
+     * @return the memo
+     */
+    private StringBindingMemo memo() {
+        if (bindings == null) {
+            bindings = new StringBindingMemo();
+        }
+        return bindings;
     }
 }
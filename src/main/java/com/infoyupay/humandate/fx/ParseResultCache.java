@@ -0,0 +1,205 @@
+/*
+ * Copyright 2025 Ingeniería Informática Yupay S.A.C.S.
+ * RUC 20607854247
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.infoyupay.humandate.fx;
+
+import com.infoyupay.humandate.core.LanguageSupport;
+
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded LRU cache of parse results keyed by trimmed input and language.
+ * <br/>
+ * <p>
+ * Inputs that spell out a full date, such as {@code 04052015} or
+ * {@code 1/4/12}, always resolve to the same day and stay cached until
+ * evicted. Every other input (keywords, offsets, partial dates) depends on
+ * the current day, so its entry expires at the next local midnight.
+ * <br/>
+ * <p>
+ * Access is synchronized: the underlying access-ordered map is mutated even
+ * by lookups.
+ *
+ * @author David Vidal, Infoyupay
+ * @version 1.0
+ */
+final class ParseResultCache {
+
+    /**
+     * Largest accepted capacity.
+     */
+    static final int MAX_CAPACITY = 1 << 16;
+
+    /**
+     * Expiry used for inputs that do not depend on the current day.
+     */
+    private static final long NEVER = Long.MAX_VALUE;
+
+    private final Map<Key, Entry> entries;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * Wall-clock instant (epoch millis) of the next local midnight.
+     */
+    private volatile long midnight = EpochDayRenderCache.nextMidnight();
+
+    /**
+     * Creates a cache holding at most {@code capacity} entries.
+     *
+     * @param capacity maximum number of entries, between 1 and {@link #MAX_CAPACITY}
+     * @throws IllegalArgumentException if the capacity is out of range
+     */
+    ParseResultCache(final int capacity) {
+        if (capacity < 1 || capacity > MAX_CAPACITY)
+            throw new IllegalArgumentException("Capacity out of range: " + capacity);
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<Key, Entry> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    /**
+     * Looks up a previous parse result.
+     *
+     * @param input    trimmed, non-blank input
+     * @param language language the input was parsed with
+     * @return the cached date, or {@code null} on a miss
+     */
+    LocalDate get(final String input, final LanguageSupport language) {
+        var now = System.currentTimeMillis();
+        if (now >= midnight) {
+            midnight = EpochDayRenderCache.nextMidnight();
+        }
+        var key = new Key(input, language);
+        synchronized (entries) {
+            var entry = entries.get(key);
+            if (entry != null) {
+                if (now < entry.expiresAt) {
+                    hits.increment();
+                    return entry.date;
+                }
+                entries.remove(key);
+            }
+        }
+        misses.increment();
+        return null;
+    }
+
+    /**
+     * Expiry to pass to {@link #put(String, LanguageSupport, LocalDate, long)}.
+     * <br/>
+     * Must be read <em>before</em> parsing, so a parse that straddles midnight
+     * never outlives the day it was computed for.
+     *
+     * @return the end of the current day, in epoch millis
+     */
+    long currentDayExpiry() {
+        return midnight;
+    }
+
+    /**
+     * Stores a parse result.
+     *
+     * @param input     trimmed, non-blank input
+     * @param language  language the input was parsed with
+     * @param date      parse result (must not be {@code null})
+     * @param dayExpiry value of {@link #currentDayExpiry()} read before parsing
+     */
+    void put(final String input,
+             final LanguageSupport language,
+             final LocalDate date,
+             final long dayExpiry) {
+        var entry = new Entry(date, isAbsolute(input) ? NEVER : dayExpiry);
+        synchronized (entries) {
+            entries.put(new Key(input, language), entry);
+        }
+    }
+
+    /**
+     * Drops every entry. Counters are preserved.
+     */
+    void clear() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    /**
+     * Current counters.
+     *
+     * @return a snapshot of hit and miss counters
+     */
+    HumanDateCacheStats stats() {
+        return new HumanDateCacheStats(hits.sum(), misses.sum());
+    }
+
+    /**
+     * Tells whether an input spells out day, month and year, so its result
+     * does not depend on the current day.
+     * <br/>
+     * Accepted shapes are six or eight bare digits ({@code ddMMyy},
+     * {@code ddMMyyyy}) and three digit groups joined by single separators
+     * whose last group has two or four digits ({@code 1·4·12},
+     * {@code 01/04/2012}).
+     *
+     * @param input trimmed input
+     * @return {@code true} if the input is an absolute date
+     */
+    static boolean isAbsolute(final String input) {
+        var groups = 1;
+        var groupLength = 0;
+        for (var i = 0; i < input.length(); i++) {
+            var c = input.charAt(i);
+            if (c >= '0' && c <= '9') {
+                groupLength++;
+            } else if (groupLength == 0 || ++groups > 3) {
+                return false;
+            } else {
+                groupLength = 0;
+            }
+        }
+        if (groups == 1) {
+            return groupLength == 6 || groupLength == 8;
+        }
+        return groups == 3 && (groupLength == 2 || groupLength == 4);
+    }
+
+    /**
+     * Cache key.
+     *
+     * @param input    trimmed input
+     * @param language parsing language
+     */
+    private record Key(String input, LanguageSupport language) {
+    }
+
+    /**
+     * Cached result.
+     *
+     * @param date      parsed date
+     * @param expiresAt epoch millis after which the result is stale
+     */
+    private record Entry(LocalDate date, long expiresAt) {
+    }
+}
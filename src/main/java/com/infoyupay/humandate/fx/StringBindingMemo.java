@@ -0,0 +1,88 @@
+/*
+ * Copyright 2025 Ingeniería Informática Yupay S.A.C.S.
+ * RUC 20607854247
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.infoyupay.humandate.fx;
+
+import javafx.beans.binding.StringBinding;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.function.Supplier;
+
+/**
+ * Memo of the string bindings derived from a single date property, keyed by
+ * formatter instance.
+ * <br/>
+ * <p>
+ * Both keys and bindings are held weakly: a binding stays memoized while some
+ * consumer (typically a bound {@code textProperty}) still references it, and
+ * can be collected otherwise. Keys are compared by identity, since formatters
+ * are not required to implement {@code equals}. A property rarely has more
+ * than a handful of formatters, so entries live in a small list scanned
+ * linearly, which also purges cleared entries.
+ * <br/>
+ * <p>
+ * Not thread-safe, like the properties using it.
+ *
+ * @author David Vidal, Infoyupay
+ * @version 1.0
+ */
+final class StringBindingMemo {
+
+    /**
+     * Memoized bindings.
+     */
+    private final ArrayList<Entry> entries = new ArrayList<>(2);
+
+    /**
+     * Returns the binding memoized for {@code key}, creating it if there is
+     * none or if the previous one was collected.
+     *
+     * @param key     formatter instance, compared by identity
+     * @param factory creates the binding on a miss
+     * @return the shared binding
+     */
+    StringBinding get(final Object key, final Supplier<StringBinding> factory) {
+        StringBinding found = null;
+        var it = entries.iterator();
+        while (it.hasNext()) {
+            var entry = it.next();
+            var entryKey = entry.key.get();
+            var binding = entry.binding.get();
+            if (entryKey == null || binding == null) {
+                it.remove();
+            } else if (entryKey == key) {
+                found = binding;
+            }
+        }
+        if (found == null) {
+            found = factory.get();
+            entries.add(new Entry(new WeakReference<>(key), new WeakReference<>(found)));
+        }
+        return found;
+    }
+
+    /**
+     * Memo entry.
+     *
+     * @param key     the formatter
+     * @param binding the binding derived from it
+     */
+    private record Entry(WeakReference<Object> key, WeakReference<StringBinding> binding) {
+    }
+}
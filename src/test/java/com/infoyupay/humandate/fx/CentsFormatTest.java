@@ -0,0 +1,151 @@
+/*
+ * Copyright 2025 Ingeniería Informática Yupay S.A.C.S.
+ * RUC 20607854247
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.infoyupay.humandate.fx;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Locale;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for {@link CentsFormat}.
+ *
+ * @author David Vidal, Infoyupay
+ * @version 1.0
+ */
+final class CentsFormatTest {
+
+    /**
+     * Cent amounts survive a format/parse round trip and match the
+     * {@code BigDecimal} rounding rules.
+     */
+    @Test
+    void parse_shouldRoundTripFormattedAmounts() {
+        var format = CentsFormat.DEFAULT;
+
+        assertThat(format.format(123456789L)).isEqualTo("1,234,567.89");
+        assertThat(format.format(-5L)).isEqualTo("-0.05");
+        assertThat(format.format(CentsProperty.NULL_CENTS)).isEmpty();
+        assertThat(format.parse(format.format(Long.MAX_VALUE))).isEqualTo(Long.MAX_VALUE);
+        assertThat(format.parse(format.format(-Long.MAX_VALUE))).isEqualTo(-Long.MAX_VALUE);
+        assertThat(format.parse(" 1,234.5 ")).isEqualTo(123450L);
+        assertThat(format.parse("+7")).isEqualTo(700L);
+        assertThat(format.parse(".5")).isEqualTo(50L);
+        assertThat(format.parse("")).isEqualTo(CentsProperty.NULL_CENTS);
+    }
+
+    /**
+     * Digits past the second fraction digit round half-even, exactly as
+     * {@link CentsProperty#toCents(BigDecimal)} does.
+     */
+    @Test
+    void parse_shouldRoundHalfEven() {
+        var format = CentsFormat.DEFAULT;
+
+        assertThat(format.parse("0.125")).isEqualTo(12L);
+        assertThat(format.parse("0.135")).isEqualTo(14L);
+        assertThat(format.parse("0.005")).isZero();
+        assertThat(format.parse("0.015")).isEqualTo(2L);
+        assertThat(format.parse("0.1250000")).isEqualTo(12L);
+        assertThat(format.parse("0.1250001")).isEqualTo(13L);
+        assertThat(format.parse("0.124999")).isEqualTo(12L);
+        assertThat(format.parse("-0.125")).isEqualTo(-12L);
+        assertThat(format.parse("-0.135")).isEqualTo(-14L);
+        for (var text : new String[]{"0.125", "0.135", "0.005", "2.675", "-1.005", "-0.1250001"}) {
+            assertThat(format.parse(text)).as(text).isEqualTo(CentsProperty.toCents(new BigDecimal(text)));
+        }
+    }
+
+    /**
+     * Amounts beyond {@link Long#MAX_VALUE} cents are rejected, including
+     * the ones that only overflow when rounding up.
+     */
+    @Test
+    void parse_shouldRejectOverflow() {
+        var format = CentsFormat.DEFAULT;
+
+        assertThatThrownBy(() -> format.parse("92,233,720,368,547,758.08"))
+                .isInstanceOf(NumberFormatException.class);
+        assertThatThrownBy(() -> format.parse("-92,233,720,368,547,758.08"))
+                .isInstanceOf(NumberFormatException.class);
+        assertThatThrownBy(() -> format.parse("92233720368547758.075"))
+                .isInstanceOf(NumberFormatException.class);
+        assertThatThrownBy(() -> format.parse("99999999999999999999"))
+                .isInstanceOf(NumberFormatException.class);
+        assertThat(format.converter().fromString("99999999999999999999")).isNull();
+        assertThatThrownBy(() -> CentsProperty.toCents(new BigDecimal("92233720368547758.08")))
+                .isInstanceOf(ArithmeticException.class);
+    }
+
+    /**
+     * Misplaced separators and stray characters are not amounts; the
+     * converter turns them into {@code null}.
+     */
+    @Test
+    void parse_shouldRejectInvalidText() {
+        var format = CentsFormat.DEFAULT;
+
+        for (var text : new String[]{"-", ".", ",1", "1.2.3", "1.2a", "12,a", "abc", "1 2"}) {
+            assertThatThrownBy(() -> format.parse(text)).as(text).isInstanceOf(NumberFormatException.class);
+        }
+        assertThat(format.converter().fromString("12,a")).isNull();
+        assertThat(format.converter().fromString(" ")).isNull();
+        assertThat(format.converter().fromString("1,000")).isEqualTo(100_000L);
+        assertThat(format.converter().toString(null)).isEmpty();
+    }
+
+    /**
+     * Grouping separators must split the integer part into groups of three
+     * digits, whatever the locale.
+     */
+    @Test
+    void parse_shouldRejectMisplacedGroupingSeparators() {
+        var german = CentsFormat.of(Locale.GERMANY);
+
+        for (var text : new String[]{"1,2,3", "1,23", "1234,567", "1,234,56", "1,", "1,234,.5"}) {
+            assertThatThrownBy(() -> CentsFormat.DEFAULT.parse(text)).as(text)
+                    .isInstanceOf(NumberFormatException.class);
+        }
+        assertThatThrownBy(() -> german.parse("1.5")).isInstanceOf(NumberFormatException.class);
+        assertThat(CentsFormat.DEFAULT.parse("12,345,678.9")).isEqualTo(1_234_567_890L);
+        assertThat(CentsFormat.DEFAULT.parse("12345678.9")).isEqualTo(1_234_567_890L);
+        assertThat(german.parse("1.500")).isEqualTo(150_000L);
+    }
+
+    /**
+     * Separators come from the locale or are given explicitly, and the
+     * default separators share one instance.
+     */
+    @Test
+    void of_shouldUseTheGivenSeparators() {
+        var german = CentsFormat.of(Locale.GERMANY);
+        var plain = CentsFormat.of(CentsFormat.NO_GROUPING, '.');
+
+        assertThat(german.format(123456L)).isEqualTo("1.234,56");
+        assertThat(german.parse("1.234,56")).isEqualTo(123456L);
+        assertThat(plain.format(123456789L)).isEqualTo("1234567.89");
+        assertThatThrownBy(() -> plain.parse("1,234.56")).isInstanceOf(NumberFormatException.class);
+        assertThat(CentsFormat.of(',', '.')).isSameAs(CentsFormat.DEFAULT);
+        assertThatThrownBy(() -> CentsFormat.of('.', '.')).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> CentsFormat.of('1', '.')).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2025 Ingeniería Informática Yupay S.A.C.S.
+ * RUC 20607854247
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.infoyupay.humandate.fx;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Locale;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link CentsProperty}.
+ *
+ * @author David Vidal, Infoyupay
+ * @version 1.0
+ */
+final class CentsPropertyTest {
+
+    /**
+     * A {@code null} number clears the amount to the sentinel instead of
+     * zero, as editable cells commit unparseable texts.
+     */
+    @Test
+    void setValue_shouldMapNullToSentinel() {
+        var property = new CentsProperty(new BigDecimal("12.34"));
+
+        property.setValue(null);
+
+        assertThat(property.get()).isEqualTo(CentsProperty.NULL_CENTS);
+        assertThat(property.isNullAmount()).isTrue();
+        assertThat(property.getAmount()).isNull();
+
+        property.setValue(0);
+        assertThat(property.isNullAmount()).isFalse();
+        assertThat(property.getAmount()).isEqualByComparingTo("0");
+    }
+
+    /**
+     * Amounts with more than two fraction digits round half-even, and
+     * {@code null} maps to the sentinel both ways.
+     */
+    @Test
+    void toCents_shouldRoundHalfEven() {
+        assertThat(CentsProperty.toCents(new BigDecimal("0.125"))).isEqualTo(12L);
+        assertThat(CentsProperty.toCents(new BigDecimal("0.135"))).isEqualTo(14L);
+        assertThat(CentsProperty.toCents(new BigDecimal("0.1251"))).isEqualTo(13L);
+        assertThat(CentsProperty.toCents(new BigDecimal("-0.125"))).isEqualTo(-12L);
+        assertThat(CentsProperty.toCents(new BigDecimal("7"))).isEqualTo(700L);
+        assertThat(CentsProperty.toCents(null)).isEqualTo(CentsProperty.NULL_CENTS);
+        assertThat(CentsProperty.toBigDecimal(-1234L)).isEqualTo(new BigDecimal("-12.34"));
+        assertThat(CentsProperty.toBigDecimal(CentsProperty.NULL_CENTS)).isNull();
+    }
+
+    /**
+     * Each format gets one shared binding per property, which follows the
+     * amount and renders {@code null} as an empty text.
+     */
+    @Test
+    void asFormattedString_shouldMemoizeBindingPerFormat() {
+        var property = new CentsProperty(new BigDecimal("1234.5"));
+        var german = CentsFormat.of(Locale.GERMANY);
+
+        var binding = property.asFormattedString(CentsFormat.DEFAULT);
+        var germanBinding = property.asFormattedString(german);
+
+        assertThat(property.asFormattedString(CentsFormat.DEFAULT)).isSameAs(binding);
+        assertThat(property.asFormattedString(german)).isSameAs(germanBinding);
+        assertThat(germanBinding).isNotSameAs(binding);
+        assertThat(binding.get()).isEqualTo("1,234.50");
+        assertThat(germanBinding.get()).isEqualTo("1.234,50");
+
+        property.set(-5L);
+        assertThat(binding.get()).isEqualTo("-0.05");
+
+        property.setAmount(null);
+        assertThat(binding.get()).isEmpty();
+    }
+}
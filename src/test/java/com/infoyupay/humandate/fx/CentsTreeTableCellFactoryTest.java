@@ -0,0 +1,143 @@
+/*
+ * Copyright 2025 Ingeniería Informática Yupay S.A.C.S.
+ * RUC 20607854247
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.infoyupay.humandate.fx;
+
+import javafx.scene.control.TreeItem;
+import javafx.scene.control.TreeTableCell;
+import javafx.scene.control.TreeTableColumn;
+import javafx.scene.control.TreeTableRow;
+import javafx.scene.control.TreeTableView;
+import org.junit.jupiter.api.Test;
+
+import java.util.Locale;
+
+import static com.infoyupay.humandate.fx.FxToolkit.assumeToolkit;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link CentsTreeTableCellFactory}.
+ * <br/>
+ * <p>
+ * Tests creating cells need the JavaFX toolkit and are skipped without a
+ * display.
+ *
+ * @author David Vidal, Infoyupay
+ * @version 1.0
+ */
+final class CentsTreeTableCellFactoryTest {
+
+    /**
+     * In leaves-only mode, branch rows refuse to enter editing while leaf
+     * rows still do.
+     */
+    @Test
+    void leavesOnly_shouldRefuseEditingBranchRows() throws Exception {
+        assumeToolkit();
+        var factory = new CentsTreeTableCellFactory<CentsProperty>();
+        factory.setLeavesOnly(true);
+
+        var editing = FxToolkit.call(() -> {
+            var view = sampleView();
+            var branch = show(factory, view, 0);
+            var leaf = show(factory, view, 1);
+            branch.startEdit();
+            leaf.startEdit();
+            return new boolean[]{branch.isEditing(), leaf.isEditing()};
+        });
+
+        assertThat(editing[0]).as("branch").isFalse();
+        assertThat(editing[1]).as("leaf").isTrue();
+    }
+
+    /**
+     * Without leaves-only mode, branch rows are editable like any other.
+     */
+    @Test
+    void startEdit_shouldEditBranchRowsByDefault() throws Exception {
+        assumeToolkit();
+        var factory = new CentsTreeTableCellFactory<CentsProperty>();
+
+        var editing = FxToolkit.call(() -> {
+            var branch = show(factory, sampleView(), 0);
+            branch.startEdit();
+            return branch.isEditing();
+        });
+
+        assertThat(editing).isTrue();
+    }
+
+    /**
+     * Live cells re-set their text when the factory's format changes.
+     */
+    @Test
+    void cells_shouldRefreshTextWhenFormatChanges() throws Exception {
+        assumeToolkit();
+        var factory = new CentsTreeTableCellFactory<CentsProperty>();
+
+        var cell = FxToolkit.call(() -> show(factory, sampleView(), 1));
+        assertThat(cell.getText()).isEqualTo("1,234.56");
+
+        FxToolkit.run(() -> factory.setFormat(CentsFormat.of(Locale.GERMANY)));
+        assertThat(cell.getText()).isEqualTo("1.234,56");
+    }
+
+    /**
+     * Builds an editable tree table whose root row is a branch with a single
+     * leaf row below it.
+     *
+     * @return the tree table
+     */
+    private static TreeTableView<CentsProperty> sampleView() {
+        var root = new TreeItem<>(new CentsProperty());
+        var leaf = new CentsProperty();
+        leaf.set(123_456L);
+        root.getChildren().add(new TreeItem<>(leaf));
+        root.setExpanded(true);
+        var view = new TreeTableView<>(root);
+        var column = new TreeTableColumn<CentsProperty, Number>("Amount");
+        column.setCellValueFactory(f -> f.getValue().getValue());
+        view.getColumns().add(column);
+        view.setEditable(true);
+        return view;
+    }
+
+    /**
+     * Creates a cell of the first column and binds it to the given row.
+     *
+     * @param factory the factory under test
+     * @param view    the tree table
+     * @param index   the row index
+     * @return the cell showing that row
+     */
+    @SuppressWarnings("unchecked")
+    private static TreeTableCell<CentsProperty, Number> show(final CentsTreeTableCellFactory<CentsProperty> factory,
+                                                             final TreeTableView<CentsProperty> view,
+                                                             final int index) {
+        var column = (TreeTableColumn<CentsProperty, Number>) view.getColumns().getFirst();
+        var row = new TreeTableRow<CentsProperty>();
+        row.updateTreeTableView(view);
+        row.updateIndex(index);
+        var cell = factory.call(column);
+        cell.updateTreeTableView(view);
+        cell.updateTableColumn(column);
+        cell.updateTableRow(row);
+        cell.updateIndex(index);
+        return cell;
+    }
+}
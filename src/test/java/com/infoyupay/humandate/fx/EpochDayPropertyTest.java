@@ -0,0 +1,96 @@
+/*
+ * Copyright 2025 Ingeniería Informática Yupay S.A.C.S.
+ * RUC 20607854247
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.infoyupay.humandate.fx;
+
+import javafx.beans.value.WritableValue;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+
+import static com.infoyupay.humandate.fx.EpochDayProperty.NULL_EPOCH_DAY;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link EpochDayProperty}.
+ *
+ * @author David Vidal, Infoyupay
+ * @version 1.0
+ */
+final class EpochDayPropertyTest {
+
+    private final LocalDate sampleDate = LocalDate.of(2024, 6, 19);
+
+    /**
+     * {@code null} maps to the sentinel and back, in both directions.
+     */
+    @Test
+    void sentinel_shouldStandForNull() {
+        assertThat(EpochDayProperty.toEpochDay(null)).isEqualTo(NULL_EPOCH_DAY);
+        assertThat(EpochDayProperty.toLocalDate(NULL_EPOCH_DAY)).isNull();
+        assertThat(EpochDayProperty.toLocalDate(EpochDayProperty.toEpochDay(sampleDate))).isEqualTo(sampleDate);
+
+        var property = new EpochDayProperty();
+        assertThat(property.isNullDate()).isTrue();
+        assertThat(property.getDate()).isNull();
+
+        property.setDate(sampleDate);
+        assertThat(property.get()).isEqualTo(sampleDate.toEpochDay());
+        assertThat(property.isNullDate()).isFalse();
+
+        property.setDate(null);
+        assertThat(property.get()).isEqualTo(NULL_EPOCH_DAY);
+    }
+
+    /**
+     * The {@code LocalDate} view is cached, follows the property and writes
+     * edits back to it.
+     */
+    @Test
+    void asLocalDate_shouldRoundTrip() {
+        var property = new EpochDayProperty(sampleDate);
+        var view = property.asLocalDate();
+
+        assertThat(property.asLocalDate()).isSameAs(view);
+        assertThat(view.get()).isEqualTo(sampleDate);
+
+        property.set(sampleDate.toEpochDay() + 1);
+        assertThat(view.get()).isEqualTo(sampleDate.plusDays(1));
+
+        ((WritableValue<LocalDate>) view).setValue(null);
+        assertThat(property.isNullDate()).isTrue();
+        assertThat(view.get()).isNull();
+    }
+
+    /**
+     * Formatted bindings are shared per formatter and render the sentinel as
+     * an empty string.
+     */
+    @Test
+    void asFormattedString_shouldRenderSentinelAsEmpty() {
+        var property = new EpochDayProperty(sampleDate);
+        var binding = property.asFormattedString(DateTimeFormatter.ISO_LOCAL_DATE);
+
+        assertThat(property.asFormattedString(DateTimeFormatter.ISO_LOCAL_DATE)).isSameAs(binding);
+        assertThat(binding.get()).isEqualTo("2024-06-19");
+
+        property.setDate(null);
+        assertThat(binding.get()).isEmpty();
+    }
+}
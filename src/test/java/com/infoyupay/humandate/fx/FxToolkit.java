@@ -0,0 +1,147 @@
+/*
+ * Copyright 2025 Ingeniería Informática Yupay S.A.C.S.
+ * RUC 20607854247
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.infoyupay.humandate.fx;
+
+import javafx.application.Platform;
+import org.junit.jupiter.api.Assumptions;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Test helper starting the JavaFX toolkit once per JVM.
+ * <br/>
+ * <p>
+ * Suites exercising controls, animations or {@link Platform#runLater(Runnable)}
+ * call {@link #assumeToolkit()} first: on machines without a display the
+ * toolkit cannot start and those tests are skipped instead of failing.
+ *
+ * @author David Vidal, Infoyupay
+ * @version 1.0
+ */
+final class FxToolkit {
+
+    /**
+     * Upper bound for any wait on the FX thread.
+     */
+    static final long TIMEOUT_SECONDS = 5L;
+
+    private static final boolean STARTED = start();
+
+    private FxToolkit() {
+    }
+
+    /**
+     * Skips the calling test unless the toolkit is running.
+     */
+    static void assumeToolkit() {
+        Assumptions.assumeTrue(STARTED, "JavaFX toolkit unavailable");
+    }
+
+    /**
+     * Runs a task on the FX thread and waits for its result.
+     *
+     * @param task the task
+     * @param <T>  result type
+     * @return the task result
+     * @throws Exception if the task fails or does not finish in time
+     */
+    static <T> T call(final Callable<T> task) throws Exception {
+        var future = new FutureTask<>(task);
+        Platform.runLater(future);
+        return future.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Runs an action on the FX thread and waits for it to finish.
+     *
+     * @param action the action
+     * @throws Exception if the action fails or does not finish in time
+     */
+    static void run(final Action action) throws Exception {
+        call(() -> {
+            action.run();
+            return null;
+        });
+    }
+
+    /**
+     * Waits until every task queued on the FX thread so far has run.
+     *
+     * @throws Exception if the FX thread does not catch up in time
+     */
+    static void drain() throws Exception {
+        run(() -> {
+        });
+    }
+
+    /**
+     * Polls a condition on the FX thread until it holds.
+     *
+     * @param condition the condition, evaluated on the FX thread
+     * @throws Exception if the condition does not hold in time
+     */
+    static void await(final Callable<Boolean> condition) throws Exception {
+        var deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(TIMEOUT_SECONDS);
+        while (!call(condition)) {
+            if (System.nanoTime() > deadline)
+                throw new AssertionError("Condition not met within " + TIMEOUT_SECONDS + "s");
+            Thread.sleep(10L);
+        }
+    }
+
+    /**
+     * Starts the toolkit, tolerating one that is already running.
+     *
+     * @return whether the toolkit is usable
+     */
+    private static boolean start() {
+        var latch = new CountDownLatch(1);
+        try {
+            Platform.startup(latch::countDown);
+            Platform.setImplicitExit(false);
+        } catch (IllegalStateException alreadyStarted) {
+            return true;
+        } catch (RuntimeException | Error unavailable) {
+            return false;
+        }
+        try {
+            return latch.await(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * Action allowed to throw, run on the FX thread.
+     */
+    @FunctionalInterface
+    interface Action {
+
+        /**
+         * Performs the action.
+         *
+         * @throws Exception on failure
+         */
+        void run() throws Exception;
+    }
+}
@@ -0,0 +1,159 @@
+/*
+ * Copyright 2025 Ingeniería Informática Yupay S.A.C.S.
+ * RUC 20607854247
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.infoyupay.humandate.fx;
+
+import com.infoyupay.humandate.core.Languages;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+import static com.infoyupay.humandate.fx.HumanDateBatch.CHUNK_SIZE;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link HumanDateBatch}.
+ *
+ * @author David Vidal, Infoyupay
+ * @version 1.0
+ */
+final class HumanDateBatchTest {
+
+    private final LocalDate sampleDate = LocalDate.of(2024, 6, 19);
+
+    /**
+     * Bulk parsing spans several chunks, maps blanks to the null sentinel and
+     * flags unparseable inputs.
+     */
+    @Test
+    void parseAll_shouldParseInParallelAndFlagErrors() {
+        var converter = new HumanDateConverter();
+        var inputs = IntStream.range(0, 10_000)
+                .mapToObj(i -> switch (i % 100) {
+                    case 7 -> "";
+                    case 13 -> "xyz";
+                    default -> converter.toString(sampleDate.plusDays(i));
+                })
+                .toList();
+
+        var result = HumanDateBatch.parseAll(inputs, Languages.es());
+
+        assertThat(result.size()).isEqualTo(10_000);
+        assertThat(result.errorCount()).isEqualTo(100);
+        assertThat(result.isError(13)).isTrue();
+        assertThat(result.isError(7)).isFalse();
+        assertThat(result.epochDays()[7]).isEqualTo(EpochDayProperty.NULL_EPOCH_DAY);
+        assertThat(result.getDate(9_999)).isEqualTo(sampleDate.plusDays(9_999));
+    }
+
+    /**
+     * {@code null} and blank inputs yield the null sentinel without being
+     * errors, and an empty input gives an empty result.
+     */
+    @Test
+    void parseAll_shouldMapNullAndBlankInputsToNullSentinel() {
+        var inputs = Arrays.asList(null, "", "   ", "hoy", "\t");
+
+        var result = HumanDateBatch.parseAll(inputs, Languages.es());
+
+        assertThat(result.errorCount()).isZero();
+        assertThat(result.epochDays()).containsExactly(
+                EpochDayProperty.NULL_EPOCH_DAY, EpochDayProperty.NULL_EPOCH_DAY, EpochDayProperty.NULL_EPOCH_DAY,
+                LocalDate.now().toEpochDay(), EpochDayProperty.NULL_EPOCH_DAY);
+        assertThat(result.getDate(0)).isNull();
+        assertThat(HumanDateBatch.parseAll(List.of(), Languages.es()).size()).isZero();
+    }
+
+    /**
+     * Error bits land on the input positions whatever chunk they fall in,
+     * including chunk edges, when run on a dedicated pool.
+     */
+    @Test
+    void parseAll_shouldReportErrorPositionsAcrossChunks() {
+        var converter = new HumanDateConverter();
+        var size = 3 * CHUNK_SIZE + 5;
+        var expected = new BitSet();
+        IntStream.of(0, CHUNK_SIZE - 1, CHUNK_SIZE, 2 * CHUNK_SIZE + 1, 3 * CHUNK_SIZE, size - 1)
+                .forEach(expected::set);
+        var inputs = IntStream.range(0, size)
+                .mapToObj(i -> expected.get(i) ? "xyz" : converter.toString(sampleDate.plusDays(i % 1_000)))
+                .toList();
+
+        try (var pool = new ForkJoinPool(2)) {
+            var result = HumanDateBatch.parseAll(inputs, Languages.es(), pool);
+
+            assertThat(result.size()).isEqualTo(size);
+            assertThat(result.errors()).isEqualTo(expected);
+            assertThat(result.epochDays()[CHUNK_SIZE]).isEqualTo(EpochDayProperty.NULL_EPOCH_DAY);
+            assertThat(result.getDate(CHUNK_SIZE + 1)).isEqualTo(sampleDate.plusDays((CHUNK_SIZE + 1) % 1_000));
+            assertThat(result.getDate(size - 2)).isEqualTo(sampleDate.plusDays((size - 2) % 1_000));
+        }
+    }
+
+    /**
+     * Bulk rendering keeps each distinct day once and answers like the
+     * converter it was rendered with.
+     */
+    @Test
+    void formatAll_shouldDeduplicateDays() {
+        var snapshot = HumanDateConverterSnapshot.of(Languages.es(), DateTimeFormatter.ISO_LOCAL_DATE);
+        var epochDays = IntStream.range(0, 20_000)
+                .mapToLong(i -> i % 11 == 0 ? EpochDayProperty.NULL_EPOCH_DAY : sampleDate.toEpochDay() + i % 300)
+                .toArray();
+
+        var table = HumanDateBatch.formatAll(epochDays, snapshot);
+
+        assertThat(table.size()).isEqualTo(300);
+        assertThat(table.lookup(sampleDate.toEpochDay() + 299)).isEqualTo(snapshot.toString(sampleDate.plusDays(299)));
+        assertThat(table.lookup(sampleDate.toEpochDay() - 1)).isNull();
+        assertThat(table.toString(sampleDate.minusDays(1))).isEqualTo(snapshot.toString(sampleDate.minusDays(1)));
+    }
+
+    /**
+     * Days spread over many chunks are sorted and deduplicated on the given
+     * pool, leaving the input untouched.
+     */
+    @Test
+    void formatAll_shouldSortAcrossChunksOnTheGivenPool() {
+        var snapshot = HumanDateConverterSnapshot.of(Languages.es(), DateTimeFormatter.ISO_LOCAL_DATE);
+        var random = new Random(42);
+        var epochDays = random.longs(5 * CHUNK_SIZE + 17, 0, 3_000)
+                .map(d -> d % 97 == 0 ? EpochDayProperty.NULL_EPOCH_DAY : sampleDate.toEpochDay() + d)
+                .toArray();
+        var input = epochDays.clone();
+        var distinct = Arrays.stream(epochDays).filter(d -> d != EpochDayProperty.NULL_EPOCH_DAY).distinct().count();
+
+        try (var pool = new ForkJoinPool(3)) {
+            var table = HumanDateBatch.formatAll(epochDays, snapshot, pool);
+
+            assertThat(epochDays).isEqualTo(input);
+            assertThat(table.size()).isEqualTo(distinct);
+            for (var day : epochDays) {
+                if (day == EpochDayProperty.NULL_EPOCH_DAY) continue;
+                assertThat(table.lookup(day)).isEqualTo(snapshot.toString(LocalDate.ofEpochDay(day)));
+            }
+        }
+    }
+}
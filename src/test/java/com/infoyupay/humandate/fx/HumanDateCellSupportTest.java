@@ -0,0 +1,119 @@
+/*
+ * Copyright 2025 Ingeniería Informática Yupay S.A.C.S.
+ * RUC 20607854247
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.infoyupay.humandate.fx;
+
+import javafx.beans.property.SimpleObjectProperty;
+import javafx.util.StringConverter;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link HumanDateCellSupport}, the per-cell companion
+ * memoizing rendered text.
+ *
+ * @author David Vidal, Infoyupay
+ * @version 1.0
+ */
+final class HumanDateCellSupportTest {
+
+    private final LocalDate sampleDate = LocalDate.of(2024, 6, 19);
+
+    /**
+     * Re-rendering the same day with the same converter reuses the previous
+     * text without formatting again.
+     */
+    @Test
+    void toString_shouldReuseTextForSameDayAndConverter() {
+        var converter = new CountingConverter(DateTimeFormatter.ISO_LOCAL_DATE);
+        var support = new HumanDateCellSupport(new SimpleObjectProperty<>(converter), () -> {
+        });
+
+        var first = support.toString(sampleDate);
+        var second = support.toString(LocalDate.of(2024, 6, 19));
+
+        assertThat(second).isSameAs(first).isEqualTo("2024-06-19");
+        assertThat(converter.calls).hasValue(1);
+
+        support.toString(sampleDate.plusDays(1));
+        support.toString(sampleDate);
+
+        assertThat(converter.calls).hasValue(3);
+    }
+
+    /**
+     * Replacing the source converter notifies the cell and invalidates the
+     * memo.
+     */
+    @Test
+    void converterChange_shouldNotifyAndRenderAgain() {
+        var source = new SimpleObjectProperty<StringConverter<LocalDate>>(
+                new CountingConverter(DateTimeFormatter.ISO_LOCAL_DATE));
+        var notified = new AtomicInteger();
+        var support = new HumanDateCellSupport(source, notified::incrementAndGet);
+        support.toString(sampleDate);
+
+        source.set(new CountingConverter(DateTimeFormatter.ofPattern("dd/MM/yyyy")));
+
+        assertThat(notified).hasValue(1);
+        assertThat(support.toString(sampleDate)).isEqualTo("19/06/2024");
+    }
+
+    /**
+     * Null dates are passed through to the converter, not memoized.
+     */
+    @Test
+    void toString_shouldNotMemoizeNull() {
+        var converter = new CountingConverter(DateTimeFormatter.ISO_LOCAL_DATE);
+        var support = new HumanDateCellSupport(new SimpleObjectProperty<>(converter), () -> {
+        });
+
+        assertThat(support.toString(null)).isNull();
+        assertThat(support.toString(sampleDate)).isEqualTo("2024-06-19");
+        assertThat(converter.calls).hasValue(2);
+    }
+
+    /**
+     * Converter counting its formatting calls.
+     */
+    private static final class CountingConverter extends StringConverter<LocalDate> {
+
+        private final DateTimeFormatter format;
+        private final AtomicInteger calls = new AtomicInteger();
+
+        CountingConverter(final DateTimeFormatter format) {
+            this.format = format;
+        }
+
+        @Override
+        public String toString(final LocalDate date) {
+            calls.incrementAndGet();
+            return date == null ? null : format.format(date);
+        }
+
+        @Override
+        public LocalDate fromString(final String s) {
+            return s == null || s.isBlank() ? null : LocalDate.parse(s, format);
+        }
+    }
+}
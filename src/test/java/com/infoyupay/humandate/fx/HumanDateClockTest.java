@@ -0,0 +1,89 @@
+/*
+ * Copyright 2025 Ingeniería Informática Yupay S.A.C.S.
+ * RUC 20607854247
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.infoyupay.humandate.fx;
+
+import com.infoyupay.humandate.core.HumanDateFormatter;
+import javafx.beans.InvalidationListener;
+import javafx.beans.value.ChangeListener;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.infoyupay.humandate.fx.FxToolkit.assumeToolkit;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link HumanDateClock}.
+ * <br/>
+ * <p>
+ * Ticks are simulated through {@link HumanDateClock#check(LocalDate)},
+ * which publishes through {@code Platform.runLater}; the tests need the
+ * JavaFX toolkit and are skipped without a display. The timer's date source
+ * is pinned to the simulated date, so a regular poll cannot publish the
+ * real date in between.
+ *
+ * @author David Vidal, Infoyupay
+ * @version 1.0
+ */
+final class HumanDateClockTest {
+
+    /**
+     * A new day is published once on the FX thread and invalidates relative
+     * bindings; checking the same day again publishes nothing.
+     */
+    @Test
+    void check_shouldPublishDayChangesOnce() throws Exception {
+        assumeToolkit();
+        var today = LocalDate.now();
+        var tomorrow = today.plusDays(1);
+        var seen = new ArrayList<LocalDate>();
+        var invalidations = new AtomicInteger();
+        var property = new LocalDateProperty(today);
+        var text = property.asHumanString(new HumanDateFormatter());
+        ChangeListener<LocalDate> listener = (obs, oldValue, newValue) -> seen.add(newValue);
+        InvalidationListener textListener = o -> invalidations.incrementAndGet();
+        FxToolkit.run(() -> {
+            HumanDateClock.todayProperty().addListener(listener);
+            text.addListener(textListener);
+            text.get();
+        });
+        try {
+            HumanDateClock.setDateSource(() -> tomorrow);
+            HumanDateClock.check(tomorrow);
+            HumanDateClock.check(tomorrow);
+            FxToolkit.drain();
+
+            assertThat(seen).containsExactly(tomorrow);
+            assertThat(FxToolkit.call(HumanDateClock::getToday)).isEqualTo(tomorrow);
+            assertThat(invalidations).hasValue(1);
+        } finally {
+            HumanDateClock.setDateSource(() -> today);
+            HumanDateClock.check(today);
+            HumanDateClock.setDateSource(LocalDate::now);
+            FxToolkit.drain();
+            FxToolkit.run(() -> {
+                HumanDateClock.todayProperty().removeListener(listener);
+                text.removeListener(textListener);
+            });
+        }
+        assertThat(seen).containsExactly(tomorrow, today);
+    }
+}
@@ -0,0 +1,195 @@
+/*
+ * Copyright 2025 Ingeniería Informática Yupay S.A.C.S.
+ * RUC 20607854247
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.infoyupay.humandate.fx;
+
+import com.infoyupay.humandate.core.HumanDateFormatter;
+import com.infoyupay.humandate.core.Languages;
+import javafx.collections.FXCollections;
+import javafx.scene.Scene;
+import javafx.scene.control.Label;
+import javafx.scene.control.ListView;
+import javafx.scene.layout.StackPane;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.infoyupay.humandate.fx.FxToolkit.assumeToolkit;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link HumanDateContext}.
+ * <br/>
+ * <p>
+ * Settings are published through {@code Platform.runLater} and looked up
+ * from scene graphs, so these tests need the JavaFX toolkit and are skipped
+ * without a display.
+ *
+ * @author David Vidal, Infoyupay
+ * @version 1.0
+ */
+final class HumanDateContextTest {
+
+    private static final DateTimeFormatter ISO = DateTimeFormatter.ISO_LOCAL_DATE;
+    private static final DateTimeFormatter SLASHED = DateTimeFormatter.ofPattern("yyyy/MM/dd");
+
+    private final LocalDate sampleDate = LocalDate.of(2024, 6, 19);
+
+    /**
+     * A node inherits the context of its nearest ancestor, else the one of
+     * its scene.
+     */
+    @Test
+    void find_shouldPreferNearestAncestor() throws Exception {
+        assumeToolkit();
+        var sceneContext = new HumanDateContext();
+        var paneContext = new HumanDateContext();
+
+        var found = FxToolkit.call(() -> {
+            var inner = new Label();
+            var outer = new Label();
+            var pane = new StackPane(inner);
+            var scene = new Scene(new StackPane(pane, outer));
+            sceneContext.install(scene);
+            paneContext.install(pane);
+            return List.of(HumanDateContext.find(inner), HumanDateContext.find(outer),
+                    HumanDateContext.find(pane));
+        });
+
+        assertThat(found).containsExactly(paneContext, sceneContext, paneContext);
+        assertThat(HumanDateContext.find(null)).isNull();
+    }
+
+    /**
+     * Changes made within one event are published as a single settings
+     * value after it.
+     */
+    @Test
+    void settings_shouldCoalesceChanges() throws Exception {
+        assumeToolkit();
+        var context = new HumanDateContext();
+        var published = new ArrayList<HumanDateContext.Settings>();
+        context.settingsProperty().addListener((obs, o, n) -> published.add(n));
+
+        var english = Languages.en();
+        var duringEvent = FxToolkit.call(() -> {
+            context.setLanguage(english);
+            context.setFormat(ISO);
+            context.setFormat(HumanDateDefaults.DEFAULT_FORMAT);
+            context.setFormat(ISO);
+            return context.getSettings();
+        });
+        FxToolkit.drain();
+
+        assertThat(duringEvent.format()).isSameAs(HumanDateDefaults.DEFAULT_FORMAT);
+        assertThat(FxToolkit.call(() -> List.copyOf(published)))
+                .containsExactly(new HumanDateContext.Settings(english, ISO));
+    }
+
+    /**
+     * Cells follow the inherited context, and an explicit context takes
+     * precedence over it.
+     */
+    @Test
+    void cellFactory_shouldInheritAndPreferExplicitContext() throws Exception {
+        assumeToolkit();
+        var inherited = new HumanDateContext(Languages.es(), ISO);
+        var explicit = new HumanDateContext(Languages.es(), DateTimeFormatter.ofPattern("yyyy/MM/dd"));
+        var factory = new HumanDateListCellFactory();
+
+        var cell = FxToolkit.call(() -> {
+            var list = new ListView<>(FXCollections.observableArrayList(sampleDate));
+            inherited.install(new Scene(new StackPane(list)));
+            var c = factory.call(list);
+            c.updateListView(list);
+            c.updateIndex(0);
+            return c;
+        });
+        assertThat(cell.getText()).isEqualTo("2024-06-19");
+
+        FxToolkit.run(() -> factory.setContext(explicit));
+        assertThat(cell.getText()).isEqualTo("2024/06/19");
+
+        FxToolkit.run(() -> explicit.setFormat(ISO));
+        FxToolkit.drain();
+        assertThat(cell.getText()).isEqualTo("2024-06-19");
+    }
+
+    /**
+     * Visible cells follow a context installed after they were created, a
+     * move of their control under another context, and an uninstall.
+     */
+    @Test
+    void cellFactory_shouldFollowLaterInstallsAndMoves() throws Exception {
+        assumeToolkit();
+        var context = new HumanDateContext(Languages.es(), ISO);
+        var other = new HumanDateContext(Languages.es(), SLASHED);
+        var factory = new HumanDateListCellFactory();
+        var list = FxToolkit.call(() -> new ListView<>(FXCollections.observableArrayList(sampleDate)));
+        var pane = FxToolkit.call(() -> new StackPane(list));
+        var side = FxToolkit.call(StackPane::new);
+
+        var cell = FxToolkit.call(() -> {
+            new Scene(new StackPane(pane, side));
+            var c = factory.call(list);
+            c.updateListView(list);
+            c.updateIndex(0);
+            return c;
+        });
+        assertThat(cell.getText()).isEqualTo("19/06/2024");
+
+        FxToolkit.run(() -> context.install(pane));
+        assertThat(cell.getText()).isEqualTo("2024-06-19");
+
+        FxToolkit.run(() -> {
+            other.install(side);
+            side.getChildren().add(list);
+        });
+        assertThat(cell.getText()).isEqualTo("2024/06/19");
+
+        FxToolkit.run(() -> other.uninstall(side));
+        assertThat(cell.getText()).isEqualTo("19/06/2024");
+    }
+
+    /**
+     * A label already shown follows a context installed on an ancestor, and
+     * falls back to its own formatter once it is uninstalled.
+     */
+    @Test
+    void label_shouldFollowContextInstalledAfterShown() throws Exception {
+        assumeToolkit();
+        var context = new HumanDateContext(Languages.es(), SLASHED);
+        var label = FxToolkit.call(() -> new HumanDateLabel(new HumanDateFormatter().withFormatter(ISO)));
+        var pane = FxToolkit.call(() -> {
+            label.setDateValue(sampleDate);
+            var p = new StackPane(label);
+            new Scene(new StackPane(p));
+            return p;
+        });
+        assertThat(label.getText()).isEqualTo("2024-06-19");
+
+        FxToolkit.run(() -> context.install(pane));
+        assertThat(label.getText()).isEqualTo("2024/06/19");
+
+        FxToolkit.run(() -> context.uninstall(pane));
+        assertThat(label.getText()).isEqualTo("2024-06-19");
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright 2025 Ingeniería Informática Yupay S.A.C.S.
+ * RUC 20607854247
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.infoyupay.humandate.fx;
+
+import com.infoyupay.humandate.core.Languages;
+import org.junit.jupiter.api.Test;
+
+import java.time.format.DateTimeFormatter;
+import java.util.Locale;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link HumanDateConverterRegistry}.
+ *
+ * @author David Vidal, Infoyupay
+ * @version 1.0
+ */
+final class HumanDateConverterRegistryTest {
+
+    /**
+     * The registry matches formatters by their settings, not their identity,
+     * and stays bounded however many formatters are created.
+     */
+    @Test
+    void get_shouldShareEquivalentFormattersAndStayBounded() {
+        var language = Languages.en();
+
+        assertThat(HumanDateConverterRegistry.get(language, DateTimeFormatter.ofPattern("dd/MM/yyyy")))
+                .isSameAs(HumanDateConverterRegistry.get(language, DateTimeFormatter.ofPattern("dd/MM/yyyy")))
+                .isNotSameAs(HumanDateConverterRegistry.get(language, DateTimeFormatter.ofPattern("MM/dd/yyyy")));
+
+        for (var i = 0; i < 2 * HumanDateConverterRegistry.MAX_SIZE; i++) {
+            HumanDateConverterRegistry.get(language, DateTimeFormatter.ofPattern("dd/MM/yyyy '" + i + "'"));
+        }
+
+        assertThat(HumanDateConverterRegistry.size()).isEqualTo(HumanDateConverterRegistry.MAX_SIZE);
+    }
+
+    /**
+     * Formatters with the same pattern but different locales render
+     * differently, so they get different snapshots.
+     */
+    @Test
+    void get_shouldKeyByFormatterLocale() {
+        var language = Languages.es();
+
+        assertThat(HumanDateConverterRegistry.get(language, DateTimeFormatter.ofPattern("dd MMM yyyy", Locale.US)))
+                .isNotSameAs(HumanDateConverterRegistry.get(language,
+                        DateTimeFormatter.ofPattern("dd MMM yyyy", Locale.GERMANY)));
+    }
+
+    /**
+     * Converters with shared caches resolve identical configurations to the
+     * same registry instance, and follow language changes.
+     */
+    @Test
+    void withSharedCaches_shouldUseRegistrySnapshots() {
+        var first = new HumanDateConverter().withSharedCaches();
+        var second = new HumanDateConverter().withSharedCaches();
+
+        assertThat(first.snapshot()).isSameAs(second.snapshot());
+
+        second.withLanguage(Languages.en());
+
+        assertThat(second.snapshot())
+                .isNotSameAs(first.snapshot())
+                .isSameAs(HumanDateConverterRegistry.get(second.getLanguage(), second.getFormat()));
+    }
+}
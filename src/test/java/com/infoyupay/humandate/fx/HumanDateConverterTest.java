@@ -22,6 +22,8 @@ import com.infoyupay.humandate.core.Languages;
 import org.junit.jupiter.api.Test;
 
 import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.stream.IntStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -38,7 +40,8 @@ import static org.assertj.core.api.Assertions.assertThat;
  * default formatting, natural-language parsing, blank input handling,
  * and language-dependent keyword interpretation.
  * <div style="border: 1px solid black; padding: 2px">
- *    <strong>Execution Notes:</strong> dvidal@infoyupay.com passed 6 tests in 0.169s at 2025-12-09 11:13 UTC-5.
+ *    <strong>Execution Notes:</strong> dvidal@infoyupay.com passed 6 tests in 0.169s at 2025-12-09 11:13 UTC-5,
+ *    before the render cache, parse cache and snapshot tests were added.
  * </div>
  *
  * @author David Vidal, Infoyupay
@@ -132,4 +135,131 @@ final class HumanDateConverterTest {
         assertThat(converter.fromString("tomorrow")).isEqualTo(LocalDate.now().plusDays(1));
         assertThat(converter.fromString("yesterday")).isEqualTo(LocalDate.now().minusDays(1));
     }
+
+    /**
+     * With the render cache enabled, rendering the same day twice must be
+     * answered from the cache on the second call.
+     */
+    @Test
+    void toString_shouldReuseRenderedTextWhenRenderCacheEnabled() {
+        var converter = new HumanDateConverter().withRenderCache(16);
+
+        var first = converter.toString(sampleDate);
+        var second = converter.toString(LocalDate.of(2024, 6, 19));
+
+        assertThat(second).isSameAs(first).isEqualTo("19/06/2024");
+        assertThat(converter.getRenderCacheStats())
+                .isEqualTo(new HumanDateCacheStats(1L, 1L));
+    }
+
+    /**
+     * Changing the format must drop previously rendered text, so the new
+     * pattern takes effect immediately.
+     */
+    @Test
+    void toString_shouldClearRenderCacheWhenFormatChanges() {
+        var converter = new HumanDateConverter().withRenderCache(16);
+        converter.toString(sampleDate);
+
+        converter.withFormat(DateTimeFormatter.ofPattern("yyyy-MM-dd"));
+
+        assertThat(converter.toString(sampleDate)).isEqualTo("2024-06-19");
+        assertThat(converter.getRenderCacheStats().hits()).isZero();
+    }
+
+    /**
+     * A disabled render cache reports empty statistics.
+     */
+    @Test
+    void getRenderCacheStats_shouldBeEmptyWhenDisabled() {
+        var converter = new HumanDateConverter();
+        converter.toString(sampleDate);
+
+        assertThat(converter.getRenderCacheStats()).isEqualTo(HumanDateCacheStats.EMPTY);
+    }
+
+    /**
+     * With the parse cache enabled, the same trimmed input parsed twice must
+     * be answered from the cache on the second call.
+     */
+    @Test
+    void fromString_shouldReuseParsedDateWhenParseCacheEnabled() {
+        var converter = new HumanDateConverter().withParseCache(16);
+
+        assertThat(converter.fromString("19062024")).isEqualTo(sampleDate);
+        assertThat(converter.fromString(" 19062024 ")).isEqualTo(sampleDate);
+        assertThat(converter.getParseCacheStats())
+                .isEqualTo(new HumanDateCacheStats(1L, 1L));
+    }
+
+    /**
+     * Cached results are keyed by language, so switching language must not
+     * reuse a result parsed under different rules.
+     */
+    @Test
+    void fromString_shouldKeyParseCacheByLanguage() {
+        var converter = new HumanDateConverter().withParseCache(16);
+        converter.fromString("0");
+
+        converter.withLanguage(Languages.en());
+
+        assertThat(converter.fromString("tomorrow")).isEqualTo(LocalDate.now().plusDays(1));
+        assertThat(converter.fromString("0")).isEqualTo(LocalDate.now());
+        assertThat(converter.getParseCacheStats().hits()).isZero();
+    }
+
+    /**
+     * Only inputs spelling out day, month and year are classified as
+     * absolute; everything else depends on the current day.
+     */
+    @Test
+    void isAbsolute_shouldOnlyAcceptFullDates() {
+        assertThat(ParseResultCache.isAbsolute("04052015")).isTrue();
+        assertThat(ParseResultCache.isAbsolute("040515")).isTrue();
+        assertThat(ParseResultCache.isAbsolute("1·4·12")).isTrue();
+        assertThat(ParseResultCache.isAbsolute("01/04/2012")).isTrue();
+
+        assertThat(ParseResultCache.isAbsolute("0405")).isFalse();
+        assertThat(ParseResultCache.isAbsolute("1-4")).isFalse();
+        assertThat(ParseResultCache.isAbsolute("+2s")).isFalse();
+        assertThat(ParseResultCache.isAbsolute("hoy")).isFalse();
+        assertThat(ParseResultCache.isAbsolute("1.4.123")).isFalse();
+    }
+
+    /**
+     * A snapshot keeps the language it was taken with, regardless of later
+     * changes to the originating converter.
+     */
+    @Test
+    void snapshot_shouldIgnoreLaterLanguageChanges() {
+        var converter = new HumanDateConverter();
+        var snapshot = converter.snapshot();
+
+        converter.withLanguage(Languages.en());
+
+        assertThat(snapshot.getLanguage()).isNotSameAs(converter.getLanguage());
+        assertThat(snapshot.fromString("mañana")).isEqualTo(LocalDate.now().plusDays(1));
+        assertThat(converter.fromString("tomorrow")).isEqualTo(LocalDate.now().plusDays(1));
+    }
+
+    /**
+     * A cached snapshot can be shared by many threads at once and yields the
+     * same results as a sequential pass.
+     */
+    @Test
+    void snapshot_shouldConvertConcurrently() {
+        var snapshot = new HumanDateConverter()
+                .withRenderCache(64)
+                .withParseCache(64)
+                .snapshot();
+        var days = IntStream.range(0, 10_000).map(i -> i % 500).boxed().toList();
+
+        var parsed = days.parallelStream()
+                .map(i -> sampleDate.plusDays(i))
+                .map(snapshot::toString)
+                .map(snapshot::fromString)
+                .toList();
+
+        assertThat(parsed).isEqualTo(days.stream().map(i -> sampleDate.plusDays(i)).toList());
+    }
 }
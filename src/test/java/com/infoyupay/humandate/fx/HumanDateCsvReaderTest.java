@@ -0,0 +1,162 @@
+/*
+ * Copyright 2025 Ingeniería Informática Yupay S.A.C.S.
+ * RUC 20607854247
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.infoyupay.humandate.fx;
+
+import com.infoyupay.humandate.core.Languages;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static com.infoyupay.humandate.fx.EpochDayProperty.NULL_EPOCH_DAY;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for {@link HumanDateCsvReader}.
+ *
+ * @author David Vidal, Infoyupay
+ * @version 1.0
+ */
+final class HumanDateCsvReaderTest {
+
+    private final LocalDate sampleDate = LocalDate.of(2024, 6, 19);
+
+    private final HumanDateCsvReader reader =
+            new HumanDateCsvReader(HumanDateConverterSnapshot.of(Languages.es(), HumanDateDefaults.DEFAULT_FORMAT));
+
+    /**
+     * Quoted fields keep embedded delimiters, doubled quotes and line
+     * breaks; records end with either {@code LF} or {@code CRLF}, and blank
+     * lines are skipped.
+     */
+    @Test
+    void read_shouldSplitQuotedFields() throws IOException {
+        var csv = "\"a,b\",\"say \"\"hi\"\"\",\"line1\r\nline2\"\r\n\r\nplain,,z\n";
+        var rows = new ArrayList<List<String>>();
+
+        var count = reader.read(channel(csv), HumanDateCsvReaderTest::texts, rows::addAll);
+
+        assertThat(count).isEqualTo(2);
+        assertThat(rows).containsExactly(
+                List.of("a,b", "say \"hi\"", "line1\r\nline2"),
+                List.of("plain", "", "z"));
+    }
+
+    /**
+     * Records longer than the buffer make it grow, and rows reach the sink
+     * in batches of the configured size.
+     */
+    @Test
+    void read_shouldGrowBufferAndBatchRows() throws IOException {
+        var longField = "x".repeat(100);
+        var csv = new StringBuilder("name,due\n");
+        IntStream.range(0, 10).forEach(i -> csv.append(i == 4 ? longField : "r" + i).append(",19/06/2024\r\n"));
+        var batches = new ArrayList<List<String>>();
+
+        var count = new HumanDateCsvReader(HumanDateConverterSnapshot.of(Languages.es(), HumanDateDefaults.DEFAULT_FORMAT))
+                .withHeader(true)
+                .withBufferSize(16)
+                .withBatchSize(3)
+                .read(channel(csv.toString()), row -> row.text(0), batches::add);
+
+        assertThat(count).isEqualTo(10);
+        assertThat(batches).extracting(List::size).containsExactly(3, 3, 3, 1);
+        assertThat(batches.get(1).get(1)).isEqualTo(longField);
+    }
+
+    /**
+     * A blank date field reads as no date, an unparseable one is an error
+     * naming the record.
+     */
+    @Test
+    void epochDay_shouldTellBlankFromUnparseable() throws IOException {
+        var days = new ArrayList<Long>();
+
+        reader.read(channel("19/06/2024,, \n"),
+                row -> days.addAll(List.of(row.epochDay(0), row.epochDay(1), row.epochDay(2))),
+                batch -> {
+                });
+
+        assertThat(days).containsExactly(sampleDate.toEpochDay(), NULL_EPOCH_DAY, NULL_EPOCH_DAY);
+        assertThatThrownBy(() -> reader.read(channel("ok,19/06/2024\nbad,xyz\n"),
+                row -> row.date(1), batch -> {
+                }))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("record 2")
+                .hasMessageContaining("xyz");
+    }
+
+    /**
+     * Fields are read in the converter's format before any day-first
+     * interpretation, and human-friendly input still works.
+     */
+    @Test
+    void epochDay_shouldHonorMonthFirstFormat() throws IOException {
+        var monthFirst = new HumanDateCsvReader(
+                HumanDateConverterSnapshot.of(Languages.es(), DateTimeFormatter.ofPattern("MM/dd/yyyy")));
+        var dates = new ArrayList<LocalDate>();
+
+        monthFirst.read(channel("04/05/2024\nhoy\n"), row -> row.date(0), dates::addAll);
+        reader.read(channel("04/05/2024\n"), row -> row.date(0), dates::addAll);
+
+        assertThat(dates).containsExactly(
+                LocalDate.of(2024, 4, 5), LocalDate.now(), LocalDate.of(2024, 5, 4));
+    }
+
+    /**
+     * Only formats rendering {@code d/M/yyyy} enable the fast path.
+     */
+    @Test
+    void isDayFirst_shouldOnlyAcceptDayFirstNumericFormats() {
+        assertThat(HumanDateCsvReader.isDayFirst(DateTimeFormatter.ofPattern("dd/MM/yyyy"))).isTrue();
+        assertThat(HumanDateCsvReader.isDayFirst(DateTimeFormatter.ofPattern("d.M.yyyy"))).isTrue();
+        assertThat(HumanDateCsvReader.isDayFirst(DateTimeFormatter.ofPattern("MM/dd/yyyy"))).isFalse();
+        assertThat(HumanDateCsvReader.isDayFirst(DateTimeFormatter.ISO_LOCAL_DATE)).isFalse();
+        assertThat(HumanDateCsvReader.isDayFirst(DateTimeFormatter.ofPattern("dd/MM/yy"))).isFalse();
+    }
+
+    /**
+     * Copies every field of a record.
+     *
+     * @param row the record
+     * @return its fields
+     */
+    private static List<String> texts(final HumanDateCsvReader.Row row) {
+        return IntStream.range(0, row.size()).mapToObj(row::text).toList();
+    }
+
+    /**
+     * Channel over UTF-8 text.
+     *
+     * @param csv the content
+     * @return a channel reading it
+     */
+    static ReadableByteChannel channel(final String csv) {
+        return Channels.newChannel(new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)));
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright 2025 Ingeniería Informática Yupay S.A.C.S.
+ * RUC 20607854247
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.infoyupay.humandate.fx;
+
+import com.infoyupay.humandate.core.Languages;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link HumanDateCsvWriter}.
+ *
+ * @author David Vidal, Infoyupay
+ * @version 1.0
+ */
+final class HumanDateCsvWriterTest {
+
+    private final LocalDate sampleDate = LocalDate.of(2024, 6, 19);
+
+    /**
+     * Fields holding the delimiter, quotes or line breaks are quoted, empty
+     * values leave empty fields, and records end with {@code CRLF}.
+     */
+    @Test
+    void write_shouldQuoteAsRfc4180() throws IOException {
+        var writer = new HumanDateCsvWriter(HumanDateConverterSnapshot.of(Languages.es(), HumanDateDefaults.DEFAULT_FORMAT))
+                .withHeader("name", "due");
+        var rows = List.of(
+                new Row("a,b", sampleDate),
+                new Row("say \"hi\"", null),
+                new Row("line1\r\nline2", sampleDate.plusDays(1)));
+
+        var csv = write(writer, rows);
+
+        assertThat(csv).isEqualTo("name,due\r\n"
+                + "\"a,b\",19/06/2024\r\n"
+                + "\"say \"\"hi\"\"\",\r\n"
+                + "\"line1\r\nline2\",20/06/2024\r\n");
+    }
+
+    /**
+     * A reader with the same non-default format reads back exactly what the
+     * writer wrote, across buffer boundaries.
+     */
+    @Test
+    void write_shouldRoundTripWithMonthFirstFormat() throws IOException {
+        var snapshot = HumanDateConverterSnapshot.of(Languages.en(), DateTimeFormatter.ofPattern("MM/dd/yyyy"));
+        var rows = IntStream.range(0, 500)
+                .mapToObj(i -> new Row("row " + i + (i % 7 == 0 ? ", \"quoted\"" : ""),
+                        i % 11 == 0 ? null : sampleDate.plusDays(i)))
+                .toList();
+
+        var csv = write(new HumanDateCsvWriter(snapshot).withDelimiter(';').withBufferSize(64), rows);
+        var back = new ArrayList<Row>();
+        new HumanDateCsvReader(snapshot)
+                .withDelimiter(';')
+                .withBufferSize(32)
+                .read(HumanDateCsvReaderTest.channel(csv), row -> new Row(row.text(0), row.date(1)), back::addAll);
+
+        assertThat(csv).contains("06/20/2024");
+        assertThat(back).isEqualTo(rows);
+    }
+
+    /**
+     * A one-column record holding no date is written as {@code ""}, which the
+     * reader keeps as a row, while a truly blank line is still skipped.
+     */
+    @Test
+    void write_shouldRoundTripSingleEmptyFields() throws IOException {
+        var snapshot = HumanDateConverterSnapshot.of(Languages.es(), HumanDateDefaults.DEFAULT_FORMAT);
+        var dates = Arrays.asList(sampleDate, null, null, sampleDate.plusDays(1), null);
+        var out = new ByteArrayOutputStream();
+
+        new HumanDateCsvWriter(snapshot).write(Channels.newChannel(out), dates, (date, line) -> line.date(date));
+        var csv = out.toString(StandardCharsets.UTF_8);
+        var back = new ArrayList<LocalDate>();
+        var reader = new HumanDateCsvReader(snapshot);
+        var count = reader.read(HumanDateCsvReaderTest.channel(csv), row -> row.date(0), back::addAll);
+
+        assertThat(csv).isEqualTo("19/06/2024\r\n\"\"\r\n\"\"\r\n20/06/2024\r\n\"\"\r\n");
+        assertThat(count).isEqualTo(dates.size());
+        assertThat(back).isEqualTo(dates);
+
+        back.clear();
+
+        assertThat(reader.read(HumanDateCsvReaderTest.channel("19/06/2024\r\n\r\n"), row -> row.date(0), back::addAll))
+                .isEqualTo(1);
+        assertThat(back).containsExactly(sampleDate);
+    }
+
+    /**
+     * Writes rows as name and date.
+     *
+     * @param writer the writer under test
+     * @param rows   the rows
+     * @return the produced text
+     * @throws IOException never, the target is in memory
+     */
+    private static String write(final HumanDateCsvWriter writer, final List<Row> rows) throws IOException {
+        var out = new ByteArrayOutputStream();
+        writer.write(Channels.newChannel(out), rows, (row, line) -> line.text(row.name()).date(row.due()));
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Sample row.
+     *
+     * @param name text column
+     * @param due  date column
+     */
+    private record Row(String name, LocalDate due) {
+    }
+}
@@ -0,0 +1,193 @@
+/*
+ * Copyright 2025 Ingeniería Informática Yupay S.A.C.S.
+ * RUC 20607854247
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.infoyupay.humandate.fx;
+
+import com.infoyupay.humandate.core.Languages;
+import javafx.collections.FXCollections;
+import javafx.util.Duration;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.infoyupay.humandate.fx.FxToolkit.assumeToolkit;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link HumanDateFilter}.
+ *
+ * @author David Vidal, Infoyupay
+ * @version 1.0
+ */
+final class HumanDateFilterTest {
+
+    private final LocalDate sampleDate = LocalDate.of(2024, 6, 19);
+
+    /**
+     * Without a delay each query applies at once, and the filter keeps its
+     * last predicate while the query is invalid.
+     */
+    @Test
+    void setQuery_shouldApplyImmediatelyWithoutDelay() {
+        var converter = new HumanDateConverter();
+        var from = converter.toString(sampleDate);
+        var dates = FXCollections.observableArrayList(sampleDate.minusDays(1), sampleDate, null, sampleDate.plusDays(3));
+        var filter = HumanDateFilter.of(dates).withDelay(Duration.ZERO).withConverter(converter);
+
+        filter.setQuery(from + "..");
+        assertThat(filter.filtered()).containsExactly(sampleDate, sampleDate.plusDays(3));
+
+        filter.setQuery("xyz..");
+        assertThat(filter.isValid()).isFalse();
+        assertThat(filter.filtered()).containsExactly(sampleDate, sampleDate.plusDays(3));
+
+        filter.setQuery("");
+        assertThat(filter.isValid()).isTrue();
+        assertThat(filter.filtered()).hasSize(4);
+    }
+
+    /**
+     * With a delay, a burst of queries leaves the list untouched and only
+     * the last one is parsed and applied, replacing the predicate once.
+     */
+    @Test
+    void setQuery_shouldDebounceWithDelay() throws Exception {
+        assumeToolkit();
+        var converter = new HumanDateConverter();
+        var from = converter.toString(sampleDate);
+        var dates = FXCollections.observableArrayList(sampleDate.minusDays(1), sampleDate, null, sampleDate.plusDays(3));
+        var filter = HumanDateFilter.of(dates).withDelay(Duration.millis(300)).withConverter(converter);
+        var predicates = new AtomicInteger();
+
+        var pending = FxToolkit.call(() -> {
+            filter.filtered().predicateProperty().addListener(o -> predicates.incrementAndGet());
+            filter.setQuery("xyz");
+            filter.setQuery(from);
+            filter.setQuery(from + "..");
+            return filter.filtered().size();
+        });
+
+        assertThat(pending).isEqualTo(4);
+        FxToolkit.await(() -> !filter.getRange().isAll());
+        assertThat(predicates).hasValue(1);
+        assertThat(FxToolkit.call(filter::isValid)).isTrue();
+        assertThat(FxToolkit.call(() -> List.copyOf(filter.filtered())))
+                .containsExactly(sampleDate, sampleDate.plusDays(3));
+    }
+
+    /**
+     * {@link HumanDateFilter#applyNow()} applies the pending query without
+     * waiting for the delay.
+     */
+    @Test
+    void applyNow_shouldSkipThePendingDelay() throws Exception {
+        assumeToolkit();
+        var converter = new HumanDateConverter();
+        var from = converter.toString(sampleDate);
+        var dates = FXCollections.observableArrayList(sampleDate.minusDays(1), sampleDate, null, sampleDate.plusDays(3));
+        var filter = HumanDateFilter.of(dates).withDelay(Duration.seconds(30)).withConverter(converter);
+
+        var sizes = FxToolkit.call(() -> {
+            filter.setQuery(from + "..");
+            var before = filter.filtered().size();
+            filter.applyNow();
+            return List.of(before, filter.filtered().size());
+        });
+
+        assertThat(sizes).containsExactly(4, 2);
+    }
+
+    /**
+     * A column filter keeps the indices of the rows in range, undated rows
+     * only matching an empty query.
+     */
+    @Test
+    void forColumn_shouldFilterRowIndices() {
+        var column = new LocalDateColumn();
+        column.addAll(Arrays.asList(sampleDate.minusDays(1), sampleDate, null, sampleDate.plusDays(3)));
+        var converter = new HumanDateConverter();
+        var filter = HumanDateFilter.forColumn(column).withDelay(Duration.ZERO).withConverter(converter);
+
+        filter.setQuery(converter.toString(sampleDate) + "..");
+
+        assertThat(filter.filtered()).containsExactly(1, 3);
+
+        filter.setQuery(null);
+
+        assertThat(filter.filtered()).containsExactly(0, 1, 2, 3);
+    }
+
+    /**
+     * A new day parses the query again at once, without waiting for the
+     * delay, so relative bounds follow the clock instead of going stale.
+     */
+    @Test
+    void todayChange_shouldParseTheQueryAgain() throws Exception {
+        assumeToolkit();
+        var today = LocalDate.now();
+        var tomorrow = today.plusDays(1);
+        var dates = FXCollections.observableArrayList(today.minusDays(1), today, tomorrow);
+        var filter = HumanDateFilter.of(dates).withDelay(Duration.seconds(30));
+
+        FxToolkit.run(() -> filter.setQuery("hoy.."));
+        assertThat(FxToolkit.call(() -> filter.filtered().getPredicate())).isNull();
+        try {
+            HumanDateClock.setDateSource(() -> tomorrow);
+            HumanDateClock.check(tomorrow);
+            FxToolkit.drain();
+
+            assertThat(FxToolkit.call(() -> filter.filtered().getPredicate())).isNotNull();
+            assertThat(FxToolkit.call(() -> List.copyOf(filter.filtered()))).containsExactly(today, tomorrow);
+        } finally {
+            HumanDateClock.setDateSource(() -> today);
+            HumanDateClock.check(today);
+            HumanDateClock.setDateSource(LocalDate::now);
+            FxToolkit.drain();
+        }
+    }
+
+    /**
+     * Changing the language of the converter, or the converter itself,
+     * parses the unchanged query again; a replaced converter is no longer
+     * followed.
+     */
+    @Test
+    void converterChange_shouldParseTheQueryAgain() {
+        var converter = new HumanDateConverter();
+        var dates = FXCollections.observableArrayList(sampleDate);
+        var filter = HumanDateFilter.of(dates).withDelay(Duration.ZERO).withConverter(converter);
+        filter.setQuery("hoy..");
+        assertThat(filter.isValid()).isTrue();
+
+        converter.withLanguage(Languages.en());
+        assertThat(filter.isValid()).isFalse();
+
+        var replacement = new HumanDateConverter();
+        filter.setConverter(replacement);
+        assertThat(filter.isValid()).isTrue();
+
+        converter.withLanguage(Languages.es()).withLanguage(Languages.en());
+        assertThat(filter.isValid()).isTrue();
+
+        replacement.withLanguage(Languages.en());
+        assertThat(filter.isValid()).isFalse();
+    }
+}
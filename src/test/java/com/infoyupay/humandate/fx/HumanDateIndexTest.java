@@ -0,0 +1,167 @@
+/*
+ * Copyright 2025 Ingeniería Informática Yupay S.A.C.S.
+ * RUC 20607854247
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.infoyupay.humandate.fx;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for {@link HumanDateIndex}.
+ *
+ * @author David Vidal, Infoyupay
+ * @version 1.0
+ */
+final class HumanDateIndexTest {
+
+    private final LocalDate sampleDate = LocalDate.of(2024, 6, 19);
+
+    /**
+     * Range queries follow source changes, and moving the range fires a
+     * single change on the filtered view.
+     */
+    @Test
+    void filtered_shouldAnswerRangesAndFollowSource() {
+        var dates = FXCollections.observableArrayList(
+                sampleDate.plusDays(5), null, sampleDate, sampleDate.plusDays(2), sampleDate);
+        var index = HumanDateIndex.of(dates);
+        var changes = new AtomicInteger();
+        index.filtered().addListener((ListChangeListener<LocalDate>) c -> changes.incrementAndGet());
+
+        assertThat(index.filtered()).hasSize(5);
+        assertThat(index.count(sampleDate, sampleDate.plusDays(2))).isEqualTo(3);
+        assertThat(index.count(null, sampleDate.plusDays(10))).isEqualTo(4);
+
+        index.setRange(sampleDate.plusDays(1), null);
+
+        assertThat(changes).hasValue(1);
+        assertThat(index.filtered()).containsExactly(sampleDate.plusDays(2), sampleDate.plusDays(5));
+
+        dates.add(sampleDate.plusDays(3));
+        dates.remove(sampleDate.plusDays(5));
+        dates.add(sampleDate.minusDays(1));
+
+        assertThat(index.filtered()).containsExactly(sampleDate.plusDays(2), sampleDate.plusDays(3));
+        assertThat(index.rows(null, sampleDate)).containsExactly(sampleDate.minusDays(1), sampleDate, sampleDate);
+
+        var converter = index.getConverter();
+        index.filter(converter.toString(sampleDate), converter.toString(sampleDate.plusDays(2)));
+
+        assertThat(index.filtered()).containsExactly(sampleDate, sampleDate, sampleDate.plusDays(2));
+    }
+
+    /**
+     * Undated rows are removed from the index, and from the filtered view
+     * only while the range is fully open.
+     */
+    @Test
+    void remove_shouldDropUndatedRows() {
+        var dates = FXCollections.observableArrayList(null, sampleDate, null, sampleDate.plusDays(1));
+        var index = HumanDateIndex.of(dates);
+        var changes = new AtomicInteger();
+        index.filtered().addListener((ListChangeListener<LocalDate>) c -> changes.incrementAndGet());
+
+        dates.remove(null);
+
+        assertThat(index.size()).isEqualTo(3);
+        assertThat(index.count(null, null)).isEqualTo(3);
+        assertThat(index.filtered()).containsExactlyInAnyOrder(null, sampleDate, sampleDate.plusDays(1));
+        assertThat(changes).hasValue(1);
+
+        index.setRange(sampleDate, null);
+        changes.set(0);
+        dates.remove(null);
+
+        assertThat(index.size()).isEqualTo(2);
+        assertThat(changes).hasValue(0);
+        assertThat(index.filtered()).containsExactly(sampleDate, sampleDate.plusDays(1));
+
+        index.setRange(null, null);
+
+        assertThat(index.filtered()).containsExactly(sampleDate, sampleDate.plusDays(1));
+    }
+
+    /**
+     * Bounds in reverse order are swapped by queries and by the range, never
+     * giving a negative count.
+     */
+    @Test
+    void count_shouldSwapReversedBounds() {
+        var dates = FXCollections.observableArrayList(
+                sampleDate, sampleDate.plusDays(1), sampleDate.plusDays(4), sampleDate.plusDays(9));
+        var index = HumanDateIndex.of(dates);
+
+        assertThat(index.count(sampleDate.plusDays(4), sampleDate)).isEqualTo(3);
+        assertThat(index.count(sampleDate.plusDays(30), sampleDate.plusDays(20))).isZero();
+        assertThat(index.rows(sampleDate.plusDays(4), sampleDate.plusDays(1)))
+                .containsExactly(sampleDate.plusDays(1), sampleDate.plusDays(4));
+
+        index.setRange(sampleDate.plusDays(9), sampleDate.plusDays(1));
+
+        assertThat(index.getFrom()).isEqualTo(sampleDate.plusDays(1));
+        assertThat(index.getTo()).isEqualTo(sampleDate.plusDays(9));
+        assertThat(index.filtered()).hasSize(3);
+
+        index.setTo(sampleDate);
+
+        assertThat(index.filtered()).containsExactly(sampleDate, sampleDate.plusDays(1));
+    }
+
+    /**
+     * Only blank inputs mean unbounded: inputs that are not dates are
+     * rejected and leave the range unchanged.
+     */
+    @Test
+    void filter_shouldRejectInputsThatAreNotDates() {
+        var dates = FXCollections.observableArrayList(sampleDate, sampleDate.plusDays(2));
+        var index = HumanDateIndex.of(dates);
+        var converter = index.getConverter();
+        index.filter(converter.toString(sampleDate.plusDays(1)), " ");
+
+        assertThatThrownBy(() -> index.filter(null, "xyz"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("xyz");
+        assertThatThrownBy(() -> index.filter("", "xyz"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(index.getFrom()).isEqualTo(sampleDate.plusDays(1));
+        assertThat(index.getTo()).isNull();
+        assertThat(index.filtered()).containsExactly(sampleDate.plusDays(2));
+
+        index.filter(null, "");
+
+        assertThat(index.filtered()).containsExactly(sampleDate, sampleDate.plusDays(2));
+    }
+
+    /**
+     * The default converter draws its snapshots from the shared registry.
+     */
+    @Test
+    void converter_shouldDefaultToSharedCaches() {
+        var converter = HumanDateIndex.of(FXCollections.<LocalDate>observableArrayList()).getConverter();
+
+        assertThat(converter.snapshot())
+                .isSameAs(HumanDateConverterRegistry.get(converter.getLanguage(), converter.getFormat()));
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright 2025 Ingeniería Informática Yupay S.A.C.S.
+ * RUC 20607854247
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.infoyupay.humandate.fx;
+
+import com.infoyupay.humandate.core.HumanDateFormatter;
+import javafx.scene.Scene;
+import javafx.scene.layout.StackPane;
+import javafx.stage.Stage;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+
+import static com.infoyupay.humandate.fx.FxToolkit.assumeToolkit;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link HumanDateLabel}.
+ * <br/>
+ * <p>
+ * Labels are controls, so these tests need the JavaFX toolkit and are
+ * skipped without a display.
+ *
+ * @author David Vidal, Infoyupay
+ * @version 1.0
+ */
+final class HumanDateLabelTest {
+
+    private static final HumanDateFormatter ISO =
+            new HumanDateFormatter().withFormatter(DateTimeFormatter.ISO_LOCAL_DATE);
+
+    private final LocalDate sampleDate = LocalDate.of(2024, 6, 19);
+
+    /**
+     * By default the label follows its date whether it shows or not.
+     */
+    @Test
+    void text_shouldFollowDateByDefault() throws Exception {
+        assumeToolkit();
+        var label = FxToolkit.call(() -> new HumanDateLabel(ISO));
+
+        FxToolkit.run(() -> label.setDateValue(sampleDate));
+
+        assertThat(label.getText()).isEqualTo("2024-06-19");
+    }
+
+    /**
+     * A deferred label keeps its last text while an ancestor is hidden and
+     * catches up once when shown again.
+     */
+    @Test
+    void deferWhenHidden_shouldFreezeTextWhileHidden() throws Exception {
+        assumeToolkit();
+        var label = FxToolkit.call(() -> new HumanDateLabel(ISO));
+        var pane = FxToolkit.call(() -> new StackPane(label));
+        var stage = FxToolkit.call(() -> {
+            var s = new Stage();
+            s.setScene(new Scene(pane));
+            s.show();
+            return s;
+        });
+        try {
+            FxToolkit.run(() -> {
+                label.setDeferWhenHidden(true);
+                label.setDateValue(sampleDate);
+            });
+            assertThat(label.getText()).isEqualTo("2024-06-19");
+
+            FxToolkit.run(() -> {
+                pane.setVisible(false);
+                label.setDateValue(sampleDate.plusDays(1));
+            });
+            assertThat(label.textProperty().isBound()).isFalse();
+            assertThat(label.getText()).isEqualTo("2024-06-19");
+
+            FxToolkit.run(() -> pane.setVisible(true));
+            assertThat(label.getText()).isEqualTo("2024-06-20");
+
+            FxToolkit.run(() -> {
+                pane.setVisible(false);
+                label.setDeferWhenHidden(false);
+                label.setDateValue(sampleDate.plusDays(2));
+            });
+            assertThat(label.getText()).isEqualTo("2024-06-21");
+        } finally {
+            FxToolkit.run(stage::hide);
+        }
+    }
+
+    /**
+     * A label outside any showing window counts as hidden.
+     */
+    @Test
+    void deferWhenHidden_shouldTreatDetachedLabelAsHidden() throws Exception {
+        assumeToolkit();
+        var label = FxToolkit.call(() -> new HumanDateLabel(ISO));
+
+        FxToolkit.run(() -> {
+            label.setDateValue(sampleDate);
+            label.setDeferWhenHidden(true);
+            label.setDateValue(sampleDate.plusDays(1));
+        });
+
+        assertThat(label.getText()).isEqualTo("2024-06-19");
+    }
+}
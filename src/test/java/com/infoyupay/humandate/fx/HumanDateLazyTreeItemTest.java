@@ -0,0 +1,159 @@
+/*
+ * Copyright 2025 Ingeniería Informática Yupay S.A.C.S.
+ * RUC 20607854247
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.infoyupay.humandate.fx;
+
+import javafx.scene.control.TreeItem;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.infoyupay.humandate.fx.FxToolkit.TIMEOUT_SECONDS;
+import static com.infoyupay.humandate.fx.FxToolkit.assumeToolkit;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for {@link HumanDateLazyTreeItem}.
+ *
+ * @author David Vidal, Infoyupay
+ * @version 1.0
+ */
+final class HumanDateLazyTreeItemTest {
+
+    private final LocalDate sampleDate = LocalDate.of(2024, 6, 19);
+
+    /**
+     * Lazy groups only build their children when expanded, one bucket per
+     * month, labelled with the converter.
+     */
+    @Test
+    void grouped_shouldGroupByBucketOnExpansion() {
+        var converter = new HumanDateConverter();
+        var dates = List.of(sampleDate, sampleDate.plusDays(1), sampleDate.plusMonths(1));
+        var root = HumanDateLazyTreeItem.grouped(
+                LocalDate.MIN, () -> dates, d -> d, HumanDateBucket.MONTH, converter,
+                (start, label, rows) -> start);
+
+        assertThat(root.isLeaf()).isFalse();
+        assertThat(root.getChildren()).isEmpty();
+
+        root.setExpanded(true);
+
+        assertThat(root.isLoaded()).isTrue();
+        assertThat(root.getChildren()).extracting(TreeItem::getValue)
+                .containsExactly(sampleDate.withDayOfMonth(1), sampleDate.plusMonths(1).withDayOfMonth(1));
+        var june = (HumanDateLazyTreeItem<LocalDate>) root.getChildren().getFirst();
+        assertThat(june.getChildren()).isEmpty();
+        assertThat(HumanDateBucket.MONTH.label(june.getValue(), converter))
+                .isEqualTo(converter.toString(sampleDate.withDayOfMonth(1)) + " – "
+                        + converter.toString(sampleDate.withDayOfMonth(30)));
+
+        june.setExpanded(true);
+
+        assertThat(june.getChildren()).extracting(TreeItem::getValue)
+                .containsExactly(sampleDate, sampleDate.plusDays(1));
+    }
+
+    /**
+     * Without an executor the loader runs once, on expansion, and an empty
+     * result turns the item into a leaf.
+     */
+    @Test
+    void load_shouldLoadOnceWithoutExecutor() {
+        var calls = new AtomicInteger();
+        var item = new HumanDateLazyTreeItem<LocalDate>(sampleDate, () -> {
+            calls.incrementAndGet();
+            return List.<TreeItem<LocalDate>>of();
+        });
+
+        assertThat(item.isLeaf()).isFalse();
+
+        item.setExpanded(true);
+        item.setExpanded(false);
+        item.setExpanded(true);
+
+        assertThat(calls).hasValue(1);
+        assertThat(item.load()).isCompleted();
+        assertThat(item.isLoaded()).isTrue();
+        assertThat(item.isLeaf()).isTrue();
+    }
+
+    /**
+     * A loader failure on the executor completes the load exceptionally,
+     * leaves the item unloaded, and the next load retries.
+     */
+    @Test
+    void load_shouldRetryAfterFailureOnExecutor() throws Exception {
+        assumeToolkit();
+        var calls = new AtomicInteger();
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            var item = new HumanDateLazyTreeItem<LocalDate>(sampleDate, () -> {
+                if (calls.incrementAndGet() == 1) throw new IOException("offline");
+                return List.of(new HumanDateLazyTreeItem<LocalDate>(sampleDate.plusDays(1), List::of));
+            }).withExecutor(executor);
+
+            var failed = FxToolkit.call(item::load);
+
+            assertThatThrownBy(() -> failed.get(TIMEOUT_SECONDS, TimeUnit.SECONDS))
+                    .isInstanceOf(ExecutionException.class)
+                    .hasCauseInstanceOf(IOException.class);
+            assertThat(FxToolkit.call(item::isLoading)).isFalse();
+            assertThat(FxToolkit.call(item::isLoaded)).isFalse();
+            assertThat(FxToolkit.call(item::isLeaf)).isFalse();
+
+            var retried = FxToolkit.call(item::load);
+            retried.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+
+            assertThat(retried).isNotSameAs(failed);
+            assertThat(calls).hasValue(2);
+            var child = (HumanDateLazyTreeItem<LocalDate>) FxToolkit.call(() -> item.getChildren().getFirst());
+            assertThat(child.getValue()).isEqualTo(sampleDate.plusDays(1));
+            FxToolkit.call(child::load).get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            assertThat(FxToolkit.call(child::isLeaf)).isTrue();
+        }
+    }
+
+    /**
+     * An executor rejecting the loader fails the load without calling it.
+     */
+    @Test
+    void load_shouldFailWhenExecutorRejects() {
+        var calls = new AtomicInteger();
+        var item = new HumanDateLazyTreeItem<LocalDate>(sampleDate, () -> {
+            calls.incrementAndGet();
+            return List.of();
+        }).withExecutor(task -> {
+            throw new RejectedExecutionException("shut down");
+        });
+
+        var future = item.load();
+
+        assertThat(future).isCompletedExceptionally();
+        assertThat(calls).hasValue(0);
+        assertThat(item.isLoading()).isFalse();
+        assertThat(item.load()).isNotSameAs(future);
+    }
+}
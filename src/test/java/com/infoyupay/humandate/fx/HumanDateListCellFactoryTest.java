@@ -0,0 +1,162 @@
+/*
+ * Copyright 2025 Ingeniería Informática Yupay S.A.C.S.
+ * RUC 20607854247
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.infoyupay.humandate.fx;
+
+import com.infoyupay.humandate.core.Languages;
+import javafx.collections.FXCollections;
+import javafx.scene.control.ListCell;
+import javafx.scene.control.ListView;
+import javafx.scene.control.TableColumn;
+import javafx.scene.control.cell.TextFieldListCell;
+import javafx.scene.control.cell.TextFieldTableCell;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+
+import static com.infoyupay.humandate.fx.FxToolkit.assumeToolkit;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link HumanDateListCellFactory}.
+ * <br/>
+ * <p>
+ * Tests creating cells need the JavaFX toolkit and are skipped without a
+ * display.
+ *
+ * @author David Vidal, Infoyupay
+ * @version 1.0
+ */
+final class HumanDateListCellFactoryTest {
+
+    private static final DateTimeFormatter ISO = DateTimeFormatter.ISO_LOCAL_DATE;
+
+    private final LocalDate sampleDate = LocalDate.of(2024, 6, 19);
+
+    /**
+     * A factory built from a converter exposes it and follows it both ways.
+     */
+    @Test
+    void converterConstructor_shouldFollowConverterBothWays() {
+        var converter = new HumanDateConverter(Languages.es(), HumanDateDefaults.DEFAULT_FORMAT);
+        var factory = new HumanDateListCellFactory(converter);
+
+        assertThat(factory.converter()).isSameAs(converter);
+        assertThat(factory.getLanguage()).isSameAs(converter.getLanguage());
+
+        converter.withFormat(ISO);
+        assertThat(factory.getFormat()).isSameAs(ISO);
+
+        factory.setLanguage(Languages.en());
+        assertThat(converter.getLanguage()).isSameAs(factory.getLanguage());
+    }
+
+    /**
+     * The language and format constructor wraps them in its own converter.
+     */
+    @Test
+    void languageConstructor_shouldCreateMatchingConverter() {
+        var factory = new HumanDateListCellFactory(Languages.en(), ISO);
+
+        assertThat(factory.converter().getLanguage()).isSameAs(factory.getLanguage());
+        assertThat(factory.converter().getFormat()).isSameAs(ISO);
+        assertThat(factory.converter().toString(sampleDate)).isEqualTo("2024-06-19");
+    }
+
+    /**
+     * Live cells re-set their text when the factory's format changes, without
+     * a refresh of the list.
+     */
+    @Test
+    void cells_shouldRefreshTextWhenFormatChanges() throws Exception {
+        assumeToolkit();
+        var factory = new HumanDateListCellFactory();
+
+        var cell = FxToolkit.call(() -> show(factory, sampleDate));
+        assertThat(cell.getText()).isEqualTo("19/06/2024");
+
+        FxToolkit.run(() -> factory.setFormat(ISO));
+        assertThat(cell.getText()).isEqualTo("2024-06-19");
+    }
+
+    /**
+     * Display-only list cells render like editable ones but never enter
+     * editing and carry no text-field machinery.
+     */
+    @Test
+    void displayOnly_shouldRenderWithoutEditing() throws Exception {
+        assumeToolkit();
+        var factory = new HumanDateListCellFactory();
+        factory.setDisplayOnly(true);
+
+        var cell = FxToolkit.call(() -> {
+            var shown = show(factory, sampleDate);
+            shown.getListView().setEditable(true);
+            shown.startEdit();
+            return shown;
+        });
+
+        assertThat(cell).isNotInstanceOf(TextFieldListCell.class);
+        assertThat(cell.isEditable()).isFalse();
+        assertThat(cell.isEditing()).isFalse();
+        assertThat(cell.getText()).isEqualTo("19/06/2024");
+
+        FxToolkit.run(() -> factory.setFormat(ISO));
+        assertThat(cell.getText()).isEqualTo("2024-06-19");
+    }
+
+    /**
+     * The display-only mode applies to cells created afterwards, in the
+     * table factory as well.
+     */
+    @Test
+    void displayOnly_shouldOnlyAffectNewCells() throws Exception {
+        assumeToolkit();
+        var listFactory = new HumanDateListCellFactory();
+        var tableFactory = new HumanDateTableCellFactory<LocalDate>();
+
+        var before = FxToolkit.call(() -> listFactory.call(new ListView<>()));
+        var tableBefore = FxToolkit.call(() -> tableFactory.call(new TableColumn<>()));
+        listFactory.setDisplayOnly(true);
+        tableFactory.setDisplayOnly(true);
+        var after = FxToolkit.call(() -> listFactory.call(new ListView<>()));
+        var tableAfter = FxToolkit.call(() -> tableFactory.call(new TableColumn<>()));
+
+        assertThat(before).isInstanceOf(TextFieldListCell.class);
+        assertThat(after).isNotInstanceOf(TextFieldListCell.class);
+        assertThat(tableBefore).isInstanceOf(TextFieldTableCell.class);
+        assertThat(tableAfter).isNotInstanceOf(TextFieldTableCell.class);
+        assertThat(tableAfter.isEditable()).isFalse();
+    }
+
+    /**
+     * Creates a cell for a one-item list and binds it to that item.
+     *
+     * @param factory the factory under test
+     * @param date    the single item
+     * @return the cell showing the item
+     */
+    static ListCell<LocalDate> show(final HumanDateListCellFactory factory, final LocalDate date) {
+        var list = new ListView<>(FXCollections.observableArrayList(date));
+        var cell = factory.call(list);
+        cell.updateListView(list);
+        cell.updateIndex(0);
+        return cell;
+    }
+}
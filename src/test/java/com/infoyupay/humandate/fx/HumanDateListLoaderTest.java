@@ -0,0 +1,133 @@
+/*
+ * Copyright 2025 Ingeniería Informática Yupay S.A.C.S.
+ * RUC 20607854247
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.infoyupay.humandate.fx;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.util.Duration;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static com.infoyupay.humandate.fx.FxToolkit.TIMEOUT_SECONDS;
+import static com.infoyupay.humandate.fx.FxToolkit.assumeToolkit;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for {@link HumanDateListLoader}.
+ * <br/>
+ * <p>
+ * Items are applied by an animation timer, so these tests need the JavaFX
+ * toolkit and are skipped without a display.
+ *
+ * @author David Vidal, Infoyupay
+ * @version 1.0
+ */
+final class HumanDateListLoaderTest {
+
+    private final LocalDate sampleDate = LocalDate.of(2024, 6, 19);
+
+    /**
+     * Items arrive in order, in {@code addAll} chunks of at most
+     * {@link HumanDateListLoader#CHUNK_SIZE} items.
+     */
+    @Test
+    void load_shouldApplyItemsInChunks() throws Exception {
+        assumeToolkit();
+        var items = FXCollections.<LocalDate>observableArrayList();
+        var chunks = new ArrayList<Integer>();
+        items.addListener((ListChangeListener<LocalDate>) c -> {
+            while (c.next()) chunks.add(c.getAddedSize());
+        });
+        var dates = IntStream.range(0, 10_000).mapToObj(sampleDate::plusDays).toList();
+        var loader = new HumanDateListLoader<LocalDate>(items).withFrameBudget(Duration.ZERO);
+
+        var count = loader.load(dates).get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+
+        assertThat(count).isEqualTo(10_000L);
+        assertThat(FxToolkit.call(() -> List.copyOf(items))).isEqualTo(dates);
+        assertThat(FxToolkit.call(() -> List.copyOf(chunks)))
+                .hasSizeGreaterThanOrEqualTo(10_000 / HumanDateListLoader.CHUNK_SIZE)
+                .allSatisfy(size -> assertThat(size).isBetween(1, HumanDateListLoader.CHUNK_SIZE));
+        assertThat(FxToolkit.call(loader::isLoading)).isFalse();
+    }
+
+    /**
+     * A failing producer still delivers the items put before the failure,
+     * then completes exceptionally.
+     */
+    @Test
+    void load_shouldCompleteExceptionallyWhenProducerFails() throws Exception {
+        assumeToolkit();
+        var items = FXCollections.<LocalDate>observableArrayList();
+        Iterable<LocalDate> failing = () -> new Iterator<>() {
+            private int next;
+
+            @Override
+            public boolean hasNext() {
+                return true;
+            }
+
+            @Override
+            public LocalDate next() {
+                if (next == 3) throw new IllegalStateException("boom");
+                return sampleDate.plusDays(next++);
+            }
+        };
+
+        var done = new HumanDateListLoader<LocalDate>(items).load(failing);
+
+        assertThatThrownBy(() -> done.get(TIMEOUT_SECONDS, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(IllegalStateException.class);
+        assertThat(FxToolkit.call(() -> List.copyOf(items)))
+                .containsExactly(sampleDate, sampleDate.plusDays(1), sampleDate.plusDays(2));
+    }
+
+    /**
+     * Items cannot be put from the thread draining the queue, nor after the
+     * load completed.
+     */
+    @Test
+    void put_shouldRejectFxThreadAndCompletedLoads() throws Exception {
+        assumeToolkit();
+        var loader = new HumanDateListLoader<LocalDate>(FXCollections.observableArrayList());
+
+        var onFx = FxToolkit.call(() -> {
+            try {
+                loader.put(sampleDate);
+                return null;
+            } catch (IllegalStateException e) {
+                return e;
+            }
+        });
+        loader.complete();
+
+        assertThat(onFx).isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> loader.put(sampleDate)).isInstanceOf(IllegalStateException.class);
+        assertThat(loader.done().get(TIMEOUT_SECONDS, TimeUnit.SECONDS)).isZero();
+    }
+}
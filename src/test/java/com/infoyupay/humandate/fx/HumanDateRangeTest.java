@@ -0,0 +1,104 @@
+/*
+ * Copyright 2025 Ingeniería Informática Yupay S.A.C.S.
+ * RUC 20607854247
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.infoyupay.humandate.fx;
+
+import com.infoyupay.humandate.core.Languages;
+import javafx.util.converter.LocalDateStringConverter;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for {@link HumanDateRange}.
+ *
+ * @author David Vidal, Infoyupay
+ * @version 1.0
+ */
+final class HumanDateRangeTest {
+
+    private final LocalDate sampleDate = LocalDate.of(2024, 6, 19);
+
+    /**
+     * Range queries accept open, closed and single-day forms, with reversed
+     * bounds swapped.
+     */
+    @Test
+    void parse_shouldAcceptOpenClosedAndSingleDayForms() {
+        var converter = new HumanDateConverter();
+        var today = LocalDate.now();
+        var from = converter.toString(sampleDate);
+        var to = converter.toString(sampleDate.plusDays(2));
+
+        assertThat(HumanDateRange.parse("ayer..hoy", Languages.es()))
+                .isEqualTo(HumanDateRange.of(today.minusDays(1), today));
+        assertThat(HumanDateRange.parse(to + ".." + from, converter))
+                .isEqualTo(HumanDateRange.of(sampleDate, sampleDate.plusDays(2)));
+        assertThat(HumanDateRange.parse(" .. " + to, converter).from()).isNull();
+        assertThat(HumanDateRange.parse(from, converter).asEpochDayPredicate().test(sampleDate.toEpochDay())).isTrue();
+        assertThat(HumanDateRange.parse(from + "..", converter).asPredicate().test(null)).isFalse();
+        assertThat(HumanDateRange.parse("  ", converter)).isEqualTo(HumanDateRange.ALL);
+        assertThat(HumanDateRange.parse(null, converter)).isEqualTo(HumanDateRange.ALL);
+    }
+
+    /**
+     * Bounds that are not dates, or that the converter fails on, are
+     * reported as {@link IllegalArgumentException}.
+     */
+    @Test
+    void parse_shouldRejectBoundsThatAreNotDates() {
+        var converter = new HumanDateConverter();
+
+        assertThatThrownBy(() -> HumanDateRange.parse("xyz..", converter))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("xyz..");
+        assertThatThrownBy(() -> HumanDateRange.parse("..xyz", converter))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> HumanDateRange.parse("xyz", converter))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> HumanDateRange.parse("xyz..", new LocalDateStringConverter()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasCauseInstanceOf(DateTimeParseException.class);
+    }
+
+    /**
+     * Ranges are normalized, and undated values only match the unbounded
+     * range.
+     */
+    @Test
+    void of_shouldSwapReversedBoundsAndMatchUndatedOnlyWhenUnbounded() {
+        var range = HumanDateRange.of(sampleDate.plusDays(2), sampleDate);
+
+        assertThat(range).isEqualTo(HumanDateRange.of(sampleDate, sampleDate.plusDays(2)));
+        assertThat(range.from()).isEqualTo(sampleDate);
+        assertThat(range.contains(sampleDate.plusDays(1))).isTrue();
+        assertThat(range.contains(sampleDate.plusDays(3))).isFalse();
+        assertThat(range.contains(null)).isFalse();
+        assertThat(HumanDateRange.of(null, null)).isSameAs(HumanDateRange.ALL);
+        assertThat(HumanDateRange.ALL.contains(null)).isTrue();
+        assertThat(HumanDateRange.of(null, sampleDate).asEpochDayPredicate()
+                .test(EpochDayProperty.NULL_EPOCH_DAY)).isFalse();
+        assertThat(HumanDateRange.of(null, sampleDate).asEpochDayPredicate()
+                .test(sampleDate.minusYears(100).toEpochDay())).isTrue();
+        assertThatThrownBy(() -> new HumanDateRange(5L, 4L)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright 2025 Ingeniería Informática Yupay S.A.C.S.
+ * RUC 20607854247
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.infoyupay.humandate.fx;
+
+import com.infoyupay.humandate.core.Languages;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link HumanDateRenderTable}.
+ *
+ * @author David Vidal, Infoyupay
+ * @version 1.0
+ */
+final class HumanDateRenderTableTest {
+
+    private final LocalDate sampleDate = LocalDate.of(2024, 6, 19);
+    private final HumanDateConverterSnapshot snapshot =
+            HumanDateConverterSnapshot.of(Languages.es(), DateTimeFormatter.ISO_LOCAL_DATE);
+
+    /**
+     * Rendered days are answered from the table, any other day is delegated
+     * to the snapshot.
+     */
+    @Test
+    void lookup_shouldOnlyAnswerRenderedDays() {
+        var table = table(EpochDayRenderCache.nextMidnight());
+
+        assertThat(table.lookup(sampleDate.toEpochDay())).isEqualTo("first");
+        assertThat(table.lookup(sampleDate.toEpochDay() + 1)).isNull();
+        assertThat(table.toString(sampleDate.plusDays(2))).isEqualTo("second");
+        assertThat(table.toString(sampleDate.plusDays(1))).isEqualTo(snapshot.toString(sampleDate.plusDays(1)));
+        assertThat(table.fromString("hoy")).isEqualTo(snapshot.fromString("hoy"));
+    }
+
+    /**
+     * The null sentinel is never in the table, and {@code null} renders like
+     * the snapshot does.
+     */
+    @Test
+    void lookup_shouldNotAnswerNullEpochDay() {
+        var table = table(EpochDayRenderCache.nextMidnight());
+
+        assertThat(table.lookup(EpochDayProperty.NULL_EPOCH_DAY)).isNull();
+        assertThat(table.toString(null)).isEqualTo(snapshot.toString(null));
+    }
+
+    /**
+     * Once its expiry instant is reached the table delegates everything to
+     * the snapshot; a table rendered today lasts until the next midnight.
+     */
+    @Test
+    void isExpired_shouldDelegateFromNextMidnight() {
+        var stale = table(System.currentTimeMillis());
+
+        assertThat(stale.isExpired()).isTrue();
+        assertThat(stale.lookup(sampleDate.toEpochDay())).isNull();
+        assertThat(stale.toString(sampleDate)).isEqualTo(snapshot.toString(sampleDate));
+        assertThat(table(EpochDayRenderCache.nextMidnight()).isExpired()).isFalse();
+        assertThat(HumanDateBatch.formatAll(new long[]{sampleDate.toEpochDay()}, snapshot).isExpired()).isFalse();
+    }
+
+    private HumanDateRenderTable table(final long expiresAt) {
+        return new HumanDateRenderTable(snapshot,
+                new long[]{sampleDate.toEpochDay(), sampleDate.toEpochDay() + 2},
+                new String[]{"first", "second"},
+                expiresAt);
+    }
+}
@@ -0,0 +1,178 @@
+/*
+ * Copyright 2025 Ingeniería Informática Yupay S.A.C.S.
+ * RUC 20607854247
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.infoyupay.humandate.fx;
+
+import javafx.scene.control.TextField;
+import javafx.util.Duration;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.infoyupay.humandate.fx.FxToolkit.assumeToolkit;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link HumanDateTextFormatter}.
+ * <br/>
+ * <p>
+ * The formatter is installed in a {@link TextField} and publishes through
+ * {@code Platform.runLater}, so these tests need the JavaFX toolkit and are
+ * skipped without a display.
+ *
+ * @author David Vidal, Infoyupay
+ * @version 1.0
+ */
+final class HumanDateTextFormatterTest {
+
+    private final LocalDate sampleDate = LocalDate.of(2024, 6, 19);
+
+    /**
+     * An asynchronous commit leaves the value untouched until the parse
+     * completes, flagging itself as pending meanwhile.
+     */
+    @Test
+    void asyncCommit_shouldPublishOffThread() throws Exception {
+        assumeToolkit();
+        var formatter = new HumanDateTextFormatter().withAsync(true);
+        var field = FxToolkit.call(() -> field(formatter));
+
+        var pendingRightAfter = FxToolkit.call(() -> {
+            field.setText("19062024");
+            field.commitValue();
+            return formatter.isPending() && formatter.getValue() == null;
+        });
+
+        assertThat(pendingRightAfter).isTrue();
+        FxToolkit.await(() -> !formatter.isPending());
+        assertThat(FxToolkit.call(formatter::getValue)).isEqualTo(sampleDate);
+    }
+
+    /**
+     * Editing the text while a parse is in flight makes its result stale:
+     * only the later commit is published.
+     */
+    @Test
+    void asyncCommit_shouldDiscardStaleGenerations() throws Exception {
+        assumeToolkit();
+        var formatter = new HumanDateTextFormatter().withAsync(true);
+        var field = FxToolkit.call(() -> field(formatter));
+        var published = new ArrayList<LocalDate>();
+        FxToolkit.run(() -> formatter.valueProperty().addListener((obs, o, n) -> published.add(n)));
+
+        FxToolkit.run(() -> {
+            field.setText("19062024");
+            field.commitValue();
+            field.setText("20062024");
+        });
+        assertThat(FxToolkit.call(formatter::isPending)).isFalse();
+
+        FxToolkit.run(() -> {
+            field.setText("21062024");
+            field.commitValue();
+        });
+        FxToolkit.await(() -> formatter.getValue() != null);
+        FxToolkit.drain();
+
+        assertThat(FxToolkit.call(() -> List.copyOf(published))).containsExactly(sampleDate.plusDays(2));
+    }
+
+    /**
+     * A failed asynchronous parse keeps the value and the typed text.
+     */
+    @Test
+    void asyncCommit_shouldKeepTextWhenParseFails() throws Exception {
+        assumeToolkit();
+        var formatter = new HumanDateTextFormatter().withAsync(true);
+        var field = FxToolkit.call(() -> field(formatter));
+
+        FxToolkit.run(() -> {
+            field.setText("not a date at all");
+            field.commitValue();
+        });
+        FxToolkit.await(() -> !formatter.isPending());
+
+        assertThat(FxToolkit.call(formatter::getValue)).isNull();
+        assertThat(FxToolkit.call(field::getText)).isEqualTo("not a date at all");
+    }
+
+    /**
+     * A burst of edits within the preview delay costs a single parse, run
+     * once the delay has elapsed, and never commits the value.
+     */
+    @Test
+    void livePreview_shouldDebounceEdits() throws Exception {
+        assumeToolkit();
+        var formatter = new HumanDateTextFormatter().withLivePreview(true);
+        formatter.setPreviewDelay(Duration.millis(100));
+        var field = FxToolkit.call(() -> field(formatter));
+        var previews = new AtomicInteger();
+        FxToolkit.run(() -> formatter.previewValueProperty().addListener((obs, o, n) -> previews.incrementAndGet()));
+
+        var previewedRightAfter = FxToolkit.call(() -> {
+            for (var text : List.of("1", "19", "1906", "190620", "19062024")) {
+                field.setText(text);
+            }
+            return formatter.getPreviewValue();
+        });
+
+        assertThat(previewedRightAfter).isNull();
+        FxToolkit.await(() -> formatter.getPreviewValue() != null);
+        assertThat(FxToolkit.call(formatter::getPreviewValue)).isEqualTo(sampleDate);
+        assertThat(FxToolkit.call(formatter::getPreviewText)).isEqualTo(formatter.getValueConverter().toString(sampleDate));
+        assertThat(previews).hasValue(1);
+        assertThat(FxToolkit.call(formatter::getValue)).isNull();
+    }
+
+    /**
+     * With a zero delay every edit is previewed immediately; disabling the
+     * preview clears it.
+     */
+    @Test
+    void livePreview_shouldPreviewImmediatelyWithZeroDelay() throws Exception {
+        assumeToolkit();
+        var formatter = new HumanDateTextFormatter().withLivePreview(true);
+        formatter.setPreviewDelay(Duration.ZERO);
+        var field = FxToolkit.call(() -> field(formatter));
+
+        var preview = FxToolkit.call(() -> {
+            field.setText("19062024");
+            return formatter.getPreviewValue();
+        });
+        assertThat(preview).isEqualTo(sampleDate);
+
+        FxToolkit.run(() -> formatter.setLivePreview(false));
+        assertThat(FxToolkit.call(formatter::getPreviewValue)).isNull();
+        assertThat(FxToolkit.call(formatter::getPreviewText)).isNull();
+    }
+
+    /**
+     * Creates a text field using the given formatter.
+     *
+     * @param formatter the formatter under test
+     * @return the field
+     */
+    private static TextField field(final HumanDateTextFormatter formatter) {
+        var field = new TextField();
+        field.setTextFormatter(formatter);
+        return field;
+    }
+}
@@ -0,0 +1,210 @@
+/*
+ * Copyright 2025 Ingeniería Informática Yupay S.A.C.S.
+ * RUC 20607854247
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.infoyupay.humandate.fx;
+
+import javafx.beans.property.SimpleObjectProperty;
+import javafx.scene.control.TreeItem;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link HumanDateTreeAggregator}.
+ *
+ * @author David Vidal, Infoyupay
+ * @version 1.0
+ */
+final class HumanDateTreeAggregatorTest {
+
+    private final LocalDate sampleDate = LocalDate.of(2024, 6, 19);
+
+    /**
+     * Leaf edits and structural changes reach every ancestor aggregate.
+     */
+    @Test
+    void attach_shouldPropagateLeafChangesToAncestors() {
+        var root = Row.of("0", null);
+        var group = Row.of("0", null);
+        var first = Row.of("10.50", sampleDate);
+        var second = Row.of("4.50", sampleDate.plusDays(3));
+        group.getChildren().addAll(first, second);
+        root.getChildren().add(group);
+        var aggregator = new HumanDateTreeAggregator<Row>(Row::amount, Row::due).attach(root);
+        var total = aggregator.aggregate(root);
+
+        assertThat(total.getSum()).isEqualByComparingTo("15.00");
+        assertThat(total.getCount()).isEqualTo(2);
+        assertThat(total.getMinDate()).isEqualTo(sampleDate);
+
+        first.getValue().amount().set(new BigDecimal("1.00"));
+        first.getValue().due().set(sampleDate.plusDays(5));
+
+        assertThat(total.getSum()).isEqualByComparingTo("5.50");
+        assertThat(total.getMinDate()).isEqualTo(sampleDate.plusDays(3));
+        assertThat(total.getMaxDate()).isEqualTo(sampleDate.plusDays(5));
+
+        group.getChildren().remove(first);
+        root.getChildren().add(Row.of("2.00", sampleDate.minusDays(1)));
+
+        assertThat(aggregator.aggregate(first)).isNull();
+        assertThat(total.getSum()).isEqualByComparingTo("6.50");
+        assertThat(total.getCount()).isEqualTo(2);
+        assertThat(total.getMinDate()).isEqualTo(sampleDate.minusDays(1));
+        assertThat(total.getMaxDate()).isEqualTo(sampleDate.plusDays(3));
+    }
+
+    /**
+     * Cent totals are plain {@code long} sums, and the null amount counts as
+     * zero while the row still counts.
+     */
+    @Test
+    void ofCents_shouldSumLongCents() {
+        var root = Bill.of(0L, null);
+        var first = Bill.of(1_050L, sampleDate);
+        var second = Bill.of(CentsProperty.NULL_CENTS, sampleDate.plusDays(1));
+        root.getChildren().addAll(first, second);
+        var total = HumanDateTreeAggregator.<Bill>ofCents(Bill::cents, Bill::due).attach(root).aggregate(root);
+
+        assertThat(total.getCents()).isEqualTo(1_050L);
+        assertThat(total.getCount()).isEqualTo(2);
+        assertThat(total.getSum()).isEqualByComparingTo("0");
+
+        second.getValue().cents().set(450L);
+        first.getValue().cents().set(CentsProperty.NULL_CENTS);
+
+        assertThat(total.getCents()).isEqualTo(450L);
+    }
+
+    /**
+     * The branch handler runs for branches at attach time and for leaves
+     * turning into branches, whose own amount then stops counting.
+     */
+    @Test
+    void withBranchHandler_shouldBindBranchesToTheirTotals() {
+        var root = Bill.of(0L, null);
+        var group = Bill.of(0L, null);
+        var leaf = Bill.of(700L, sampleDate);
+        group.getChildren().add(Bill.of(300L, sampleDate));
+        root.getChildren().addAll(group, leaf);
+        var branches = new ArrayList<Bill>();
+        var aggregator = HumanDateTreeAggregator.<Bill>ofCents(Bill::cents, Bill::due)
+                .withBranchHandler((bill, aggregate) -> {
+                    branches.add(bill);
+                    bill.cents().bind(aggregate.centsProperty());
+                })
+                .attach(root);
+
+        assertThat(branches).containsExactlyInAnyOrder(root.getValue(), group.getValue());
+        assertThat(root.getValue().cents().get()).isEqualTo(1_000L);
+
+        leaf.getChildren().add(Bill.of(50L, sampleDate.plusDays(2)));
+
+        assertThat(branches).contains(leaf.getValue());
+        assertThat(leaf.getValue().cents().get()).isEqualTo(50L);
+        assertThat(root.getValue().cents().get()).isEqualTo(350L);
+        assertThat(aggregator.aggregate(root).getMaxDate()).isEqualTo(sampleDate.plusDays(2));
+    }
+
+    /**
+     * Removing every child of a branch hands it to the leaf handler before
+     * its own amount counts again, so the bound total is not read back.
+     */
+    @Test
+    void withLeafHandler_shouldReleaseBranchesLosingAllChildren() {
+        var root = Bill.of(0L, null);
+        var group = Bill.of(0L, null);
+        group.getChildren().addAll(Bill.of(300L, sampleDate), Bill.of(200L, sampleDate.plusDays(1)));
+        root.getChildren().addAll(group, Bill.of(700L, sampleDate));
+        var leaves = new ArrayList<Bill>();
+        var aggregator = HumanDateTreeAggregator.<Bill>ofCents(Bill::cents, Bill::due)
+                .withBranchHandler((bill, aggregate) -> bill.cents().bind(aggregate.centsProperty()))
+                .withLeafHandler(bill -> {
+                    leaves.add(bill);
+                    bill.cents().unbind();
+                    bill.cents().set(40L);
+                })
+                .attach(root);
+        assertThat(root.getValue().cents().get()).isEqualTo(1_200L);
+
+        group.getChildren().clear();
+
+        assertThat(leaves).containsExactly(group.getValue());
+        assertThat(group.getValue().cents().isBound()).isFalse();
+        assertThat(aggregator.aggregate(group).getCents()).isEqualTo(40L);
+        assertThat(aggregator.aggregate(group).getCount()).isEqualTo(1L);
+        assertThat(root.getValue().cents().get()).isEqualTo(740L);
+
+        group.getValue().cents().set(90L);
+
+        assertThat(root.getValue().cents().get()).isEqualTo(790L);
+        assertThat(aggregator.aggregate(root).getMaxDate()).isEqualTo(sampleDate);
+    }
+
+    /**
+     * A detached subtree is no longer tracked and leaf edits leave the old
+     * aggregate untouched.
+     */
+    @Test
+    void detach_shouldStopTracking() {
+        var root = Row.of("0", null);
+        var leaf = Row.of("2.50", sampleDate);
+        root.getChildren().add(leaf);
+        var aggregator = new HumanDateTreeAggregator<Row>(Row::amount, Row::due).attach(root);
+        var total = aggregator.aggregate(root);
+
+        aggregator.detach(root);
+        leaf.getValue().amount().set(BigDecimal.TEN);
+
+        assertThat(aggregator.aggregate(root)).isNull();
+        assertThat(aggregator.aggregate(leaf)).isNull();
+        assertThat(total.getSum()).isEqualByComparingTo("2.50");
+    }
+
+    /**
+     * Row with a decimal amount.
+     *
+     * @param amount leaf amount
+     * @param due    leaf date
+     */
+    private record Row(SimpleObjectProperty<BigDecimal> amount, LocalDateProperty due) {
+
+        static TreeItem<Row> of(final String amount, final LocalDate due) {
+            return new TreeItem<>(new Row(new SimpleObjectProperty<>(new BigDecimal(amount)), new LocalDateProperty(due)));
+        }
+    }
+
+    /**
+     * Row with an amount in cents.
+     *
+     * @param cents leaf amount in cents
+     * @param due   leaf date
+     */
+    private record Bill(CentsProperty cents, LocalDateProperty due) {
+
+        static TreeItem<Bill> of(final long cents, final LocalDate due) {
+            var property = new CentsProperty();
+            property.set(cents);
+            return new TreeItem<>(new Bill(property, new LocalDateProperty(due)));
+        }
+    }
+}
@@ -0,0 +1,173 @@
+/*
+ * Copyright 2025 Ingeniería Informática Yupay S.A.C.S.
+ * RUC 20607854247
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.infoyupay.humandate.fx;
+
+import javafx.beans.InvalidationListener;
+import javafx.beans.value.ObservableValue;
+import javafx.beans.value.WritableValue;
+import javafx.collections.ListChangeListener;
+import javafx.scene.control.TableColumn;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static com.infoyupay.humandate.fx.EpochDayProperty.NULL_EPOCH_DAY;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for {@link LocalDateColumn}.
+ *
+ * @author David Vidal, Infoyupay
+ * @version 1.0
+ */
+final class LocalDateColumnTest {
+
+    private final LocalDate sampleDate = LocalDate.of(2024, 6, 19);
+
+    /**
+     * Dates and nulls are stored as epoch days and read back, growing past
+     * the initial capacity.
+     */
+    @Test
+    void storage_shouldRoundTripDatesAndNulls() {
+        var column = new LocalDateColumn(1);
+        column.add(sampleDate);
+        column.add(null);
+        column.addEpochDay(sampleDate.toEpochDay() + 1);
+
+        assertThat(column.size()).isEqualTo(3);
+        assertThat(column.get(0)).isEqualTo(sampleDate);
+        assertThat(column.get(1)).isNull();
+        assertThat(column.getEpochDay(1)).isEqualTo(NULL_EPOCH_DAY);
+        assertThat(column.toEpochDays())
+                .containsExactly(sampleDate.toEpochDay(), NULL_EPOCH_DAY, sampleDate.toEpochDay() + 1);
+
+        column.set(1, sampleDate.minusDays(1));
+
+        assertThat(column.get(1)).isEqualTo(sampleDate.minusDays(1));
+        assertThatThrownBy(() -> column.get(3)).isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    /**
+     * The epoch day used as the null sentinel is a valid date, so it is
+     * rejected instead of silently reading back as {@code null}.
+     */
+    @Test
+    void add_shouldRejectTheSentinelEpochDay() {
+        var column = new LocalDateColumn();
+        column.add(sampleDate);
+        var reserved = LocalDate.ofEpochDay(Integer.MIN_VALUE);
+
+        assertThatThrownBy(() -> column.add(reserved)).isInstanceOf(ArithmeticException.class);
+        assertThatThrownBy(() -> column.addEpochDay(Integer.MIN_VALUE)).isInstanceOf(ArithmeticException.class);
+        assertThatThrownBy(() -> column.set(0, reserved)).isInstanceOf(ArithmeticException.class);
+        assertThatThrownBy(() -> column.addAll(Arrays.asList(sampleDate, reserved)))
+                .isInstanceOf(ArithmeticException.class);
+        assertThat(column.toEpochDays()).containsExactly(sampleDate.toEpochDay());
+
+        column.addEpochDay(Integer.MIN_VALUE + 1L);
+
+        assertThat(column.get(1)).isEqualTo(LocalDate.ofEpochDay(Integer.MIN_VALUE + 1L));
+    }
+
+    /**
+     * Bulk appends fire a single change on the row indices, and a failing
+     * bulk append leaves the column untouched.
+     */
+    @Test
+    void addAll_shouldFireOneChange() {
+        var column = new LocalDateColumn();
+        var changes = new ArrayList<String>();
+        column.rowIndices().addListener((ListChangeListener<Integer>) c -> {
+            while (c.next()) {
+                changes.add((c.wasAdded() ? "+" : "-") + c.getFrom() + ".." + c.getTo());
+            }
+        });
+        column.add(sampleDate);
+
+        column.addAll(Arrays.asList(sampleDate, null, sampleDate.plusDays(1)));
+        column.addAllEpochDays(new long[]{sampleDate.toEpochDay(), NULL_EPOCH_DAY});
+
+        assertThat(changes).containsExactly("+0..1", "+1..4", "+4..6");
+        assertThat(column.rowIndices()).containsExactly(0, 1, 2, 3, 4, 5);
+        assertThat(column.get(3)).isEqualTo(sampleDate.plusDays(1));
+
+        assertThatThrownBy(() -> column.addAllEpochDays(new long[]{1L, Long.MAX_VALUE}))
+                .isInstanceOf(ArithmeticException.class);
+        assertThat(column.size()).isEqualTo(6);
+
+        column.clear();
+
+        assertThat(changes).last().isEqualTo("-0..0");
+        assertThat(column.rowIndices()).isEmpty();
+    }
+
+    /**
+     * Cell values are shared per row, only the edited row is invalidated,
+     * and edits through a cell value are stored back.
+     */
+    @Test
+    void cellValues_shouldInvalidateOnlyAffectedRows() {
+        var column = new LocalDateColumn();
+        column.addAll(List.of(sampleDate, sampleDate.plusDays(1)));
+        var factory = column.<Integer>cellValueFactory(Integer::intValue);
+        var first = value(factory.call(new TableColumn.CellDataFeatures<>(null, null, 0)));
+        var second = value(factory.call(new TableColumn.CellDataFeatures<>(null, null, 1)));
+        var beyond = value(factory.call(new TableColumn.CellDataFeatures<>(null, null, 2)));
+        var invalidated = new ArrayList<Integer>();
+        first.addListener((InvalidationListener) o -> invalidated.add(0));
+        second.addListener((InvalidationListener) o -> invalidated.add(1));
+        beyond.addListener((InvalidationListener) o -> invalidated.add(2));
+
+        assertThat(factory.call(new TableColumn.CellDataFeatures<>(null, null, 0))).isSameAs(first);
+        assertThat(beyond.getValue()).isNull();
+
+        column.set(1, sampleDate.minusDays(1));
+
+        assertThat(invalidated).containsExactly(1);
+        assertThat(second.getValue()).isEqualTo(sampleDate.minusDays(1));
+        assertThat(first.getValue()).isEqualTo(sampleDate);
+
+        column.add(sampleDate.plusDays(2));
+
+        assertThat(invalidated).containsExactly(1, 2);
+        assertThat(beyond.getValue()).isEqualTo(sampleDate.plusDays(2));
+
+        ((WritableValue<LocalDate>) first).setValue(null);
+
+        assertThat(column.get(0)).isNull();
+        assertThat(invalidated).containsExactly(1, 2, 0);
+    }
+
+    /**
+     * Reads a value once, so it becomes valid and fires on the next
+     * invalidation.
+     *
+     * @param value the cell value
+     * @return the same value
+     */
+    private static ObservableValue<LocalDate> value(final ObservableValue<LocalDate> value) {
+        value.getValue();
+        return value;
+    }
+}
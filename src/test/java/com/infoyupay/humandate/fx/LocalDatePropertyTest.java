@@ -0,0 +1,92 @@
+/*
+ * Copyright 2025 Ingeniería Informática Yupay S.A.C.S.
+ * RUC 20607854247
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.infoyupay.humandate.fx;
+
+import com.infoyupay.humandate.core.HumanDateFormatter;
+import javafx.beans.property.SimpleObjectProperty;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link LocalDateProperty} and its memoized string bindings.
+ *
+ * @author David Vidal, Infoyupay
+ * @version 1.0
+ */
+final class LocalDatePropertyTest {
+
+    private final LocalDate sampleDate = LocalDate.of(2024, 6, 19);
+
+    /**
+     * Callers passing the same formatter share one binding; another
+     * formatter gets its own.
+     */
+    @Test
+    void asFormattedString_shouldShareBindingPerFormatter() {
+        var property = new LocalDateProperty(sampleDate);
+        var iso = DateTimeFormatter.ISO_LOCAL_DATE;
+
+        var first = property.asFormattedString(iso);
+
+        assertThat(property.asFormattedString(iso)).isSameAs(first);
+        assertThat(property.asFormattedString(DateTimeFormatter.BASIC_ISO_DATE)).isNotSameAs(first);
+        assertThat(first.get()).isEqualTo("2024-06-19");
+    }
+
+    /**
+     * Shared bindings follow value changes and render {@code null} as an
+     * empty string.
+     */
+    @Test
+    void asFormattedString_shouldFollowValue() {
+        var property = new LocalDateProperty(sampleDate);
+        var binding = property.asFormattedString(DateTimeFormatter.ISO_LOCAL_DATE);
+
+        property.set(sampleDate.plusDays(1));
+        assertThat(binding.get()).isEqualTo("2024-06-20");
+
+        property.set(null);
+        assertThat(binding.get()).isEmpty();
+    }
+
+    /**
+     * Human-friendly bindings are memoized per formatter and per formatter
+     * binding, and follow a formatter binding's changes.
+     */
+    @Test
+    void asHumanString_shouldShareBindingPerFormatter() {
+        var property = new LocalDateProperty(sampleDate);
+        var formatter = new HumanDateFormatter();
+        var formatterBinding = new SimpleObjectProperty<>(formatter);
+
+        var fixed = property.asHumanString(formatter);
+        var dynamic = property.asHumanString(formatterBinding);
+
+        assertThat(property.asHumanString(formatter)).isSameAs(fixed);
+        assertThat(property.asHumanString(formatterBinding)).isSameAs(dynamic).isNotSameAs(fixed);
+        assertThat(dynamic.get()).isEqualTo(fixed.get()).isEqualTo(formatter.apply(sampleDate));
+
+        formatterBinding.set(null);
+        assertThat(dynamic.get()).isEmpty();
+    }
+}